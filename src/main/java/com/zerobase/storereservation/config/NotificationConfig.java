@@ -0,0 +1,23 @@
+package com.zerobase.storereservation.config;
+
+import com.zerobase.storereservation.service.notification.LoggingNotificationSender;
+import com.zerobase.storereservation.service.notification.NotificationSender;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * NotificationConfig
+ * 알림 발송 설정 클래스
+ * - 발송 채널 구현이 등록되지 않은 경우 로그만 남기는 기본 발송기 사용
+ */
+@Configuration
+public class NotificationConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(NotificationSender.class)
+    public NotificationSender loggingNotificationSender(LoggingUtil loggingUtil) {
+        return new LoggingNotificationSender(loggingUtil);
+    }
+}
@@ -0,0 +1,14 @@
+package com.zerobase.storereservation.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig
+ * 스케줄링 설정 클래스
+ * - 주기적으로 실행되는 백그라운드 작업(@Scheduled) 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package com.zerobase.storereservation.config;
 import com.zerobase.storereservation.exception.CustomAuthenticationEntryPoint;
 import com.zerobase.storereservation.filter.JwtAuthenticationFilter;
 import com.zerobase.storereservation.service.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -72,6 +73,8 @@ public class SecurityConfig {
                             log.info("인증 및 권한 설정 중...");
                             // 인증 없이 접근 가능한 URL
                             auth.requestMatchers(PUBLIC_URLS).permitAll()
+                                    // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 인증됨
+                                    .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                                     // 테스트용 엔드포인트
                                     .requestMatchers("/api/protected-endpoint").authenticated()
                                     // 인증이 필요한 URL
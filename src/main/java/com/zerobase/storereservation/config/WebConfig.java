@@ -0,0 +1,25 @@
+package com.zerobase.storereservation.config;
+
+import com.zerobase.storereservation.filter.TrafficInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * WebConfig
+ * Spring MVC 설정 클래스
+ * - API 요청의 매장, 사용자별 빈도를 기록하는 인터셉터 등록
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    // 요청 빈도 기록 인터셉터
+    private final TrafficInterceptor trafficInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(trafficInterceptor).addPathPatterns("/api/**");
+    }
+}
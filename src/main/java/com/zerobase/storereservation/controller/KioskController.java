@@ -8,13 +8,15 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * KioskController
  * 키오스크 기능을 위한 컨트롤러
- * - 예약 목록 조회 및 도착 확인 기능 제공
+ * - 예약 목록 조회, 연락처 조회 및 도착 확인 기능 제공
  */
 @RestController
 @RequestMapping("/api/kiosk")
@@ -43,6 +45,67 @@ public class KioskController {
         return ResponseEntity.ok(reservations);
     }
 
+    /**
+     * 여러 매장의 당일 예약 목록 일괄 조회
+     * - 예: /api/kiosk/reservations?storeIds=1,2,3
+     *
+     * @param storeIds 매장 ID 목록 (최대 50개)
+     * @return ResponseEntity<Map < Long, List < ReservationDto.Response>>> 매장 ID 별 당일 예약 리스트 응답
+     */
+    @GetMapping(value = "/reservations", params = "storeIds")
+    public ResponseEntity<Map<Long, List<ReservationDto.Response>>> getTodayReservationsByStores(
+            @RequestParam List<Long> storeIds
+    ) {
+        loggingUtil.logRequest("GET TODAY RESERVATIONS BY STORES", storeIds);
+        Map<Long, List<ReservationDto.Response>> reservations =
+                kioskService.getTodayReservationsByStores(storeIds);
+        loggingUtil.logSuccess("GET TODAY RESERVATIONS BY STORES", "매장 개수: " + reservations.size());
+        return ResponseEntity.ok(reservations);
+    }
+
+    /**
+     * 특정 매장의 당일 예약 증분 동기화
+     * - sinceVersion 이후 변경된 예약만 반환
+     *
+     * @param storeId      매장 ID
+     * @param sinceVersion 마지막으로 받은 버전
+     * @return ResponseEntity<ReservationDto.SyncResponse> 증분 동기화 결과 응답
+     */
+    @GetMapping(value = "/reservations", params = "sinceVersion")
+    public ResponseEntity<ReservationDto.SyncResponse> syncTodayReservations(
+            @RequestParam Long storeId,
+            @RequestParam long sinceVersion
+    ) {
+        loggingUtil.logRequest("SYNC TODAY RESERVATIONS", storeId, sinceVersion);
+        ReservationDto.SyncResponse response =
+                kioskService.syncTodayReservations(storeId, sinceVersion);
+        loggingUtil.logSuccess("SYNC TODAY RESERVATIONS", "버전: " + response.getVersion());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 특정 매장의 예약을 연락처로 조회
+     * - 전체 번호 또는 끝 4자리로 조회
+     *
+     * @param storeId 매장 ID
+     * @param phone   연락처 또는 끝 4자리
+     * @param date    조회 날짜 (생략 시 오늘)
+     * @return ResponseEntity<List < ReservationDto.Response>> 연락처가 일치하는 예약 리스트 응답
+     */
+    @GetMapping(value = "/reservations", params = "phone")
+    public ResponseEntity<List<ReservationDto.Response>> findReservationsByPhone(
+            @RequestParam Long storeId,
+            @RequestParam String phone,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        loggingUtil.logRequest("FIND RESERVATIONS BY PHONE", storeId, date);
+        List<ReservationDto.Response> reservations =
+                kioskService.findReservationsByPhone(storeId, phone, date);
+        loggingUtil.logSuccess("FIND RESERVATIONS BY PHONE", "예약 개수: " + reservations.size());
+        return ResponseEntity.ok(reservations);
+    }
+
     /**
      * 도착 확인
      * - 예약 시간에 기반하여 도착 여부를 확인
@@ -61,4 +124,27 @@ public class KioskController {
         loggingUtil.logSuccess("CHECK ARRIVAL", response);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 체크인 토큰으로 도착 확인
+     * - 예약 시 발급된 체크인 토큰을 검증하여 DB 조회 없이 도착 여부를 확인
+     *
+     * @param token       체크인 토큰
+     * @param storeId     매장 ID
+     * @param arrivalTime 도착 시간 (생략 시 현재 시간)
+     * @return ResponseEntity<ReservationDto.CheckArrivalResponse> 도착 확인 결과 응답
+     */
+    @PostMapping("/check-in")
+    public ResponseEntity<ReservationDto.CheckArrivalResponse> checkIn(
+            @RequestParam String token,
+            @RequestParam Long storeId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime arrivalTime
+    ) {
+        loggingUtil.logRequest("CHECK IN", "매장 ID: " + storeId + ", 도착 시간: " + arrivalTime);
+        ReservationDto.CheckArrivalResponse response = kioskService.checkIn(
+                token, storeId, arrivalTime != null ? arrivalTime : LocalDateTime.now());
+        loggingUtil.logSuccess("CHECK IN", response);
+        return ResponseEntity.ok(response);
+    }
 }
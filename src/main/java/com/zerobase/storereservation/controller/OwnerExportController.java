@@ -0,0 +1,91 @@
+package com.zerobase.storereservation.controller;
+
+import com.zerobase.storereservation.service.export.OwnerExportService;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * OwnerExportController
+ * 점주가 매장 예약과 리뷰를 파일로 내려받기 위한 컨트롤러
+ * - 응답 본문은 조회와 동시에 스트림으로 전송
+ */
+@RestController
+@RequestMapping("/api/owner/exports")
+@RequiredArgsConstructor
+public class OwnerExportController {
+
+    // 내보내기 비즈니스 로직을 처리하는 서비스
+    private final OwnerExportService exportService;
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    /**
+     * 매장 예약 내보내기
+     *
+     * @param storeId 매장 ID
+     * @param from    조회 시작 날짜 (yyyy-MM-dd)
+     * @param to      조회 종료 날짜 (yyyy-MM-dd, 포함)
+     * @param format  내보내기 형식 (CSV, NDJSON, 기본 CSV)
+     * @return 예약 파일
+     */
+    @PreAuthorize("hasRole('PARTNER')")
+    @GetMapping("/reservations")
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+            @RequestParam Long storeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "CSV") OwnerExportService.Format format
+    ) {
+        loggingUtil.logRequest("EXPORT RESERVATIONS", storeId, from, to, format);
+        StreamingResponseBody body = exportService.exportReservations(storeId, from, to, format);
+        return attachment("reservations", storeId, from, to, format, body);
+    }
+
+    /**
+     * 매장 리뷰 내보내기
+     *
+     * @param storeId 매장 ID
+     * @param from    작성 시작 날짜 (yyyy-MM-dd)
+     * @param to      작성 종료 날짜 (yyyy-MM-dd, 포함)
+     * @param format  내보내기 형식 (CSV, NDJSON, 기본 CSV)
+     * @return 리뷰 파일
+     */
+    @PreAuthorize("hasRole('PARTNER')")
+    @GetMapping("/reviews")
+    public ResponseEntity<StreamingResponseBody> exportReviews(
+            @RequestParam Long storeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "CSV") OwnerExportService.Format format
+    ) {
+        loggingUtil.logRequest("EXPORT REVIEWS", storeId, from, to, format);
+        StreamingResponseBody body = exportService.exportReviews(storeId, from, to, format);
+        return attachment("reviews", storeId, from, to, format, body);
+    }
+
+    /**
+     * 첨부 파일 응답 생성 (예: reservations-1-2024-12-01-2024-12-31.csv)
+     */
+    private ResponseEntity<StreamingResponseBody> attachment(
+            String name, Long storeId, LocalDate from, LocalDate to,
+            OwnerExportService.Format format, StreamingResponseBody body) {
+        String filename = name + "-" + storeId + "-" + from + "-" + to + "." + format.extension();
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
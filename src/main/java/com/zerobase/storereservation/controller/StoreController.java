@@ -2,12 +2,15 @@ package com.zerobase.storereservation.controller;
 
 import com.zerobase.storereservation.dto.StoreDto;
 import com.zerobase.storereservation.service.StoreService;
+import com.zerobase.storereservation.service.StoreTrending;
 import com.zerobase.storereservation.util.LoggingUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -67,18 +70,38 @@ public class StoreController {
      * 매장 삭제
      * - 점주가 특정 매장을 삭제합니다.
      *
+     * - 매장은 바로 조회에서 제외되고, 연관 데이터 정리는 백그라운드에서 진행됩니다.
+     *
      * @param id 매장 ID
-     * @return 성공 상태 코드
+     * @return 삭제 진행 상황 (202 Accepted)
      */
     @PreAuthorize("hasRole('PARTNER')")
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteStore(
+    public ResponseEntity<StoreDto.DeletionResponse> deleteStore(
             @PathVariable Long id
     ) {
         loggingUtil.logSuccess("DELETE STORE", id);
-        storeService.deleteStore(id);
+        StoreDto.DeletionResponse response = storeService.deleteStore(id);
         loggingUtil.logSuccess("DELETE STORE", "매장 ID: " + id);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted().body(response);
+    }
+
+    /**
+     * 매장 삭제 진행 상황 조회
+     * - 삭제를 요청한 점주가 연관 데이터 정리 단계와 처리한 행 수를 확인합니다.
+     *
+     * @param id 매장 ID
+     * @return 삭제 진행 상황
+     */
+    @PreAuthorize("hasRole('PARTNER')")
+    @GetMapping("/{id}/deletion")
+    public ResponseEntity<StoreDto.DeletionResponse> getDeletionProgress(
+            @PathVariable Long id
+    ) {
+        loggingUtil.logRequest("GET DELETION PROGRESS", id);
+        StoreDto.DeletionResponse response = storeService.getDeletionProgress(id);
+        loggingUtil.logSuccess("GET DELETION PROGRESS", response);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -119,4 +142,49 @@ public class StoreController {
         loggingUtil.logSuccess("GET STORES", "정렬 기준: " + sortBy + ", 위치 기준: (" + userLat + ", " + userLon + "), 조회한 매장 개수: " + stores.size());
         return ResponseEntity.ok(stores);
     }
+
+    /**
+     * 특정 시간에 예약 가능한 가까운 매장 조회
+     * - 사용자 위치에서 가까운 순서로 해당 시간에 자리가 있는 매장을 limit 개까지 반환합니다.
+     *
+     * @param userLat  사용자 위도
+     * @param userLon  사용자 경도
+     * @param at       예약 희망 시간
+     * @param limit    찾을 매장 수 (옵션)
+     * @param radiusKm 최대 탐색 반경 km (옵션)
+     * @return 예약 가능한 매장 목록
+     */
+    @GetMapping("/bookable")
+    public ResponseEntity<List<StoreDto.Response>> getBookableStoresNearby(
+            @RequestParam Double userLat,
+            @RequestParam Double userLon,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Double radiusKm
+    ) {
+        loggingUtil.logRequest("GET BOOKABLE STORES NEARBY", userLat, userLon, at, limit, radiusKm);
+        List<StoreDto.Response> stores =
+                storeService.getBookableStoresNearby(userLat, userLon, at, limit, radiusKm);
+        loggingUtil.logSuccess("GET BOOKABLE STORES NEARBY", "조회한 매장 개수: " + stores.size());
+        return ResponseEntity.ok(stores);
+    }
+
+    /**
+     * 예약 급상승 매장 조회
+     * - 최근 1시간 또는 1일 동안 예약이 많이 생성된 매장을 순위대로 반환합니다.
+     *
+     * @param window 집계 구간 (HOUR, DAY 중 하나, 기본값: HOUR)
+     * @param limit  조회 개수 (옵션)
+     * @return 예약 급상승 매장 목록
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<StoreDto.TrendingResponse>> getTrendingStores(
+            @RequestParam(required = false, defaultValue = "HOUR") StoreTrending.Window window,
+            @RequestParam(required = false) Integer limit
+    ) {
+        loggingUtil.logRequest("GET TRENDING STORES", window, limit);
+        List<StoreDto.TrendingResponse> stores = storeService.getTrendingStores(window, limit);
+        loggingUtil.logSuccess("GET TRENDING STORES", "조회한 매장 개수: " + stores.size());
+        return ResponseEntity.ok(stores);
+    }
 }
@@ -0,0 +1,63 @@
+package com.zerobase.storereservation.controller;
+
+import com.zerobase.storereservation.dto.TableDto;
+import com.zerobase.storereservation.service.TableService;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * TableController
+ * 매장 테이블 관리를 위한 컨트롤러
+ * - 테이블 등록, 조회 기능 제공
+ */
+@RestController
+@RequestMapping("/api/stores/{storeId}/tables")
+@RequiredArgsConstructor
+public class TableController {
+
+    // 테이블 관련 비즈니스 로직을 처리하는 서비스
+    private final TableService tableService;
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    /**
+     * 테이블 등록
+     * - 점주가 매장의 테이블과 수용 인원을 등록합니다.
+     *
+     * @param storeId 매장 ID
+     * @param request 테이블 등록 요청 DTO
+     * @return 등록된 테이블 정보
+     */
+    @PreAuthorize("hasRole('PARTNER')")
+    @PostMapping
+    public ResponseEntity<TableDto.Response> createTable(
+            @PathVariable Long storeId,
+            @RequestBody TableDto.CreateRequest request
+    ) {
+        loggingUtil.logRequest("CREATE TABLE", storeId, request);
+        TableDto.Response response = tableService.createTable(storeId, request);
+        loggingUtil.logSuccess("CREATE TABLE", response);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 테이블 목록 조회
+     *
+     * @param storeId 매장 ID
+     * @return 테이블 목록
+     */
+    @GetMapping
+    public ResponseEntity<List<TableDto.Response>> getTables(
+            @PathVariable Long storeId
+    ) {
+        loggingUtil.logRequest("GET TABLES", storeId);
+        List<TableDto.Response> tables = tableService.getTables(storeId);
+        loggingUtil.logSuccess("GET TABLES", "테이블 개수: " + tables.size());
+        return ResponseEntity.ok(tables);
+    }
+}
@@ -2,6 +2,7 @@ package com.zerobase.storereservation.controller.reservation;
 
 import com.zerobase.storereservation.dto.ReservationDto;
 import com.zerobase.storereservation.service.reservation.CustomerReservationService;
+import com.zerobase.storereservation.service.reservation.ReservationCommandService;
 import com.zerobase.storereservation.util.LoggingUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -9,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -25,12 +27,16 @@ public class CustomerReservationController {
     // 고객 예약 관련 비즈니스 로직을 처리하는 서비스
     private final CustomerReservationService reservationService;
 
+    // 예약 생성 요청을 DB 또는 장애 시 저널로 접수하는 서비스
+    private final ReservationCommandService reservationCommandService;
+
     // 로깅을 위한 유틸 클래스
     private final LoggingUtil loggingUtil;
 
     /**
      * 예약 생성
      * - 고객이 새로운 예약을 생성
+     * - DB 장애 중 저널에 접수되면 id 없이 provisionalId 를 반환
      *
      * @param request 예약 생성 요청 DTO
      * @return 생성된 예약 정보
@@ -41,11 +47,36 @@ public class CustomerReservationController {
             @RequestBody ReservationDto.CreateRequest request
     ) {
         loggingUtil.logRequest("CREATE RESERVATION", request);
-        ReservationDto.Response response = reservationService.createReservation(request);
+        ReservationDto.Response response = reservationCommandService.createReservation(request);
         loggingUtil.logSuccess("CREATE RESERVATION", response);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 매장 예약 가능 시간 조회
+     * - 기간 내 예약 가능한 시간 목록과 가장 빠른 예약 가능 시간을 반환
+     *
+     * @param storeId 매장 ID
+     * @param from    조회 시작 날짜 (생략 시 오늘)
+     * @param to      조회 종료 날짜 (생략 시 시작 날짜)
+     * @return 예약 가능 시간
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<ReservationDto.AvailabilityResponse> getAvailability(
+            @RequestParam Long storeId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        loggingUtil.logRequest("GET AVAILABILITY", storeId, from, to);
+        ReservationDto.AvailabilityResponse response =
+                reservationService.getAvailability(storeId, from, to);
+        loggingUtil.logSuccess("GET AVAILABILITY",
+                "가장 빠른 예약 가능 시간 : " + response.getNextFreeSlot());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 특정 예약 조회
      * - 예약 ID 를 통해 예약 정보를 조회
@@ -64,6 +95,24 @@ public class CustomerReservationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 임시 접수 예약 처리 상태 조회
+     * - DB 장애 중 저널에 접수된 예약이 생성되었는지, 거절되었는지(거절 사유 포함), 아직 대기 중인지 조회
+     *
+     * @param provisionalId 임시 접수 ID
+     * @return 예약 처리 상태
+     */
+    @PreAuthorize("hasRole('CUSTOMER')")
+    @GetMapping("/provisional/{provisionalId}")
+    public ResponseEntity<ReservationDto.Response> getProvisionalReservation(
+            @PathVariable String provisionalId
+    ) {
+        loggingUtil.logRequest("GET PROVISIONAL RESERVATION", provisionalId);
+        ReservationDto.Response response = reservationService.getByProvisionalId(provisionalId);
+        loggingUtil.logSuccess("GET PROVISIONAL RESERVATION", response);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 예약 도착 확인
      * - 예약 ID, 매장 ID 및 도착 시간을 확인하여 예약 도착 상태를 업데이트
@@ -110,4 +159,34 @@ public class CustomerReservationController {
                 "예약 개수 : " + reservations);
         return ResponseEntity.ok(reservations);
     }
+
+    /**
+     * 고객의 예약 범위별 페이지 조회
+     * - scope 가 upcoming 이면 다가오는 예약을, past 이면 지난 예약을 조회
+     * - 다음 페이지는 응답의 nextCursorAt, nextCursorId 를 그대로 전달하여 조회
+     *
+     * @param userId   고객 ID
+     * @param scope    조회 범위 (upcoming, past)
+     * @param cursorAt 커서 예약 시간 (첫 페이지는 생략)
+     * @param cursorId 커서 예약 ID (첫 페이지는 생략)
+     * @param size     페이지 크기
+     * @return 예약 페이지
+     */
+    @GetMapping(params = "scope")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<ReservationDto.KeysetPage<ReservationDto.Response>> getReservationsPage(
+            @RequestParam Long userId,
+            @RequestParam String scope,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Integer size
+    ) {
+        loggingUtil.logRequest("GET RESERVATIONS PAGE", userId, scope, cursorAt, cursorId, size);
+        ReservationDto.KeysetPage<ReservationDto.Response> page =
+                reservationService.getCustomerReservations(userId, scope, cursorAt, cursorId, size);
+        loggingUtil.logSuccess("GET RESERVATIONS PAGE",
+                "예약 개수 : " + page.getItems().size());
+        return ResponseEntity.ok(page);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.zerobase.storereservation.controller.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.service.reservation.OwnerReservationService;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * OwnerInboxController
+ * 점주가 소유한 모든 매장의 예약을 한 곳에서 조회하기 위한 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/owner")
+@RequiredArgsConstructor
+public class OwnerInboxController {
+
+    // 예약 관련 비즈니스 로직을 처리하는 서비스
+    private final OwnerReservationService reservationService;
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    /**
+     * 점주 통합 예약함 조회
+     * - 소유한 모든 매장의 대기/확정 예약 중 다가오는 예약을 예약 시간 순으로 조회
+     * - 다음 페이지는 응답의 nextCursorAt, nextCursorId 를 그대로 전달하여 조회
+     *
+     * @param cursorAt 커서 예약 시간 (첫 페이지는 생략)
+     * @param cursorId 커서 예약 ID (첫 페이지는 생략)
+     * @param size     페이지 크기
+     * @return 예약함 페이지
+     */
+    @PreAuthorize("hasRole('PARTNER')")
+    @GetMapping("/inbox")
+    public ResponseEntity<ReservationDto.KeysetPage<ReservationDto.InboxItem>> getInbox(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Integer size
+    ) {
+        loggingUtil.logRequest("GET OWNER INBOX", cursorAt, cursorId, size);
+        ReservationDto.KeysetPage<ReservationDto.InboxItem> page =
+                reservationService.getOwnerInbox(cursorAt, cursorId, size);
+        loggingUtil.logSuccess("GET OWNER INBOX", "조회된 예약 개수: " + page.getItems().size());
+        return ResponseEntity.ok(page);
+    }
+}
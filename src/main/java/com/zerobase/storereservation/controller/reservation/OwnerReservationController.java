@@ -1,14 +1,19 @@
 package com.zerobase.storereservation.controller.reservation;
 
 import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import com.zerobase.storereservation.service.analytics.ReservationColumnStore;
 import com.zerobase.storereservation.service.reservation.OwnerReservationService;
 import com.zerobase.storereservation.util.LoggingUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -72,6 +77,127 @@ public class OwnerReservationController {
         return ResponseEntity.ok(reservations);
     }
 
+    /**
+     * 매장 예약 변경 스트림 구독 (SSE)
+     * - 연결 직후 대기 중인 예약 목록(snapshot)을 받고, 이후 예약 변경을 실시간으로 수신
+     * - resync 이벤트를 받으면 클라이언트는 대기 목록을 다시 조회해야 함
+     *
+     * @param storeId 매장 ID
+     * @return SSE 연결
+     */
+    @PreAuthorize("hasRole('PARTNER')")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReservations(
+            @RequestParam Long storeId
+    ) {
+        loggingUtil.logRequest("STREAM RESERVATIONS", storeId);
+        SseEmitter emitter = reservationService.subscribeReservationStream(storeId);
+        loggingUtil.logSuccess("STREAM RESERVATIONS", "매장 ID : " + storeId);
+        return emitter;
+    }
+
+    /**
+     * 매장 실시간 점유 현황 조회
+     * - 현재 착석 인원과 향후 1시간 도착 예정 인원을 반환
+     *
+     * @param storeId 매장 ID
+     * @return 점유 현황
+     */
+    @PreAuthorize("hasRole('PARTNER')")
+    @GetMapping("/occupancy")
+    public ResponseEntity<ReservationDto.OccupancyResponse> getOccupancy(
+            @RequestParam Long storeId
+    ) {
+        loggingUtil.logRequest("GET OCCUPANCY", storeId);
+        ReservationDto.OccupancyResponse response = reservationService.getOccupancy(storeId);
+        loggingUtil.logSuccess("GET OCCUPANCY", response);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 매장 예약 통계 조회
+     * - 날짜별, 시간대별 예약 수와 취소율, 거절율, 노쇼율을 반환
+     *
+     * @param storeId 매장 ID
+     * @param from    조회 시작 날짜
+     * @param to      조회 종료 날짜 (포함)
+     * @return 예약 통계
+     */
+    @PreAuthorize("hasRole('PARTNER')")
+    @GetMapping("/analytics")
+    public ResponseEntity<ReservationDto.AnalyticsResponse> getAnalytics(
+            @RequestParam Long storeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        loggingUtil.logRequest("GET ANALYTICS", storeId, from, to);
+        ReservationDto.AnalyticsResponse response = reservationService.getAnalytics(storeId, from, to);
+        loggingUtil.logSuccess("GET ANALYTICS", "조회된 예약 수: " + response.getTotal());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 매장 예약 리포트 조회
+     * - 여러 매장의 예약을 상태로 거르고 시간대, 요일, 매장, 상태 기준으로 묶어 집계
+     *
+     * @param storeIds 매장 ID 목록
+     * @param from     조회 시작 날짜
+     * @param to       조회 종료 날짜 (포함)
+     * @param statuses 조회 예약 상태 (생략 시 전체)
+     * @param groupBy  그룹 기준 (생략 시 전체 합계)
+     * @return 그룹별 예약 수와 인원 합계
+     */
+    @PreAuthorize("hasRole('PARTNER')")
+    @GetMapping("/report")
+    public ResponseEntity<ReservationDto.ReportResponse> getReport(
+            @RequestParam List<Long> storeIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<ReservationStatus> statuses,
+            @RequestParam(required = false) List<ReservationColumnStore.Dimension> groupBy
+    ) {
+        loggingUtil.logRequest("GET REPORT", storeIds, from, to, statuses, groupBy);
+        ReservationDto.ReportResponse response =
+                reservationService.getReport(storeIds, from, to, statuses, groupBy);
+        loggingUtil.logSuccess("GET REPORT", "조회된 예약 수: " + response.getTotal());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 매장 예약 검색
+     * - 점주가 기간, 상태, 연락처 앞부분으로 자신의 매장 예약을 검색
+     *
+     * @param storeId     매장 ID
+     * @param from        조회 시작 날짜 (yyyy-MM-dd)
+     * @param to          조회 종료 날짜 (yyyy-MM-dd, 포함)
+     * @param statuses    조회 예약 상태 (생략 시 전체)
+     * @param phonePrefix 연락처 앞부분 (생략 시 전체)
+     * @param cursorAt    커서 예약 시간 (첫 페이지는 생략)
+     * @param cursorId    커서 예약 ID (첫 페이지는 생략)
+     * @param size        페이지 크기
+     * @return 예약 검색 페이지
+     */
+    @PreAuthorize("hasRole('PARTNER')")
+    @GetMapping("/search")
+    public ResponseEntity<ReservationDto.KeysetPage<ReservationDto.Response>> searchReservations(
+            @RequestParam Long storeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<ReservationStatus> statuses,
+            @RequestParam(required = false) String phonePrefix,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Integer size
+    ) {
+        loggingUtil.logRequest("SEARCH RESERVATIONS", storeId, from, to, statuses, phonePrefix,
+                cursorAt, cursorId, size);
+        ReservationDto.KeysetPage<ReservationDto.Response> page = reservationService.searchReservations(
+                storeId, from, to, statuses, phonePrefix, cursorAt, cursorId, size);
+        loggingUtil.logSuccess("SEARCH RESERVATIONS", "조회된 예약 개수: " + page.getItems().size());
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * 예약 승인
      * - 점주가 특정 예약을 승인
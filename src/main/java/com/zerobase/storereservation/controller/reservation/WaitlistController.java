@@ -0,0 +1,82 @@
+package com.zerobase.storereservation.controller.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.dto.WaitlistDto;
+import com.zerobase.storereservation.service.reservation.WaitlistService;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * WaitlistController
+ * 고객의 예약 대기 관리를 위한 컨트롤러
+ * - 예약이 가득 찬 시간대의 대기 등록, 조회, 취소 기능 제공
+ */
+@RestController
+@RequestMapping("/api/customer/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+    // 예약 대기 관련 비즈니스 로직을 처리하는 서비스
+    private final WaitlistService waitlistService;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    /**
+     * 예약 대기 등록
+     * - 빈 자리가 생기면 대기 순서대로 자동으로 예약이 생성됨
+     *
+     * @param request 예약 생성 요청 DTO (희망 예약 시간과 인원)
+     * @return 등록된 대기 정보
+     */
+    @PreAuthorize("hasRole('CUSTOMER')")
+    @PostMapping
+    public ResponseEntity<WaitlistDto.Response> joinWaitlist(
+            @RequestBody ReservationDto.CreateRequest request
+    ) {
+        loggingUtil.logRequest("JOIN WAITLIST", request);
+        WaitlistDto.Response response = waitlistService.joinWaitlist(request);
+        loggingUtil.logSuccess("JOIN WAITLIST", response);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 예약 대기 조회
+     * - 대기 중이면 현재 대기 순번을, 전환되었으면 생성된 예약 ID 를 반환
+     *
+     * @param id 대기 ID
+     * @return 대기 정보
+     */
+    @PreAuthorize("hasRole('CUSTOMER')")
+    @GetMapping("/{id}")
+    public ResponseEntity<WaitlistDto.Response> getWaitlist(
+            @PathVariable Long id
+    ) {
+        loggingUtil.logRequest("GET WAITLIST", id);
+        WaitlistDto.Response response = waitlistService.getWaitlist(id);
+        loggingUtil.logSuccess("GET WAITLIST", response);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 예약 대기 취소
+     *
+     * @param id     대기 ID
+     * @param userId 고객 ID
+     * @return 취소된 대기 정보
+     */
+    @PreAuthorize("hasRole('CUSTOMER')")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<WaitlistDto.Response> cancelWaitlist(
+            @PathVariable Long id,
+            @RequestParam Long userId
+    ) {
+        loggingUtil.logRequest("CANCEL WAITLIST", id, userId);
+        WaitlistDto.Response response = waitlistService.cancelWaitlist(id, userId);
+        loggingUtil.logSuccess("CANCEL WAITLIST", response);
+        return ResponseEntity.ok(response);
+    }
+}
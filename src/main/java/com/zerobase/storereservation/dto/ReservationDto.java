@@ -5,7 +5,9 @@ import com.zerobase.storereservation.entity.constants.ReservationStatus;
 import lombok.Builder;
 import lombok.Data;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * ReservationDto
@@ -25,6 +27,9 @@ public class ReservationDto {
         private String phoneNumber;         // 연락처
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
         private LocalDateTime reservedAt;   // 예약 시간
+        private Integer partySize;          // 예약 인원 (선택, 기본 1명)
+        private Integer durationMinutes;    // 이용 시간 (선택, 기본 60분)
+        private String commandId;           // 요청 식별자 (선택, 같은 값으로 다시 요청하면 기존 예약 반환)
     }
 
     /**
@@ -41,6 +46,75 @@ public class ReservationDto {
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
         private LocalDateTime reservedAt;   // 예약 시간
         private ReservationStatus status;   // 예약 상태
+        private Long tableId;               // 배정된 테이블 ID (없으면 null)
+        private String checkInToken;        // 키오스크 체크인 토큰 (고객 응답에만 포함)
+        private String provisionalId;       // 임시 접수 ID (DB 장애로 저널에 접수된 경우에만 포함, id 는 null)
+        private String rejectionCode;       // 임시 접수 거절 코드 (저널 재처리에서 거절된 경우에만 포함)
+        private String rejectionReason;     // 임시 접수 거절 사유 (저널 재처리에서 거절된 경우에만 포함)
+    }
+
+    /**
+     * SyncResponse
+     * 키오스크 당일 예약 증분 동기화 응답 DTO
+     * - changed 가 false 이면 마지막 버전 이후 변경 없음
+     * - fullResync 가 true 이면 reservations 에 당일 전체 목록이 담김
+     */
+    @Data
+    @Builder
+    public static class SyncResponse {
+        private long version;                   // 현재 매장 버전 (다음 요청의 sinceVersion)
+        private boolean changed;                // 변경 여부
+        private boolean fullResync;             // 전체 재동기화 여부
+        private List<Response> reservations;    // 변경된 (또는 전체) 예약 목록
+        private List<Long> removedIds;          // 당일 목록에서 제거된 예약 ID 목록
+    }
+
+    /**
+     * InboxItem
+     * 점주 통합 예약함 항목 DTO
+     * - 여러 매장의 예약을 한 목록으로 보여주기 위해 매장 이름을 함께 전달
+     */
+    @Data
+    @Builder
+    public static class InboxItem {
+        private Long id;                    // 예약 ID
+        private Long storeId;               // 매장 ID
+        private String storeName;           // 매장 이름
+        private Long userId;                // 예약자 ID
+        private String phoneNumber;         // 연락처
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime reservedAt;   // 예약 시간
+        private ReservationStatus status;   // 예약 상태
+    }
+
+    /**
+     * KeysetPage
+     * (예약 시간, 예약 ID) 기준 키셋 페이지 응답 DTO
+     * - hasNext 가 true 이면 nextCursorAt, nextCursorId 로 다음 페이지를 요청
+     */
+    @Data
+    @Builder
+    public static class KeysetPage<T> {
+        private List<T> items;              // 페이지 항목
+        private boolean hasNext;            // 다음 페이지 존재 여부
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime nextCursorAt; // 다음 페이지 커서 (마지막 항목의 예약 시간)
+        private Long nextCursorId;          // 다음 페이지 커서 (마지막 항목의 예약 ID)
+    }
+
+    /**
+     * AvailabilityResponse
+     * 매장 예약 가능 시간 응답 DTO
+     */
+    @Data
+    @Builder
+    public static class AvailabilityResponse {
+        private Long storeId;                       // 매장 ID
+        private int slotMinutes;                    // 예약 시간 단위 (분)
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private List<LocalDateTime> freeSlots;      // 예약 가능한 시간 목록
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime nextFreeSlot;         // 가장 빠른 예약 가능 시간 (없으면 null)
     }
 
     /**
@@ -67,4 +141,88 @@ public class ReservationDto {
         private Long reservationId;         // 예약 ID
         private boolean arrived;            // 도착 여부
     }
+
+    /**
+     * OccupancyResponse
+     * 매장 실시간 점유 현황 응답 DTO
+     */
+    @Data
+    @Builder
+    public static class OccupancyResponse {
+        private Long storeId;               // 매장 ID
+        private long seated;                // 현재 착석 인원
+        private long expectedNextHour;      // 향후 1시간 도착 예정 인원
+    }
+
+    /**
+     * AnalyticsResponse
+     * 매장 예약 통계 응답 DTO (예약 집계 기준)
+     */
+    @Data
+    @Builder
+    public static class AnalyticsResponse {
+        private Long storeId;               // 매장 ID
+        private LocalDate from;             // 조회 시작 날짜
+        private LocalDate to;               // 조회 종료 날짜
+        private long total;                 // 전체 예약 수
+        private long cancelled;             // 취소된 예약 수
+        private long rejected;              // 거절된 예약 수
+        private long noShows;               // 노쇼 수 (지난 확정 예약 중 도착하지 않은 예약)
+        private double cancelRate;          // 취소율
+        private double rejectRate;          // 거절율
+        private double noShowRate;          // 노쇼율 (지난 확정 예약 대비)
+        private List<DailyCount> byDay;     // 날짜별 예약 수
+        private List<HourlyCount> byHour;   // 시간대별 예약 수 (0 ~ 23시)
+    }
+
+    /**
+     * DailyCount
+     * 날짜별 예약 통계 DTO
+     */
+    @Data
+    @Builder
+    public static class DailyCount {
+        private LocalDate date;             // 날짜
+        private long total;                 // 전체 예약 수
+        private long cancelled;             // 취소된 예약 수
+        private long rejected;              // 거절된 예약 수
+        private long noShows;               // 노쇼 수
+    }
+
+    /**
+     * HourlyCount
+     * 시간대별 예약 통계 DTO
+     */
+    @Data
+    @Builder
+    public static class HourlyCount {
+        private int hour;                   // 시간대 (0 ~ 23)
+        private long total;                 // 전체 예약 수
+    }
+
+    /**
+     * ReportResponse
+     * 매장 예약 리포트 응답 DTO (임의 조건 집계)
+     */
+    @Data
+    @Builder
+    public static class ReportResponse {
+        private LocalDate from;             // 조회 시작 날짜
+        private LocalDate to;               // 조회 종료 날짜
+        private List<String> groupBy;       // 그룹 기준 (HOUR, WEEKDAY, STORE, STATUS)
+        private long total;                 // 전체 예약 수
+        private List<ReportRow> rows;       // 그룹별 집계
+    }
+
+    /**
+     * ReportRow
+     * 매장 예약 리포트 그룹별 집계 DTO
+     */
+    @Data
+    @Builder
+    public static class ReportRow {
+        private List<String> keys;          // 그룹 키 (그룹 기준 순서)
+        private long reservations;          // 예약 수
+        private long guests;                // 인원 합계
+    }
 }
@@ -1,8 +1,13 @@
 package com.zerobase.storereservation.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+
 /**
  * StoreDto
  * 매장 관련 요청 및 응답 데이터를 처리하기 위한 DTO 클래스
@@ -22,6 +27,12 @@ public class StoreDto {
         private Long ownerId;           // 매장 소유자 (점주) ID
         private Double latitude;        // 매장 위도
         private Double longitude;       // 매장 경도
+        private Integer capacity;       // 같은 시간대에 받을 수 있는 예약 수 (선택)
+        private Integer slotMinutes;    // 예약 시간 단위 (분, 선택)
+        @JsonFormat(pattern = "HH:mm")
+        private LocalTime openTime;     // 영업 시작 시간 (선택)
+        @JsonFormat(pattern = "HH:mm")
+        private LocalTime closeTime;    // 영업 종료 시간 (선택)
     }
 
     /**
@@ -40,5 +51,38 @@ public class StoreDto {
         private double distance;        // 거리순 정렬을 위함
         private Double latitude;        // 매장 위도
         private Double longitude;       // 매장 경도
+        private Integer capacity;       // 같은 시간대에 받을 수 있는 예약 수
+        private Integer slotMinutes;    // 예약 시간 단위 (분)
+        @JsonFormat(pattern = "HH:mm")
+        private LocalTime openTime;     // 영업 시작 시간
+        @JsonFormat(pattern = "HH:mm")
+        private LocalTime closeTime;    // 영업 종료 시간
+    }
+
+    /**
+     * TrendingResponse
+     * 예약 급상승 매장 응답 DTO
+     */
+    @Data
+    @Builder
+    public static class TrendingResponse {
+        private int rank;               // 순위 (1부터)
+        private Long storeId;           // 매장 ID
+        private String name;            // 매장 이름
+        private long reservations;      // 구간 내 예약 생성 수
+    }
+
+    /**
+     * DeletionResponse
+     * 매장 삭제 진행 상황 응답 DTO
+     */
+    @Data
+    @Builder
+    public static class DeletionResponse {
+        private Long storeId;                   // 매장 ID
+        private String phase;                   // 현재 단계 (COMPLETED 이면 완료)
+        private LocalDateTime requestedAt;      // 삭제 요청 시간
+        private LocalDateTime completedAt;      // 완료 시간 (진행 중이면 null)
+        private Map<String, Long> processed;    // 단계별 처리한 행 수
     }
 }
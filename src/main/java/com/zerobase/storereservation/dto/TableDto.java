@@ -0,0 +1,35 @@
+package com.zerobase.storereservation.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * TableDto
+ * 매장 테이블 관련 요청 및 응답 데이터를 처리하기 위한 DTO 클래스
+ */
+public class TableDto {
+
+    /**
+     * CreateRequest
+     * 테이블 등록 요청 DTO
+     */
+    @Data
+    @Builder
+    public static class CreateRequest {
+        private String name;            // 테이블 이름
+        private Integer seats;          // 수용 인원
+    }
+
+    /**
+     * Response
+     * 테이블 응답 DTO
+     */
+    @Data
+    @Builder
+    public static class Response {
+        private Long id;                // 테이블 ID
+        private Long storeId;           // 매장 ID
+        private String name;            // 테이블 이름
+        private int seats;              // 수용 인원
+    }
+}
@@ -0,0 +1,35 @@
+package com.zerobase.storereservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.zerobase.storereservation.entity.constants.WaitlistStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * WaitlistDto
+ * 예약 대기 관련 응답 데이터를 처리하기 위한 DTO 클래스
+ * - 대기 등록 요청은 예약 생성 요청(ReservationDto.CreateRequest)을 그대로 사용
+ */
+public class WaitlistDto {
+
+    /**
+     * Response
+     * 예약 대기 응답 DTO
+     */
+    @Data
+    @Builder
+    public static class Response {
+        private Long id;                    // 대기 ID
+        private Long storeId;               // 매장 ID
+        private Long userId;                // 대기자 ID
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime slotAt;       // 희망 예약 시간
+        private int partySize;              // 예약 인원
+        private int priority;               // 우선순위
+        private WaitlistStatus status;      // 대기 상태
+        private Integer position;           // 대기 순번 (1부터, 대기 중이 아니면 null)
+        private Long reservationId;         // 전환된 예약 ID
+    }
+}
@@ -0,0 +1,35 @@
+package com.zerobase.storereservation.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * DiningTable
+ * 매장의 테이블 정보를 저장하는 엔티티
+ * - 매장이 보유한 테이블과 테이블별 수용 인원을 관리
+ */
+@Entity
+@Table(name = "dining_table", indexes = {
+        @Index(name = "idx_dining_table_store", columnList = "store_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiningTable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 테이블 ID
+
+    @ManyToOne(fetch = FetchType.LAZY) // 매장 정보를 지연 로딩으로 가져옴
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store; // 테이블이 속한 매장
+
+    @Column(nullable = false)
+    private String name; // 테이블 이름 (예: A1, 창가 2번)
+
+    @Column(nullable = false)
+    private int seats; // 수용 인원
+}
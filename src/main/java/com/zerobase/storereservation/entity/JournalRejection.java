@@ -0,0 +1,46 @@
+package com.zerobase.storereservation.entity;
+
+import com.zerobase.storereservation.exception.ErrorCode;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * JournalRejection
+ * DB 장애 중 저널에 접수되었다가 재처리에서 거절된 예약 생성 요청
+ * - 고객이 임시 접수 ID(요청 식별자)로 거절 여부와 사유를 조회할 수 있도록 보관
+ * - 같은 요청을 다시 처리해도 같은 행을 덮어쓰도록 요청 식별자를 키로 사용
+ */
+@Entity
+@Table(name = "reservation_journal_rejection")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalRejection {
+
+    @Id
+    @Column(length = 64)
+    private String commandId; // 요청 식별자 (임시 접수 ID)
+
+    @Column(nullable = false)
+    private Long userId; // 예약자 ID
+
+    @Column(nullable = false)
+    private Long storeId; // 매장 ID
+
+    @Column(nullable = false)
+    private LocalDateTime reservedAt; // 예약 시간
+
+    @Column
+    private String phoneNumber; // 연락처
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ErrorCode errorCode; // 거절 사유
+
+    @Column(nullable = false)
+    private LocalDateTime rejectedAt; // 거절 시간
+}
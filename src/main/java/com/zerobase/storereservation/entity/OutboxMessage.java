@@ -0,0 +1,79 @@
+package com.zerobase.storereservation.entity;
+
+import com.zerobase.storereservation.entity.constants.NotificationRecipient;
+import com.zerobase.storereservation.entity.constants.OutboxStatus;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxMessage
+ * 예약 변경 알림을 발송 전까지 보관하는 아웃박스 엔티티
+ * - 예약 변경과 같은 트랜잭션에서 저장되어, 변경이 커밋된 경우에만 알림이 발송됨
+ * - 발송기는 next_attempt_at 이 지난 대기 메시지를 묶어서 발송하고, 실패하면 재시도 시간을 늦춤
+ * - 발송 완료, 발송 포기 메시지는 보관 기간이 지나면 매일 청크 단위로 삭제
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at, id"),
+        @Index(name = "idx_outbox_status_created_at", columnList = "status, created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 메시지 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationRecipient recipient; // 수신자 유형
+
+    @Column
+    private Long recipientId; // 수신자 ID (고객 ID 또는 점주 ID, 알 수 없으면 null)
+
+    @Column
+    private String phoneNumber; // 고객 연락처 (점주 알림은 null)
+
+    @Column(nullable = false)
+    private Long reservationId; // 예약 ID
+
+    @Column(nullable = false)
+    private Long storeId; // 매장 ID
+
+    @Column
+    private LocalDateTime reservedAt; // 예약 시간
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private ReservationStatus previousStatus; // 변경 전 예약 상태 (생성 시 null)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus reservationStatus; // 변경 후 예약 상태
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status; // 발송 상태
+
+    @Column(nullable = false)
+    private int attempts; // 발송 시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 발송 시도 시간
+
+    @Column(length = 500)
+    private String lastError; // 마지막 발송 실패 사유
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt; // 생성 시간
+
+    @Column
+    private LocalDateTime sentAt; // 발송 완료 시간
+}
@@ -15,6 +15,12 @@ import static com.zerobase.storereservation.exception.ErrorCode.INVALID_RESERVAT
  * - 사용자와 매장 간의 예약 정보를 저장
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_store_reserved_at", columnList = "store_id, reserved_at, id"),
+        @Index(name = "idx_reservation_user_reserved_at", columnList = "user_id, reserved_at, id"),
+        @Index(name = "idx_reservation_store_phone", columnList = "store_id, phone_number"),
+        @Index(name = "idx_reservation_store_status_reserved_at", columnList = "store_id, status, reserved_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,6 +28,9 @@ import static com.zerobase.storereservation.exception.ErrorCode.INVALID_RESERVAT
 @Builder
 public class Reservation {
 
+    // 이용 시간 기본값 (분)
+    public static final int DEFAULT_DURATION_MINUTES = 60;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id; // 예약 ID
@@ -44,6 +53,22 @@ public class Reservation {
     @Column(nullable = false)
     private ReservationStatus status; // 예약 상태 (기본값: PENDING)
 
+    @Column
+    private Integer partySize; // 예약 인원
+
+    @Column
+    private Integer durationMinutes; // 이용 시간 (분, null 이면 기본값)
+
+    @ManyToOne(fetch = FetchType.LAZY) // 배정된 테이블을 필요할 때만 로드
+    @JoinColumn(name = "table_id")
+    private DiningTable table; // 배정된 테이블 (테이블을 등록하지 않은 매장은 null)
+
+    @Column
+    private LocalDateTime arrivedAt; // 도착 시간 (도착 전에는 null)
+
+    @Column(unique = true, length = 64)
+    private String commandId; // 생성 요청 식별자 (중복 요청, 저널 재처리 시 중복 생성 방지)
+
     @PrePersist
     private void prePersist() {
         if (status == null) {
@@ -57,6 +82,19 @@ public class Reservation {
         }
     }
 
+    /**
+     * 이용 종료 시간 계산
+     *
+     * @return 예약 시간 + 이용 시간 (예약 시간이 없으면 null)
+     */
+    public LocalDateTime calculateEndAt() {
+        if (reservedAt == null) {
+            return null;
+        }
+        return reservedAt.plusMinutes(
+                durationMinutes != null ? durationMinutes : DEFAULT_DURATION_MINUTES);
+    }
+
     @Override
     public String toString() {
         return "Reservation{" +
@@ -0,0 +1,103 @@
+package com.zerobase.storereservation.entity;
+
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * ReservationArchive
+ * 보관 기간이 지난 예약을 옮겨 두는 아카이브 엔티티
+ * - 예약 ID 를 그대로 사용하므로 예약 테이블과 아카이브 테이블의 ID 가 겹치지 않음
+ * - 매장, 사용자, 테이블은 ID 로만 보관하여 원본 데이터가 삭제되어도 이력이 남음
+ */
+@Entity
+@Table(name = "reservation_archive", indexes = {
+        @Index(name = "idx_reservation_archive_store_reserved_at", columnList = "store_id, reserved_at, id"),
+        @Index(name = "idx_reservation_archive_user_reserved_at", columnList = "user_id, reserved_at, id"),
+        @Index(name = "idx_reservation_archive_store_phone", columnList = "store_id, phone_number")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationArchive implements Persistable<Long> {
+
+    @Id
+    private Long id; // 예약 ID (원본 예약 ID)
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId; // 예약된 매장 ID
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 예약한 사용자 ID
+
+    @Column(nullable = false)
+    private String phoneNumber; // 예약자 전화번호
+
+    @Column(name = "reserved_at", nullable = false)
+    private LocalDateTime reservedAt; // 예약 시간
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus status; // 아카이브 시점의 예약 상태
+
+    @Column
+    private Integer partySize; // 예약 인원
+
+    @Column
+    private Integer durationMinutes; // 이용 시간 (분, null 이면 기본값)
+
+    @Column
+    private Long tableId; // 배정된 테이블 ID
+
+    @Column
+    private LocalDateTime arrivedAt; // 도착 시간
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt; // 아카이브 시간
+
+    // ID 를 직접 지정하므로 저장 전 조회 없이 INSERT 하도록 신규 여부를 직접 관리
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    /**
+     * 예약을 아카이브 엔티티로 변환
+     *
+     * @param reservation 예약 엔티티
+     * @param archivedAt  아카이브 시간
+     * @return 아카이브 엔티티
+     */
+    public static ReservationArchive from(Reservation reservation, LocalDateTime archivedAt) {
+        return ReservationArchive.builder()
+                .id(reservation.getId())
+                .storeId(reservation.getStore().getId())
+                .userId(reservation.getUser().getId())
+                .phoneNumber(reservation.getPhoneNumber())
+                .reservedAt(reservation.getReservedAt())
+                .status(reservation.getStatus())
+                .partySize(reservation.getPartySize())
+                .durationMinutes(reservation.getDurationMinutes())
+                .tableId(reservation.getTable() != null ? reservation.getTable().getId() : null)
+                .arrivedAt(reservation.getArrivedAt())
+                .archivedAt(archivedAt)
+                .build();
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    private void markNotNew() {
+        newEntity = false;
+    }
+}
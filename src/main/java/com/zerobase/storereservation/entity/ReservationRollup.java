@@ -0,0 +1,49 @@
+package com.zerobase.storereservation.entity;
+
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * ReservationRollup
+ * 매장 x 날짜 x 시간대 x 예약 상태별 예약 수를 미리 집계한 엔티티
+ * - 점주 통계는 예약 테이블 대신 이 테이블만 조회
+ * - 예약 변경 이벤트로 증감하며, 백필 작업으로 이력 전체를 다시 집계할 수 있음
+ */
+@Entity
+@Table(name = "reservation_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rollup_store_day_hour_status",
+                columnNames = {"store_id", "reservation_date", "hour_of_day", "status"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 집계 ID
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId; // 매장 ID
+
+    @Column(name = "reservation_date", nullable = false)
+    private LocalDate day; // 예약 날짜
+
+    @Column(name = "hour_of_day", nullable = false)
+    private int hour; // 예약 시간대 (0 ~ 23)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ReservationStatus status; // 예약 상태
+
+    @Column(nullable = false)
+    private long reservationCount; // 예약 수
+
+    @Column(nullable = false)
+    private long arrivedCount; // 도착이 기록된 예약 수
+}
@@ -15,6 +15,9 @@ import static com.zerobase.storereservation.exception.ErrorCode.REVIEW_CONTENT_E
  * - 특정 매장(Store)에 대해 작성된 사용자(User)의 리뷰 데이터를 관리
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_review_store_created_at", columnList = "store_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
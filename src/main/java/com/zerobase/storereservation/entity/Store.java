@@ -2,13 +2,24 @@ package com.zerobase.storereservation.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 /**
  * Store
  * 매장 정보를 저장하는 엔티티
  * - 매장 이름, 설명, 소유자 정보, 위치 데이터 등을 관리
+ * - 삭제 시 삭제 시간만 기록하고 조회에서 제외하며, 연관 데이터 정리 후 StoreDeletionJob 이 행을 삭제
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_store_owner", columnList = "owner_id")
+})
+@SQLDelete(sql = "update store set deleted_at = current_timestamp where id = ?")
+@SQLRestriction("deleted_at is null")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -41,4 +52,19 @@ public class Store {
 
     @Column(nullable = false)
     private Double longitude; // 경도
+
+    @Column
+    private Integer capacity; // 같은 시간대에 받을 수 있는 예약 수 (null 이면 기본값)
+
+    @Column
+    private Integer slotMinutes; // 예약 시간 단위 (분, null 이면 기본값)
+
+    @Column
+    private LocalTime openTime; // 영업 시작 시간 (null 이면 기본값)
+
+    @Column
+    private LocalTime closeTime; // 영업 종료 시간 (null 이면 기본값)
+
+    @Column
+    private LocalDateTime deletedAt; // 삭제 요청 시간 (삭제 전에는 null)
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.zerobase.storereservation.entity;
+
+import com.zerobase.storereservation.entity.constants.WaitlistStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * WaitlistEntry
+ * 예약이 가득 찬 시간대의 대기 정보를 저장하는 엔티티
+ * - 매장과 예약 시간별로 대기 순서를 관리하며, 빈 자리가 생기면 예약으로 전환
+ */
+@Entity
+@Table(name = "waitlist_entry", indexes = {
+        @Index(name = "idx_waitlist_store_slot_status", columnList = "store_id, slot_at, status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 대기 ID
+
+    @ManyToOne(fetch = FetchType.LAZY) // 지연 로딩으로 관련 매장을 필요할 때만 로드
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store; // 대기 매장
+
+    @ManyToOne(fetch = FetchType.LAZY) // 지연 로딩으로 관련 사용자를 필요할 때만 로드
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user; // 대기자
+
+    @Column(nullable = false)
+    private String phoneNumber; // 연락처
+
+    @Column(name = "slot_at", nullable = false)
+    private LocalDateTime slotAt; // 희망 예약 시간
+
+    @Column(nullable = false)
+    private int partySize; // 예약 인원
+
+    @Column(nullable = false)
+    private int durationMinutes; // 이용 시간 (분)
+
+    @Column(nullable = false)
+    private int priority; // 우선순위 (높을수록 먼저, 같으면 먼저 대기한 순)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private WaitlistStatus status; // 대기 상태
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt; // 대기 등록 시간
+
+    @Column
+    private Long reservationId; // 전환된 예약 ID (전환 전에는 null)
+}
@@ -0,0 +1,10 @@
+package com.zerobase.storereservation.entity.constants;
+
+/**
+ * NotificationRecipient
+ * 알림 수신자 유형을 나타내는 열거형
+ */
+public enum NotificationRecipient {
+    CUSTOMER,       // 예약한 고객
+    OWNER           // 매장 점주
+}
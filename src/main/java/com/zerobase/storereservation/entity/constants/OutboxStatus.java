@@ -0,0 +1,11 @@
+package com.zerobase.storereservation.entity.constants;
+
+/**
+ * OutboxStatus
+ * 알림 아웃박스 메시지의 발송 상태를 나타내는 열거형
+ */
+public enum OutboxStatus {
+    PENDING,        // 발송 대기 (실패 후 재시도 대기 포함)
+    SENT,           // 발송 완료
+    FAILED          // 최대 재시도 횟수를 넘겨 발송 포기
+}
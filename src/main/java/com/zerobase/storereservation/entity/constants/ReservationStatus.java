@@ -9,5 +9,15 @@ public enum ReservationStatus {
     PENDING,        // 예약 요청 상태
     CONFIRMED,      // 예약 승인 상태
     CANCELLED,      // 예약 취소 상태
-    REJECTED        // 예약 거절된 상태
+    REJECTED,       // 예약 거절된 상태
+    EXPIRED;        // 승인되지 않은 채 예약 시간이 지난 상태
+
+    /**
+     * 매장 자리를 차지하는 상태인지 확인 (대기 또는 승인)
+     *
+     * @return 자리를 차지하면 true
+     */
+    public boolean isActive() {
+        return this == PENDING || this == CONFIRMED;
+    }
 }
@@ -0,0 +1,11 @@
+package com.zerobase.storereservation.entity.constants;
+
+/**
+ * WaitlistStatus
+ * 예약 대기 상태를 나타내는 열거형
+ */
+public enum WaitlistStatus {
+    WAITING,        // 대기 중
+    PROMOTED,       // 빈 자리가 생겨 예약으로 전환된 상태
+    CANCELLED       // 대기 취소 상태
+}
@@ -0,0 +1,92 @@
+package com.zerobase.storereservation.event;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * ReservationChangedEvent
+ * 예약 생성 및 상태 변경 시 발행되는 애플리케이션 이벤트
+ * - 이벤트 발행 시점의 예약 정보를 스냅샷으로 보관
+ * - 인메모리 인덱스 등 예약 변경에 반응하는 컴포넌트에서 구독
+ */
+@Getter
+public class ReservationChangedEvent {
+
+    private final Long reservationId;               // 예약 ID
+    private final Long storeId;                     // 매장 ID
+    private final Long userId;                      // 예약자 ID
+    private final String phoneNumber;               // 연락처
+    private final LocalDateTime reservedAt;         // 예약 시간
+    private final LocalDateTime endAt;              // 이용 종료 시간
+    private final Long tableId;                     // 배정된 테이블 ID (없으면 null)
+    private final Integer partySize;                // 예약 인원 (없으면 null)
+    private final boolean arrived;                  // 도착 기록 여부
+    private final ReservationStatus previousStatus; // 변경 전 상태 (생성 시 null)
+    private final ReservationStatus status;         // 변경 후 상태
+
+    private ReservationChangedEvent(Reservation reservation, ReservationStatus previousStatus) {
+        this.reservationId = reservation.getId();
+        this.storeId = reservation.getStore().getId();
+        this.userId = reservation.getUser().getId();
+        this.phoneNumber = reservation.getPhoneNumber();
+        this.reservedAt = reservation.getReservedAt();
+        this.endAt = reservation.calculateEndAt();
+        this.tableId = reservation.getTable() != null ? reservation.getTable().getId() : null;
+        this.partySize = reservation.getPartySize();
+        this.arrived = reservation.getArrivedAt() != null;
+        this.previousStatus = previousStatus;
+        this.status = reservation.getStatus();
+    }
+
+    /**
+     * 예약 생성 이벤트
+     *
+     * @param reservation 저장된 예약 엔티티
+     * @return 생성 이벤트
+     */
+    public static ReservationChangedEvent created(Reservation reservation) {
+        return new ReservationChangedEvent(reservation, null);
+    }
+
+    /**
+     * 예약 상태 변경 이벤트
+     *
+     * @param reservation    상태가 변경된 예약 엔티티
+     * @param previousStatus 변경 전 상태
+     * @return 상태 변경 이벤트
+     */
+    public static ReservationChangedEvent statusChanged(
+            Reservation reservation, ReservationStatus previousStatus) {
+        return new ReservationChangedEvent(reservation, previousStatus);
+    }
+
+    /**
+     * 생성 이벤트 여부
+     *
+     * @return 생성 이벤트이면 true
+     */
+    public boolean isCreated() {
+        return previousStatus == null;
+    }
+
+    /**
+     * 이벤트 스냅샷을 예약 응답 DTO 로 변환
+     *
+     * @return 예약 응답 DTO
+     */
+    public ReservationDto.Response toResponse() {
+        return ReservationDto.Response.builder()
+                .id(reservationId)
+                .storeId(storeId)
+                .userId(userId)
+                .phoneNumber(phoneNumber)
+                .reservedAt(reservedAt)
+                .status(status)
+                .tableId(tableId)
+                .build();
+    }
+}
@@ -23,6 +23,8 @@ public enum ErrorCode {
     UNAUTHORIZED_ACTION(HttpStatus.FORBIDDEN, "STORE-002", "상점 소유자가 아니어서 권한이 없습니다."),
     INVALID_CRITERIA(HttpStatus.BAD_REQUEST, "STORE-003", "정렬 조건이 유효하지 않습니다."),
     INVALID_LOCATION(HttpStatus.BAD_REQUEST, "STORE-004", "위치 값이 유효하지 않습니다."),
+    TABLE_NOT_FOUND(HttpStatus.BAD_REQUEST, "STORE-005", "테이블을 찾을 수 없습니다."),
+    INVALID_TABLE_SEATS(HttpStatus.BAD_REQUEST, "STORE-006", "테이블 수용 인원은 1 이상이어야 합니다."),
 
     // Reservation Errors: 예약 관련 에러
     RESERVATION_NOT_FOUND(HttpStatus.BAD_REQUEST, "RESERVATION-001", "예약을 찾을 수 없습니다."),
@@ -31,6 +33,32 @@ public enum ErrorCode {
     INVALID_RESERVATION_TIME(HttpStatus.BAD_REQUEST, "RESERVATION-004", "예약 시간은 현재 시간 이후여야 합니다."),
     ALREADY_REJECTED(HttpStatus.BAD_REQUEST, "RESERVATION-005", "이미 거절된 예약입니다."),
     ALREADY_CONFIRMED(HttpStatus.BAD_REQUEST, "RESERVATION-006", "이미 승인된 예약입니다."),
+    INVALID_RESERVATION_SCOPE(HttpStatus.BAD_REQUEST, "RESERVATION-007", "조회 범위는 upcoming 또는 past 여야 합니다."),
+    INVALID_AVAILABILITY_RANGE(HttpStatus.BAD_REQUEST, "RESERVATION-008", "조회 기간은 오늘부터 60일 이내에서 최대 14일이어야 합니다."),
+    NO_TABLE_AVAILABLE(HttpStatus.CONFLICT, "RESERVATION-009", "해당 시간에 인원을 수용할 수 있는 테이블이 없습니다."),
+    INVALID_PARTY_SIZE(HttpStatus.BAD_REQUEST, "RESERVATION-010", "예약 인원과 이용 시간은 1 이상이어야 합니다."),
+    OVERLAPPING_RESERVATION(HttpStatus.CONFLICT, "RESERVATION-011", "같은 시간대에 이미 다른 예약이 있습니다."),
+    INVALID_PHONE_NUMBER(HttpStatus.BAD_REQUEST, "RESERVATION-012", "연락처는 전체 번호 또는 끝 4자리여야 합니다."),
+    INVALID_CHECK_IN_TOKEN(HttpStatus.BAD_REQUEST, "RESERVATION-013", "체크인 토큰이 유효하지 않습니다."),
+    INVALID_STORE_IDS(HttpStatus.BAD_REQUEST, "RESERVATION-014", "매장 ID 는 1개 이상 최대 50개까지 조회할 수 있습니다."),
+    RESERVATION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "RESERVATION-015", "일시적으로 예약을 받을 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    INVALID_ANALYTICS_RANGE(HttpStatus.BAD_REQUEST, "RESERVATION-016", "통계 조회 기간은 시작일이 종료일보다 늦을 수 없으며 최대 366일입니다."),
+    INVALID_SEARCH_CONDITION(HttpStatus.BAD_REQUEST, "RESERVATION-017", "검색 기간은 최대 366일이며 연락처는 숫자와 '-' 만 20자까지 입력할 수 있습니다."),
+    PHONE_NUMBER_REQUIRED(HttpStatus.BAD_REQUEST, "RESERVATION-018", "연락처를 입력해야 합니다."),
+    INVALID_COMMAND_ID(HttpStatus.BAD_REQUEST, "RESERVATION-019", "요청 식별자는 64자 이하여야 합니다."),
+    NO_SLOT_AVAILABLE(HttpStatus.CONFLICT, "RESERVATION-020", "해당 시간에 예약 가능한 자리가 없습니다."),
+    COMMAND_ID_CONFLICT(HttpStatus.CONFLICT, "RESERVATION-021", "요청 식별자가 다른 예약 요청에 이미 사용되었습니다."),
+    BEYOND_BOOKING_HORIZON(HttpStatus.BAD_REQUEST, "RESERVATION-022", "예약 가능 여부는 오늘부터 60일 이내만 조회할 수 있습니다."),
+    REPLAY_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "RESERVATION-023", "임시 접수된 예약을 처리하지 못했습니다. 다시 예약해 주세요."),
+
+    // Waitlist Errors: 예약 대기 관련 에러
+    WAITLIST_NOT_FOUND(HttpStatus.BAD_REQUEST, "WAITLIST-001", "예약 대기를 찾을 수 없습니다."),
+    ALREADY_WAITLISTED(HttpStatus.CONFLICT, "WAITLIST-002", "이미 해당 시간에 대기 중입니다."),
+    WAITLIST_NOT_REQUIRED(HttpStatus.BAD_REQUEST, "WAITLIST-003", "예약 가능한 시간입니다. 바로 예약해 주세요."),
+    INVALID_WAITLIST_STATUS(HttpStatus.BAD_REQUEST, "WAITLIST-004", "대기 중인 항목만 취소할 수 있습니다."),
+
+    // Export Errors: 내보내기 관련 에러
+    INVALID_EXPORT_RANGE(HttpStatus.BAD_REQUEST, "EXPORT-001", "내보내기 기간은 시작일이 종료일보다 늦을 수 없으며 최대 366일입니다."),
 
     // Review Errors: 리뷰 관련 에러
     REVIEW_NOT_FOUND(HttpStatus.BAD_REQUEST, "REVIEW-001", "리뷰가 존재하지 않습니다."),
@@ -0,0 +1,68 @@
+package com.zerobase.storereservation.filter;
+
+import com.zerobase.storereservation.security.UserDetailsImpl;
+import com.zerobase.storereservation.service.traffic.TrafficTracker;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * TrafficInterceptor
+ * 컨트롤러 요청마다 대상 매장 ID 와 요청한 사용자 ID 를 요청 빈도 추적기에 기록하는 인터셉터
+ * - 매장 ID 는 경로 변수 storeId, 요청 파라미터 storeId, 매장 조회 경로(/api/stores/{id}) 순으로 찾음
+ */
+@Component
+@RequiredArgsConstructor
+public class TrafficInterceptor implements HandlerInterceptor {
+
+    // 매장 ID 를 경로 변수 id 로 받는 매장 조회 경로
+    private static final String STORE_PATH = "/api/stores/{id}";
+
+    // 매장, 사용자별 요청 빈도 추적기
+    private final TrafficTracker trafficTracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        trafficTracker.record(storeIdOf(request), currentUserId());
+        return true;
+    }
+
+    // ==== Private Helper Methods ====
+
+    @SuppressWarnings("unchecked")
+    private Long storeIdOf(HttpServletRequest request) {
+        Map<String, String> variables = (Map<String, String>)
+                request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String value = null;
+        if (variables != null) {
+            value = variables.get("storeId");
+            if (value == null && STORE_PATH.equals(
+                    request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))) {
+                value = variables.get("id");
+            }
+        }
+        if (value == null) {
+            value = request.getParameter("storeId");
+        }
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return userDetails.getUser().getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.zerobase.storereservation.repository;
+
+import com.zerobase.storereservation.entity.DiningTable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * DiningTableRepository
+ * - 매장 테이블 데이터를 처리하기 위한 JPA Repository
+ */
+public interface DiningTableRepository extends JpaRepository<DiningTable, Long> {
+
+    /**
+     * 특정 매장의 테이블 조회
+     *
+     * @param storeId 매장 ID
+     * @return 테이블 리스트
+     */
+    List<DiningTable> findByStoreId(Long storeId);
+
+    /**
+     * 특정 매장의 테이블 ID 조회 (매장 삭제 시 청크 단위 정리에 사용)
+     *
+     * @param storeId  매장 ID
+     * @param pageable 조회 개수
+     * @return 테이블 ID 리스트
+     */
+    @Query("select t.id from DiningTable t where t.store.id = :storeId order by t.id")
+    List<Long> findIdsByStoreId(@Param("storeId") Long storeId, Pageable pageable);
+}
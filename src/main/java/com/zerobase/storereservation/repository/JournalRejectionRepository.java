@@ -0,0 +1,11 @@
+package com.zerobase.storereservation.repository;
+
+import com.zerobase.storereservation.entity.JournalRejection;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * JournalRejectionRepository
+ * - 저널 재처리에서 거절된 예약 생성 요청을 처리하기 위한 JPA Repository
+ */
+public interface JournalRejectionRepository extends JpaRepository<JournalRejection, String> {
+}
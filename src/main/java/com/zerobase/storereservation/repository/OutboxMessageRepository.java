@@ -0,0 +1,62 @@
+package com.zerobase.storereservation.repository;
+
+import com.zerobase.storereservation.entity.OutboxMessage;
+import com.zerobase.storereservation.entity.constants.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * OutboxMessageRepository
+ * - 알림 아웃박스 데이터를 처리하기 위한 JPA Repository
+ */
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * 발송할 메시지를 잠금과 함께 조회
+     * - SELECT ... FOR UPDATE SKIP LOCKED 로 다른 인스턴스가 가져간 메시지는 건너뜀
+     *   (lock.timeout -2 는 Hibernate 의 SKIP LOCKED)
+     *
+     * @param status   발송 상태
+     * @param now      기준 시간 (다음 발송 시도 시간이 지난 메시지만 조회)
+     * @param pageable 조회 개수
+     * @return 메시지 리스트 (ID 오름차순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m " +
+            "from OutboxMessage m " +
+            "where m.status = :status and m.nextAttemptAt <= :now " +
+            "order by m.id asc")
+    List<OutboxMessage> findDueForUpdate(
+            @Param("status") OutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 보관 기간이 지난 메시지 ID 조회 (청크 단위 정리에 사용)
+     *
+     * @param status   발송 상태
+     * @param before   기준 시간 (이보다 먼저 생성된 메시지만 조회)
+     * @param pageable 조회 개수
+     * @return 메시지 ID 리스트 (생성 시간 오름차순)
+     */
+    @Query("select m.id " +
+            "from OutboxMessage m " +
+            "where m.status = :status and m.createdAt < :before " +
+            "order by m.createdAt asc")
+    List<Long> findIdsCreatedBefore(
+            @Param("status") OutboxStatus status,
+            @Param("before") LocalDateTime before,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,156 @@
+package com.zerobase.storereservation.repository;
+
+import com.zerobase.storereservation.entity.ReservationArchive;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * ReservationArchiveRepository
+ * - 아카이브된 예약 데이터를 처리하기 위한 JPA Repository
+ * - 예약 Repository 의 조회 중 아카이브 범위까지 닿는 조회만 정의
+ */
+public interface ReservationArchiveRepository
+        extends JpaRepository<ReservationArchive, Long>, ReservationArchiveSearchRepository {
+
+    /**
+     * 아카이브된 예약 중 가장 늦은 예약 시간 조회
+     * - 조회 범위가 아카이브에 닿는지 판단하는 기준
+     *
+     * @return 가장 늦은 예약 시간 (아카이브가 비어 있으면 empty)
+     */
+    @Query("select max(a.reservedAt) from ReservationArchive a")
+    Optional<LocalDateTime> findMaxReservedAt();
+
+    /**
+     * 특정 매장의 지정된 시간 범위 내 아카이브 예약 조회
+     *
+     * @param storeId   매장 ID
+     * @param startDate 검색 시작 시간
+     * @param endDate   검색 종료 시간
+     * @return 아카이브 예약 리스트
+     */
+    @Query("select a " +
+            "from ReservationArchive a " +
+            "where a.storeId = :storeId and a.reservedAt " +
+            "between :startDate and :endDate")
+    List<ReservationArchive> findByStoreIdAndReservedAtBetween(
+            @Param("storeId") Long storeId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 특정 사용자의 아카이브 예약 조회
+     * - 예약 시간 기준 내림차순 정렬
+     *
+     * @param userId 사용자 ID
+     * @return 아카이브 예약 리스트
+     */
+    List<ReservationArchive> findByUserIdOrderByReservedAtDesc(Long userId);
+
+    /**
+     * 특정 사용자의 지난 아카이브 예약을 키셋 방식으로 조회
+     * - (예약 시간, 예약 ID) 가 커서보다 작은 예약을 내림차순으로 조회
+     *
+     * @param userId   사용자 ID
+     * @param cursorAt 커서 예약 시간
+     * @param cursorId 커서 예약 ID (미포함)
+     * @param pageable 조회 개수
+     * @return 예약 요약 리스트
+     */
+    @Query("select a.id as id, a.storeId as storeId, a.userId as userId, " +
+            "a.phoneNumber as phoneNumber, a.reservedAt as reservedAt, a.status as status " +
+            "from ReservationArchive a " +
+            "where a.userId = :userId " +
+            "and (a.reservedAt < :cursorAt " +
+            "or (a.reservedAt = :cursorAt and a.id < :cursorId)) " +
+            "order by a.reservedAt desc, a.id desc")
+    List<ReservationRepository.ReservationSummary> findPastByUserId(
+            @Param("userId") Long userId,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 특정 사용자와 매장의 아카이브 예약 여부 확인
+     *
+     * @param userId  사용자 ID
+     * @param storeId 매장 ID
+     * @param status  예약 상태
+     * @return 예약 존재 여부 (true/false)
+     */
+    boolean existsByUserIdAndStoreIdAndStatus(Long userId, Long storeId, ReservationStatus status);
+
+    /**
+     * 집계 백필용 전체 아카이브 예약 스트림 조회
+     *
+     * @return 예약 집계 원본 스트림
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select a.storeId as storeId, a.reservedAt as reservedAt, " +
+            "a.status as status, a.arrivedAt as arrivedAt " +
+            "from ReservationArchive a")
+    Stream<ReservationRepository.RollupSource> streamRollupSource();
+
+    /**
+     * 컬럼 저장소 적재용 전체 아카이브 예약 스트림 조회
+     *
+     * @return 예약 컬럼 원본 스트림
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select a.id as id, a.storeId as storeId, a.reservedAt as reservedAt, " +
+            "a.status as status, a.partySize as partySize " +
+            "from ReservationArchive a")
+    Stream<ReservationRepository.ColumnSource> streamColumnSource();
+
+    /**
+     * 내보내기용 매장 아카이브 예약 스트림 조회 (예약 시간, 예약 ID 오름차순)
+     *
+     * @param storeId 매장 ID
+     * @param from    예약 시간 시작 (포함)
+     * @param to      예약 시간 종료 (미포함)
+     * @return 예약 내보내기 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("select a.id as id, a.userId as userId, a.phoneNumber as phoneNumber, " +
+            "a.reservedAt as reservedAt, a.status as status, a.partySize as partySize, " +
+            "a.tableId as tableId, a.arrivedAt as arrivedAt " +
+            "from ReservationArchive a " +
+            "where a.storeId = :storeId and a.reservedAt >= :from and a.reservedAt < :to " +
+            "order by a.reservedAt, a.id")
+    Stream<ReservationRepository.ExportRow> streamForExport(@Param("storeId") Long storeId,
+                                                           @Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to);
+
+    /**
+     * 예약을 아카이브 테이블로 일괄 복사 (INSERT ... SELECT)
+     * - 엔티티를 읽지 않고 한 문장으로 복사하며, 원본 삭제는 호출하는 쪽에서 같은 트랜잭션으로 수행
+     *
+     * @param ids 예약 ID 리스트
+     * @return 복사된 예약 수
+     */
+    @Modifying
+    @Query("insert into ReservationArchive (id, storeId, userId, phoneNumber, reservedAt, status, " +
+            "partySize, durationMinutes, tableId, arrivedAt, archivedAt) " +
+            "select r.id, r.store.id, r.user.id, r.phoneNumber, r.reservedAt, r.status, " +
+            "r.partySize, r.durationMinutes, t.id, r.arrivedAt, local datetime " +
+            "from Reservation r left join r.table t " +
+            "where r.id in :ids")
+    int archiveReservations(@Param("ids") Collection<Long> ids);
+}
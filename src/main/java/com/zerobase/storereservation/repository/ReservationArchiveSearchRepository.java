@@ -0,0 +1,18 @@
+package com.zerobase.storereservation.repository;
+
+import java.util.List;
+
+/**
+ * ReservationArchiveSearchRepository
+ * - 아카이브 예약 동적 조건 검색 (ReservationArchiveRepository 에 포함)
+ */
+public interface ReservationArchiveSearchRepository {
+
+    /**
+     * 조건에 맞는 아카이브 예약을 (예약 시간, 예약 ID) 순으로 조회
+     *
+     * @param condition 검색 조건
+     * @return 검색 결과 (최대 condition.limit 건)
+     */
+    List<ReservationSearchRepository.SearchRow> searchArchive(ReservationSearchRepository.Condition condition);
+}
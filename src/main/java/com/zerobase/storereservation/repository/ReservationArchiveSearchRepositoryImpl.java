@@ -0,0 +1,27 @@
+package com.zerobase.storereservation.repository;
+
+import com.zerobase.storereservation.entity.ReservationArchive;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ReservationArchiveSearchRepositoryImpl
+ * - 아카이브 예약 동적 조건 검색 구현
+ */
+@RequiredArgsConstructor
+public class ReservationArchiveSearchRepositoryImpl implements ReservationArchiveSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ReservationSearchRepository.SearchRow> searchArchive(
+            ReservationSearchRepository.Condition condition) {
+        return ReservationSearchCriteria.search(entityManager, ReservationArchive.class,
+                root -> root.get("storeId"),
+                root -> root.get("userId"),
+                root -> root.get("tableId"),
+                condition);
+    }
+}
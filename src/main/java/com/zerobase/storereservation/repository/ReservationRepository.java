@@ -2,21 +2,30 @@ package com.zerobase.storereservation.repository;
 
 import com.zerobase.storereservation.entity.Reservation;
 import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.parameters.P;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * ReservationRepository
  * - 예약 관련 데이터를 처리하기 위한 JPA Repository
  * - 사용자 및 매장 예약 데이터에 대한 커스텀 쿼리를 정의
  */
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationSearchRepository {
 
     /**
      * 특정 매장의 지정된 시간 범위 내 예약 조회
@@ -36,6 +45,91 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             @Param("endDate") LocalDateTime endDate
     );
 
+    /**
+     * 여러 매장의 지정된 시간 범위 내 예약 조회
+     * - (store_id, reserved_at) 인덱스를 매장별 범위로 읽어 한 번의 쿼리로 처리
+     *
+     * @param storeIds  매장 ID 목록
+     * @param startDate 검색 시작 시간
+     * @param endDate   검색 종료 시간
+     * @return 예약 리스트 (매장 ID, 예약 시간 순)
+     */
+    @Query("select r " +
+            "from Reservation r " +
+            "where r.store.id in :storeIds and r.reservedAt " +
+            "between :startDate and :endDate " +
+            "order by r.store.id asc, r.reservedAt asc, r.id asc")
+    List<Reservation> findByStoreIdInAndReservedAtBetween(
+            @Param("storeIds") Collection<Long> storeIds,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 전체 매장의 지정된 시간 범위 내 예약 조회
+     * - 인메모리 예약 윈도우 적재 시 사용
+     *
+     * @param startDate 검색 시작 시간
+     * @param endDate 검색 종료 시간
+     * @return 예약 리스트
+     */
+    @Query("select r " +
+            "from Reservation r " +
+            "where r.reservedAt between :startDate and :endDate")
+    List<Reservation> findByReservedAtBetween(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 특정 매장에서 테이블이 배정된 예약 중 지정된 시간 이후 예약 조회
+     * - 테이블 배정기 적재 시 사용
+     *
+     * @param storeId  매장 ID
+     * @param statuses 조회할 예약 상태 목록
+     * @param from     검색 시작 시간
+     * @return 예약 리스트
+     */
+    @Query("select r " +
+            "from Reservation r " +
+            "where r.store.id = :storeId and r.table is not null " +
+            "and r.status in :statuses and r.reservedAt >= :from")
+    List<Reservation> findTableBookings(
+            @Param("storeId") Long storeId,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("from") LocalDateTime from
+    );
+
+    /**
+     * 특정 매장에서 연락처가 일치하는 지정된 시간 범위 내 예약 조회
+     * - (store_id, phone_number) 인덱스 사용
+     *
+     * @param storeId      매장 ID
+     * @param phoneNumbers 연락처 후보 (저장 형식이 다를 수 있어 여러 형식으로 조회)
+     * @param startDate    검색 시작 시간
+     * @param endDate      검색 종료 시간
+     * @return 예약 리스트
+     */
+    @Query("select r " +
+            "from Reservation r " +
+            "where r.store.id = :storeId and r.phoneNumber in :phoneNumbers " +
+            "and r.reservedAt between :startDate and :endDate " +
+            "order by r.reservedAt asc, r.id asc")
+    List<Reservation> findByStoreIdAndPhoneNumbers(
+            @Param("storeId") Long storeId,
+            @Param("phoneNumbers") Collection<String> phoneNumbers,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 생성 요청 식별자로 예약 조회
+     *
+     * @param commandId 생성 요청 식별자
+     * @return 예약 (없으면 empty)
+     */
+    Optional<Reservation> findByCommandId(String commandId);
+
     /**
      * 특정 사용자와 매장의 예약 여부 확인
      * - 상태에 따라 예약 존재 여부 반환
@@ -67,6 +161,54 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             "order by r.reservedAt desc ")
     List<Reservation> findByUserId(@Param("userId") Long userId);
 
+    /**
+     * 특정 사용자의 다가오는 예약을 키셋 방식으로 조회
+     * - (예약 시간, 예약 ID) 가 커서보다 큰 예약을 오름차순으로 조회
+     *
+     * @param userId   사용자 ID
+     * @param cursorAt 커서 예약 시간
+     * @param cursorId 커서 예약 ID (미포함)
+     * @param pageable 조회 개수
+     * @return 예약 요약 리스트
+     */
+    @Query("select r.id as id, r.store.id as storeId, r.user.id as userId, " +
+            "r.phoneNumber as phoneNumber, r.reservedAt as reservedAt, r.status as status " +
+            "from Reservation r " +
+            "where r.user.id = :userId " +
+            "and (r.reservedAt > :cursorAt " +
+            "or (r.reservedAt = :cursorAt and r.id > :cursorId)) " +
+            "order by r.reservedAt asc, r.id asc")
+    List<ReservationSummary> findUpcomingByUserId(
+            @Param("userId") Long userId,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 특정 사용자의 지난 예약을 키셋 방식으로 조회
+     * - (예약 시간, 예약 ID) 가 커서보다 작은 예약을 내림차순으로 조회
+     *
+     * @param userId   사용자 ID
+     * @param cursorAt 커서 예약 시간
+     * @param cursorId 커서 예약 ID (미포함)
+     * @param pageable 조회 개수
+     * @return 예약 요약 리스트
+     */
+    @Query("select r.id as id, r.store.id as storeId, r.user.id as userId, " +
+            "r.phoneNumber as phoneNumber, r.reservedAt as reservedAt, r.status as status " +
+            "from Reservation r " +
+            "where r.user.id = :userId " +
+            "and (r.reservedAt < :cursorAt " +
+            "or (r.reservedAt = :cursorAt and r.id < :cursorId)) " +
+            "order by r.reservedAt desc, r.id desc")
+    List<ReservationSummary> findPastByUserId(
+            @Param("userId") Long userId,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
     /**
      * 특정 매장과 예약 상태에 따른 예약 조회
      *
@@ -76,4 +218,292 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      */
     List<Reservation> findByStoreIdAndStatus(
             Long storeId, ReservationStatus reservationStatus);
+
+    /**
+     * 특정 상태이면서 예약 시간이 지난 예약 조회
+     * - 예약 시간 오름차순으로 최대 500건 조회
+     *
+     * @param reservationStatus 예약 상태
+     * @param dateTime 기준 시간
+     * @return 예약 리스트
+     */
+    List<Reservation> findTop500ByStatusAndReservedAtBeforeOrderByReservedAtAsc(
+            ReservationStatus reservationStatus, LocalDateTime dateTime);
+
+    /**
+     * 점주가 소유한 모든 매장의 예약을 키셋 방식으로 조회
+     * - (예약 시간, 예약 ID) 가 커서보다 큰 예약을 오름차순으로 조회
+     * - 매장 정보를 함께 조회하여 매장 수와 관계없이 한 번의 쿼리로 처리
+     * - 삭제 요청된 매장의 예약은 정리 작업이 끝나기 전이라도 제외
+     *
+     * @param ownerId  점주 ID
+     * @param statuses 조회할 예약 상태 목록
+     * @param cursorAt 커서 예약 시간 (미포함)
+     * @param cursorId 커서 예약 ID (미포함)
+     * @param pageable 조회 개수
+     * @return 예약 리스트
+     */
+    @Query("select r " +
+            "from Reservation r join fetch r.store s " +
+            "where s.owner.id = :ownerId " +
+            "and s.deletedAt is null " +
+            "and r.status in :statuses " +
+            "and (r.reservedAt > :cursorAt " +
+            "or (r.reservedAt = :cursorAt and r.id > :cursorId)) " +
+            "order by r.reservedAt asc, r.id asc")
+    List<Reservation> findOwnerInbox(
+            @Param("ownerId") Long ownerId,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 특정 사용자의 지정된 시간 이후 예약 구간 조회
+     * - 사용자 예약 구간 인덱스 적재 시 사용
+     *
+     * @param userId   사용자 ID
+     * @param statuses 조회할 예약 상태 목록
+     * @param from     검색 시작 시간
+     * @return 예약 구간 리스트
+     */
+    @Query("select r.id as id, r.reservedAt as reservedAt, r.durationMinutes as durationMinutes " +
+            "from Reservation r " +
+            "where r.user.id = :userId " +
+            "and r.status in :statuses and r.reservedAt >= :from")
+    List<BookingInterval> findUserBookings(
+            @Param("userId") Long userId,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("from") LocalDateTime from
+    );
+
+    /**
+     * 아카이브 대상 예약 조회
+     * - 종료 상태이면서 기준 시간 이전이거나, 상태와 관계없이 보관 기간이 지난 예약
+     * - 예약 ID 오름차순으로 조회하여 청크 단위로 처리
+     *
+     * @param closedStatuses 종료 상태 목록 (취소, 거절, 만료)
+     * @param closedBefore   종료 상태 예약의 기준 시간
+     * @param pastBefore     모든 예약의 보관 기준 시간
+     * @param pageable       조회 개수
+     * @return 예약 리스트
+     */
+    @Query("select r " +
+            "from Reservation r " +
+            "where (r.status in :closedStatuses and r.reservedAt < :closedBefore) " +
+            "or r.reservedAt < :pastBefore " +
+            "order by r.id asc")
+    List<Reservation> findArchivable(
+            @Param("closedStatuses") Collection<ReservationStatus> closedStatuses,
+            @Param("closedBefore") LocalDateTime closedBefore,
+            @Param("pastBefore") LocalDateTime pastBefore,
+            Pageable pageable
+    );
+
+    /**
+     * 집계 백필용 전체 예약 스트림 조회
+     * - 한 건씩 읽어 메모리에 전체를 올리지 않음 (트랜잭션 안에서 사용 후 닫아야 함)
+     *
+     * @return 예약 집계 원본 스트림
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select r.store.id as storeId, r.reservedAt as reservedAt, " +
+            "r.status as status, r.arrivedAt as arrivedAt " +
+            "from Reservation r")
+    Stream<RollupSource> streamRollupSource();
+
+    /**
+     * 예약 ID 목록으로 집계 원본 조회 (백필 중 변경된 예약을 스냅샷과 같은 트랜잭션에서 조회할 때 사용)
+     *
+     * @param ids 예약 ID 목록
+     * @return 예약 집계 원본 리스트
+     */
+    @Query("select r.id as id, r.store.id as storeId, r.reservedAt as reservedAt, " +
+            "r.status as status, r.arrivedAt as arrivedAt " +
+            "from Reservation r " +
+            "where r.id in :ids")
+    List<RollupState> findRollupStatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 컬럼 저장소 적재용 전체 예약 스트림 조회
+     *
+     * @return 예약 컬럼 원본 스트림
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select r.id as id, r.store.id as storeId, r.reservedAt as reservedAt, " +
+            "r.status as status, r.partySize as partySize " +
+            "from Reservation r")
+    Stream<ColumnSource> streamColumnSource();
+
+    /**
+     * 특정 매장의 취소 대상 예약을 잠금과 함께 조회 (매장 삭제 시 청크 단위 취소에 사용)
+     *
+     * @param storeId  매장 ID
+     * @param statuses 취소 대상 상태
+     * @param from     예약 시간 시작 (포함)
+     * @param pageable 조회 개수
+     * @return 예약 리스트 (예약 ID 오름차순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r " +
+            "where r.store.id = :storeId and r.status in :statuses and r.reservedAt >= :from " +
+            "order by r.id")
+    List<Reservation> findCancellableByStoreId(@Param("storeId") Long storeId,
+                                               @Param("statuses") Collection<ReservationStatus> statuses,
+                                               @Param("from") LocalDateTime from,
+                                               Pageable pageable);
+
+    /**
+     * 예약 상태 일괄 변경
+     * - 영속성 컨텍스트를 비우므로 호출 전에 조회한 엔티티는 준영속 상태가 됨
+     *
+     * @param ids    예약 ID 리스트
+     * @param status 변경할 상태
+     * @return 변경된 예약 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Reservation r set r.status = :status where r.id in :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") ReservationStatus status);
+
+    /**
+     * 특정 매장의 지정 시간 이후 예약 ID 조회 (매장 삭제 시 청크 단위 정리에 사용)
+     *
+     * @param storeId  매장 ID
+     * @param from     예약 시간 시작 (포함)
+     * @param pageable 조회 개수
+     * @return 예약 ID 리스트
+     */
+    @Query("select r.id from Reservation r " +
+            "where r.store.id = :storeId and r.reservedAt >= :from order by r.id")
+    List<Long> findIdsByStoreIdFrom(@Param("storeId") Long storeId,
+                                    @Param("from") LocalDateTime from,
+                                    Pageable pageable);
+
+    /**
+     * 특정 매장의 지정 시간 이전 예약 ID 조회 (매장 삭제 시 청크 단위 아카이브에 사용)
+     *
+     * @param storeId  매장 ID
+     * @param before   예약 시간 종료 (미포함)
+     * @param pageable 조회 개수
+     * @return 예약 ID 리스트
+     */
+    @Query("select r.id from Reservation r " +
+            "where r.store.id = :storeId and r.reservedAt < :before order by r.id")
+    List<Long> findIdsByStoreIdBefore(@Param("storeId") Long storeId,
+                                      @Param("before") LocalDateTime before,
+                                      Pageable pageable);
+
+    /**
+     * 내보내기용 매장 예약 스트림 조회 (예약 시간, 예약 ID 오름차순)
+     * - 엔티티 대신 프로젝션으로 한 건씩 읽으므로 영속성 컨텍스트에 쌓이지 않음 (트랜잭션 안에서 사용 후 닫아야 함)
+     *
+     * @param storeId 매장 ID
+     * @param from    예약 시간 시작 (포함)
+     * @param to      예약 시간 종료 (미포함)
+     * @return 예약 내보내기 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("select r.id as id, r.user.id as userId, r.phoneNumber as phoneNumber, " +
+            "r.reservedAt as reservedAt, r.status as status, r.partySize as partySize, " +
+            "t.id as tableId, r.arrivedAt as arrivedAt " +
+            "from Reservation r left join r.table t " +
+            "where r.store.id = :storeId and r.reservedAt >= :from and r.reservedAt < :to " +
+            "order by r.reservedAt, r.id")
+    Stream<ExportRow> streamForExport(@Param("storeId") Long storeId,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    /**
+     * ReservationSummary
+     * 예약 목록 조회용 프로젝션 (연관 엔티티를 로드하지 않음)
+     */
+    interface ReservationSummary {
+        Long getId();                       // 예약 ID
+
+        Long getStoreId();                  // 매장 ID
+
+        Long getUserId();                   // 예약자 ID
+
+        String getPhoneNumber();            // 연락처
+
+        LocalDateTime getReservedAt();      // 예약 시간
+
+        ReservationStatus getStatus();      // 예약 상태
+    }
+
+    /**
+     * BookingInterval
+     * 예약 구간 조회용 프로젝션
+     */
+    interface BookingInterval {
+        Long getId();                       // 예약 ID
+
+        LocalDateTime getReservedAt();      // 예약 시간
+
+        Integer getDurationMinutes();       // 이용 시간 (분, null 이면 기본값)
+    }
+
+    /**
+     * RollupSource
+     * 예약 집계 백필용 프로젝션
+     */
+    interface RollupSource {
+        Long getStoreId();                  // 매장 ID
+
+        LocalDateTime getReservedAt();      // 예약 시간
+
+        ReservationStatus getStatus();      // 예약 상태
+
+        LocalDateTime getArrivedAt();       // 도착 시간 (도착 전에는 null)
+    }
+
+    /**
+     * RollupState
+     * 예약 ID 를 포함한 예약 집계 원본 프로젝션
+     */
+    interface RollupState extends RollupSource {
+        Long getId();                       // 예약 ID
+    }
+
+    /**
+     * ColumnSource
+     * 컬럼 저장소 적재용 프로젝션
+     */
+    interface ColumnSource {
+        Long getId();                       // 예약 ID
+
+        Long getStoreId();                  // 매장 ID
+
+        LocalDateTime getReservedAt();      // 예약 시간
+
+        ReservationStatus getStatus();      // 예약 상태
+
+        Integer getPartySize();             // 예약 인원 (없으면 null)
+    }
+
+    /**
+     * ExportRow
+     * 예약 내보내기용 프로젝션
+     */
+    interface ExportRow {
+        Long getId();                       // 예약 ID
+
+        Long getUserId();                   // 예약한 사용자 ID
+
+        String getPhoneNumber();            // 예약자 전화번호
+
+        LocalDateTime getReservedAt();      // 예약 시간
+
+        ReservationStatus getStatus();      // 예약 상태
+
+        Integer getPartySize();             // 예약 인원
+
+        Long getTableId();                  // 배정된 테이블 ID
+
+        LocalDateTime getArrivedAt();       // 도착 시간 (도착 전에는 null)
+    }
 }
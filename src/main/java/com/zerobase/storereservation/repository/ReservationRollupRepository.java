@@ -0,0 +1,62 @@
+package com.zerobase.storereservation.repository;
+
+import com.zerobase.storereservation.entity.ReservationRollup;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ReservationRollupRepository
+ * - 예약 집계 데이터를 처리하기 위한 JPA Repository
+ */
+public interface ReservationRollupRepository extends JpaRepository<ReservationRollup, Long> {
+
+    /**
+     * 집계 행을 잠금과 함께 조회 (증감 반영 시 사용)
+     *
+     * @param storeId 매장 ID
+     * @param day     예약 날짜
+     * @param hour    예약 시간대
+     * @param status  예약 상태
+     * @return 집계 행 (없으면 empty)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r " +
+            "from ReservationRollup r " +
+            "where r.storeId = :storeId and r.day = :day " +
+            "and r.hour = :hour and r.status = :status")
+    Optional<ReservationRollup> findForUpdate(
+            @Param("storeId") Long storeId,
+            @Param("day") LocalDate day,
+            @Param("hour") int hour,
+            @Param("status") ReservationStatus status
+    );
+
+    /**
+     * 특정 매장의 기간 내 집계 조회
+     *
+     * @param storeId 매장 ID
+     * @param from    시작 날짜
+     * @param to      종료 날짜
+     * @return 집계 리스트
+     */
+    List<ReservationRollup> findByStoreIdAndDayBetween(Long storeId, LocalDate from, LocalDate to);
+
+    /**
+     * 특정 매장의 집계 ID 조회 (매장 삭제 시 청크 단위 정리에 사용)
+     *
+     * @param storeId  매장 ID
+     * @param pageable 조회 개수
+     * @return 집계 ID 리스트
+     */
+    @Query("select r.id from ReservationRollup r where r.storeId = :storeId order by r.id")
+    List<Long> findIdsByStoreId(@Param("storeId") Long storeId, Pageable pageable);
+}
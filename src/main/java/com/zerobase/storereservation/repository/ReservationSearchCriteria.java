@@ -0,0 +1,100 @@
+package com.zerobase.storereservation.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * ReservationSearchCriteria
+ * 예약 테이블과 아카이브 테이블에 같은 검색 조건을 적용하기 위한 Criteria 쿼리 생성기
+ * - 값이 있는 조건만 where 절에 추가하고, (예약 시간, 예약 ID) 키셋 조건으로 다음 페이지를 조회
+ */
+final class ReservationSearchCriteria {
+
+    // LIKE 검색 이스케이프 문자
+    private static final char ESCAPE = '\\';
+
+    private ReservationSearchCriteria() {
+    }
+
+    /**
+     * 검색 실행
+     *
+     * @param entityManager 엔티티 매니저
+     * @param entity        조회 엔티티 (Reservation 또는 ReservationArchive)
+     * @param storeId       매장 ID 경로
+     * @param userId        사용자 ID 경로
+     * @param tableId       테이블 ID 경로
+     * @param condition     검색 조건
+     * @return 검색 결과
+     */
+    static <T> List<ReservationSearchRepository.SearchRow> search(
+            EntityManager entityManager, Class<T> entity,
+            Function<Root<T>, Path<Long>> storeId,
+            Function<Root<T>, Path<Long>> userId,
+            Function<Root<T>, Path<Long>> tableId,
+            ReservationSearchRepository.Condition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReservationSearchRepository.SearchRow> query =
+                cb.createQuery(ReservationSearchRepository.SearchRow.class);
+        Root<T> root = query.from(entity);
+        Path<Long> id = root.get("id");
+        Path<LocalDateTime> reservedAt = root.get("reservedAt");
+        Path<String> phoneNumber = root.get("phoneNumber");
+
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.equal(storeId.apply(root), condition.storeId()));
+        where.add(cb.greaterThanOrEqualTo(reservedAt, condition.from()));
+        where.add(cb.lessThan(reservedAt, condition.to()));
+        if (condition.statuses() != null && !condition.statuses().isEmpty()) {
+            where.add(root.get("status").in(condition.statuses()));
+        }
+        if (condition.phonePrefixes() != null && !condition.phonePrefixes().isEmpty()) {
+            // 저장 형식별 앞부분 LIKE 를 OR 로 묶어 인덱스 범위 조회를 유지
+            List<Predicate> phones = new ArrayList<>();
+            for (String prefix : condition.phonePrefixes()) {
+                phones.add(cb.like(phoneNumber, escape(prefix) + "%", ESCAPE));
+            }
+            where.add(cb.or(phones.toArray(new Predicate[0])));
+        }
+        if (condition.cursorAt() != null) {
+            where.add(cb.or(
+                    cb.greaterThan(reservedAt, condition.cursorAt()),
+                    cb.and(cb.equal(reservedAt, condition.cursorAt()),
+                            cb.greaterThan(id, condition.cursorId() != null ? condition.cursorId() : 0L))));
+        }
+
+        query.select(cb.construct(ReservationSearchRepository.SearchRow.class,
+                        id, storeId.apply(root), userId.apply(root), phoneNumber,
+                        reservedAt, root.get("status"), tableId.apply(root)))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.asc(reservedAt), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(condition.limit())
+                .getResultList();
+    }
+
+    /**
+     * LIKE 패턴 문자 이스케이프
+     */
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.zerobase.storereservation.repository;
+
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ReservationSearchRepository
+ * - 점주 예약 검색을 위한 동적 조건 조회 (ReservationRepository 에 포함)
+ */
+public interface ReservationSearchRepository {
+
+    /**
+     * 조건에 맞는 예약을 (예약 시간, 예약 ID) 순으로 조회
+     * - 엔티티 대신 검색 결과에 필요한 컬럼만 조회
+     *
+     * @param condition 검색 조건
+     * @return 검색 결과 (최대 condition.limit 건)
+     */
+    List<SearchRow> search(Condition condition);
+
+    /**
+     * Condition
+     * 예약 검색 조건
+     *
+     * @param storeId       매장 ID
+     * @param from          예약 시간 시작 (포함)
+     * @param to            예약 시간 종료 (미포함)
+     * @param statuses      예약 상태 (비어 있으면 전체)
+     * @param phonePrefixes 연락처 앞부분 저장 형식 목록 (하나라도 일치하면 포함, 비어 있으면 전체)
+     * @param cursorAt      커서 예약 시간 (미포함, 첫 페이지는 null)
+     * @param cursorId      커서 예약 ID
+     * @param limit         조회 개수
+     */
+    record Condition(Long storeId, LocalDateTime from, LocalDateTime to,
+                     Collection<ReservationStatus> statuses, Collection<String> phonePrefixes,
+                     LocalDateTime cursorAt, Long cursorId, int limit) {
+    }
+
+    /**
+     * SearchRow
+     * 예약 검색 결과 프로젝션
+     */
+    record SearchRow(Long id, Long storeId, Long userId, String phoneNumber,
+                     LocalDateTime reservedAt, ReservationStatus status, Long tableId) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.zerobase.storereservation.repository;
+
+import com.zerobase.storereservation.entity.Reservation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ReservationSearchRepositoryImpl
+ * - 예약 테이블 동적 조건 검색 구현
+ */
+@RequiredArgsConstructor
+public class ReservationSearchRepositoryImpl implements ReservationSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<SearchRow> search(Condition condition) {
+        return ReservationSearchCriteria.search(entityManager, Reservation.class,
+                root -> root.get("store").get("id"),
+                root -> root.get("user").get("id"),
+                root -> {
+                    // 테이블이 없는 예약도 조회되도록 외부 조인
+                    Join<Reservation, ?> table = root.join("table", JoinType.LEFT);
+                    return table.get("id");
+                },
+                condition);
+    }
+}
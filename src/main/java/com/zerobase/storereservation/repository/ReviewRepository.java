@@ -1,9 +1,16 @@
 package com.zerobase.storereservation.repository;
 
 import com.zerobase.storereservation.entity.Review;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * ReviewRepository
@@ -19,4 +26,52 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      * @return 매장의 리뷰 리스트
      */
     List<Review> findByStoreId(Long storeId);
+
+    /**
+     * 특정 매장의 리뷰 ID 조회 (매장 삭제 시 청크 단위 정리에 사용)
+     *
+     * @param storeId  매장 ID
+     * @param pageable 조회 개수
+     * @return 리뷰 ID 리스트
+     */
+    @Query("select r.id from Review r where r.store.id = :storeId order by r.id")
+    List<Long> findIdsByStoreId(@Param("storeId") Long storeId, Pageable pageable);
+
+    /**
+     * 내보내기용 매장 리뷰 스트림 조회 (작성 시간, 리뷰 ID 오름차순)
+     * - 엔티티 대신 프로젝션으로 한 건씩 읽으므로 영속성 컨텍스트에 쌓이지 않음 (트랜잭션 안에서 사용 후 닫아야 함)
+     *
+     * @param storeId 매장 ID
+     * @param from    작성 시간 시작 (포함)
+     * @param to      작성 시간 종료 (미포함)
+     * @return 리뷰 내보내기 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("select r.id as id, r.user.id as userId, r.rating as rating, " +
+            "r.content as content, r.createdAt as createdAt " +
+            "from Review r " +
+            "where r.store.id = :storeId and r.createdAt >= :from and r.createdAt < :to " +
+            "order by r.createdAt, r.id")
+    Stream<ExportRow> streamForExport(@Param("storeId") Long storeId,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    /**
+     * ExportRow
+     * 리뷰 내보내기용 프로젝션
+     */
+    interface ExportRow {
+        Long getId();                       // 리뷰 ID
+
+        Long getUserId();                   // 작성자 ID
+
+        int getRating();                    // 평점
+
+        String getContent();                // 리뷰 내용
+
+        LocalDateTime getCreatedAt();       // 작성 시간
+    }
 }
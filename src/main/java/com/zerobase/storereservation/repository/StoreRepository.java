@@ -1,7 +1,14 @@
 package com.zerobase.storereservation.repository;
 
 import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.constants.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * StoreRepository
@@ -9,4 +16,89 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * - 매장 관련 기본 및 확장 가능한 쿼리를 정의
  */
 public interface StoreRepository extends JpaRepository<Store, Long> {
+
+    /**
+     * 전체 매장의 소유자 정보 조회
+     * - 매장 소유권 캐시 적재 시 사용
+     *
+     * @return 매장 소유자 정보 리스트
+     */
+    @Query("select s.id as storeId, o.id as ownerId, o.role as ownerRole " +
+            "from Store s join s.owner o")
+    List<StoreOwnership> findAllOwnerships();
+
+    /**
+     * 특정 매장의 소유자 정보 조회
+     *
+     * @param storeId 매장 ID
+     * @return 매장 소유자 정보
+     */
+    @Query("select s.id as storeId, o.id as ownerId, o.role as ownerRole " +
+            "from Store s join s.owner o " +
+            "where s.id = :storeId")
+    Optional<StoreOwnership> findOwnershipById(@Param("storeId") Long storeId);
+
+    /**
+     * 전체 매장의 위치 조회
+     * - 매장 공간 인덱스 적재 시 사용
+     *
+     * @return 매장 위치 리스트
+     */
+    @Query("select s.id as storeId, s.latitude as latitude, s.longitude as longitude " +
+            "from Store s")
+    List<StoreLocation> findAllLocations();
+
+    /**
+     * 삭제 요청된 매장 조회
+     * - 삭제된 매장은 엔티티 조회에서 제외되므로 네이티브 쿼리로 조회
+     *
+     * @return 삭제 요청된 매장 ID 와 소유자 ID 리스트
+     */
+    @Query(value = "select s.id as storeId, s.owner_id as ownerId " +
+            "from store s where s.deleted_at is not null", nativeQuery = true)
+    List<DeletedStore> findDeleted();
+
+    /**
+     * 삭제 요청된 매장 행 삭제 (연관 데이터를 모두 정리한 뒤 호출)
+     *
+     * @param storeId 매장 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "delete from store where id = :storeId and deleted_at is not null", nativeQuery = true)
+    int purgeDeleted(@Param("storeId") Long storeId);
+
+    /**
+     * StoreOwnership
+     * 매장 소유자 정보 프로젝션
+     */
+    interface StoreOwnership {
+        Long getStoreId();      // 매장 ID
+
+        Long getOwnerId();      // 소유자 ID
+
+        Role getOwnerRole();    // 소유자 역할
+    }
+
+    /**
+     * StoreLocation
+     * 매장 위치 프로젝션
+     */
+    interface StoreLocation {
+        Long getStoreId();      // 매장 ID
+
+        Double getLatitude();   // 위도
+
+        Double getLongitude();  // 경도
+    }
+
+    /**
+     * DeletedStore
+     * 삭제 요청된 매장 프로젝션
+     */
+    interface DeletedStore {
+        Long getStoreId();      // 매장 ID
+
+        Long getOwnerId();      // 소유자 ID
+    }
 }
@@ -0,0 +1,52 @@
+package com.zerobase.storereservation.repository;
+
+import com.zerobase.storereservation.entity.WaitlistEntry;
+import com.zerobase.storereservation.entity.constants.WaitlistStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * WaitlistEntryRepository
+ * - 예약 대기 데이터를 처리하기 위한 JPA Repository
+ */
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    /**
+     * 특정 매장, 예약 시간의 상태별 대기 조회
+     * - 대기열 적재 시 사용
+     *
+     * @param storeId 매장 ID
+     * @param slotAt  예약 시간
+     * @param status  대기 상태
+     * @return 대기 리스트
+     */
+    List<WaitlistEntry> findByStoreIdAndSlotAtAndStatus(
+            Long storeId, LocalDateTime slotAt, WaitlistStatus status);
+
+    /**
+     * 사용자가 특정 매장, 예약 시간에 이미 대기 중인지 확인
+     *
+     * @param userId  사용자 ID
+     * @param storeId 매장 ID
+     * @param slotAt  예약 시간
+     * @param status  대기 상태
+     * @return 대기 존재 여부
+     */
+    boolean existsByUserIdAndStoreIdAndSlotAtAndStatus(
+            Long userId, Long storeId, LocalDateTime slotAt, WaitlistStatus status);
+
+    /**
+     * 특정 매장의 대기 ID 조회 (매장 삭제 시 청크 단위 정리에 사용)
+     *
+     * @param storeId  매장 ID
+     * @param pageable 조회 개수
+     * @return 대기 ID 리스트
+     */
+    @Query("select w.id from WaitlistEntry w where w.store.id = :storeId order by w.id")
+    List<Long> findIdsByStoreId(@Param("storeId") Long storeId, Pageable pageable);
+}
@@ -4,13 +4,31 @@ import com.zerobase.storereservation.dto.ReservationDto;
 import com.zerobase.storereservation.entity.Reservation;
 import com.zerobase.storereservation.exception.CustomException;
 import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.service.reservation.ArrivalBatchWriter;
+import com.zerobase.storereservation.service.reservation.CheckInTokenSigner;
+import com.zerobase.storereservation.service.reservation.PhoneLookupIndex;
+import com.zerobase.storereservation.service.reservation.ReservationChangeLog;
+import com.zerobase.storereservation.service.reservation.ReservationArchiver;
+import com.zerobase.storereservation.service.reservation.ReservationHotWindow;
 import com.zerobase.storereservation.util.LoggingUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import static com.zerobase.storereservation.exception.ErrorCode.INVALID_CHECK_IN_TOKEN;
+import static com.zerobase.storereservation.exception.ErrorCode.INVALID_PHONE_NUMBER;
+import static com.zerobase.storereservation.exception.ErrorCode.INVALID_STORE_IDS;
 import static com.zerobase.storereservation.exception.ErrorCode.RESERVATION_NOT_FOUND;
 
 /**
@@ -21,9 +39,30 @@ import static com.zerobase.storereservation.exception.ErrorCode.RESERVATION_NOT_
 @Service
 @RequiredArgsConstructor
 public class KioskService {
+    // 한 번에 조회할 수 있는 최대 매장 수
+    static final int MAX_BATCH_STORES = 50;
+
     // 예약 관련 데이터 작업을 처리하는 Repository
     private final ReservationRepository reservationRepository;
 
+    // 당일 ~ 향후 7일 예약을 보관하는 인메모리 저장소
+    private final ReservationHotWindow reservationHotWindow;
+
+    // 매장별 예약 변경 버전을 관리하는 변경 로그
+    private final ReservationChangeLog reservationChangeLog;
+
+    // 매장별 당일 예약 연락처 인덱스
+    private final PhoneLookupIndex phoneLookupIndex;
+
+    // 체크인 토큰 서명기
+    private final CheckInTokenSigner checkInTokenSigner;
+
+    // 도착 시간 일괄 저장기
+    private final ArrivalBatchWriter arrivalBatchWriter;
+
+    // 지난 예약 아카이브 (조회 날짜가 아카이브에 닿을 때만 조회)
+    private final ReservationArchiver reservationArchiver;
+
     // 로깅을 위한 유틸 클래스
     private final LoggingUtil loggingUtil;
 
@@ -37,21 +76,178 @@ public class KioskService {
     public List<ReservationDto.Response> getTodayReservations(Long storeId) {
         loggingUtil.logRequest("GET TODAY RESERVATIONS", storeId);
 
-        List<Reservation> reservations = reservationRepository.findByStoreIdAndReservedAtBetween(
-                storeId,
-                LocalDateTime.now().withHour(0).withMinute(0),
-                LocalDateTime.now().withHour(23).withMinute(59)
-        );
+        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0);
+        LocalDateTime endOfDay = LocalDateTime.now().withHour(23).withMinute(59);
 
-        List<ReservationDto.Response> responses = convertToResponseList(reservations);
+        // 인메모리 윈도우가 적재되어 있으면 DB 조회 없이 응답
+        List<ReservationDto.Response> responses;
+        if (reservationHotWindow.covers(startOfDay, endOfDay)) {
+            responses = reservationHotWindow.find(storeId, startOfDay, endOfDay);
+        } else {
+            List<Reservation> reservations = reservationRepository.findByStoreIdAndReservedAtBetween(
+                    storeId, startOfDay, endOfDay
+            );
+            responses = convertToResponseList(reservations);
+        }
         loggingUtil.logSuccess("GET TODAY RESERVATIONS", "예약 개수: " + responses.size());
 
         return responses;
     }
 
+    /**
+     * 여러 매장의 당일 예약 목록 일괄 조회
+     * - 푸드코트처럼 여러 매장을 함께 보여주는 키오스크가 한 번의 요청으로 조회
+     * - 인메모리 윈도우가 적재되어 있으면 윈도우에서, 아니면 매장 ID IN 범위 쿼리 한 번으로 조회
+     *
+     * @param storeIds 매장 ID 목록 (최대 50개, 중복은 무시)
+     * @return Map<Long, List<ReservationDto.Response>> 매장 ID 별 당일 예약 리스트 (요청 순서, 예약이 없으면 빈 리스트)
+     */
+    public Map<Long, List<ReservationDto.Response>> getTodayReservationsByStores(
+            Collection<Long> storeIds) {
+        loggingUtil.logRequest("GET TODAY RESERVATIONS BY STORES", storeIds);
+
+        Set<Long> ids = storeIds == null ? Set.of() : new LinkedHashSet<>(storeIds);
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_STORES || ids.contains(null)) {
+            throw new CustomException(INVALID_STORE_IDS);
+        }
+
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        LocalDateTime endOfDay = startOfDay.plusDays(1).minusNanos(1);
+
+        Map<Long, List<ReservationDto.Response>> result = new LinkedHashMap<>();
+        if (reservationHotWindow.covers(startOfDay, endOfDay)) {
+            for (Long storeId : ids) {
+                result.put(storeId, reservationHotWindow.find(storeId, startOfDay, endOfDay));
+            }
+        } else {
+            ids.forEach(storeId -> result.put(storeId, new ArrayList<>()));
+            for (ReservationDto.Response response : convertToResponseList(reservationRepository
+                    .findByStoreIdInAndReservedAtBetween(ids, startOfDay, endOfDay))) {
+                result.get(response.getStoreId()).add(response);
+            }
+        }
+
+        loggingUtil.logSuccess("GET TODAY RESERVATIONS BY STORES", "매장 개수: " + result.size());
+        return result;
+    }
+
+    /**
+     * 특정 매장의 당일 예약 증분 동기화
+     * - 클라이언트가 마지막으로 받은 버전 이후 변경된 예약만 반환
+     * - 변경이 없으면 목록 없이 현재 버전만 반환
+     * - 버전을 알 수 없거나 보관 범위를 벗어난 경우 당일 전체 목록 반환
+     *
+     * @param storeId      매장 ID
+     * @param sinceVersion 클라이언트가 마지막으로 받은 버전
+     * @return ReservationDto.SyncResponse 증분 동기화 결과
+     */
+    public ReservationDto.SyncResponse syncTodayReservations(Long storeId, long sinceVersion) {
+        loggingUtil.logRequest("SYNC TODAY RESERVATIONS", storeId, sinceVersion);
+
+        LocalDate today = LocalDate.now();
+        Optional<ReservationChangeLog.Delta> delta =
+                reservationChangeLog.changesSince(storeId, sinceVersion);
+
+        ReservationDto.SyncResponse response;
+        if (delta.isEmpty() || !reservationHotWindow.covers(
+                today.atStartOfDay(), today.atStartOfDay().plusDays(1).minusNanos(1))) {
+            // 버전이 읽힌 뒤 발생한 변경은 다음 동기화에서 다시 전달됨
+            long version = reservationChangeLog.currentVersion(storeId);
+            response = ReservationDto.SyncResponse.builder()
+                    .version(version)
+                    .changed(true)
+                    .fullResync(true)
+                    .reservations(getTodayReservations(storeId))
+                    .removedIds(List.of())
+                    .build();
+        } else if (delta.get().reservationIds().isEmpty()) {
+            response = ReservationDto.SyncResponse.builder()
+                    .version(delta.get().version())
+                    .changed(false)
+                    .reservations(List.of())
+                    .removedIds(List.of())
+                    .build();
+        } else {
+            List<ReservationDto.Response> changed = new ArrayList<>();
+            List<Long> removedIds = new ArrayList<>();
+            for (Long reservationId : delta.get().reservationIds()) {
+                reservationHotWindow.findById(storeId, reservationId)
+                        .filter(reservation -> reservation.getReservedAt().toLocalDate().equals(today))
+                        .ifPresentOrElse(changed::add, () -> removedIds.add(reservationId));
+            }
+            response = ReservationDto.SyncResponse.builder()
+                    .version(delta.get().version())
+                    .changed(true)
+                    .reservations(changed)
+                    .removedIds(removedIds)
+                    .build();
+        }
+
+        loggingUtil.logSuccess("SYNC TODAY RESERVATIONS",
+                "버전: " + response.getVersion() + ", 변경 개수: " + response.getReservations().size());
+        return response;
+    }
+
+    /**
+     * 특정 매장의 예약을 연락처로 조회
+     * - 전체 번호 또는 끝 4자리로 조회하며, 하이픈 등 숫자가 아닌 문자는 무시
+     * - 당일 예약은 연락처 인덱스에서, 다른 날짜는 DB 에서 조회
+     * - 아카이브로 옮겨진 날짜는 아카이브 예약도 함께 반환
+     *
+     * @param storeId     매장 ID
+     * @param phoneNumber 연락처 또는 끝 4자리
+     * @param date        조회 날짜 (생략 시 오늘)
+     * @return List<ReservationDto.Response> 연락처가 일치하는 예약 리스트
+     */
+    public List<ReservationDto.Response> findReservationsByPhone(
+            Long storeId, String phoneNumber, LocalDate date) {
+        loggingUtil.logRequest("FIND RESERVATIONS BY PHONE", storeId, date);
+
+        String digits = PhoneLookupIndex.normalize(phoneNumber);
+        if (digits.length() < PhoneLookupIndex.SUFFIX_DIGITS) {
+            throw new CustomException(INVALID_PHONE_NUMBER);
+        }
+
+        List<ReservationDto.Response> responses;
+        if (date == null || date.equals(LocalDate.now())) {
+            responses = phoneLookupIndex.find(storeId, digits);
+        } else {
+            LocalDateTime startOfDay = date.atStartOfDay();
+            LocalDateTime endOfDay = startOfDay.plusDays(1).minusNanos(1);
+            if (digits.length() == PhoneLookupIndex.SUFFIX_DIGITS) {
+                // 끝자리 조회는 해당 날짜 예약을 매장, 예약 시간 인덱스로 읽은 뒤 필터링
+                responses = convertToResponseList(reservationRepository
+                        .findByStoreIdAndReservedAtBetween(storeId, startOfDay, endOfDay).stream()
+                        .filter(reservation ->
+                                PhoneLookupIndex.normalize(reservation.getPhoneNumber()).endsWith(digits))
+                        .toList());
+            } else {
+                responses = convertToResponseList(reservationRepository.findByStoreIdAndPhoneNumbers(
+                        storeId, phoneNumberFormats(phoneNumber, digits), startOfDay, endOfDay));
+            }
+
+            // 아카이브로 옮겨진 날짜이면 해당 날짜 아카이브 예약 중 연락처가 일치하는 예약을 합침
+            List<ReservationDto.Response> archived =
+                    reservationArchiver.findByStore(storeId, startOfDay, endOfDay).stream()
+                            .filter(reservation -> matchesPhone(reservation.getPhoneNumber(), digits))
+                            .toList();
+            if (!archived.isEmpty()) {
+                List<ReservationDto.Response> merged = new ArrayList<>(responses);
+                merged.addAll(archived);
+                merged.sort(Comparator.comparing(ReservationDto.Response::getReservedAt)
+                        .thenComparing(ReservationDto.Response::getId));
+                responses = merged;
+            }
+        }
+
+        loggingUtil.logSuccess("FIND RESERVATIONS BY PHONE", "예약 개수: " + responses.size());
+        return responses;
+    }
+
     /**
      * 도착 확인
      * - 예약 시간에 기반하여 도착 여부를 판단
+     * - 도착한 경우 도착 시간을 일괄 저장기에 기록
      *
      * @param reservationId 예약 ID
      * @param arrivalTime   도착 시간
@@ -61,8 +257,10 @@ public class KioskService {
         loggingUtil.logRequest("CHECK ARRIVAL", reservationId, arrivalTime);
 
         Reservation reservation = findReservationById(reservationId);
-        boolean arrived = arrivalTime.isAfter(reservation.getReservedAt().minusMinutes(10)) &&
-                arrivalTime.isBefore(reservation.getReservedAt());
+        boolean arrived = isArrivalInTime(reservation.getReservedAt(), arrivalTime);
+        if (arrived) {
+            arrivalBatchWriter.record(reservation.getStore().getId(), reservation.getId(), arrivalTime);
+        }
 
         ReservationDto.CheckArrivalResponse response = ReservationDto.CheckArrivalResponse.builder()
                 .reservationId(reservation.getId())
@@ -73,8 +271,59 @@ public class KioskService {
         return response;
     }
 
+    /**
+     * 체크인 토큰으로 도착 확인
+     * - 토큰 서명에 담긴 예약 시간으로 판단하고, 예약 상태는 인메모리 윈도우에 없을 때만 DB 에서 확인
+     * - 다른 매장의 토큰이거나 서명이 다르면 거부
+     * - 도착한 경우 도착 시간을 일괄 저장기에 기록
+     *
+     * @param token       예약 시 발급된 체크인 토큰
+     * @param storeId     키오스크가 설치된 매장 ID
+     * @param arrivalTime 도착 시간
+     * @return ReservationDto.CheckArrivalResponse 도착 확인 결과 DTO
+     */
+    public ReservationDto.CheckArrivalResponse checkIn(
+            String token, Long storeId, LocalDateTime arrivalTime) {
+        loggingUtil.logRequest("CHECK IN", storeId, arrivalTime);
+
+        CheckInTokenSigner.CheckIn checkIn = checkInTokenSigner.verify(token)
+                .filter(verified -> verified.storeId().equals(storeId))
+                .orElseThrow(() -> new CustomException(INVALID_CHECK_IN_TOKEN));
+
+        // 취소, 거절된 예약은 인메모리 윈도우에서 확인 (윈도우에 없으면 DB 의 예약 상태로 판단)
+        boolean active = reservationHotWindow.findById(storeId, checkIn.reservationId())
+                .map(reservation -> reservation.getStatus().isActive())
+                .orElseGet(() -> reservationRepository.findById(checkIn.reservationId())
+                        .map(reservation -> reservation.getStatus().isActive())
+                        .orElse(false));
+        boolean arrived = active && isArrivalInTime(checkIn.reservedAt(), arrivalTime);
+        if (arrived) {
+            arrivalBatchWriter.record(storeId, checkIn.reservationId(), arrivalTime);
+        }
+
+        ReservationDto.CheckArrivalResponse response = ReservationDto.CheckArrivalResponse.builder()
+                .reservationId(checkIn.reservationId())
+                .arrived(arrived)
+                .build();
+
+        loggingUtil.logSuccess("CHECK IN", response);
+        return response;
+    }
+
     // ==== Private Helper Methods ====
 
+    /**
+     * 도착 시간이 예약 시간 10분 전부터 예약 시간 전까지인지 확인
+     *
+     * @param reservedAt  예약 시간
+     * @param arrivalTime 도착 시간
+     * @return 유효한 도착이면 true
+     */
+    private boolean isArrivalInTime(LocalDateTime reservedAt, LocalDateTime arrivalTime) {
+        return arrivalTime.isAfter(reservedAt.minusMinutes(10)) &&
+                arrivalTime.isBefore(reservedAt);
+    }
+
     /**
      * 예약 ID로 예약 조회
      *
@@ -89,6 +338,42 @@ public class KioskService {
                 });
     }
 
+    /**
+     * 연락처 일치 여부 (끝 4자리는 끝자리 비교, 그 외는 숫자만 남겨 전체 비교)
+     *
+     * @param phoneNumber 저장된 연락처
+     * @param digits      숫자만 남긴 조회 연락처
+     * @return 일치하면 true
+     */
+    private static boolean matchesPhone(String phoneNumber, String digits) {
+        if (phoneNumber == null) {
+            return false;
+        }
+        String normalized = PhoneLookupIndex.normalize(phoneNumber);
+        return digits.length() == PhoneLookupIndex.SUFFIX_DIGITS
+                ? normalized.endsWith(digits) : normalized.equals(digits);
+    }
+
+    /**
+     * 저장된 연락처 형식이 다를 수 있으므로 입력값, 숫자만, 하이픈 형식을 모두 후보로 사용
+     *
+     * @param phoneNumber 입력된 연락처
+     * @param digits      숫자만 남긴 연락처
+     * @return 연락처 후보
+     */
+    private Set<String> phoneNumberFormats(String phoneNumber, String digits) {
+        Set<String> formats = new LinkedHashSet<>();
+        formats.add(phoneNumber.trim());
+        formats.add(digits);
+        if (digits.length() == 10 || digits.length() == 11) {
+            int middle = digits.length() - 7;
+            formats.add(digits.substring(0, 3) + "-"
+                    + digits.substring(3, 3 + middle) + "-"
+                    + digits.substring(3 + middle));
+        }
+        return formats;
+    }
+
     /**
      * 예약 엔티티 리스트를 Response DTO 리스트로 변환
      *
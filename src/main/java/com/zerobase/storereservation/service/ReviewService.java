@@ -9,7 +9,9 @@ import com.zerobase.storereservation.repository.ReservationRepository;
 import com.zerobase.storereservation.repository.ReviewRepository;
 import com.zerobase.storereservation.repository.StoreRepository;
 import com.zerobase.storereservation.repository.UserRepository;
+import com.zerobase.storereservation.service.reservation.ReservationArchiver;
 import com.zerobase.storereservation.util.LoggingUtil;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,6 +43,9 @@ public class ReviewService {
     // 예약 관련 데이터 작업을 처리하는 Repository
     private final ReservationRepository reservationRepository;
 
+    // 지난 예약 아카이브 (아카이브로 옮겨진 예약도 리뷰 작성 가능)
+    private final ReservationArchiver reservationArchiver;
+
     // 매장 관련 비즈니스 로직을 처리하는 서비스
     private final StoreService storeService;
 
@@ -172,6 +177,8 @@ public class ReviewService {
         boolean isReservationValid =
                 reservationRepository.existsByUserIdAndStoreIdAndStatus(
                         userId, storeId, CONFIRMED
+                ) || reservationArchiver.existsByUserIdAndStoreIdAndStatus(
+                        userId, storeId, CONFIRMED
                 );
         if (!isReservationValid) {
             throw new CustomException(RESERVATION_NOT_FOUND);
@@ -226,13 +233,19 @@ public class ReviewService {
 
     /**
      * 삭제 권한 확인
+     * - 삭제 요청된 매장은 조회에서 제외되므로 지연 로딩 프록시 초기화가 실패하면 매장이 없는 것으로 처리
      *
      * @param review 리뷰 엔티티
      * @param userId 요청자 ID
-     * @throws CustomException 요청자가 권한이 없는 경우
+     * @throws CustomException 매장이 삭제되었거나 요청자가 권한이 없는 경우
      */
     private void validateDeleteAuthorization(Review review, Long userId) {
-        Long storeOwnerId = review.getStore().getOwner().getId();
+        Long storeOwnerId;
+        try {
+            storeOwnerId = review.getStore().getOwner().getId();
+        } catch (EntityNotFoundException e) {
+            throw new CustomException(STORE_NOT_FOUND);
+        }
         Long reviewerId = review.getUser().getId();
         if (!storeOwnerId.equals(userId) && !reviewerId.equals(userId)) {
             throw new CustomException(UNAUTHORIZED_ACTION);
@@ -0,0 +1,357 @@
+package com.zerobase.storereservation.service;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.DiningTableRepository;
+import com.zerobase.storereservation.repository.ReservationArchiveRepository;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.repository.ReservationRollupRepository;
+import com.zerobase.storereservation.repository.ReviewRepository;
+import com.zerobase.storereservation.repository.StoreRepository;
+import com.zerobase.storereservation.repository.WaitlistEntryRepository;
+import com.zerobase.storereservation.service.reservation.ReservationHotWindow;
+import com.zerobase.storereservation.service.reservation.StoreOccupancy;
+import com.zerobase.storereservation.service.reservation.TableAllocator;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.PENDING;
+
+/**
+ * StoreDeletionJob
+ * 삭제 요청된 매장(삭제 시간만 기록된 매장)의 연관 데이터를 백그라운드에서 정리하는 작업
+ * - 다가오는 대기/확정 예약 취소 -> 다가오는 예약 삭제 -> 지난 예약 아카이브 -> 리뷰, 대기, 테이블, 집계 삭제 -> 매장 행 삭제 순으로 진행
+ * - 단계마다 ID 를 CHUNK_SIZE 개씩 읽어 IN 조건 DML 로 처리하고, 청크마다 트랜잭션을 나누어 잠금을 오래 잡지 않음
+ * - 단계는 모두 다시 실행해도 결과가 같으므로, 실패하면 처음 단계부터 다시 진행하고 재시작 시 삭제 요청된 매장을 DB 에서 다시 찾아 진행
+ * - 진행 상황은 인스턴스 메모리에 보관하며, 완료 후 COMPLETED_RETENTION 동안 조회 가능
+ * - 완료되면 정리 중 취소 이벤트나 조회로 다시 적재된 인메모리 인덱스의 매장 항목도 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreDeletionJob {
+
+    // 한 트랜잭션에서 처리하는 행 수
+    static final int CHUNK_SIZE = 500;
+
+    // 한 번 실행에서 처리하는 최대 청크 수 (남은 행은 다음 실행에서 처리)
+    static final int MAX_CHUNKS_PER_RUN = 200;
+
+    // 완료된 진행 상황 보관 기간
+    static final Duration COMPLETED_RETENTION = Duration.ofDays(1);
+
+    // 매장 삭제 시 취소하는 예약 상태
+    private static final List<ReservationStatus> CANCELLABLE_STATUSES = List.of(PENDING, CONFIRMED);
+
+    // 매장 관련 데이터 작업을 처리하는 Repository
+    private final StoreRepository storeRepository;
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 아카이브 예약 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationArchiveRepository reservationArchiveRepository;
+
+    // 리뷰 데이터 베이스 작업을 처리하는 Repository
+    private final ReviewRepository reviewRepository;
+
+    // 예약 대기 데이터 베이스 작업을 처리하는 Repository
+    private final WaitlistEntryRepository waitlistEntryRepository;
+
+    // 매장 테이블 데이터 베이스 작업을 처리하는 Repository
+    private final DiningTableRepository diningTableRepository;
+
+    // 예약 집계 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRollupRepository reservationRollupRepository;
+
+    // 매장 테이블 배정 구간
+    private final TableAllocator tableAllocator;
+
+    // 당일 ~ 향후 7일 예약을 보관하는 인메모리 저장소
+    private final ReservationHotWindow reservationHotWindow;
+
+    // 매장별 착석, 도착 예정 인원 카운터
+    private final StoreOccupancy storeOccupancy;
+
+    // 청크마다 트랜잭션을 나누기 위해 사용
+    private final TransactionTemplate transactionTemplate;
+
+    // 예약 변경 이벤트 발행기 (취소된 예약을 인메모리 인덱스와 알림에 반영)
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    // 매장 ID -> 삭제 진행 상황
+    private final Map<Long, Progress> progresses = new ConcurrentHashMap<>();
+
+    /**
+     * 매장 삭제 요청 등록 (매장 행에 삭제 시간을 기록한 뒤 호출)
+     *
+     * @param storeId 매장 ID
+     * @param ownerId 점주 ID
+     * @return 삭제 진행 상황
+     */
+    public Progress requested(Long storeId, Long ownerId) {
+        return progresses.computeIfAbsent(storeId, id -> new Progress(id, ownerId, LocalDateTime.now()));
+    }
+
+    /**
+     * 매장 삭제 진행 상황 조회
+     *
+     * @param storeId 매장 ID
+     * @return 진행 상황 (삭제 요청이 없거나 완료 후 보관 기간이 지났으면 empty)
+     */
+    public Optional<Progress> progress(Long storeId) {
+        return Optional.ofNullable(progresses.get(storeId));
+    }
+
+    /**
+     * 기동 시 정리가 끝나지 않은 매장을 다시 등록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        storeRepository.findDeleted().forEach(store -> requested(store.getStoreId(), store.getOwnerId()));
+        if (!progresses.isEmpty()) {
+            loggingUtil.logSuccess("RESUME STORE DELETION", "정리할 매장 수: " + progresses.size());
+        }
+    }
+
+    /**
+     * 5초마다 삭제 요청된 매장의 연관 데이터를 정리
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void run() {
+        LocalDateTime now = LocalDateTime.now();
+        progresses.values().removeIf(progress -> progress.isExpired(now));
+
+        int budget = MAX_CHUNKS_PER_RUN;
+        for (Progress progress : progresses.values()) {
+            if (budget <= 0) {
+                break;
+            }
+            try {
+                budget = process(progress, budget);
+            } catch (RuntimeException e) {
+                // 정리 중 새로 생긴 예약 등으로 실패하면 처음 단계부터 다시 진행 (모든 단계는 다시 실행해도 안전)
+                progress.restart();
+                loggingUtil.logError("DELETE STORE", "매장 ID " + progress.storeId() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 매장 하나를 남은 청크 수만큼 진행
+     *
+     * @return 남은 청크 수
+     */
+    private int process(Progress progress, int budget) {
+        while (budget > 0 && progress.phase() != Phase.COMPLETED) {
+            Phase phase = progress.phase();
+            if (phase == Phase.PENDING) {
+                progress.advance();
+                continue;
+            }
+            Integer count = transactionTemplate.execute(status -> runChunk(phase, progress.storeId()));
+            budget--;
+            if (count == null || count == 0) {
+                progress.advance();
+                if (progress.phase() == Phase.COMPLETED) {
+                    evictIndexes(progress.storeId());
+                    loggingUtil.logSuccess("DELETE STORE", progress.processed());
+                }
+            } else {
+                progress.add(phase, count);
+            }
+        }
+        return budget;
+    }
+
+    /**
+     * 삭제된 매장의 인메모리 인덱스 항목 제거
+     */
+    private void evictIndexes(Long storeId) {
+        tableAllocator.invalidateStore(storeId);
+        reservationHotWindow.removeStore(storeId);
+        storeOccupancy.evict(storeId);
+    }
+
+    /**
+     * 단계별 한 청크 처리
+     *
+     * @return 처리한 행 수 (0 이면 해당 단계 완료)
+     */
+    private int runChunk(Phase phase, Long storeId) {
+        PageRequest chunk = PageRequest.of(0, CHUNK_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        return switch (phase) {
+            case CANCEL_RESERVATIONS -> cancelChunk(storeId, now, chunk);
+            case PURGE_RESERVATIONS -> delete(reservationRepository.findIdsByStoreIdFrom(storeId, now, chunk),
+                    reservationRepository::deleteAllByIdInBatch);
+            case ARCHIVE_RESERVATIONS -> archiveChunk(storeId, now, chunk);
+            case PURGE_REVIEWS -> delete(reviewRepository.findIdsByStoreId(storeId, chunk),
+                    reviewRepository::deleteAllByIdInBatch);
+            case PURGE_WAITLIST -> delete(waitlistEntryRepository.findIdsByStoreId(storeId, chunk),
+                    waitlistEntryRepository::deleteAllByIdInBatch);
+            case PURGE_TABLES -> delete(diningTableRepository.findIdsByStoreId(storeId, chunk),
+                    diningTableRepository::deleteAllByIdInBatch);
+            case PURGE_ROLLUPS -> delete(reservationRollupRepository.findIdsByStoreId(storeId, chunk),
+                    reservationRollupRepository::deleteAllByIdInBatch);
+            case PURGE_STORE -> storeRepository.purgeDeleted(storeId);
+            case PENDING, COMPLETED -> 0;
+        };
+    }
+
+    /**
+     * 다가오는 대기/확정 예약 한 청크를 취소하고 예약 변경 이벤트 발행
+     * - 청크를 잠금과 함께 읽은 뒤 한 번의 UPDATE 로 변경하며, 이벤트는 커밋 후 인메모리 인덱스에 반영됨
+     */
+    private int cancelChunk(Long storeId, LocalDateTime now, PageRequest chunk) {
+        List<Reservation> reservations = reservationRepository.findCancellableByStoreId(
+                storeId, CANCELLABLE_STATUSES, now, chunk);
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+        reservationRepository.updateStatusByIds(
+                reservations.stream().map(Reservation::getId).toList(), CANCELLED);
+
+        // UPDATE 후 영속성 컨텍스트가 비워졌으므로 상태를 바꿔도 다시 UPDATE 되지 않음
+        for (Reservation reservation : reservations) {
+            ReservationStatus previous = reservation.getStatus();
+            reservation.setStatus(CANCELLED);
+            eventPublisher.publishEvent(ReservationChangedEvent.statusChanged(reservation, previous));
+        }
+        return reservations.size();
+    }
+
+    /**
+     * 지난 예약 한 청크를 아카이브 테이블로 복사한 뒤 삭제
+     */
+    private int archiveChunk(Long storeId, LocalDateTime now, PageRequest chunk) {
+        List<Long> ids = reservationRepository.findIdsByStoreIdBefore(storeId, now, chunk);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        reservationArchiveRepository.archiveReservations(ids);
+        reservationRepository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+
+    /**
+     * ID 한 청크를 IN 조건 DELETE 로 삭제
+     */
+    private static int delete(List<Long> ids, Consumer<List<Long>> deleter) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        deleter.accept(ids);
+        return ids.size();
+    }
+
+    /**
+     * Phase
+     * 매장 삭제 단계 (선언 순서대로 진행)
+     */
+    public enum Phase {
+        PENDING,                // 정리 대기
+        CANCEL_RESERVATIONS,    // 다가오는 대기/확정 예약 취소
+        PURGE_RESERVATIONS,     // 다가오는 예약 삭제 (취소 알림 후 보관하지 않음)
+        ARCHIVE_RESERVATIONS,   // 지난 예약 아카이브
+        PURGE_REVIEWS,          // 리뷰 삭제
+        PURGE_WAITLIST,         // 예약 대기 삭제
+        PURGE_TABLES,           // 테이블 삭제 (예약이 참조하므로 예약 정리 후)
+        PURGE_ROLLUPS,          // 예약 집계 삭제
+        PURGE_STORE,            // 매장 행 삭제
+        COMPLETED               // 완료
+    }
+
+    /**
+     * Progress
+     * 매장 하나의 삭제 진행 상황
+     */
+    public static final class Progress {
+
+        private final Long storeId;
+        private final Long ownerId;
+        private final LocalDateTime requestedAt;
+
+        // 단계 -> 처리한 행 수
+        private final Map<Phase, Long> processed = new EnumMap<>(Phase.class);
+
+        private Phase phase = Phase.PENDING;
+
+        private LocalDateTime completedAt;
+
+        Progress(Long storeId, Long ownerId, LocalDateTime requestedAt) {
+            this.storeId = storeId;
+            this.ownerId = ownerId;
+            this.requestedAt = requestedAt;
+        }
+
+        public Long storeId() {
+            return storeId;
+        }
+
+        public Long ownerId() {
+            return ownerId;
+        }
+
+        public LocalDateTime requestedAt() {
+            return requestedAt;
+        }
+
+        public synchronized Phase phase() {
+            return phase;
+        }
+
+        public synchronized LocalDateTime completedAt() {
+            return completedAt;
+        }
+
+        /**
+         * 단계별 처리한 행 수 (진행 순서)
+         */
+        public synchronized Map<Phase, Long> processed() {
+            return new EnumMap<>(processed);
+        }
+
+        synchronized void add(Phase phase, long count) {
+            processed.merge(phase, count, Long::sum);
+        }
+
+        synchronized void advance() {
+            phase = Phase.values()[phase.ordinal() + 1];
+            if (phase == Phase.COMPLETED) {
+                completedAt = LocalDateTime.now();
+            }
+        }
+
+        synchronized void restart() {
+            phase = Phase.PENDING;
+        }
+
+        synchronized boolean isExpired(LocalDateTime now) {
+            return completedAt != null && completedAt.plus(COMPLETED_RETENTION).isBefore(now);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.zerobase.storereservation.service;
+
+import com.zerobase.storereservation.repository.StoreRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * StoreGeoIndex
+ * 매장 위치를 위도/경도 격자로 나누어 보관하는 인메모리 공간 인덱스
+ * - 사용자 위치의 격자부터 바깥쪽 링 순서로 탐색하여 가까운 매장부터 차례로 방문
+ * - 아직 탐색하지 않은 링의 최소 거리보다 가까운 후보만 확정하므로 거리 순서가 보장됨
+ * - 필요한 개수를 찾으면 즉시 멈추므로 비용은 전체 매장 수가 아니라 주변 매장 밀도에 비례
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreGeoIndex {
+
+    // 격자 한 칸의 크기 (도)
+    static final double CELL_DEGREES = 0.02;
+
+    // 위도 1도의 거리 (km)
+    private static final double KM_PER_DEGREE = 111.19;
+
+    // 지구 반지름 (km)
+    private static final double EARTH_RADIUS_KM = 6371;
+
+    // 매장 관련 데이터 작업을 처리하는 Repository
+    private final StoreRepository storeRepository;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    // 격자 키 -> 격자에 속한 매장 위치 목록
+    private final Map<Long, Set<Location>> cells = new ConcurrentHashMap<>();
+
+    // 매장 ID -> 매장 위치
+    private final Map<Long, Location> locations = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 기동 완료 시 전체 매장 위치 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loggingUtil.logRequest("LOAD STORE LOCATIONS");
+
+        storeRepository.findAllLocations().forEach(row ->
+                put(row.getStoreId(), row.getLatitude(), row.getLongitude()));
+
+        loggingUtil.logSuccess("LOAD STORE LOCATIONS", "적재된 매장 수: " + locations.size());
+    }
+
+    /**
+     * 매장 위치 저장 (매장 생성, 수정 시 호출)
+     *
+     * @param storeId   매장 ID
+     * @param latitude  위도
+     * @param longitude 경도
+     */
+    public void put(Long storeId, double latitude, double longitude) {
+        remove(storeId);
+        Location location = new Location(storeId, latitude, longitude);
+        locations.put(storeId, location);
+        cells.computeIfAbsent(cellKey(cellOf(latitude), cellOf(longitude)),
+                key -> ConcurrentHashMap.newKeySet()).add(location);
+    }
+
+    /**
+     * 매장 위치 제거 (매장 삭제 시 호출)
+     *
+     * @param storeId 매장 ID
+     */
+    public void remove(Long storeId) {
+        Location previous = locations.remove(storeId);
+        if (previous != null) {
+            Set<Location> cell = cells.get(
+                    cellKey(cellOf(previous.latitude()), cellOf(previous.longitude())));
+            if (cell != null) {
+                cell.remove(previous);
+            }
+        }
+    }
+
+    /**
+     * 가까운 순서로 매장을 방문하며 조건을 만족하는 매장을 최대 limit 개 조회
+     *
+     * @param latitude  사용자 위도
+     * @param longitude 사용자 경도
+     * @param radiusKm  최대 탐색 반경 (km)
+     * @param limit     찾을 매장 수
+     * @param accept    매장 ID 를 받아 포함 여부를 판단하는 조건
+     * @return 조건을 만족한 매장 (가까운 순)
+     */
+    public List<Nearby> findNearest(
+            double latitude, double longitude, double radiusKm, int limit, Predicate<Long> accept) {
+        List<Nearby> result = new ArrayList<>();
+        PriorityQueue<Nearby> candidates =
+                new PriorityQueue<>(Comparator.comparingDouble(Nearby::distanceKm));
+
+        // 링 하나를 건널 때마다 늘어나는 최소 거리 (경도 방향이 더 좁으므로 보수적으로 계산)
+        double cosLat = Math.cos(Math.toRadians(Math.min(89.0, Math.abs(latitude) + 1.0)));
+        double ringKm = CELL_DEGREES * KM_PER_DEGREE * cosLat;
+        int maxRing = (int) Math.ceil(radiusKm / ringKm) + 1;
+
+        int centerLat = cellOf(latitude);
+        int centerLon = cellOf(longitude);
+        for (int ring = 0; ring <= maxRing; ring++) {
+            collectRing(centerLat, centerLon, ring, latitude, longitude, radiusKm, candidates);
+
+            // 다음 링 이후의 매장은 최소 ring * ringKm 이상 떨어져 있음
+            double settled = ring * ringKm;
+            if (drain(candidates, settled, limit, accept, result)) {
+                return result;
+            }
+        }
+        drain(candidates, Double.MAX_VALUE, limit, accept, result);
+        return result;
+    }
+
+    /**
+     * 두 좌표 사이의 거리 계산 (Haversine)
+     *
+     * @return 거리 (km)
+     */
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_KM * c;
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 중심 격자에서 ring 만큼 떨어진 격자 테두리의 매장을 후보에 추가
+     */
+    private void collectRing(int centerLat, int centerLon, int ring,
+                             double latitude, double longitude, double radiusKm,
+                             PriorityQueue<Nearby> candidates) {
+        for (int dLat = -ring; dLat <= ring; dLat++) {
+            boolean edgeRow = Math.abs(dLat) == ring;
+            for (int dLon = -ring; dLon <= ring; dLon += edgeRow ? 1 : 2 * ring) {
+                Set<Location> cell = cells.get(cellKey(centerLat + dLat, centerLon + dLon));
+                if (cell != null) {
+                    for (Location location : cell) {
+                        double distance = distanceKm(
+                                latitude, longitude, location.latitude(), location.longitude());
+                        if (distance <= radiusKm) {
+                            candidates.add(new Nearby(location.storeId(), distance));
+                        }
+                    }
+                }
+                if (ring == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 확정 거리 이내의 후보를 가까운 순서로 검사
+     *
+     * @return limit 개를 모두 찾았으면 true
+     */
+    private boolean drain(PriorityQueue<Nearby> candidates, double settledKm, int limit,
+                          Predicate<Long> accept, List<Nearby> result) {
+        while (!candidates.isEmpty() && candidates.peek().distanceKm() <= settledKm) {
+            Nearby candidate = candidates.poll();
+            if (accept.test(candidate.storeId())) {
+                result.add(candidate);
+                if (result.size() >= limit) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 좌표를 격자 번호로 변환
+     */
+    private int cellOf(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    /**
+     * (위도 격자, 경도 격자) 를 하나의 키로 변환
+     */
+    private long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    /**
+     * 매장 위치
+     */
+    private record Location(Long storeId, double latitude, double longitude) {
+    }
+
+    /**
+     * Nearby
+     * 탐색된 매장과 사용자와의 거리
+     *
+     * @param storeId    매장 ID
+     * @param distanceKm 거리 (km)
+     */
+    public record Nearby(Long storeId, double distanceKm) {
+    }
+}
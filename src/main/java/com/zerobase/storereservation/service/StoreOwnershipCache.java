@@ -0,0 +1,160 @@
+package com.zerobase.storereservation.service;
+
+import com.zerobase.storereservation.entity.constants.Role;
+import com.zerobase.storereservation.repository.StoreRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StoreOwnershipCache
+ * 매장 ID -> 소유자 정보를 메모리에 유지하는 캐시
+ * - 기동 시 전체 매장의 소유자 정보를 적재하고, 매장 생성/삭제 시 즉시 반영
+ * - 캐시에 없거나 유효 시간이 지난 항목은 DB 에서 다시 읽어 채움
+ * - 최대 항목 수를 넘으면 만료된 항목을 정리하고, 그래도 가득 차면 캐시하지 않고 DB 결과만 반환
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreOwnershipCache {
+
+    // 항목 유효 시간 (10분)
+    static final long TTL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    // 최대 항목 수
+    static final int MAX_ENTRIES = 100_000;
+
+    // 매장 관련 데이터 작업을 처리하는 Repository
+    private final StoreRepository storeRepository;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    // 매장 ID -> 소유자 정보
+    private final Map<Long, Ownership> ownerships = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 기동 완료 시 전체 매장의 소유자 정보 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loggingUtil.logRequest("LOAD STORE OWNERSHIP");
+
+        List<StoreRepository.StoreOwnership> rows = storeRepository.findAllOwnerships();
+        long now = System.nanoTime();
+        for (StoreRepository.StoreOwnership row : rows) {
+            if (ownerships.size() >= MAX_ENTRIES) {
+                break;
+            }
+            ownerships.putIfAbsent(row.getStoreId(),
+                    new Ownership(row.getOwnerId(), row.getOwnerRole(), now));
+        }
+
+        loggingUtil.logSuccess("LOAD STORE OWNERSHIP", "적재된 매장 수: " + ownerships.size());
+    }
+
+    /**
+     * 매장 소유자 정보 조회
+     *
+     * @param storeId 매장 ID
+     * @return 소유자 정보 (매장이 없으면 empty)
+     */
+    public Optional<Ownership> get(Long storeId) {
+        Ownership ownership = ownerships.get(storeId);
+        if (ownership != null && !ownership.isExpired(System.nanoTime())) {
+            return Optional.of(ownership);
+        }
+        return reload(storeId);
+    }
+
+    /**
+     * 유효 시간이 절반 이상 지났거나 없는 항목을 미리 다시 읽음 (요청이 몰리는 매장의 만료 방지)
+     *
+     * @param storeId 매장 ID
+     */
+    public void refreshAhead(Long storeId) {
+        Ownership ownership = ownerships.get(storeId);
+        if (ownership == null || System.nanoTime() - ownership.loadedAtNanos() > TTL_NANOS / 2) {
+            reload(storeId);
+        }
+    }
+
+    /**
+     * 매장 소유자 정보 저장 (매장 생성 시 호출)
+     *
+     * @param storeId   매장 ID
+     * @param ownerId   소유자 ID
+     * @param ownerRole 소유자 역할
+     */
+    public void put(Long storeId, Long ownerId, Role ownerRole) {
+        store(storeId, new Ownership(ownerId, ownerRole, System.nanoTime()));
+    }
+
+    /**
+     * 매장 소유자 정보 제거 (매장 삭제 시 호출)
+     *
+     * @param storeId 매장 ID
+     */
+    public void evict(Long storeId) {
+        ownerships.remove(storeId);
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * DB 에서 소유자 정보를 읽어 캐시에 반영 (매장이 없으면 항목 제거)
+     */
+    private Optional<Ownership> reload(Long storeId) {
+        Optional<Ownership> loaded = storeRepository.findOwnershipById(storeId)
+                .map(row -> new Ownership(row.getOwnerId(), row.getOwnerRole(), System.nanoTime()));
+        if (loaded.isPresent()) {
+            store(storeId, loaded.get());
+        } else {
+            ownerships.remove(storeId);
+        }
+        return loaded;
+    }
+
+    /**
+     * 최대 항목 수를 넘지 않는 범위에서 항목 저장
+     */
+    private void store(Long storeId, Ownership ownership) {
+        if (ownerships.size() >= MAX_ENTRIES && !ownerships.containsKey(storeId)) {
+            long now = System.nanoTime();
+            ownerships.values().removeIf(entry -> entry.isExpired(now));
+            if (ownerships.size() >= MAX_ENTRIES) {
+                return;
+            }
+        }
+        ownerships.put(storeId, ownership);
+    }
+
+    /**
+     * Ownership
+     * 매장 소유자 정보
+     *
+     * @param ownerId       소유자 ID
+     * @param ownerRole     소유자 역할
+     * @param loadedAtNanos 적재 시각 (System.nanoTime 기준)
+     */
+    public record Ownership(Long ownerId, Role ownerRole, long loadedAtNanos) {
+
+        /**
+         * 지정된 사용자가 이 매장을 소유한 점주인지 확인
+         */
+        public boolean isOwnedBy(Long userId) {
+            return ownerId.equals(userId) && ownerRole == Role.PARTNER;
+        }
+
+        boolean isExpired(long now) {
+            return now - loadedAtNanos > TTL_NANOS;
+        }
+    }
+}
@@ -10,14 +10,23 @@ import com.zerobase.storereservation.repository.ReviewRepository;
 import com.zerobase.storereservation.repository.StoreRepository;
 import com.zerobase.storereservation.repository.UserRepository;
 import com.zerobase.storereservation.security.UserDetailsImpl;
+import com.zerobase.storereservation.service.reservation.ReservationHotWindow;
+import com.zerobase.storereservation.service.reservation.SlotAvailabilityIndex;
+import com.zerobase.storereservation.service.reservation.StoreOccupancy;
+import com.zerobase.storereservation.service.reservation.TableAllocator;
 import com.zerobase.storereservation.util.LoggingUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.zerobase.storereservation.exception.ErrorCode.*;
@@ -31,6 +40,21 @@ import static com.zerobase.storereservation.exception.ErrorCode.*;
 @RequiredArgsConstructor
 public class StoreService {
 
+    // 가까운 예약 가능 매장 기본 조회 개수
+    private static final int DEFAULT_NEARBY_LIMIT = 10;
+
+    // 가까운 예약 가능 매장 최대 조회 개수
+    private static final int MAX_NEARBY_LIMIT = 50;
+
+    // 가까운 예약 가능 매장 기본 탐색 반경 (km)
+    private static final double DEFAULT_NEARBY_RADIUS_KM = 10;
+
+    // 가까운 예약 가능 매장 최대 탐색 반경 (km)
+    private static final double MAX_NEARBY_RADIUS_KM = 50;
+
+    // 예약 급상승 매장 기본 조회 개수
+    private static final int DEFAULT_TRENDING_LIMIT = 10;
+
     // 매장 관련 데이터 작업을 처리하는 Repository
     private final StoreRepository storeRepository;
 
@@ -40,6 +64,30 @@ public class StoreService {
     // 리뷰 관련 데이터 작업을 처리하는 Repository
     private final ReviewRepository reviewRepository;
 
+    // 매장 소유권 캐시
+    private final StoreOwnershipCache storeOwnershipCache;
+
+    // 매장 예약 가능 시간 인덱스
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+
+    // 매장 위치 공간 인덱스
+    private final StoreGeoIndex storeGeoIndex;
+
+    // 매장별 예약 생성 수 순위
+    private final StoreTrending storeTrending;
+
+    // 매장별 착석, 도착 예정 인원 카운터
+    private final StoreOccupancy storeOccupancy;
+
+    // 매장 테이블 배정 구간
+    private final TableAllocator tableAllocator;
+
+    // 당일 ~ 향후 7일 예약을 보관하는 인메모리 저장소
+    private final ReservationHotWindow reservationHotWindow;
+
+    // 삭제 요청된 매장의 연관 데이터 정리 작업
+    private final StoreDeletionJob storeDeletionJob;
+
     // 로깅을 위한 유틸 클래스
     private final LoggingUtil loggingUtil;
 
@@ -89,9 +137,15 @@ public class StoreService {
                 .owner(owner)
                 .latitude(request.getLatitude())
                 .longitude(request.getLongitude())
+                .capacity(request.getCapacity())
+                .slotMinutes(request.getSlotMinutes())
+                .openTime(request.getOpenTime())
+                .closeTime(request.getCloseTime())
                 .build();
 
         store = storeRepository.save(store);
+        storeOwnershipCache.put(store.getId(), owner.getId(), owner.getRole());
+        storeGeoIndex.put(store.getId(), store.getLatitude(), store.getLongitude());
 
         StoreDto.Response response = convertToDto(store);
 
@@ -127,17 +181,23 @@ public class StoreService {
     public StoreDto.Response updateStore(Long id, StoreDto.CreateRequest request) {
         loggingUtil.logRequest("UPDATE STORE", request);
 
+        validateOwnership(id);
+
         Store store = storeRepository.findById(id)
                 .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
 
-        validateOwnership(store);
-
         store.setName(request.getName());
         store.setDescription(request.getDescription());
         store.setLatitude(request.getLatitude());
         store.setLongitude(request.getLongitude());
+        store.setCapacity(request.getCapacity());
+        store.setSlotMinutes(request.getSlotMinutes());
+        store.setOpenTime(request.getOpenTime());
+        store.setCloseTime(request.getCloseTime());
 
         storeRepository.save(store);
+        slotAvailabilityIndex.invalidateStore(id);
+        storeGeoIndex.put(store.getId(), store.getLatitude(), store.getLongitude());
 
         StoreDto.Response response = convertToDto(store);
 
@@ -147,20 +207,55 @@ public class StoreService {
 
     /**
      * 매장 삭제
+     * - 매장에는 삭제 시간만 기록하여 바로 조회에서 제외하고 (Store 의 @SQLDelete)
+     * - 예약 취소, 리뷰/테이블 등 연관 데이터 정리와 매장 행 삭제는 StoreDeletionJob 이 청크 단위로 진행
      *
      * @param id 매장 ID
+     * @return 삭제 진행 상황
      */
-    public void deleteStore(Long id) {
+    public StoreDto.DeletionResponse deleteStore(Long id) {
         loggingUtil.logRequest("DELETE STORE", id);
 
+        validateOwnership(id);
+
         Store store = storeRepository.findById(id)
                 .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
 
-        validateOwnership(store);
-
         storeRepository.delete(store);
+        StoreDeletionJob.Progress progress = storeDeletionJob.requested(id, store.getOwner().getId());
+        storeOwnershipCache.evict(id);
+        slotAvailabilityIndex.invalidateStore(id);
+        storeGeoIndex.remove(id);
+        storeTrending.remove(id);
+        storeOccupancy.evict(id);
+        tableAllocator.invalidateStore(id);
+        reservationHotWindow.removeStore(id);
 
         loggingUtil.logSuccess("DELETE STORE", "매장 ID" + id);
+        return convertToDeletionResponse(progress);
+    }
+
+    /**
+     * 매장 삭제 진행 상황 조회
+     *
+     * @param id 매장 ID
+     * @return 삭제 진행 상황
+     * @throws CustomException 삭제 요청이 없거나 요청한 점주가 아닌 경우
+     */
+    public StoreDto.DeletionResponse getDeletionProgress(Long id) {
+        loggingUtil.logRequest("GET DELETION PROGRESS", id);
+
+        StoreDeletionJob.Progress progress = storeDeletionJob.progress(id)
+                .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof UserDetailsImpl userDetails)
+                || !progress.ownerId().equals(userDetails.getUser().getId())) {
+            throw new CustomException(UNAUTHORIZED_ACTION);
+        }
+
+        StoreDto.DeletionResponse response = convertToDeletionResponse(progress);
+        loggingUtil.logSuccess("GET DELETION PROGRESS", response);
+        return response;
     }
 
     /**
@@ -219,6 +314,83 @@ public class StoreService {
         return responses;
     }
 
+    /**
+     * 특정 시간에 예약 가능한 가까운 매장 조회
+     * - 공간 인덱스로 가까운 매장부터 방문하며 해당 시간의 슬롯이 비어 있는지 확인
+     * - limit 개를 찾으면 탐색을 멈추므로 전체 매장을 조회하지 않음
+     *
+     * @param userLat  사용자 위도
+     * @param userLon  사용자 경도
+     * @param at       예약 희망 시간
+     * @param limit    찾을 매장 수 (1 ~ 50, 기본 10)
+     * @param radiusKm 최대 탐색 반경 (km, 기본 10)
+     * @return 예약 가능한 매장 목록 (가까운 순)
+     */
+    public List<StoreDto.Response> getBookableStoresNearby(
+            Double userLat, Double userLon, LocalDateTime at, Integer limit, Double radiusKm
+    ) {
+        loggingUtil.logRequest("GET BOOKABLE STORES NEARBY", userLat, userLon, at, limit, radiusKm);
+
+        if (userLat == null || userLon == null) {
+            throw new CustomException(INVALID_LOCATION);
+        }
+        if (at == null || at.isBefore(LocalDateTime.now())) {
+            throw new CustomException(INVALID_RESERVATION_TIME);
+        }
+        if (!SlotAvailabilityIndex.withinHorizon(at.toLocalDate())) {
+            throw new CustomException(BEYOND_BOOKING_HORIZON);
+        }
+        int count = limit == null ? DEFAULT_NEARBY_LIMIT : Math.max(1, Math.min(limit, MAX_NEARBY_LIMIT));
+        double radius = radiusKm == null
+                ? DEFAULT_NEARBY_RADIUS_KM : Math.max(0.1, Math.min(radiusKm, MAX_NEARBY_RADIUS_KM));
+
+        List<StoreGeoIndex.Nearby> nearby = storeGeoIndex.findNearest(
+                userLat, userLon, radius, count,
+                storeId -> slotAvailabilityIndex.isFree(storeId, at));
+
+        Map<Long, Store> stores = storeRepository.findAllById(
+                        nearby.stream().map(StoreGeoIndex.Nearby::storeId).toList())
+                .stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+
+        List<StoreDto.Response> responses = nearby.stream()
+                .filter(candidate -> stores.containsKey(candidate.storeId()))
+                .map(candidate -> convertToDto(stores.get(candidate.storeId()), candidate.distanceKm()))
+                .toList();
+
+        loggingUtil.logSuccess("GET BOOKABLE STORES NEARBY", "조회한 매장 개수: " + responses.size());
+        return responses;
+    }
+
+    /**
+     * 예약 급상승 매장 조회
+     * - 최근 구간 동안 예약이 많이 생성된 매장 순으로 반환 (미리 계산한 순위를 그대로 사용)
+     *
+     * @param window 집계 구간 (최근 1시간 또는 1일, 기본 1시간)
+     * @param limit  조회 개수 (1 ~ 50, 기본 10)
+     * @return 예약 생성 수 내림차순 매장 목록
+     */
+    public List<StoreDto.TrendingResponse> getTrendingStores(StoreTrending.Window window, Integer limit) {
+        loggingUtil.logRequest("GET TRENDING STORES", window, limit);
+
+        int count = limit == null ? DEFAULT_TRENDING_LIMIT : Math.max(1, Math.min(limit, StoreTrending.TOP_K));
+        List<StoreTrending.Entry> entries =
+                storeTrending.top(window == null ? StoreTrending.Window.HOUR : window, count);
+
+        List<StoreDto.TrendingResponse> responses = new ArrayList<>(entries.size());
+        for (StoreTrending.Entry entry : entries) {
+            responses.add(StoreDto.TrendingResponse.builder()
+                    .rank(responses.size() + 1)
+                    .storeId(entry.storeId())
+                    .name(entry.name())
+                    .reservations(entry.reservations())
+                    .build());
+        }
+
+        loggingUtil.logSuccess("GET TRENDING STORES", "조회한 매장 개수: " + responses.size());
+        return responses;
+    }
+
     // ==== Private Helper Methods ====
 
     /**
@@ -231,24 +403,17 @@ public class StoreService {
      * @return 계산된 거리 (km 단위)
      */
     private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        double R = 6371;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
+        return StoreGeoIndex.distanceKm(lat1, lon1, lat2, lon2);
     }
 
     /**
      * 소유권 확인
-     * - 현재 사용자가 매장의 소유자인지 확인
+     * - 현재 사용자가 매장의 소유자인지 매장 소유권 캐시로 확인 (매장을 조회하기 전에 수행)
      *
-     * @param store 매장 엔티티
-     * @throws CustomException 소유자가 아닌 경우
+     * @param storeId 매장 ID
+     * @throws CustomException 매장이 없거나 소유자가 아닌 경우
      */
-    private void validateOwnership(Store store) {
+    private void validateOwnership(Long storeId) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         Object principal = auth.getPrincipal();
 
@@ -259,11 +424,29 @@ public class StoreService {
         UserDetailsImpl userDetails = (UserDetailsImpl) principal;
         User currentUser = userDetails.getUser();
 
-        if (!store.getOwner().getId().equals(currentUser.getId())) {
+        StoreOwnershipCache.Ownership ownership = storeOwnershipCache.get(storeId)
+                .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
+
+        if (!ownership.ownerId().equals(currentUser.getId())) {
             throw new CustomException(UNAUTHORIZED_ACTION);
         }
     }
 
+    /**
+     * 삭제 진행 상황을 Response DTO 로 변환
+     */
+    private StoreDto.DeletionResponse convertToDeletionResponse(StoreDeletionJob.Progress progress) {
+        Map<String, Long> processed = new LinkedHashMap<>();
+        progress.processed().forEach((phase, count) -> processed.put(phase.name(), count));
+        return StoreDto.DeletionResponse.builder()
+                .storeId(progress.storeId())
+                .phase(progress.phase().name())
+                .requestedAt(progress.requestedAt())
+                .completedAt(progress.completedAt())
+                .processed(processed)
+                .build();
+    }
+
     /**
      * 매장 엔티티를 Response DTO 로 변환
      *
@@ -280,6 +463,10 @@ public class StoreService {
                 .averageRating(store.getAverageRating())
                 .latitude(store.getLatitude())
                 .longitude(store.getLongitude())
+                .capacity(store.getCapacity())
+                .slotMinutes(store.getSlotMinutes())
+                .openTime(store.getOpenTime())
+                .closeTime(store.getCloseTime())
                 .distance(distance)
                 .build();
     }
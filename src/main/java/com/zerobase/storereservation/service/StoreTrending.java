@@ -0,0 +1,249 @@
+package com.zerobase.storereservation.service;
+
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StoreTrending
+ * 최근 1시간 / 1일 동안 예약이 많이 생성된 매장 순위를 유지하는 컴포넌트
+ * - 매장마다 구간별 링 버퍼 카운터를 두고 예약 생성 이벤트마다 현재 칸을 1 증가 (지난 칸은 다시 쓸 때 0 으로 초기화)
+ * - 10초마다 카운터가 있는 매장만 훑어 구간별 상위 TOP_K 개를 다시 계산하고 불변 목록으로 교체
+ * - 조회는 마지막으로 계산한 목록을 그대로 반환하므로 매장 수와 무관하게 일정한 시간이 걸림
+ * - 예약 테이블에는 생성 시간이 없어 기동 직후에는 빈 목록에서 시작
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreTrending {
+
+    // 구간별로 유지하는 최대 순위 수
+    static final int TOP_K = 50;
+
+    // 예약 생성 수 내림차순, 같으면 매장 ID 오름차순
+    private static final Comparator<Entry> BY_RANK = Comparator
+            .comparingLong(Entry::reservations).reversed()
+            .thenComparing(Entry::storeId);
+
+    // 매장 관련 데이터 작업을 처리하는 Repository (순위에 든 매장 이름 조회)
+    private final StoreRepository storeRepository;
+
+    // 매장 ID -> 구간별 링 버퍼 카운터
+    private final Map<Long, Counters> stores = new ConcurrentHashMap<>();
+
+    // 매장 ID -> 매장 이름 (순위에 든 매장만 보관)
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+    // 구간 -> 마지막으로 계산한 순위 목록
+    private volatile Map<Window, List<Entry>> snapshot = emptySnapshot();
+
+    /**
+     * 예약 생성 이벤트 반영
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @Order(9)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.isCreated() && event.getStoreId() != null) {
+            record(event.getStoreId(), System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 매장 순위 조회 (마지막으로 계산한 목록)
+     *
+     * @param window 집계 구간
+     * @param limit  조회 개수 (최대 TOP_K)
+     * @return 예약 생성 수 내림차순 매장 목록
+     */
+    public List<Entry> top(Window window, int limit) {
+        List<Entry> entries = snapshot.get(window);
+        return entries.subList(0, Math.min(Math.max(limit, 0), entries.size()));
+    }
+
+    /**
+     * 매장 제거 (매장 삭제 시 호출)
+     *
+     * @param storeId 매장 ID
+     */
+    public void remove(Long storeId) {
+        stores.remove(storeId);
+        names.remove(storeId);
+    }
+
+    /**
+     * 10초마다 구간별 순위를 다시 계산
+     */
+    @Scheduled(fixedDelay = 10_000)
+    public void refresh() {
+        refresh(System.currentTimeMillis());
+    }
+
+    void refresh(long nowMillis) {
+        Map<Window, PriorityQueue<Entry>> heaps = new EnumMap<>(Window.class);
+        for (Window window : Window.values()) {
+            heaps.put(window, new PriorityQueue<>(BY_RANK.reversed()));
+        }
+
+        stores.forEach((storeId, counters) -> {
+            long[] sums = counters.sums(nowMillis);
+            if (sums[Window.DAY.ordinal()] == 0) {
+                // 가장 긴 구간에도 예약이 없는 매장은 카운터를 버림
+                stores.remove(storeId, counters);
+                return;
+            }
+            for (Window window : Window.values()) {
+                long count = sums[window.ordinal()];
+                if (count == 0) {
+                    continue;
+                }
+                PriorityQueue<Entry> heap = heaps.get(window);
+                heap.add(new Entry(storeId, null, count));
+                if (heap.size() > TOP_K) {
+                    heap.poll();
+                }
+            }
+        });
+
+        Map<Long, String> ranked = resolveNames(heaps);
+        Map<Window, List<Entry>> next = new EnumMap<>(Window.class);
+        heaps.forEach((window, heap) -> next.put(window, heap.stream()
+                .sorted(BY_RANK)
+                .map(entry -> new Entry(entry.storeId(), ranked.get(entry.storeId()), entry.reservations()))
+                .toList()));
+        snapshot = next;
+    }
+
+    void record(Long storeId, long nowMillis) {
+        stores.computeIfAbsent(storeId, id -> new Counters()).add(nowMillis);
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 순위에 든 매장의 이름 조회 (처음 순위에 든 매장만 DB 조회)
+     */
+    private Map<Long, String> resolveNames(Map<Window, PriorityQueue<Entry>> heaps) {
+        Map<Long, String> ranked = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        heaps.values().forEach(heap -> heap.forEach(entry -> {
+            if (ranked.containsKey(entry.storeId())) {
+                return;
+            }
+            String name = names.get(entry.storeId());
+            ranked.put(entry.storeId(), name);
+            if (name == null) {
+                missing.add(entry.storeId());
+            }
+        }));
+        if (!missing.isEmpty()) {
+            for (Store store : storeRepository.findAllById(missing)) {
+                names.put(store.getId(), store.getName());
+                ranked.put(store.getId(), store.getName());
+            }
+        }
+        names.keySet().retainAll(ranked.keySet());
+        return ranked;
+    }
+
+    private static Map<Window, List<Entry>> emptySnapshot() {
+        Map<Window, List<Entry>> empty = new EnumMap<>(Window.class);
+        for (Window window : Window.values()) {
+            empty.put(window, List.of());
+        }
+        return empty;
+    }
+
+    /**
+     * Window
+     * 집계 구간 (칸 크기 x 칸 수)
+     */
+    public enum Window {
+        HOUR(Duration.ofMinutes(1), 60),    // 최근 1시간 (1분 단위 60칸)
+        DAY(Duration.ofMinutes(15), 96);    // 최근 1일 (15분 단위 96칸)
+
+        private final long bucketMillis;
+        private final int buckets;
+
+        Window(Duration bucket, int buckets) {
+            this.bucketMillis = bucket.toMillis();
+            this.buckets = buckets;
+        }
+    }
+
+    /**
+     * Entry
+     * 매장 순위 항목
+     *
+     * @param storeId      매장 ID
+     * @param name         매장 이름 (삭제된 매장은 null)
+     * @param reservations 구간 내 예약 생성 수
+     */
+    public record Entry(Long storeId, String name, long reservations) {
+    }
+
+    /**
+     * Counters
+     * 매장 하나의 구간별 링 버퍼 카운터
+     * - 칸마다 해당 칸이 나타내는 시간 번호를 함께 저장하여, 번호가 다르면 지난 값으로 보고 0 으로 취급
+     */
+    static final class Counters {
+
+        // 구간 -> 칸별 예약 생성 수
+        private final int[][] counts = new int[Window.values().length][];
+
+        // 구간 -> 칸별 시간 번호 (현재 시간 / 칸 크기)
+        private final long[][] epochs = new long[Window.values().length][];
+
+        Counters() {
+            for (Window window : Window.values()) {
+                counts[window.ordinal()] = new int[window.buckets];
+                epochs[window.ordinal()] = new long[window.buckets];
+            }
+        }
+
+        synchronized void add(long nowMillis) {
+            for (Window window : Window.values()) {
+                long epoch = nowMillis / window.bucketMillis;
+                int slot = (int) (epoch % window.buckets);
+                int[] windowCounts = counts[window.ordinal()];
+                long[] windowEpochs = epochs[window.ordinal()];
+                if (windowEpochs[slot] != epoch) {
+                    windowEpochs[slot] = epoch;
+                    windowCounts[slot] = 0;
+                }
+                windowCounts[slot]++;
+            }
+        }
+
+        synchronized long[] sums(long nowMillis) {
+            long[] sums = new long[Window.values().length];
+            for (Window window : Window.values()) {
+                long oldest = nowMillis / window.bucketMillis - window.buckets;
+                int[] windowCounts = counts[window.ordinal()];
+                long[] windowEpochs = epochs[window.ordinal()];
+                for (int slot = 0; slot < window.buckets; slot++) {
+                    if (windowEpochs[slot] > oldest) {
+                        sums[window.ordinal()] += windowCounts[slot];
+                    }
+                }
+            }
+            return sums;
+        }
+    }
+}
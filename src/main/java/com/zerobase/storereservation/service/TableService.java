@@ -0,0 +1,131 @@
+package com.zerobase.storereservation.service;
+
+import com.zerobase.storereservation.dto.TableDto;
+import com.zerobase.storereservation.entity.DiningTable;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.repository.DiningTableRepository;
+import com.zerobase.storereservation.repository.StoreRepository;
+import com.zerobase.storereservation.security.UserDetailsImpl;
+import com.zerobase.storereservation.service.reservation.TableAllocator;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static com.zerobase.storereservation.exception.ErrorCode.*;
+
+/**
+ * TableService
+ * - 매장 테이블 관리 비즈니스 로직을 처리하는 서비스
+ * - 테이블 등록, 조회 기능 제공
+ */
+@Service
+@RequiredArgsConstructor
+public class TableService {
+
+    // 매장 테이블 관련 데이터 작업을 처리하는 Repository
+    private final DiningTableRepository diningTableRepository;
+
+    // 매장 관련 데이터 작업을 처리하는 Repository
+    private final StoreRepository storeRepository;
+
+    // 매장 소유권 캐시
+    private final StoreOwnershipCache storeOwnershipCache;
+
+    // 테이블 배정기
+    private final TableAllocator tableAllocator;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    /**
+     * 테이블 등록
+     * - 매장 소유자만 등록할 수 있으며, 등록 후 테이블 배정 정보를 다시 적재
+     *
+     * @param storeId 매장 ID
+     * @param request 테이블 등록 요청 DTO
+     * @return 등록된 테이블 정보 DTO
+     */
+    public TableDto.Response createTable(Long storeId, TableDto.CreateRequest request) {
+        loggingUtil.logRequest("CREATE TABLE", storeId, request);
+
+        validateOwnership(storeId);
+        if (request.getSeats() == null || request.getSeats() < 1) {
+            throw new CustomException(INVALID_TABLE_SEATS);
+        }
+
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
+
+        DiningTable table = diningTableRepository.save(DiningTable.builder()
+                .store(store)
+                .name(request.getName())
+                .seats(request.getSeats())
+                .build());
+        tableAllocator.invalidateStore(storeId);
+
+        TableDto.Response response = convertToDto(table, storeId);
+
+        loggingUtil.logSuccess("CREATE TABLE", response);
+        return response;
+    }
+
+    /**
+     * 매장 테이블 목록 조회
+     * - 수용 인원 오름차순으로 정렬
+     *
+     * @param storeId 매장 ID
+     * @return 테이블 목록 DTO
+     */
+    public List<TableDto.Response> getTables(Long storeId) {
+        loggingUtil.logRequest("GET TABLES", storeId);
+
+        List<TableDto.Response> responses = diningTableRepository.findByStoreId(storeId).stream()
+                .sorted(Comparator.comparingInt(DiningTable::getSeats).thenComparing(DiningTable::getId))
+                .map(table -> convertToDto(table, storeId))
+                .toList();
+
+        loggingUtil.logSuccess("GET TABLES", "테이블 개수: " + responses.size());
+        return responses;
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 소유권 확인
+     * - 현재 사용자가 매장의 소유자인지 매장 소유권 캐시로 확인
+     *
+     * @param storeId 매장 ID
+     * @throws CustomException 매장이 없거나 소유자가 아닌 경우
+     */
+    private void validateOwnership(Long storeId) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof UserDetailsImpl userDetails)) {
+            throw new CustomException(UNAUTHORIZED_ACTION);
+        }
+
+        StoreOwnershipCache.Ownership ownership = storeOwnershipCache.get(storeId)
+                .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
+
+        if (!ownership.ownerId().equals(userDetails.getUser().getId())) {
+            throw new CustomException(UNAUTHORIZED_ACTION);
+        }
+    }
+
+    /**
+     * 테이블 엔티티를 Response DTO 로 변환
+     */
+    private TableDto.Response convertToDto(DiningTable table, Long storeId) {
+        return TableDto.Response.builder()
+                .id(table.getId())
+                .storeId(storeId)
+                .name(table.getName())
+                .seats(table.getSeats())
+                .build();
+    }
+}
@@ -0,0 +1,480 @@
+package com.zerobase.storereservation.service.analytics;
+
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationArchiveRepository;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * ReservationColumnStore
+ * 예약 이력 전체를 기본형 배열 컬럼으로 메모리에 보관하고 임의 조건으로 집계하는 컴포넌트
+ * - 예약 한 건은 예약 시간(분 단위 long), 매장 번호(int), 상태(byte), 인원(short) 의 네 칸만 차지
+ * - 기동 시 예약 테이블과 아카이브 테이블을 스트림으로 적재하고, 이후에는 예약 변경 이벤트로 추가 및 상태 갱신
+ * - 집계는 행 범위를 나누어 fork/join 으로 병렬 스캔하며, 그룹 키별 합계 배열을 더해서 합침
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationColumnStore {
+
+    // 컬럼 초기 크기 (가득 차면 두 배로 확장)
+    static final int INITIAL_CAPACITY = 1 << 16;
+
+    // 병렬 집계에서 더 나누지 않고 한 작업이 스캔하는 행 수
+    static final int LEAF_ROWS = 1 << 15;
+
+    // 상태 번호 -> 예약 상태
+    private static final ReservationStatus[] STATUSES = ReservationStatus.values();
+
+    // 1970-01-01 (목요일) 의 요일 번호 (월요일 = 0)
+    private static final int EPOCH_WEEKDAY = 3;
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 아카이브 예약 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationArchiveRepository reservationArchiveRepository;
+
+    // 스트림 조회를 트랜잭션 안에서 수행하기 위해 사용
+    private final TransactionTemplate transactionTemplate;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    // 매장 ID -> 매장 번호 (적재 순서대로 0부터 부여)
+    private final Map<Long, Integer> storeIndex = new ConcurrentHashMap<>();
+
+    // 예약 ID -> 행 번호 (쓰기 잠금 안에서만 사용)
+    private final LongIntMap rowById = new LongIntMap(INITIAL_CAPACITY);
+
+    // 현재 컬럼 (확장 시 새 배열로 교체하므로 조회는 잠금 없이 참조를 읽어서 사용)
+    private volatile Columns columns = new Columns(INITIAL_CAPACITY);
+
+    /**
+     * 애플리케이션 기동 완료 시 예약 이력 적재
+     * - 적재 중에 들어온 예약 변경 이벤트가 먼저 반영된 예약은 건너뜀
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loggingUtil.logRequest("LOAD COLUMN STORE");
+
+        int before = size();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ReservationRepository.ColumnSource> reservations =
+                         reservationRepository.streamColumnSource()) {
+                reservations.forEach(this::insertIfAbsent);
+            }
+            try (Stream<ReservationRepository.ColumnSource> archived =
+                         reservationArchiveRepository.streamColumnSource()) {
+                archived.forEach(this::insertIfAbsent);
+            }
+        });
+
+        loggingUtil.logSuccess("LOAD COLUMN STORE", "적재된 예약 개수: " + (size() - before));
+    }
+
+    /**
+     * 예약 변경 이벤트 반영
+     * - 새 예약은 행을 추가하고, 상태가 바뀐 예약은 상태 칸만 갱신
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @Order(8)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.getReservationId() == null || event.getStoreId() == null || event.getReservedAt() == null) {
+            return;
+        }
+        upsert(event.getReservationId(), event.getStoreId(), event.getReservedAt(),
+                event.getStatus(), event.getPartySize(), true);
+    }
+
+    /**
+     * 적재된 예약 수
+     *
+     * @return 행 수
+     */
+    public int size() {
+        return columns.size;
+    }
+
+    /**
+     * 조건에 맞는 예약을 그룹별로 집계
+     *
+     * @param query 집계 조건
+     * @return 그룹별 예약 수와 인원 합계 (그룹 키 순, 예약이 없는 그룹은 제외)
+     */
+    public List<Row> aggregate(Query query) {
+        Columns snapshot = columns;
+        int rows = snapshot.size;
+
+        // 조회 매장만 0부터 다시 번호를 매겨 그룹 키로 사용 (조회하지 않는 매장은 -1)
+        List<Long> storeIds = List.copyOf(query.storeIds());
+        int[] storePosition = new int[storeIndex.size()];
+        Arrays.fill(storePosition, -1);
+        for (int i = 0; i < storeIds.size(); i++) {
+            Integer index = storeIndex.get(storeIds.get(i));
+            if (index != null && index < storePosition.length) {
+                storePosition[index] = i;
+            }
+        }
+
+        int statusMask = 0;
+        for (ReservationStatus status : query.statuses().isEmpty() ? Set.of(STATUSES) : query.statuses()) {
+            statusMask |= 1 << status.ordinal();
+        }
+
+        List<Dimension> groupBy = query.groupBy();
+        int[] radix = new int[groupBy.size()];
+        int cells = 1;
+        for (int i = 0; i < groupBy.size(); i++) {
+            radix[i] = groupBy.get(i) == Dimension.STORE ? storeIds.size() : groupBy.get(i).cardinality;
+            cells *= radix[i];
+        }
+
+        Scan scan = new Scan(snapshot, 0, rows, epochMinute(query.from()), epochMinute(query.to()),
+                storePosition, statusMask, groupBy, radix, cells);
+        long[] totals = rows <= LEAF_ROWS ? scan.compute() : ForkJoinPool.commonPool().invoke(scan);
+
+        List<Row> result = new ArrayList<>();
+        for (int cell = 0; cell < cells; cell++) {
+            if (totals[cell * 2] == 0) {
+                continue;
+            }
+            result.add(new Row(keysOf(cell, groupBy, radix, storeIds), totals[cell * 2], totals[cell * 2 + 1]));
+        }
+        return result;
+    }
+
+    // ==== Private Helper Methods ====
+
+    private void insertIfAbsent(ReservationRepository.ColumnSource source) {
+        if (source.getId() == null || source.getStoreId() == null
+                || source.getReservedAt() == null || source.getStatus() == null) {
+            return;
+        }
+        upsert(source.getId(), source.getStoreId(), source.getReservedAt(),
+                source.getStatus(), source.getPartySize(), false);
+    }
+
+    /**
+     * 예약 행 추가 또는 상태 갱신
+     * - 조회 중인 스레드는 이전 크기까지만 읽으므로, 칸을 모두 채운 뒤 크기를 늘려 행을 공개
+     *
+     * @param overwrite 이미 있는 예약의 상태를 덮어쓸지 여부 (이벤트는 덮어쓰고, 적재는 건너뜀)
+     */
+    private synchronized void upsert(Long reservationId, Long storeId, LocalDateTime reservedAt,
+                                     ReservationStatus status, Integer partySize, boolean overwrite) {
+        int row = rowById.get(reservationId);
+        Columns current = columns;
+        if (row >= 0) {
+            if (overwrite) {
+                current.statuses[row] = (byte) status.ordinal();
+            }
+            return;
+        }
+
+        if (current.size == current.minutes.length) {
+            current = current.grow();
+            columns = current;
+        }
+        int next = current.size;
+        current.minutes[next] = epochMinute(reservedAt);
+        current.stores[next] = storeIndex.computeIfAbsent(storeId, id -> storeIndex.size());
+        current.statuses[next] = (byte) status.ordinal();
+        current.guests[next] = (short) Math.min(partySize != null ? partySize : 1, Short.MAX_VALUE);
+        current.size = next + 1;
+        rowById.put(reservationId, next);
+    }
+
+    /**
+     * 예약 시간을 분 단위 정수로 변환 (시간대 변환 없이 현지 시간 그대로)
+     */
+    private static long epochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * 그룹 번호를 그룹 키 문자열로 변환
+     */
+    private static List<String> keysOf(int cell, List<Dimension> groupBy, int[] radix, List<Long> storeIds) {
+        String[] keys = new String[groupBy.size()];
+        for (int i = groupBy.size() - 1; i >= 0; i--) {
+            int value = cell % radix[i];
+            cell /= radix[i];
+            keys[i] = switch (groupBy.get(i)) {
+                case HOUR -> String.valueOf(value);
+                case WEEKDAY -> DayOfWeek.of(value + 1).name();
+                case STORE -> String.valueOf(storeIds.get(value));
+                case STATUS -> STATUSES[value].name();
+            };
+        }
+        return List.of(keys);
+    }
+
+    /**
+     * Dimension
+     * 집계 그룹 기준
+     */
+    public enum Dimension {
+        HOUR(24),       // 예약 시간대 (0 ~ 23시)
+        WEEKDAY(7),     // 예약 요일
+        STORE(0),       // 매장 (조회 매장 수만큼)
+        STATUS(ReservationStatus.values().length); // 예약 상태
+
+        private final int cardinality;
+
+        Dimension(int cardinality) {
+            this.cardinality = cardinality;
+        }
+    }
+
+    /**
+     * Query
+     * 집계 조건
+     *
+     * @param storeIds 조회 매장 ID
+     * @param from     예약 시간 시작 (포함)
+     * @param to       예약 시간 종료 (미포함)
+     * @param statuses 조회 예약 상태 (비어 있으면 전체)
+     * @param groupBy  그룹 기준 (비어 있으면 전체 합계 한 줄)
+     */
+    public record Query(Set<Long> storeIds, LocalDateTime from, LocalDateTime to,
+                        Set<ReservationStatus> statuses, List<Dimension> groupBy) {
+    }
+
+    /**
+     * Row
+     * 그룹별 집계 결과
+     *
+     * @param keys         그룹 키 (그룹 기준 순서)
+     * @param reservations 예약 수
+     * @param guests       인원 합계 (인원을 입력하지 않은 예약은 1명)
+     */
+    public record Row(List<String> keys, long reservations, long guests) {
+    }
+
+    /**
+     * Columns
+     * 예약 컬럼 배열 묶음
+     * - 확장은 새 배열에 복사한 뒤 참조를 교체하므로, 조회 중인 스레드는 이전 배열을 그대로 읽음
+     */
+    static final class Columns {
+
+        // 예약 시간 (분 단위)
+        private final long[] minutes;
+
+        // 매장 번호
+        private final int[] stores;
+
+        // 예약 상태 번호
+        private final byte[] statuses;
+
+        // 예약 인원
+        private final short[] guests;
+
+        // 채워진 행 수
+        private volatile int size;
+
+        Columns(int capacity) {
+            this.minutes = new long[capacity];
+            this.stores = new int[capacity];
+            this.statuses = new byte[capacity];
+            this.guests = new short[capacity];
+        }
+
+        private Columns(Columns from, int capacity) {
+            this.minutes = Arrays.copyOf(from.minutes, capacity);
+            this.stores = Arrays.copyOf(from.stores, capacity);
+            this.statuses = Arrays.copyOf(from.statuses, capacity);
+            this.guests = Arrays.copyOf(from.guests, capacity);
+            this.size = from.size;
+        }
+
+        Columns grow() {
+            return new Columns(this, minutes.length * 2);
+        }
+    }
+
+    /**
+     * Scan
+     * 행 범위 하나를 스캔하는 병렬 집계 작업
+     * - 결과는 그룹 번호마다 [예약 수, 인원 합계] 두 칸씩 이어 붙인 배열
+     */
+    private static final class Scan extends RecursiveTask<long[]> {
+
+        private final Columns columns;
+        private final int from;
+        private final int to;
+        private final long fromMinute;
+        private final long toMinute;
+        private final int[] storePosition;
+        private final int statusMask;
+        private final Dimension[] groupBy;
+        private final int[] radix;
+        private final int cells;
+
+        Scan(Columns columns, int from, int to, long fromMinute, long toMinute, int[] storePosition,
+             int statusMask, List<Dimension> groupBy, int[] radix, int cells) {
+            this(columns, from, to, fromMinute, toMinute, storePosition, statusMask,
+                    groupBy.toArray(Dimension[]::new), radix, cells);
+        }
+
+        private Scan(Columns columns, int from, int to, long fromMinute, long toMinute, int[] storePosition,
+                     int statusMask, Dimension[] groupBy, int[] radix, int cells) {
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+            this.fromMinute = fromMinute;
+            this.toMinute = toMinute;
+            this.storePosition = storePosition;
+            this.statusMask = statusMask;
+            this.groupBy = groupBy;
+            this.radix = radix;
+            this.cells = cells;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= LEAF_ROWS) {
+                return scan();
+            }
+            int middle = (from + to) >>> 1;
+            Scan left = split(from, middle);
+            Scan right = split(middle, to);
+            left.fork();
+            long[] totals = right.compute();
+            long[] other = left.join();
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += other[i];
+            }
+            return totals;
+        }
+
+        private Scan split(int from, int to) {
+            return new Scan(columns, from, to, fromMinute, toMinute, storePosition, statusMask,
+                    groupBy, radix, cells);
+        }
+
+        private long[] scan() {
+            long[] totals = new long[cells * 2];
+            long[] minutes = columns.minutes;
+            int[] stores = columns.stores;
+            byte[] statuses = columns.statuses;
+            short[] guests = columns.guests;
+            for (int row = from; row < to; row++) {
+                long minute = minutes[row];
+                if (minute < fromMinute || minute >= toMinute) {
+                    continue;
+                }
+                int store = stores[row] < storePosition.length ? storePosition[stores[row]] : -1;
+                if (store < 0) {
+                    continue;
+                }
+                int status = statuses[row];
+                if ((statusMask & (1 << status)) == 0) {
+                    continue;
+                }
+                int cell = 0;
+                for (int i = 0; i < groupBy.length; i++) {
+                    int value = switch (groupBy[i]) {
+                        case HOUR -> (int) (Math.floorMod(minute, 1440L) / 60);
+                        case WEEKDAY -> (int) Math.floorMod(Math.floorDiv(minute, 1440L) + EPOCH_WEEKDAY, 7L);
+                        case STORE -> store;
+                        case STATUS -> status;
+                    };
+                    cell = cell * radix[i] + value;
+                }
+                totals[cell * 2]++;
+                totals[cell * 2 + 1] += guests[row];
+            }
+            return totals;
+        }
+    }
+
+    /**
+     * LongIntMap
+     * 예약 ID -> 행 번호 맵 (박싱 없이 배열 두 개로 구성한 개방 주소법 해시 맵, 동기화하지 않음)
+     */
+    static final class LongIntMap {
+
+        // 빈 칸 표시 (예약 ID 로 쓰이지 않는 값)
+        private static final long FREE = Long.MIN_VALUE;
+
+        private long[] keys;
+        private int[] values;
+        private int size;
+
+        LongIntMap(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 8) * 2 - 1) << 1;
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(keys, FREE);
+        }
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = hash(key) & mask; keys[slot] != FREE; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != FREE && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == FREE) {
+                size++;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(keys, FREE);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != FREE) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.zerobase.storereservation.service.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.repository.ReservationArchiveRepository;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.repository.ReviewRepository;
+import com.zerobase.storereservation.security.UserDetailsImpl;
+import com.zerobase.storereservation.service.StoreOwnershipCache;
+import com.zerobase.storereservation.service.reservation.ReservationArchiver;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.zerobase.storereservation.exception.ErrorCode.*;
+
+/**
+ * OwnerExportService
+ * - 점주가 정산용으로 매장 예약과 리뷰를 CSV 또는 NDJSON 으로 내려받도록 지원하는 서비스
+ * - 권한과 기간은 요청 스레드에서 먼저 검증하고, 본문은 응답 스트림에 직접 기록
+ * - 프로젝션 스트림을 fetch size 단위로 읽어 한 줄씩 기록하므로 행 수와 관계없이 힙 사용량이 일정
+ */
+@Service
+@RequiredArgsConstructor
+public class OwnerExportService {
+
+    // 내보내기 최대 기간 (일)
+    private static final long MAX_EXPORT_DAYS = 366;
+
+    // CSV 값이 이 문자로 시작하면 스프레드시트가 수식으로 해석
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    // NDJSON 행 생성기
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // 예약 내보내기 컬럼
+    private static final List<String> RESERVATION_COLUMNS = List.of(
+            "id", "userId", "phoneNumber", "reservedAt", "status", "partySize", "tableId", "arrivedAt");
+
+    // 리뷰 내보내기 컬럼
+    private static final List<String> REVIEW_COLUMNS = List.of(
+            "id", "userId", "rating", "content", "createdAt");
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 아카이브 예약 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationArchiveRepository reservationArchiveRepository;
+
+    // 리뷰 데이터 베이스 작업을 처리하는 Repository
+    private final ReviewRepository reviewRepository;
+
+    // 지난 예약 아카이브 (기간이 아카이브에 닿을 때만 조회)
+    private final ReservationArchiver reservationArchiver;
+
+    // 매장 소유권 캐시
+    private final StoreOwnershipCache storeOwnershipCache;
+
+    // 스트림 조회 동안 커넥션을 유지하기 위한 트랜잭션 템플릿
+    private final TransactionTemplate transactionTemplate;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    /**
+     * 매장 예약 내보내기
+     * - 기간이 아카이브에 닿으면 아카이브 예약을 먼저 기록한 뒤 예약 테이블을 이어서 기록
+     * - 두 테이블을 병합하지 않고 차례로 스트리밍하므로 정렬은 각 부분 안에서만 보장
+     *
+     * @param storeId 매장 ID
+     * @param from    조회 시작 날짜
+     * @param to      조회 종료 날짜 (포함)
+     * @param format  내보내기 형식
+     * @return 응답 본문 (아카이브 예약 다음 예약 테이블 순, 각 부분은 예약 시간, 예약 ID 오름차순)
+     * @throws CustomException 기간이 잘못되었거나 권한이 없는 경우
+     */
+    public StreamingResponseBody exportReservations(Long storeId, LocalDate from, LocalDate to, Format format) {
+        loggingUtil.logRequest("EXPORT RESERVATIONS", storeId, from, to, format);
+
+        validateRange(from, to);
+        validateOwnership(storeId);
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        boolean archived = reservationArchiver.reaches(start);
+        return out -> {
+            RowWriter writer = new RowWriter(out, format, RESERVATION_COLUMNS);
+            try (writer) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (archived) {
+                        try (Stream<ReservationRepository.ExportRow> stream =
+                                     reservationArchiveRepository.streamForExport(storeId, start, end)) {
+                            stream.forEach(row -> writeReservation(writer, row));
+                        }
+                    }
+                    try (Stream<ReservationRepository.ExportRow> stream =
+                                 reservationRepository.streamForExport(storeId, start, end)) {
+                        stream.forEach(row -> writeReservation(writer, row));
+                    }
+                });
+            }
+            loggingUtil.logSuccess("EXPORT RESERVATIONS", "내보낸 예약 수: " + writer.rows());
+        };
+    }
+
+    /**
+     * 매장 리뷰 내보내기
+     *
+     * @param storeId 매장 ID
+     * @param from    작성 시작 날짜
+     * @param to      작성 종료 날짜 (포함)
+     * @param format  내보내기 형식
+     * @return 응답 본문 (작성 시간, 리뷰 ID 오름차순)
+     * @throws CustomException 기간이 잘못되었거나 권한이 없는 경우
+     */
+    public StreamingResponseBody exportReviews(Long storeId, LocalDate from, LocalDate to, Format format) {
+        loggingUtil.logRequest("EXPORT REVIEWS", storeId, from, to, format);
+
+        validateRange(from, to);
+        validateOwnership(storeId);
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        return out -> {
+            RowWriter writer = new RowWriter(out, format, REVIEW_COLUMNS);
+            try (writer) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    try (Stream<ReviewRepository.ExportRow> stream =
+                                 reviewRepository.streamForExport(storeId, start, end)) {
+                        stream.forEach(row -> writer.write(row.getId(), row.getUserId(), row.getRating(),
+                                row.getContent(), row.getCreatedAt()));
+                    }
+                });
+            }
+            loggingUtil.logSuccess("EXPORT REVIEWS", "내보낸 리뷰 수: " + writer.rows());
+        };
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 예약 한 행 기록 (RESERVATION_COLUMNS 순서)
+     */
+    private static void writeReservation(RowWriter writer, ReservationRepository.ExportRow row) {
+        writer.write(row.getId(), row.getUserId(), row.getPhoneNumber(), row.getReservedAt(),
+                row.getStatus(), row.getPartySize(), row.getTableId(), row.getArrivedAt());
+    }
+
+    /**
+     * 내보내기 기간 검증
+     *
+     * @throws CustomException 시작일이 종료일보다 늦거나 최대 기간을 넘는 경우
+     */
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)
+                || ChronoUnit.DAYS.between(from, to) >= MAX_EXPORT_DAYS) {
+            throw new CustomException(INVALID_EXPORT_RANGE);
+        }
+    }
+
+    /**
+     * 소유권 확인
+     * - 현재 사용자가 매장의 소유자인지 매장 소유권 캐시로 확인
+     *
+     * @param storeId 매장 ID
+     * @throws CustomException 매장이 없거나 소유자가 아닌 경우
+     */
+    private void validateOwnership(Long storeId) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof UserDetailsImpl userDetails)) {
+            throw new CustomException(UNAUTHORIZED_ACTION);
+        }
+
+        StoreOwnershipCache.Ownership ownership = storeOwnershipCache.get(storeId)
+                .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
+
+        if (!ownership.isOwnedBy(userDetails.getUser().getId())) {
+            throw new CustomException(UNAUTHORIZED_ACTION);
+        }
+    }
+
+    /**
+     * Format
+     * 내보내기 형식
+     */
+    public enum Format {
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+        NDJSON(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8), "ndjson");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    /**
+     * RowWriter
+     * 한 행씩 응답 스트림에 기록하는 작성기
+     * - CSV 는 첫 줄에 컬럼명을 쓰고 RFC 4180 방식으로 값을 감쌈
+     * - 스프레드시트가 수식으로 해석하지 않도록 수식 시작 문자로 시작하는 문자열 값 앞에 ' 를 붙임
+     * - NDJSON 은 한 줄에 객체 하나를 쓰며, 날짜는 ISO-8601 문자열로 기록
+     */
+    static final class RowWriter implements AutoCloseable {
+
+        private final Writer writer;
+        private final Format format;
+        private final List<String> columns;
+        private final JsonGenerator json;
+
+        // 기록한 행 수 (헤더 제외)
+        private long rows;
+
+        RowWriter(OutputStream out, Format format, List<String> columns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.format = format;
+            this.columns = columns;
+            if (format == Format.NDJSON) {
+                // 행마다 줄바꿈을 직접 쓰므로 최상위 값 사이 구분자는 쓰지 않음
+                this.json = JSON_FACTORY.createGenerator(writer).setRootValueSeparator(null);
+            } else {
+                this.json = null;
+                writeCsv(columns.toArray());
+            }
+        }
+
+        void write(Object... values) {
+            try {
+                if (json != null) {
+                    writeJson(values);
+                } else {
+                    writeCsv(values);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows++;
+        }
+
+        long rows() {
+            return rows;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (json != null) {
+                json.flush();
+            }
+            // 응답 스트림은 서블릿 컨테이너가 닫으므로 버퍼만 비움
+            writer.flush();
+        }
+
+        private void writeCsv(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] == null) {
+                    continue;
+                }
+                String value = String.valueOf(values[i]);
+                if (values[i] instanceof CharSequence && !value.isEmpty()
+                        && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+                    value = "'" + value;
+                }
+                if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                        || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                    writer.write('"');
+                    writer.write(value.replace("\"", "\"\""));
+                    writer.write('"');
+                } else {
+                    writer.write(value);
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeJson(Object[] values) throws IOException {
+            json.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                json.writeFieldName(columns.get(i));
+                if (value == null) {
+                    json.writeNull();
+                } else if (value instanceof Long number) {
+                    json.writeNumber(number);
+                } else if (value instanceof Integer number) {
+                    json.writeNumber(number);
+                } else {
+                    json.writeString(String.valueOf(value));
+                }
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+    }
+}
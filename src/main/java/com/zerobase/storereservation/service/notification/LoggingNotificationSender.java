@@ -0,0 +1,25 @@
+package com.zerobase.storereservation.service.notification;
+
+import com.zerobase.storereservation.entity.OutboxMessage;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * LoggingNotificationSender
+ * 발송 채널이 연동되지 않은 환경에서 사용하는 기본 발송기
+ * - 알림 내용을 로그로만 남기며, 다른 NotificationSender 빈이 등록되면 사용하지 않음 (NotificationConfig)
+ */
+@RequiredArgsConstructor
+public class LoggingNotificationSender implements NotificationSender {
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    @Override
+    public void send(OutboxMessage message) {
+        loggingUtil.logSuccess("SEND NOTIFICATION",
+                message.getRecipient() + " " + message.getRecipientId()
+                        + " - 예약 " + message.getReservationId() + ": "
+                        + message.getPreviousStatus() + " -> " + message.getReservationStatus());
+    }
+}
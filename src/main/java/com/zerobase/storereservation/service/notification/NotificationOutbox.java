@@ -0,0 +1,85 @@
+package com.zerobase.storereservation.service.notification;
+
+import com.zerobase.storereservation.entity.OutboxMessage;
+import com.zerobase.storereservation.entity.constants.NotificationRecipient;
+import com.zerobase.storereservation.entity.constants.OutboxStatus;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.OutboxMessageRepository;
+import com.zerobase.storereservation.service.StoreOwnershipCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+import static com.zerobase.storereservation.entity.constants.NotificationRecipient.CUSTOMER;
+import static com.zerobase.storereservation.entity.constants.NotificationRecipient.OWNER;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
+
+/**
+ * NotificationOutbox
+ * 예약 변경 이벤트를 알림 아웃박스에 기록하는 컴포넌트
+ * - 커밋 직전(BEFORE_COMMIT)에 같은 트랜잭션으로 저장하므로 예약 변경과 알림 기록이 함께 커밋되거나 함께 롤백됨
+ * - 발송은 OutboxDispatcher 가 별도로 처리하여 예약 요청은 발송을 기다리지 않음
+ * - 새 예약과 고객 취소는 점주에게, 승인/거절/만료는 고객에게 알림
+ * - 매장 삭제로 취소된 예약은 점주가 없으므로 고객에게 알림
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    // 알림 아웃박스 데이터 베이스 작업을 처리하는 Repository
+    private final OutboxMessageRepository outboxMessageRepository;
+
+    // 매장 소유권 캐시 (점주 ID 조회)
+    private final StoreOwnershipCache storeOwnershipCache;
+
+    /**
+     * 예약 변경 이벤트를 아웃박스에 기록
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.getStatus() == event.getPreviousStatus()) {
+            return;
+        }
+        if (event.isCreated() || event.getStatus() == CANCELLED) {
+            Long ownerId = storeOwnershipCache.get(event.getStoreId())
+                    .map(StoreOwnershipCache.Ownership::ownerId)
+                    .orElse(null);
+            if (ownerId == null && event.getStatus() == CANCELLED) {
+                outboxMessageRepository.save(message(event, CUSTOMER, event.getUserId(), event.getPhoneNumber()));
+            } else {
+                outboxMessageRepository.save(message(event, OWNER, ownerId, null));
+            }
+        } else {
+            outboxMessageRepository.save(message(event, CUSTOMER, event.getUserId(), event.getPhoneNumber()));
+        }
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 발송 대기 상태의 아웃박스 메시지 생성
+     */
+    private OutboxMessage message(ReservationChangedEvent event, NotificationRecipient recipient,
+                                  Long recipientId, String phoneNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        return OutboxMessage.builder()
+                .recipient(recipient)
+                .recipientId(recipientId)
+                .phoneNumber(phoneNumber)
+                .reservationId(event.getReservationId())
+                .storeId(event.getStoreId())
+                .reservedAt(event.getReservedAt())
+                .previousStatus(event.getPreviousStatus())
+                .reservationStatus(event.getStatus())
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+}
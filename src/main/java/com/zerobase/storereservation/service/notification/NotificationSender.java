@@ -0,0 +1,19 @@
+package com.zerobase.storereservation.service.notification;
+
+import com.zerobase.storereservation.entity.OutboxMessage;
+
+/**
+ * NotificationSender
+ * 아웃박스 메시지를 실제로 발송하는 발송기
+ * - SMS, 푸시 등 발송 채널별로 구현하여 빈으로 등록
+ * - 발송에 실패하면 예외를 던지며, 아웃박스 발송기가 재시도 시간을 늦춰 다시 발송
+ */
+public interface NotificationSender {
+
+    /**
+     * 알림 발송
+     *
+     * @param message 발송할 아웃박스 메시지
+     */
+    void send(OutboxMessage message);
+}
@@ -0,0 +1,197 @@
+package com.zerobase.storereservation.service.notification;
+
+import com.zerobase.storereservation.entity.OutboxMessage;
+import com.zerobase.storereservation.entity.constants.OutboxStatus;
+import com.zerobase.storereservation.repository.OutboxMessageRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OutboxDispatcher
+ * 알림 아웃박스의 대기 메시지를 묶어서 발송하는 작업
+ * - 1초마다 발송 시간이 된 메시지를 최대 100건 가져오며, SKIP LOCKED 로 여러 인스턴스가 나누어 처리
+ * - 가져온 메시지는 발송 전에 다음 시도 시간을 임대 시간만큼 늦춰 두어, 발송 중 종료되어도 임대가 끝나면 다시 발송
+ * - 발송은 트랜잭션 밖에서 하고, 실패한 메시지는 재시도 간격을 두 배씩 늘리다가 최대 횟수를 넘기면 포기
+ * - 발송 완료, 발송 포기 메시지는 보관 기간이 지나면 매일 새벽 청크 단위(500건)로 삭제
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+    // 한 번에 가져오는 최대 메시지 수
+    static final int BATCH_SIZE = 100;
+
+    // 최대 발송 시도 횟수
+    static final int MAX_ATTEMPTS = 10;
+
+    // 가져간 메시지를 다른 인스턴스가 다시 가져가지 않도록 늦춰 두는 시간
+    static final Duration LEASE = Duration.ofMinutes(1);
+
+    // 첫 재시도 간격
+    static final Duration BASE_BACKOFF = Duration.ofSeconds(5);
+
+    // 최대 재시도 간격
+    static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+
+    // 한 트랜잭션에서 삭제하는 메시지 수
+    static final int PURGE_CHUNK_SIZE = 500;
+
+    // 한 번 실행에서 처리하는 최대 청크 수 (남은 메시지는 다음 실행에서 처리)
+    static final int MAX_PURGE_CHUNKS_PER_RUN = 200;
+
+    // 알림 아웃박스 데이터 베이스 작업을 처리하는 Repository
+    private final OutboxMessageRepository outboxMessageRepository;
+
+    // 알림 발송기
+    private final NotificationSender notificationSender;
+
+    // 메시지를 가져오는 작업과 결과 저장을 각각 짧은 트랜잭션으로 처리하기 위해 사용
+    private final TransactionTemplate transactionTemplate;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    // 발송 완료 메시지 보관 기간 (일)
+    @Value("${reservation.notification.sent-retention-days:7}")
+    private int sentRetentionDays;
+
+    // 발송 포기 메시지 보관 기간 (일, 실패 사유 확인용으로 더 길게 보관)
+    @Value("${reservation.notification.failed-retention-days:30}")
+    private int failedRetentionDays;
+
+    /**
+     * 발송 시간이 된 메시지 발송
+     */
+    @Scheduled(fixedDelay = 1_000)
+    public void dispatch() {
+        List<OutboxMessage> batch = claim();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 메시지 ID -> 실패 사유 (성공이면 null)
+        Map<Long, String> results = new HashMap<>();
+        for (OutboxMessage message : batch) {
+            try {
+                notificationSender.send(message);
+                results.put(message.getId(), null);
+            } catch (RuntimeException e) {
+                results.put(message.getId(), String.valueOf(e.getMessage()));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (OutboxMessage message : outboxMessageRepository.findAllById(results.keySet())) {
+                String error = results.get(message.getId());
+                if (error == null) {
+                    markSent(message, now);
+                } else {
+                    markFailed(message, error, now);
+                }
+            }
+        });
+
+        long failed = results.values().stream().filter(error -> error != null).count();
+        if (failed > 0) {
+            loggingUtil.logError("DISPATCH NOTIFICATIONS",
+                    "발송 실패 " + failed + "건 / " + results.size() + "건, 재시도 예정");
+        }
+    }
+
+    /**
+     * 매일 새벽 4시 30분에 보관 기간이 지난 발송 완료, 발송 포기 메시지 삭제
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purge() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        int sent = purge(OutboxStatus.SENT, today.minusDays(sentRetentionDays));
+        int failed = purge(OutboxStatus.FAILED, today.minusDays(failedRetentionDays));
+
+        if (sent + failed > 0) {
+            loggingUtil.logSuccess("PURGE NOTIFICATIONS",
+                    "삭제된 메시지 개수: 발송 완료 " + sent + "건, 발송 포기 " + failed + "건");
+        }
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 기준 시간 전에 생성된 특정 상태의 메시지를 청크마다 트랜잭션을 나누어 삭제
+     *
+     * @return 삭제한 메시지 수
+     */
+    private int purge(OutboxStatus status, LocalDateTime before) {
+        int deleted = 0;
+        for (int chunk = 0; chunk < MAX_PURGE_CHUNKS_PER_RUN; chunk++) {
+            Integer count = transactionTemplate.execute(tx -> {
+                List<Long> ids = outboxMessageRepository.findIdsCreatedBefore(
+                        status, before, PageRequest.of(0, PURGE_CHUNK_SIZE));
+                if (!ids.isEmpty()) {
+                    outboxMessageRepository.deleteAllByIdInBatch(ids);
+                }
+                return ids.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            deleted += count;
+            if (count < PURGE_CHUNK_SIZE) {
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 발송 시간이 된 메시지를 잠금과 함께 가져와 임대 시간만큼 다음 시도 시간을 늦춤
+     */
+    private List<OutboxMessage> claim() {
+        List<OutboxMessage> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxMessage> due = outboxMessageRepository.findDueForUpdate(
+                    OutboxStatus.PENDING, now, PageRequest.of(0, BATCH_SIZE));
+            due.forEach(message -> message.setNextAttemptAt(now.plus(LEASE)));
+            return due;
+        });
+        return batch != null ? batch : List.of();
+    }
+
+    private void markSent(OutboxMessage message, LocalDateTime now) {
+        message.setStatus(OutboxStatus.SENT);
+        message.setAttempts(message.getAttempts() + 1);
+        message.setSentAt(now);
+        message.setLastError(null);
+    }
+
+    private void markFailed(OutboxMessage message, String error, LocalDateTime now) {
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        message.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+        if (attempts >= MAX_ATTEMPTS) {
+            message.setStatus(OutboxStatus.FAILED);
+            return;
+        }
+        message.setNextAttemptAt(now.plus(backoff(attempts)));
+    }
+
+    /**
+     * 재시도 간격 (시도 횟수마다 두 배, 최대 MAX_BACKOFF)
+     */
+    static Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
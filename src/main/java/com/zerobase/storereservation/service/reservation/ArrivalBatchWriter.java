@@ -0,0 +1,145 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ArrivalBatchWriter
+ * 예약 도착 시간을 모아서 한 번에 저장하는 컴포넌트
+ * - 도착 확인 요청은 메모리에 기록만 하고 바로 응답하며, 같은 예약의 중복 도착은 가장 이른 시간 하나로 합침
+ * - 200ms 마다 모인 도착을 하나의 트랜잭션으로 저장하여 체크인이 몰려도 DB 쓰기 횟수를 줄임
+ * - 저장에 실패하면 다음 주기에 다시 시도
+ * - 저장에 성공하면 처음 도착이 기록된 예약을 예약 집계의 도착 수에 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class ArrivalBatchWriter {
+
+    // 한 번에 저장하는 최대 도착 수
+    static final int MAX_BATCH = 500;
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 종료 시 직접 호출하는 경우에도 트랜잭션을 적용하기 위해 사용
+    private final TransactionTemplate transactionTemplate;
+
+    // 매장별 착석 인원 카운터
+    private final StoreOccupancy storeOccupancy;
+
+    // 예약 집계 반영 컴포넌트
+    private final ReservationRollupWriter reservationRollupWriter;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    // 예약 ID -> 저장 대기 중인 도착 시간
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 도착 기록 (다음 주기에 저장)
+     * - 매장 착석 인원 카운터는 바로 갱신
+     *
+     * @param storeId       매장 ID
+     * @param reservationId 예약 ID
+     * @param arrivedAt     도착 시간
+     */
+    public void record(Long storeId, Long reservationId, LocalDateTime arrivedAt) {
+        storeOccupancy.onArrival(storeId, reservationId);
+        requeue(reservationId, arrivedAt);
+    }
+
+    /**
+     * 저장 대기 중인 도착 수
+     *
+     * @return 도착 수
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 모인 도착을 저장
+     * - 도착 시간이 없는 예약에만 기록하여 최초 도착 시간을 유지
+     */
+    @Scheduled(fixedDelay = 200)
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, LocalDateTime> batch = drain();
+        List<Reservation> arrived = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                arrived.clear();
+                List<Reservation> reservations = reservationRepository.findAllById(batch.keySet());
+                for (Reservation reservation : reservations) {
+                    if (reservation.getArrivedAt() == null) {
+                        reservation.setArrivedAt(batch.get(reservation.getId()));
+                        arrived.add(reservation);
+                    }
+                }
+            });
+            arrived.forEach(reservation -> reservationRollupWriter.recordArrival(reservation.getId(),
+                    reservation.getStore() != null ? reservation.getStore().getId() : null,
+                    reservation.getReservedAt(), reservation.getStatus()));
+        } catch (RuntimeException e) {
+            batch.forEach(this::requeue);
+            loggingUtil.logError("FLUSH ARRIVALS", "도착 저장 실패, 다음 주기에 재시도: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 남은 도착 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        while (!pending.isEmpty()) {
+            int before = pending.size();
+            flush();
+            if (pending.size() >= before) {
+                break;
+            }
+        }
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 저장 대기열에 추가 (같은 예약은 가장 이른 도착 시간으로 합침)
+     */
+    private void requeue(Long reservationId, LocalDateTime arrivedAt) {
+        pending.merge(reservationId, arrivedAt, (a, b) -> a.isBefore(b) ? a : b);
+    }
+
+    /**
+     * 저장 대기 중인 도착을 최대 MAX_BATCH 개 꺼냄
+     */
+    private Map<Long, LocalDateTime> drain() {
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        Iterator<Long> ids = new ArrayList<>(pending.keySet()).iterator();
+        while (ids.hasNext() && batch.size() < MAX_BATCH) {
+            Long id = ids.next();
+            LocalDateTime arrivedAt = pending.remove(id);
+            if (arrivedAt != null) {
+                batch.put(id, arrivedAt);
+            }
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,124 @@
+package com.zerobase.storereservation.service.reservation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * CheckInTokenSigner
+ * 예약과 함께 발급하는 체크인 토큰을 서명하고 검증하는 컴포넌트
+ * - 토큰은 "예약 ID:매장 ID:예약 시간" 과 그 HMAC-SHA256 서명으로 구성되어 DB 조회 없이 검증 가능
+ * - 서명 키는 reservation.check-in.secret 설정을 사용하며, 비어 있으면 기동 시 임의로 생성
+ *   (임의 키는 재시작하면 이전 토큰이 무효가 되므로 운영 환경에서는 설정 필요)
+ */
+@Component
+public class CheckInTokenSigner {
+
+    // 서명 알고리즘
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    // 서명 키
+    private final SecretKeySpec key;
+
+    // Mac 은 스레드 안전하지 않으므로 스레드마다 생성
+    private final ThreadLocal<Mac> macs;
+
+    public CheckInTokenSigner(@Value("${reservation.check-in.secret:}") String secret) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 체크인 토큰 발급
+     *
+     * @param reservationId 예약 ID
+     * @param storeId       매장 ID
+     * @param reservedAt    예약 시간
+     * @return 체크인 토큰
+     */
+    public String issue(Long reservationId, Long storeId, LocalDateTime reservedAt) {
+        byte[] payload = (reservationId + ":" + storeId + ":" + reservedAt)
+                .getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * 체크인 토큰 검증
+     *
+     * @param token 체크인 토큰
+     * @return 서명이 유효하면 토큰 내용 (형식이 잘못되었거나 서명이 다르면 empty)
+     */
+    public Optional<CheckIn> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+            String[] parts = new String(payload, StandardCharsets.UTF_8).split(":", 3);
+            if (parts.length != 3) {
+                return Optional.empty();
+            }
+            return Optional.of(new CheckIn(
+                    Long.valueOf(parts[0]), Long.valueOf(parts[1]), LocalDateTime.parse(parts[2])));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    // ==== Private Helper Methods ====
+
+    private byte[] sign(byte[] payload) {
+        Mac mac = macs.get();
+        mac.reset();
+        return mac.doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " 를 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * CheckIn
+     * 검증된 체크인 토큰 내용
+     *
+     * @param reservationId 예약 ID
+     * @param storeId       매장 ID
+     * @param reservedAt    예약 시간
+     */
+    public record CheckIn(Long reservationId, Long storeId, LocalDateTime reservedAt) {
+    }
+}
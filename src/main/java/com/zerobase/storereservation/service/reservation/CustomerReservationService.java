@@ -1,23 +1,41 @@
 package com.zerobase.storereservation.service.reservation;
 
 import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.JournalRejection;
 import com.zerobase.storereservation.entity.Reservation;
 import com.zerobase.storereservation.entity.Store;
 import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
 import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.repository.DiningTableRepository;
+import com.zerobase.storereservation.repository.JournalRejectionRepository;
 import com.zerobase.storereservation.repository.ReservationRepository;
 import com.zerobase.storereservation.repository.StoreRepository;
 import com.zerobase.storereservation.repository.UserRepository;
+import com.zerobase.storereservation.security.UserDetailsImpl;
 import com.zerobase.storereservation.util.LoggingUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
 import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.PENDING;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.REJECTED;
 import static com.zerobase.storereservation.exception.ErrorCode.*;
 
 /**
@@ -29,6 +47,15 @@ import static com.zerobase.storereservation.exception.ErrorCode.*;
 @RequiredArgsConstructor
 public class CustomerReservationService {
 
+    // 예약 목록 기본 페이지 크기
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    // 예약 목록 최대 페이지 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 예약 가능 시간 최대 조회 기간 (일)
+    private static final int MAX_AVAILABILITY_DAYS = 14;
+
     // 예약 관련 데이터 베이스 작업을 처리하는 Repository
     private final ReservationRepository reservationRepository;
 
@@ -38,61 +65,232 @@ public class CustomerReservationService {
     // 사용자 관련 데이터 베이스 작업을 처리하는 Repository
     private final UserRepository userRepository;
 
+    // 매장 테이블 관련 데이터 베이스 작업을 처리하는 Repository
+    private final DiningTableRepository diningTableRepository;
+
+    // 테이블 배정기
+    private final TableAllocator tableAllocator;
+
+    // 사용자 예약 구간 인덱스
+    private final UserBookingIndex userBookingIndex;
+
+    // 예약 대기 서비스 (취소로 빈 자리에 다음 대기자 전환)
+    private final WaitlistService waitlistService;
+
+    // 체크인 토큰 서명기
+    private final CheckInTokenSigner checkInTokenSigner;
+
+    // 도착 시간 일괄 저장기
+    private final ArrivalBatchWriter arrivalBatchWriter;
+
+    // 매장 예약 가능 시간 인덱스
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+
+    // 지난 예약 아카이브 (조회 범위가 아카이브에 닿을 때만 조회)
+    private final ReservationArchiver reservationArchiver;
+
+    // 저널 재처리에서 거절된 요청 데이터 베이스 작업을 처리하는 Repository
+    private final JournalRejectionRepository journalRejectionRepository;
+
+    // 예약 변경 이벤트 발행기
+    private final ApplicationEventPublisher eventPublisher;
+
     // 로깅을 위한 유틸 클래스
     private final LoggingUtil loggingUtil;
 
     /**
      * 예약 생성
      * - 사용자와 매장을 검증한 후 예약을 생성
+     * - 사용자의 다른 예약과 겹치는 개수가 허용 범위를 넘으면 예약 불가
+     * - 테이블을 등록한 매장은 이용 시간 동안 비어 있는 가장 작은 테이블을 배정
+     * - 테이블이 없는 매장은 이용 시간 동안 걸치는 모든 슬롯에 매장 수용 단위가 남아 있어야 예약 가능
+     * - 예약과 알림 아웃박스가 같은 트랜잭션에 저장되도록 트랜잭션 안에서 처리
+     * - 요청 식별자가 있으면 같은 식별자의 예약을 한 번만 생성
      *
      * @param request 예약 생성 요청 DTO
      * @return 생성된 예약 정보
      */
+    @Transactional
     public ReservationDto.Response createReservation(
             ReservationDto.CreateRequest request
     ) {
         loggingUtil.logRequest("CREATE RESERVATION", request);
 
+        // 같은 요청 식별자로 이미 생성된 예약이 있으면 그대로 반환 (재요청, 저널 재처리)
+        Optional<ReservationDto.Response> existing = findByCommand(request);
+        if (existing.isPresent()) {
+            loggingUtil.logSuccess("CREATE RESERVATION", "이미 처리된 요청: " + request.getCommandId());
+            return existing.get();
+        }
+
         User user = findUserById(request.getUserId());
         Store store = findStoreById(request.getStoreId());
 
+        int partySize = request.getPartySize() != null ? request.getPartySize() : 1;
+        int durationMinutes = request.getDurationMinutes() != null
+                ? request.getDurationMinutes() : Reservation.DEFAULT_DURATION_MINUTES;
+        if (partySize < 1 || durationMinutes < 1) {
+            throw new CustomException(INVALID_PARTY_SIZE);
+        }
+
         // 예약 생성 및 검증
         Reservation reservation = Reservation.builder()
                 .user(user)
                 .store(store)
                 .phoneNumber(request.getPhoneNumber())
                 .reservedAt(request.getReservedAt())
+                .partySize(partySize)
+                .durationMinutes(durationMinutes)
                 .status(CONFIRMED)
+                .commandId(request.getCommandId())
                 .build();
 
         reservation.validateReservationTime();  // 예약 시간이 유효한지 확인
 
-        ReservationDto.Response response = saveAndConvertToResponse(reservation);
+        // 사용자 구간 선점 (다른 예약과 겹치는 개수가 허용 범위를 넘으면 실패)
+        UserBookingIndex.Hold hold = userBookingIndex.tryHold(
+                        user.getId(), reservation.getReservedAt(), reservation.calculateEndAt())
+                .orElseThrow(() -> new CustomException(OVERLAPPING_RESERVATION));
+
+        // 테이블 또는 매장 슬롯 선점 (저장에 실패하면 선점 해제)
+        Long tableId = null;
+        SlotAvailabilityIndex.Hold slotHold = null;
+        ReservationDto.Response response;
+        try {
+            if (tableAllocator.hasTables(store.getId())) {
+                tableId = tableAllocator.allocate(store.getId(), reservation.getReservedAt(),
+                                reservation.calculateEndAt(), partySize)
+                        .orElseThrow(() -> new CustomException(NO_TABLE_AVAILABLE));
+                reservation.setTable(diningTableRepository.getReferenceById(tableId));
+            } else {
+                slotHold = slotAvailabilityIndex.tryHold(store.getId(), reservation.getReservedAt(),
+                                reservation.calculateEndAt())
+                        .orElseThrow(() -> new CustomException(NO_SLOT_AVAILABLE));
+            }
+            response = saveAndConvertToResponse(reservation);
+        } catch (RuntimeException e) {
+            userBookingIndex.release(hold);
+            if (tableId != null) {
+                tableAllocator.release(store.getId(), tableId, reservation.getReservedAt());
+            }
+            if (slotHold != null) {
+                slotAvailabilityIndex.release(slotHold);
+            }
+            throw e;
+        }
+        // 커밋 후 선점을 예약에 연결하고, 커밋에 실패하면 (알림 아웃박스 저장 실패 등) 선점 해제
+        Long assignedTableId = tableId;
+        SlotAvailabilityIndex.Hold assignedSlotHold = slotHold;
+        onCompletion(() -> {
+            userBookingIndex.assign(hold, response.getId());
+            if (assignedTableId != null) {
+                tableAllocator.assign(store.getId(), assignedTableId, reservation.getReservedAt(), response.getId());
+            }
+            if (assignedSlotHold != null) {
+                slotAvailabilityIndex.assign(assignedSlotHold, response.getId());
+            }
+        }, () -> {
+            userBookingIndex.release(hold);
+            if (assignedTableId != null) {
+                tableAllocator.release(store.getId(), assignedTableId, reservation.getReservedAt());
+            }
+            if (assignedSlotHold != null) {
+                slotAvailabilityIndex.release(assignedSlotHold);
+            }
+        });
 
         loggingUtil.logSuccess("CREATE RESERVATION", response);
         return response;
     }
 
+    /**
+     * 요청 식별자로 이미 생성된 예약 조회
+     * - 같은 사용자, 매장, 예약 시간의 요청이 아니면 다른 사용자의 예약이 노출되지 않도록 거절
+     *
+     * @param request 예약 생성 요청 DTO
+     * @return 이미 생성된 예약 정보 (요청 식별자가 없거나 생성된 예약이 없으면 empty)
+     * @throws CustomException 요청 식별자가 다른 예약 요청에 사용된 경우
+     */
+    public Optional<ReservationDto.Response> findByCommand(ReservationDto.CreateRequest request) {
+        if (request.getCommandId() == null) {
+            return Optional.empty();
+        }
+        Optional<Reservation> existing = reservationRepository.findByCommandId(request.getCommandId());
+        if (existing.isEmpty()) {
+            return Optional.empty();
+        }
+        Reservation reservation = existing.get();
+        if (!reservation.getUser().getId().equals(request.getUserId())
+                || !reservation.getStore().getId().equals(request.getStoreId())
+                || !reservation.getReservedAt().equals(request.getReservedAt())) {
+            throw new CustomException(COMMAND_ID_CONFLICT);
+        }
+        return Optional.of(convertToResponse(reservation));
+    }
+
     /**
      * 특정 예약 조회
      * - 예약 ID 를 사용하여 예약 정보를 조회
+     * - 체크인 토큰이 포함되므로 예약한 사용자 본인만 조회 가능
      *
      * @param id 예약 ID
      * @return 예약 정보 DTO
+     * @throws CustomException 예약한 사용자가 아닌 경우
      */
     public ReservationDto.Response getReservation(Long id) {
         loggingUtil.logRequest("GET RESERVATION", id);
 
         Reservation reservation = findReservationById(id);
+        Long currentUserId = currentUserId();
+        if (currentUserId == null) {
+            throw new CustomException(UNAUTHORIZED_ACTION);
+        }
+        validateUserAuthorization(reservation.getUser().getId(), currentUserId);
         ReservationDto.Response response = convertToResponse(reservation);
 
         loggingUtil.logSuccess("GET RESERVATION", response);
         return response;
     }
 
+    /**
+     * 임시 접수 ID 로 예약 처리 상태 조회
+     * - 저널 재처리로 생성된 예약이 있으면 예약 정보를, 거절되었으면 REJECTED 상태와 거절 사유를 반환
+     * - 둘 다 없으면 아직 재처리되지 않은 요청이므로 PENDING 상태의 임시 응답 반환
+     *
+     * @param provisionalId 임시 접수 ID
+     * @return 예약 처리 상태
+     * @throws CustomException 예약한 사용자가 아닌 경우
+     */
+    public ReservationDto.Response getByProvisionalId(String provisionalId) {
+        loggingUtil.logRequest("GET PROVISIONAL RESERVATION", provisionalId);
+
+        Long currentUserId = currentUserId();
+        if (currentUserId == null) {
+            throw new CustomException(UNAUTHORIZED_ACTION);
+        }
+        ReservationDto.Response response = reservationRepository.findByCommandId(provisionalId)
+                .map(reservation -> {
+                    validateUserAuthorization(reservation.getUser().getId(), currentUserId);
+                    return convertToResponse(reservation);
+                })
+                .or(() -> journalRejectionRepository.findById(provisionalId).map(rejection -> {
+                    validateUserAuthorization(rejection.getUserId(), currentUserId);
+                    return convertToResponse(rejection);
+                }))
+                .orElseGet(() -> ReservationDto.Response.builder()
+                        .provisionalId(provisionalId)
+                        .userId(currentUserId)
+                        .status(PENDING)
+                        .build());
+
+        loggingUtil.logSuccess("GET PROVISIONAL RESERVATION", response.getStatus());
+        return response;
+    }
+
     /**
      * 예약 취소
      * - 예약 상태를 취소로 변경
+     * - 자리를 차지하던 예약이면 같은 시간의 다음 대기자를 예약으로 전환
      *
      * @param ReservationId 예약 ID
      * @param userId        사용자 ID
@@ -109,7 +307,13 @@ public class CustomerReservationService {
             throw new CustomException(ALREADY_CANCELLED);
         }
 
+        ReservationStatus previousStatus = reservation.getStatus();
         reservation.setStatus(CANCELLED);
+        eventPublisher.publishEvent(
+                ReservationChangedEvent.statusChanged(reservation, previousStatus));
+        if (previousStatus.isActive()) {
+            waitlistService.promoteNext(reservation);
+        }
         ReservationDto.Response response = convertToResponse(reservation);
 
         loggingUtil.logSuccess("CANCEL RESERVATION", response);
@@ -140,6 +344,9 @@ public class CustomerReservationService {
         boolean arrived = arrivalTime.isAfter(
                 reservation.getReservedAt().minusMinutes(10))
                 && arrivalTime.isBefore(reservation.getReservedAt());
+        if (arrived) {
+            arrivalBatchWriter.record(reservation.getStore().getId(), reservation.getId(), arrivalTime);
+        }
 
         ReservationDto.CheckArrivalResponse response = ReservationDto.CheckArrivalResponse.builder()
                 .reservationId(reservation.getId())
@@ -152,7 +359,7 @@ public class CustomerReservationService {
 
     /**
      * 특정 사용자의 예약 목록 조회
-     * - 사용자가 생성한 모든 예약을 반환
+     * - 사용자가 생성한 모든 예약을 반환 (아카이브된 예약 포함)
      *
      * @param userId 사용자 ID
      * @return 예약 목록 DTO
@@ -166,12 +373,164 @@ public class CustomerReservationService {
                 .map(this::convertToResponse)
                 .toList();
 
+        // 아카이브된 예약을 합쳐 예약 시간 내림차순으로 정렬
+        List<ReservationDto.Response> archived = reservationArchiver.findByUser(userId);
+        if (!archived.isEmpty()) {
+            List<ReservationDto.Response> merged = new ArrayList<>(responses);
+            merged.addAll(archived);
+            merged.sort(Comparator.comparing(ReservationDto.Response::getReservedAt).reversed());
+            responses = merged;
+        }
+
         loggingUtil.logSuccess("GET CUSTOMER RESERVATIONS", "예약 개수: " + responses.size());
         return responses;
     }
 
+    /**
+     * 특정 사용자의 예약 목록을 범위별로 페이지 조회
+     * - upcoming: 현재 시간 이후 예약을 예약 시간 오름차순으로 조회
+     * - past: 현재 시간 이전 예약을 예약 시간 내림차순으로 조회
+     * - (user_id, reserved_at) 인덱스를 이용한 키셋 조회로 이력이 많아도 페이지 크기만큼만 읽음
+     * - past 페이지가 아카이브 범위에 닿으면 아카이브도 같은 키셋으로 읽어 합침
+     *
+     * @param userId   사용자 ID
+     * @param scope    조회 범위 (upcoming, past)
+     * @param cursorAt 이전 페이지의 nextCursorAt (첫 페이지는 null)
+     * @param cursorId 이전 페이지의 nextCursorId (첫 페이지는 null)
+     * @param size     페이지 크기 (1 ~ 100, 기본 20)
+     * @return 예약 페이지
+     */
+    public ReservationDto.KeysetPage<ReservationDto.Response> getCustomerReservations(
+            Long userId, String scope, LocalDateTime cursorAt, Long cursorId, Integer size
+    ) {
+        loggingUtil.logRequest("GET CUSTOMER RESERVATIONS PAGE", userId, scope, cursorAt, cursorId, size);
+
+        int pageSize = size == null
+                ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        boolean firstPage = cursorAt == null || cursorId == null;
+        LocalDateTime afterAt = firstPage ? LocalDateTime.now() : cursorAt;
+        // 첫 페이지는 현재 시간과 같은 예약을 upcoming 에만 포함
+        Long afterId = firstPage ? 0L : cursorId;
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ReservationRepository.ReservationSummary> summaries = switch (scope) {
+            case "upcoming" -> reservationRepository.findUpcomingByUserId(userId, afterAt, afterId, limit);
+            case "past" -> withArchivedPast(userId, afterAt, afterId, pageSize + 1,
+                    reservationRepository.findPastByUserId(userId, afterAt, afterId, limit));
+            default -> throw new CustomException(INVALID_RESERVATION_SCOPE);
+        };
+
+        boolean hasNext = summaries.size() > pageSize;
+        List<ReservationDto.Response> items = summaries.stream()
+                .limit(pageSize)
+                .map(this::convertToResponse)
+                .toList();
+        ReservationDto.Response last = items.isEmpty() ? null : items.get(items.size() - 1);
+
+        loggingUtil.logSuccess("GET CUSTOMER RESERVATIONS PAGE", "예약 개수: " + items.size());
+        return ReservationDto.KeysetPage.<ReservationDto.Response>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursorAt(hasNext ? last.getReservedAt() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .build();
+    }
+
+    /**
+     * 매장 예약 가능 시간 조회
+     * - 메모리의 슬롯 비트셋으로 기간 내 빈 시간과 가장 빠른 빈 시간을 계산
+     *
+     * @param storeId 매장 ID
+     * @param from    조회 시작 날짜 (null 이면 오늘)
+     * @param to      조회 종료 날짜 (null 이면 시작 날짜)
+     * @return 예약 가능 시간 응답
+     */
+    public ReservationDto.AvailabilityResponse getAvailability(
+            Long storeId, LocalDate from, LocalDate to
+    ) {
+        loggingUtil.logRequest("GET AVAILABILITY", storeId, from, to);
+
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = from != null ? from : today;
+        LocalDate endDate = to != null ? to : startDate;
+        if (startDate.isBefore(today) || endDate.isBefore(startDate)
+                || endDate.isAfter(startDate.plusDays(MAX_AVAILABILITY_DAYS - 1))
+                || !SlotAvailabilityIndex.withinHorizon(endDate)) {
+            throw new CustomException(INVALID_AVAILABILITY_RANGE);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<LocalDateTime> freeSlots =
+                slotAvailabilityIndex.findFreeSlots(storeId, startDate, endDate, now);
+
+        ReservationDto.AvailabilityResponse response = ReservationDto.AvailabilityResponse.builder()
+                .storeId(storeId)
+                .slotMinutes(slotAvailabilityIndex.slotMinutes(storeId, startDate))
+                .freeSlots(freeSlots)
+                .nextFreeSlot(freeSlots.isEmpty() ? null : freeSlots.get(0))
+                .build();
+
+        loggingUtil.logSuccess("GET AVAILABILITY", "예약 가능 슬롯 개수: " + freeSlots.size());
+        return response;
+    }
+
     // ==== Private Helper Methods ====
 
+    /**
+     * 트랜잭션 완료 후 결과에 따라 실행
+     * - 트랜잭션 밖에서 호출되면 바로 onCommit 실행
+     *
+     * @param onCommit   커밋되면 실행할 작업
+     * @param onRollback 롤백되면 실행할 작업
+     */
+    private void onCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * 지난 예약 페이지에 아카이브 예약 합치기
+     * - 페이지가 가득 찼고 마지막 예약이 아카이브 범위보다 최근이면 아카이브를 읽지 않음
+     *
+     * @param userId   사용자 ID
+     * @param cursorAt 커서 예약 시간
+     * @param cursorId 커서 예약 ID (미포함)
+     * @param limit    조회 개수
+     * @param recent   예약 테이블에서 조회한 예약 (예약 시간, 예약 ID 내림차순)
+     * @return 합친 예약 중 앞에서부터 limit 개
+     */
+    private List<ReservationRepository.ReservationSummary> withArchivedPast(
+            Long userId, LocalDateTime cursorAt, Long cursorId, int limit,
+            List<ReservationRepository.ReservationSummary> recent) {
+        if (recent.size() >= limit
+                && !reservationArchiver.reaches(recent.get(recent.size() - 1).getReservedAt())) {
+            return recent;
+        }
+        List<ReservationRepository.ReservationSummary> archived =
+                reservationArchiver.findPastByUser(userId, cursorAt, cursorId, limit);
+        if (archived.isEmpty()) {
+            return recent;
+        }
+        List<ReservationRepository.ReservationSummary> merged = new ArrayList<>(recent);
+        merged.addAll(archived);
+        merged.sort(Comparator.comparing(ReservationRepository.ReservationSummary::getReservedAt)
+                .thenComparing(ReservationRepository.ReservationSummary::getId)
+                .reversed());
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
     /**
      * 사용자 ID로 사용자 조회
      */
@@ -196,6 +555,27 @@ public class CustomerReservationService {
                 .orElseThrow(() -> new CustomException(RESERVATION_NOT_FOUND));
     }
 
+    /**
+     * 현재 로그인한 사용자 ID 조회
+     *
+     * @return 사용자 ID (인증 정보가 없으면 null, 예: 저널 재처리)
+     */
+    private Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getPrincipal() instanceof UserDetailsImpl userDetails
+                ? userDetails.getUser().getId() : null;
+    }
+
+    /**
+     * 체크인 토큰 발급 (다른 사용자가 키오스크 체크인에 쓰지 못하도록 예약한 사용자 본인에게만 발급)
+     *
+     * @return 체크인 토큰 (본인이 아니면 null)
+     */
+    private String checkInToken(Long reservationId, Long storeId, Long userId, LocalDateTime reservedAt) {
+        return userId != null && userId.equals(currentUserId())
+                ? checkInTokenSigner.issue(reservationId, storeId, reservedAt) : null;
+    }
+
     /**
      * 사용자 ID와 요청자 ID의 일치 여부 확인
      */
@@ -206,13 +586,30 @@ public class CustomerReservationService {
     }
 
     /**
-     * 예약을 저장하고 Response DTO 로 변환
+     * 예약을 저장하고 생성 이벤트를 발행한 뒤 Response DTO 로 변환
      */
     private ReservationDto.Response saveAndConvertToResponse(Reservation reservation) {
         reservation = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.created(reservation));
         return convertToResponse(reservation);
     }
 
+    /**
+     * 예약 요약 프로젝션을 Response DTO 로 변환
+     */
+    private ReservationDto.Response convertToResponse(ReservationRepository.ReservationSummary summary) {
+        return ReservationDto.Response.builder()
+                .id(summary.getId())
+                .storeId(summary.getStoreId())
+                .userId(summary.getUserId())
+                .phoneNumber(summary.getPhoneNumber())
+                .reservedAt(summary.getReservedAt())
+                .status(summary.getStatus())
+                .checkInToken(checkInToken(
+                        summary.getId(), summary.getStoreId(), summary.getUserId(), summary.getReservedAt()))
+                .build();
+    }
+
     /**
      * 예약 객체를 Response DTO 로 변환
      */
@@ -224,6 +621,25 @@ public class CustomerReservationService {
                 .phoneNumber(reservation.getPhoneNumber())
                 .reservedAt(reservation.getReservedAt())
                 .status(reservation.getStatus())
+                .tableId(reservation.getTable() != null ? reservation.getTable().getId() : null)
+                .checkInToken(checkInToken(reservation.getId(), reservation.getStore().getId(),
+                        reservation.getUser().getId(), reservation.getReservedAt()))
+                .build();
+    }
+
+    /**
+     * 저널 재처리 거절 기록을 Response DTO 로 변환
+     */
+    private ReservationDto.Response convertToResponse(JournalRejection rejection) {
+        return ReservationDto.Response.builder()
+                .provisionalId(rejection.getCommandId())
+                .storeId(rejection.getStoreId())
+                .userId(rejection.getUserId())
+                .phoneNumber(rejection.getPhoneNumber())
+                .reservedAt(rejection.getReservedAt())
+                .status(REJECTED)
+                .rejectionCode(rejection.getErrorCode().getCode())
+                .rejectionReason(rejection.getErrorCode().getDetail())
                 .build();
     }
 }
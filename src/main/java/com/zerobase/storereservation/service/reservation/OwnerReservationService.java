@@ -2,24 +2,46 @@ package com.zerobase.storereservation.service.reservation;
 
 import com.zerobase.storereservation.dto.ReservationDto;
 import com.zerobase.storereservation.entity.Reservation;
-import com.zerobase.storereservation.entity.Store;
-import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.entity.ReservationRollup;
 import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
 import com.zerobase.storereservation.exception.CustomException;
 import com.zerobase.storereservation.repository.ReservationRepository;
-import com.zerobase.storereservation.repository.StoreRepository;
-import com.zerobase.storereservation.repository.UserRepository;
+import com.zerobase.storereservation.repository.ReservationRollupRepository;
+import com.zerobase.storereservation.repository.ReservationSearchRepository;
+import com.zerobase.storereservation.security.UserDetailsImpl;
+import com.zerobase.storereservation.service.analytics.ReservationColumnStore;
+import com.zerobase.storereservation.service.StoreOwnershipCache;
 import com.zerobase.storereservation.util.LoggingUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
 
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
 import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.EXPIRED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.PENDING;
 import static com.zerobase.storereservation.entity.constants.ReservationStatus.REJECTED;
-import static com.zerobase.storereservation.entity.constants.Role.PARTNER;
 import static com.zerobase.storereservation.exception.ErrorCode.*;
 
 /**
@@ -31,14 +53,64 @@ import static com.zerobase.storereservation.exception.ErrorCode.*;
 @RequiredArgsConstructor
 public class OwnerReservationService {
 
+    // 통합 예약함 기본 페이지 크기
+    private static final int DEFAULT_INBOX_SIZE = 20;
+
+    // 통합 예약함 최대 페이지 크기
+    private static final int MAX_INBOX_SIZE = 100;
+
+    // 통합 예약함에 표시하는 예약 상태 (대기 + 확정)
+    private static final List<ReservationStatus> INBOX_STATUSES = List.of(PENDING, CONFIRMED);
+
+    // 예약 통계 최대 조회 기간 (일)
+    private static final long MAX_ANALYTICS_DAYS = 366;
+
+    // 예약 리포트 최대 조회 매장 수
+    private static final int MAX_REPORT_STORES = 50;
+
+    // 예약 검색 기본 페이지 크기
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+
+    // 예약 검색 최대 페이지 크기
+    private static final int MAX_SEARCH_SIZE = 100;
+
+    // 예약 검색 연락처 앞부분 형식 (숫자와 '-' 만 최대 20자)
+    private static final Pattern PHONE_PREFIX = Pattern.compile("[0-9-]{1,20}");
+
+    // 예약 검색 결과 정렬 (예약 시간, 예약 ID 오름차순)
+    private static final Comparator<ReservationSearchRepository.SearchRow> SEARCH_ORDER = Comparator
+            .comparing(ReservationSearchRepository.SearchRow::reservedAt)
+            .thenComparing(ReservationSearchRepository.SearchRow::id);
+
     // 예약 관련 데이터 베이스 작업을 처리하는 Repository
     private final ReservationRepository reservationRepository;
 
-    // 사용자 관련 데이터 베이스 작업을 처리하는 Repository
-    private final UserRepository userRepository;
+    // 예약 집계 데이터 베이스 작업을 처리하는 Repository (통계는 집계만 조회)
+    private final ReservationRollupRepository reservationRollupRepository;
+
+    // 예약 이력 컬럼 저장소 (임의 조건 리포트는 DB 대신 메모리에서 집계)
+    private final ReservationColumnStore reservationColumnStore;
+
+    // 매장 소유권 캐시
+    private final StoreOwnershipCache storeOwnershipCache;
+
+    // 당일 ~ 향후 7일 예약을 보관하는 인메모리 저장소
+    private final ReservationHotWindow reservationHotWindow;
+
+    // 지난 예약 아카이브 (조회 범위가 아카이브에 닿을 때만 조회)
+    private final ReservationArchiver reservationArchiver;
+
+    // 점주 대시보드로 예약 변경을 전달하는 SSE 브로드캐스터
+    private final PendingReservationBroadcaster pendingReservationBroadcaster;
+
+    // 매장별 착석, 도착 예정 인원 카운터
+    private final StoreOccupancy storeOccupancy;
 
-    // 매장 관련 데이터 베이스 작업을 처리하는 Repository
-    private final StoreRepository storeRepository;
+    // 예약 대기 서비스 (거절로 빈 자리에 다음 대기자 전환)
+    private final WaitlistService waitlistService;
+
+    // 예약 변경 이벤트 발행기
+    private final ApplicationEventPublisher eventPublisher;
 
     // 로깅을 위한 유틸 클래스
     private final LoggingUtil loggingUtil;
@@ -46,6 +118,7 @@ public class OwnerReservationService {
     /**
      * 특정 매장의 날짜별 예약 목록 조회
      * - 점주가 자신의 매장에서 예약된 정보를 조회
+     * - 아카이브로 옮겨진 날짜는 아카이브 예약도 함께 반환
      *
      * @param ownerId 점주 ID
      * @param storeId 매장 ID
@@ -59,16 +132,31 @@ public class OwnerReservationService {
 
         validateStoreOwner(ownerId, storeId);
 
-        List<Reservation> reservations =
-                reservationRepository.findByStoreIdAndReservedAtBetween(
-                        storeId,
-                        date.withHour(0).withMinute(0),
-                        date.withHour(23).withMinute(59)
-                );
-
-        List<ReservationDto.Response> responses = reservations.stream()
-                .map(this::convertToDto)
-                .toList();
+        LocalDateTime startOfDay = date.withHour(0).withMinute(0);
+        LocalDateTime endOfDay = date.withHour(23).withMinute(59);
+
+        // 인메모리 윈도우 범위 내 날짜는 DB 조회 없이 응답
+        List<ReservationDto.Response> responses;
+        if (reservationHotWindow.covers(startOfDay, endOfDay)) {
+            responses = reservationHotWindow.find(storeId, startOfDay, endOfDay);
+        } else {
+            responses = reservationRepository.findByStoreIdAndReservedAtBetween(
+                            storeId, startOfDay, endOfDay
+                    ).stream()
+                    .map(this::convertToDto)
+                    .toList();
+
+            // 아카이브로 옮겨진 날짜이면 아카이브 예약을 합쳐 예약 시간 순으로 정렬
+            List<ReservationDto.Response> archived =
+                    reservationArchiver.findByStore(storeId, startOfDay, endOfDay);
+            if (!archived.isEmpty()) {
+                List<ReservationDto.Response> merged = new ArrayList<>(responses);
+                merged.addAll(archived);
+                merged.sort(Comparator.comparing(ReservationDto.Response::getReservedAt)
+                        .thenComparing(ReservationDto.Response::getId));
+                responses = merged;
+            }
+        }
 
         loggingUtil.logSuccess("GET RESERVATIONS BY STORE", "예약 개수: " + responses.size());
         return responses;
@@ -96,6 +184,301 @@ public class OwnerReservationService {
         return responses;
     }
 
+    /**
+     * 점주 통합 예약함 조회
+     * - 현재 로그인한 점주가 소유한 모든 매장의 대기/확정 예약 중 다가오는 예약을 조회
+     * - 매장 수와 관계없이 한 번의 조인 쿼리로 조회하며, (예약 시간, 예약 ID) 키셋으로 페이지를 나눔
+     * - 커서가 없으면 현재 시간 이후의 첫 페이지를 조회
+     * - 당일 이전 예약은 대상이 아니므로 커서가 당일 이전이면 당일 0시부터 조회
+     *   (아카이브는 당일 이전 예약만 보관하므로 예약함은 아카이브를 조회하지 않음)
+     *
+     * @param cursorAt 이전 페이지의 nextCursorAt (첫 페이지는 null)
+     * @param cursorId 이전 페이지의 nextCursorId (첫 페이지는 null)
+     * @param size     페이지 크기 (1 ~ 100, 기본 20)
+     * @return 예약함 페이지
+     */
+    public ReservationDto.KeysetPage<ReservationDto.InboxItem> getOwnerInbox(
+            LocalDateTime cursorAt, Long cursorId, Integer size) {
+        Long ownerId = getCurrentUserId();
+        loggingUtil.logRequest("GET OWNER INBOX", ownerId, cursorAt, cursorId, size);
+
+        int pageSize = size == null
+                ? DEFAULT_INBOX_SIZE : Math.max(1, Math.min(size, MAX_INBOX_SIZE));
+        LocalDateTime afterAt = cursorAt != null ? cursorAt : LocalDateTime.now();
+        Long afterId = cursorAt != null && cursorId != null ? cursorId : 0L;
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        if (afterAt.isBefore(startOfToday)) {
+            afterAt = startOfToday;
+            afterId = 0L;
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Reservation> reservations = reservationRepository.findOwnerInbox(
+                ownerId, INBOX_STATUSES, afterAt, afterId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = reservations.size() > pageSize;
+        List<ReservationDto.InboxItem> items = reservations.stream()
+                .limit(pageSize)
+                .map(this::convertToInboxItem)
+                .toList();
+        ReservationDto.InboxItem last = items.isEmpty() ? null : items.get(items.size() - 1);
+
+        loggingUtil.logSuccess("GET OWNER INBOX", "조회된 예약 개수: " + items.size());
+        return ReservationDto.KeysetPage.<ReservationDto.InboxItem>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursorAt(hasNext ? last.getReservedAt() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .build();
+    }
+
+    /**
+     * 매장 예약 변경 스트림 구독
+     * - 현재 로그인한 점주의 매장인지 확인한 뒤 SSE 연결을 생성
+     * - 연결 직후 대기 중인 예약 목록을 전송하고, 이후 생성/취소/만료 등 변경을 푸시
+     *
+     * @param storeId 매장 ID
+     * @return SSE 연결
+     */
+    public SseEmitter subscribeReservationStream(Long storeId) {
+        loggingUtil.logRequest("SUBSCRIBE RESERVATION STREAM", storeId);
+
+        validateStoreOwner(getCurrentUserId(), storeId);
+
+        // 구독자를 먼저 등록한 뒤 목록을 조회하여 그 사이 변경이 누락되지 않도록 함
+        SseEmitter emitter = pendingReservationBroadcaster.subscribe(
+                storeId, () -> getPendingReservations(storeId));
+
+        loggingUtil.logSuccess("SUBSCRIBE RESERVATION STREAM", "매장 ID: " + storeId);
+        return emitter;
+    }
+
+    /**
+     * 매장 실시간 점유 현황 조회
+     * - 현재 로그인한 점주의 매장인지 확인한 뒤 카운터 값을 반환 (예약 범위 조회 없음)
+     *
+     * @param storeId 매장 ID
+     * @return 현재 착석 인원과 향후 1시간 도착 예정 인원
+     */
+    public ReservationDto.OccupancyResponse getOccupancy(Long storeId) {
+        loggingUtil.logRequest("GET OCCUPANCY", storeId);
+
+        validateStoreOwner(getCurrentUserId(), storeId);
+
+        ReservationDto.OccupancyResponse response = ReservationDto.OccupancyResponse.builder()
+                .storeId(storeId)
+                .seated(storeOccupancy.seated(storeId))
+                .expectedNextHour(storeOccupancy.expectedNextHour(storeId))
+                .build();
+
+        loggingUtil.logSuccess("GET OCCUPANCY", response);
+        return response;
+    }
+
+    /**
+     * 매장 예약 통계 조회
+     * - 예약 테이블 대신 매장 x 날짜 x 시간대 x 상태별 집계만 읽어 계산
+     * - 노쇼는 이용 시간대가 지난 확정 예약 중 도착이 기록되지 않은 예약
+     *
+     * @param storeId 매장 ID
+     * @param from    조회 시작 날짜
+     * @param to      조회 종료 날짜 (포함)
+     * @return 날짜별, 시간대별 예약 수와 취소율, 거절율, 노쇼율
+     * @throws CustomException 조회 기간이 잘못되었거나 최대 기간을 넘는 경우
+     */
+    public ReservationDto.AnalyticsResponse getAnalytics(Long storeId, LocalDate from, LocalDate to) {
+        loggingUtil.logRequest("GET ANALYTICS", storeId, from, to);
+
+        validateAnalyticsRange(from, to);
+        validateStoreOwner(getCurrentUserId(), storeId);
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<LocalDate, ReservationDto.DailyCount> byDay = new TreeMap<>();
+        long[] byHour = new long[24];
+        long total = 0;
+        long cancelled = 0;
+        long rejected = 0;
+        long noShows = 0;
+        long pastConfirmed = 0;
+        for (ReservationRollup rollup : reservationRollupRepository.findByStoreIdAndDayBetween(storeId, from, to)) {
+            long count = rollup.getReservationCount();
+            ReservationDto.DailyCount daily = byDay.computeIfAbsent(rollup.getDay(),
+                    day -> ReservationDto.DailyCount.builder().date(day).build());
+            daily.setTotal(daily.getTotal() + count);
+            byHour[rollup.getHour()] += count;
+            total += count;
+
+            if (rollup.getStatus() == CANCELLED) {
+                daily.setCancelled(daily.getCancelled() + count);
+                cancelled += count;
+            } else if (rollup.getStatus() == REJECTED) {
+                daily.setRejected(daily.getRejected() + count);
+                rejected += count;
+            } else if (rollup.getStatus() == CONFIRMED
+                    && !rollup.getDay().atTime(rollup.getHour(), 0).plusHours(1).isAfter(now)) {
+                long missed = Math.max(0, count - rollup.getArrivedCount());
+                daily.setNoShows(daily.getNoShows() + missed);
+                noShows += missed;
+                pastConfirmed += count;
+            }
+        }
+
+        List<ReservationDto.HourlyCount> hourly = new ArrayList<>(byHour.length);
+        for (int hour = 0; hour < byHour.length; hour++) {
+            hourly.add(ReservationDto.HourlyCount.builder().hour(hour).total(byHour[hour]).build());
+        }
+
+        ReservationDto.AnalyticsResponse response = ReservationDto.AnalyticsResponse.builder()
+                .storeId(storeId)
+                .from(from)
+                .to(to)
+                .total(total)
+                .cancelled(cancelled)
+                .rejected(rejected)
+                .noShows(noShows)
+                .cancelRate(rate(cancelled, total))
+                .rejectRate(rate(rejected, total))
+                .noShowRate(rate(noShows, pastConfirmed))
+                .byDay(new ArrayList<>(byDay.values()))
+                .byHour(hourly)
+                .build();
+
+        loggingUtil.logSuccess("GET ANALYTICS", "조회된 예약 수: " + total);
+        return response;
+    }
+
+    /**
+     * 매장 예약 리포트 조회
+     * - 여러 매장의 예약을 상태로 거르고 시간대, 요일, 매장, 상태 기준으로 묶어 집계
+     * - 예약 이력 컬럼 저장소에서 집계하므로 DB 를 조회하지 않음
+     *
+     * @param storeIds 매장 ID 목록 (최대 50개, 모두 현재 점주의 매장이어야 함)
+     * @param from     조회 시작 날짜
+     * @param to       조회 종료 날짜 (포함)
+     * @param statuses 조회 예약 상태 (비어 있으면 전체)
+     * @param groupBy  그룹 기준 (비어 있으면 전체 합계 한 줄)
+     * @return 그룹별 예약 수와 인원 합계
+     * @throws CustomException 매장 목록이나 조회 기간이 잘못되었거나 권한이 없는 경우
+     */
+    public ReservationDto.ReportResponse getReport(
+            Collection<Long> storeIds, LocalDate from, LocalDate to,
+            Collection<ReservationStatus> statuses, List<ReservationColumnStore.Dimension> groupBy
+    ) {
+        loggingUtil.logRequest("GET REPORT", storeIds, from, to, statuses, groupBy);
+
+        Set<Long> ids = storeIds == null ? Set.of() : new LinkedHashSet<>(storeIds);
+        if (ids.isEmpty() || ids.size() > MAX_REPORT_STORES || ids.contains(null)) {
+            throw new CustomException(INVALID_STORE_IDS);
+        }
+        validateAnalyticsRange(from, to);
+        Long ownerId = getCurrentUserId();
+        ids.forEach(storeId -> validateStoreOwner(ownerId, storeId));
+
+        List<ReservationColumnStore.Dimension> dimensions =
+                groupBy == null ? List.of() : groupBy.stream().distinct().toList();
+        List<ReservationColumnStore.Row> rows = reservationColumnStore.aggregate(new ReservationColumnStore.Query(
+                ids, from.atStartOfDay(), to.plusDays(1).atStartOfDay(),
+                statuses == null || statuses.isEmpty() ? Set.of() : EnumSet.copyOf(statuses),
+                dimensions));
+
+        ReservationDto.ReportResponse response = ReservationDto.ReportResponse.builder()
+                .from(from)
+                .to(to)
+                .groupBy(dimensions.stream().map(Enum::name).toList())
+                .total(rows.stream().mapToLong(ReservationColumnStore.Row::reservations).sum())
+                .rows(rows.stream()
+                        .map(row -> ReservationDto.ReportRow.builder()
+                                .keys(row.keys())
+                                .reservations(row.reservations())
+                                .guests(row.guests())
+                                .build())
+                        .toList())
+                .build();
+
+        loggingUtil.logSuccess("GET REPORT", "조회된 예약 수: " + response.getTotal());
+        return response;
+    }
+
+    /**
+     * 매장 예약 검색
+     * - 기간, 상태, 연락처 앞부분 중 입력한 조건만 적용하여 (예약 시간, 예약 ID) 키셋으로 페이지를 나눔
+     * - 엔티티 대신 응답에 필요한 컬럼만 조회하며, 기간이 아카이브에 닿으면 아카이브 검색 결과와 병합
+     *
+     * @param storeId     매장 ID
+     * @param from        조회 시작 날짜
+     * @param to          조회 종료 날짜 (포함)
+     * @param statuses    조회 예약 상태 (비어 있으면 전체)
+     * @param phonePrefix 연락처 앞부분 (예: 010-12 또는 01012, '-' 유무와 관계없이 일치, 없으면 전체)
+     * @param cursorAt    이전 페이지의 nextCursorAt (첫 페이지는 null)
+     * @param cursorId    이전 페이지의 nextCursorId (첫 페이지는 null)
+     * @param size        페이지 크기 (1 ~ 100, 기본 20)
+     * @return 예약 검색 페이지
+     * @throws CustomException 검색 조건이 잘못되었거나 권한이 없는 경우
+     */
+    public ReservationDto.KeysetPage<ReservationDto.Response> searchReservations(
+            Long storeId, LocalDate from, LocalDate to, Collection<ReservationStatus> statuses,
+            String phonePrefix, LocalDateTime cursorAt, Long cursorId, Integer size
+    ) {
+        loggingUtil.logRequest("SEARCH RESERVATIONS", storeId, from, to, statuses, phonePrefix,
+                cursorAt, cursorId, size);
+
+        String prefix = phonePrefix == null || phonePrefix.isBlank() ? null : phonePrefix.trim();
+        if (from == null || to == null || from.isAfter(to)
+                || ChronoUnit.DAYS.between(from, to) >= MAX_ANALYTICS_DAYS
+                || (prefix != null && !PHONE_PREFIX.matcher(prefix).matches())) {
+            throw new CustomException(INVALID_SEARCH_CONDITION);
+        }
+        // 연락처는 '-' 유무가 섞여 저장되므로 숫자로 정규화한 뒤 저장 형식별 앞부분으로 검색
+        String digits = PhoneLookupIndex.normalize(prefix);
+        if (prefix != null && digits.isEmpty()) {
+            throw new CustomException(INVALID_SEARCH_CONDITION);
+        }
+        validateStoreOwner(getCurrentUserId(), storeId);
+
+        int pageSize = size == null
+                ? DEFAULT_SEARCH_SIZE : Math.max(1, Math.min(size, MAX_SEARCH_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        ReservationSearchRepository.Condition condition = new ReservationSearchRepository.Condition(
+                storeId, from.atStartOfDay(), to.plusDays(1).atStartOfDay(),
+                statuses == null || statuses.isEmpty() ? Set.of() : EnumSet.copyOf(statuses),
+                digits.isEmpty() ? Set.of() : PhoneLookupIndex.prefixFormats(digits),
+                cursorAt, cursorAt != null && cursorId != null ? cursorId : 0L, pageSize + 1);
+
+        List<ReservationSearchRepository.SearchRow> rows =
+                new ArrayList<>(reservationRepository.search(condition));
+        List<ReservationSearchRepository.SearchRow> archived = reservationArchiver.search(condition);
+        if (!archived.isEmpty()) {
+            // 아카이브 중인 예약이 양쪽에 모두 보일 수 있으므로 예약 ID 로 중복 제거
+            Set<Long> ids = new HashSet<>();
+            rows.forEach(row -> ids.add(row.id()));
+            archived.stream().filter(row -> ids.add(row.id())).forEach(rows::add);
+            rows.sort(SEARCH_ORDER);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ReservationDto.Response> items = rows.stream()
+                .limit(pageSize)
+                .map(row -> ReservationDto.Response.builder()
+                        .id(row.id())
+                        .storeId(row.storeId())
+                        .userId(row.userId())
+                        .phoneNumber(row.phoneNumber())
+                        .reservedAt(row.reservedAt())
+                        .status(row.status())
+                        .tableId(row.tableId())
+                        .build())
+                .toList();
+        ReservationDto.Response last = items.isEmpty() ? null : items.get(items.size() - 1);
+
+        loggingUtil.logSuccess("SEARCH RESERVATIONS", "조회된 예약 개수: " + items.size());
+        return ReservationDto.KeysetPage.<ReservationDto.Response>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursorAt(hasNext ? last.getReservedAt() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .build();
+    }
+
     /**
      * 예약 승인
      * - 특정 예약의 상태를 승인으로 병경
@@ -114,6 +497,8 @@ public class OwnerReservationService {
         }
 
         reservation.setStatus(CONFIRMED);
+        eventPublisher.publishEvent(
+                ReservationChangedEvent.statusChanged(reservation, ReservationStatus.PENDING));
         ReservationDto.Response response = convertToDto(reservation);
 
         loggingUtil.logSuccess("APPROVE RESERVATION", response);
@@ -123,6 +508,7 @@ public class OwnerReservationService {
     /**
      * 예약 거절
      * - 특정 예약의 상태를 거절로 변경
+     * - 같은 시간의 다음 대기자를 예약으로 전환
      *
      * @param reservationId 예약 ID
      * @param cancelRequest 거절 사유
@@ -142,7 +528,17 @@ public class OwnerReservationService {
         if (reservation.getStatus() == CONFIRMED) {
             throw new CustomException(ALREADY_CONFIRMED);
         }
+
+        if (reservation.getStatus() == EXPIRED) {
+            throw new CustomException(INVALID_RESERVATION_STATUS);
+        }
+        ReservationStatus previousStatus = reservation.getStatus();
         reservation.setStatus(REJECTED);
+        eventPublisher.publishEvent(
+                ReservationChangedEvent.statusChanged(reservation, previousStatus));
+        if (previousStatus.isActive()) {
+            waitlistService.promoteNext(reservation);
+        }
 
         ReservationDto.Response response = convertToDto(reservation);
 
@@ -153,27 +549,71 @@ public class OwnerReservationService {
     // ==== Private Helper Methods ====
 
     /**
-     * 점주와 매장 ID를 검증하고 매장 정보를 반환
-     * - 점주가 해당 매장을 소유하고 있는지 확인
+     * 점주와 매장 ID를 검증
+     * - 매장 소유권 캐시로 점주가 해당 매장을 소유하고 있는지 확인 (DB 조회 없음)
      *
      * @param ownerId 점주의 사용자 ID
      * @param storeId 매장의 ID
-     * @throws CustomException 점주나 매장 정보를 찾을 수 없거나 권한이 없을 경우
+     * @throws CustomException 매장 정보를 찾을 수 없거나 권한이 없을 경우
      */
     private void validateStoreOwner(Long ownerId, Long storeId) {
-        User owner = userRepository.findById(ownerId)
-                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        StoreOwnershipCache.Ownership ownership = storeOwnershipCache.get(storeId)
+                .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
 
-        if (!owner.getRole().equals(PARTNER)) {
+        if (!ownership.isOwnedBy(ownerId)) {
             throw new CustomException(UNAUTHORIZED_ACTION);
         }
+    }
 
-        Store store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
+    /**
+     * 통계 조회 기간 검증
+     *
+     * @throws CustomException 시작일이 종료일보다 늦거나 최대 기간을 넘는 경우
+     */
+    private void validateAnalyticsRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)
+                || ChronoUnit.DAYS.between(from, to) >= MAX_ANALYTICS_DAYS) {
+            throw new CustomException(INVALID_ANALYTICS_RANGE);
+        }
+    }
+
+    /**
+     * 비율 계산 (분모가 0 이면 0)
+     */
+    private static double rate(long part, long whole) {
+        return whole == 0 ? 0.0 : (double) part / whole;
+    }
 
-        if (!store.getOwner().getId().equals(ownerId)) {
+    /**
+     * 예약 엔티티를 예약함 항목 DTO 로 변환
+     *
+     * @param reservation 예약 엔티티 (매장 정보를 함께 조회한 상태)
+     * @return 예약함 항목 DTO
+     */
+    private ReservationDto.InboxItem convertToInboxItem(Reservation reservation) {
+        return ReservationDto.InboxItem.builder()
+                .id(reservation.getId())
+                .storeId(reservation.getStore().getId())
+                .storeName(reservation.getStore().getName())
+                .userId(reservation.getUser().getId())
+                .phoneNumber(reservation.getPhoneNumber())
+                .reservedAt(reservation.getReservedAt())
+                .status(reservation.getStatus())
+                .build();
+    }
+
+    /**
+     * 현재 로그인한 사용자 ID 조회
+     *
+     * @return 사용자 ID
+     * @throws CustomException 인증 정보가 없는 경우
+     */
+    private Long getCurrentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof UserDetailsImpl userDetails)) {
             throw new CustomException(UNAUTHORIZED_ACTION);
         }
+        return userDetails.getUser().getId();
     }
 
     /**
@@ -192,6 +632,7 @@ public class OwnerReservationService {
     /**
      * 예약 엔티티를 Response DTO 로 변환
      * - 클라이언트에 반환하기 위해 엔티티를 DTO 형태로 변환
+     * - 당일 윈도우, 아카이브에서 조회한 응답과 같은 필드를 채움
      *
      * @param reservation 변환할 예약 엔티티
      * @return 변환된 예약 Response DTO
@@ -201,8 +642,10 @@ public class OwnerReservationService {
                 .id(reservation.getId())
                 .storeId(reservation.getStore().getId())
                 .userId(reservation.getUser().getId())
+                .phoneNumber(reservation.getPhoneNumber())
                 .reservedAt(reservation.getReservedAt())
                 .status(reservation.getStatus())
+                .tableId(reservation.getTable() != null ? reservation.getTable().getId() : null)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,338 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.util.LoggingUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * PendingReservationBroadcaster
+ * 점주 대시보드로 매장 예약 변경을 SSE 로 전달하는 브로드캐스터
+ * - 매장별 구독자 목록을 유지하고 예약 변경 이벤트를 구독자 큐에 분배
+ * - 구독자마다 크기가 제한된 큐를 두어 느린 연결이 다른 연결을 막지 않도록 함
+ * - 큐가 넘치면 쌓인 이벤트를 버리고 resync 이벤트를 보내 클라이언트가 목록을 다시 받도록 함
+ * - 전송 스레드는 여러 매장이 함께 쓰므로 실제 쓰기는 별도 쓰기 스레드에서 하고 제한 시간만큼만 기다림
+ *   (느리거나 반쯤 끊긴 연결 하나가 다른 매장 대시보드 전송을 제한 시간 이상 막지 않음, 넘기면 연결 종료)
+ * - 구독자가 모두 떠난 매장은 구독자 목록에서 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class PendingReservationBroadcaster {
+
+    // 구독자당 최대 대기 이벤트 수
+    static final int QUEUE_CAPACITY = 256;
+
+    // SSE 연결 유지 시간 (30분)
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    // 전송 스레드 수
+    private static final int SENDER_THREADS = 4;
+
+    // 전송 스레드 이름 번호
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    // 이벤트 하나를 전송하는 제한 시간 (넘기면 연결 종료)
+    @Value("${reservation.stream.send-timeout-millis:5000}")
+    private long sendTimeoutMillis = 5_000;
+
+    // 매장 ID -> 구독자 목록
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    // 구독자 큐를 비우는 전송 스레드 풀
+    private final ExecutorService sender = Executors.newFixedThreadPool(SENDER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "reservation-sse-" + THREAD_SEQUENCE.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // SSE 쓰기를 실행하는 스레드 풀 (막힌 쓰기가 전송 스레드를 붙잡지 않도록 분리, 막힌 연결 수만큼만 늘어남)
+    private final ExecutorService writer = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "reservation-sse-writer-" + THREAD_SEQUENCE.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 매장 예약 스트림 구독
+     * - 구독자를 먼저 등록한 뒤 대기 중인 예약 목록을 조회하여 snapshot 이벤트로 전송
+     * - 목록 조회 중 발생한 변경은 큐에 쌓아 두었다가 snapshot 다음에 전송하므로 누락되지 않음
+     *   (snapshot 에 이미 반영된 변경이 다시 올 수 있으므로 클라이언트는 예약 ID 기준으로 갱신)
+     *
+     * @param storeId 매장 ID
+     * @param pending 대기 중인 예약 목록 조회 (구독자 등록 후 호출)
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(Long storeId, Supplier<List<ReservationDto.Response>> pending) {
+        return subscribe(storeId, pending, new SseEmitter(EMITTER_TIMEOUT_MILLIS));
+    }
+
+    /**
+     * 주어진 SSE 연결로 매장 예약 스트림 구독
+     */
+    SseEmitter subscribe(Long storeId, Supplier<List<ReservationDto.Response>> pending, SseEmitter emitter) {
+        loggingUtil.logRequest("SUBSCRIBE RESERVATION STREAM", storeId);
+
+        Subscriber subscriber = new Subscriber(storeId, emitter);
+        // 마지막 구독자가 떠나며 목록을 제거하는 것과 겹치지 않도록 키 단위로 원자적으로 등록
+        subscribers.compute(storeId, (id, storeSubscribers) -> {
+            Set<Subscriber> registered = storeSubscribers != null ? storeSubscribers : new CopyOnWriteArraySet<>();
+            registered.add(subscriber);
+            return registered;
+        });
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        try {
+            subscriber.snapshot = new StreamMessage("snapshot", pending.get());
+        } catch (RuntimeException e) {
+            unsubscribe(subscriber);
+            throw e;
+        }
+        subscriber.ready = true;
+        schedule(subscriber);
+
+        loggingUtil.logSuccess("SUBSCRIBE RESERVATION STREAM",
+                "매장 ID: " + storeId + ", 구독자 수: " + subscriberCount(storeId));
+        return emitter;
+    }
+
+    /**
+     * 예약 변경 이벤트를 매장 구독자에게 분배
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Set<Subscriber> storeSubscribers = subscribers.get(event.getStoreId());
+        if (storeSubscribers == null || storeSubscribers.isEmpty()) {
+            return;
+        }
+
+        StreamMessage message = new StreamMessage(eventName(event), event.toResponse());
+        storeSubscribers.forEach(subscriber -> enqueue(subscriber, message));
+    }
+
+    /**
+     * 프록시 등에서 유휴 연결이 끊기지 않도록 주기적으로 keep-alive 전송
+     */
+    @Scheduled(fixedRate = 30_000)
+    public void sendHeartbeat() {
+        subscribers.values().forEach(storeSubscribers ->
+                storeSubscribers.forEach(subscriber -> enqueue(subscriber, StreamMessage.HEARTBEAT)));
+    }
+
+    /**
+     * 매장의 현재 구독자 수
+     *
+     * @param storeId 매장 ID
+     * @return 구독자 수
+     */
+    int subscriberCount(Long storeId) {
+        Set<Subscriber> storeSubscribers = subscribers.get(storeId);
+        return storeSubscribers != null ? storeSubscribers.size() : 0;
+    }
+
+    /**
+     * 애플리케이션 종료 시 전송 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        writer.shutdownNow();
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 구독자 큐에 메시지를 넣고 전송 작업 예약
+     * - 큐가 가득 찬 경우 쌓인 메시지를 버리고 resync 필요 상태로 표시
+     */
+    private void enqueue(Subscriber subscriber, StreamMessage message) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(message)) {
+            subscriber.queue.clear();
+            subscriber.resyncRequired.set(true);
+        }
+        if (subscriber.ready) {
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * 전송 중이 아니면 전송 작업 예약
+     */
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * 구독 해제 (매장의 마지막 구독자이면 매장 목록도 제거)
+     */
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.storeId, (id, storeSubscribers) -> {
+            storeSubscribers.remove(subscriber);
+            return storeSubscribers.isEmpty() ? null : storeSubscribers;
+        });
+    }
+
+    /**
+     * 연결 종료 (전송 실패, 전송 제한 시간 초과)
+     * - 구독을 먼저 해제하여 이후 이벤트가 큐에 쌓이지 않게 함
+     * - 막힌 쓰기가 끝나야 종료할 수 있으므로 종료도 쓰기 스레드에서 처리
+     */
+    private void close(Subscriber subscriber, Throwable cause) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        unsubscribe(subscriber);
+        subscriber.queue.clear();
+        writer.execute(() -> subscriber.emitter.completeWithError(cause));
+    }
+
+    /**
+     * 구독자 큐에 쌓인 메시지를 순서대로 전송 (snapshot 이 남아 있으면 가장 먼저 전송)
+     * - 전송 실패 시 연결을 종료하고 구독 해제
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                if (subscriber.closed.get()) {
+                    return;
+                }
+                StreamMessage snapshot = subscriber.snapshot;
+                if (snapshot != null) {
+                    subscriber.snapshot = null;
+                    send(subscriber, snapshot);
+                }
+                if (subscriber.resyncRequired.getAndSet(false)) {
+                    send(subscriber, StreamMessage.RESYNC);
+                }
+                StreamMessage message;
+                while ((message = subscriber.queue.poll()) != null) {
+                    send(subscriber, message);
+                }
+                subscriber.draining.set(false);
+            } while ((!subscriber.queue.isEmpty() || subscriber.resyncRequired.get())
+                    && subscriber.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            loggingUtil.logError("SEND RESERVATION STREAM", e.getMessage());
+            close(subscriber, e);
+        }
+    }
+
+    /**
+     * 메시지를 SSE 이벤트로 전송
+     * - 쓰기 스레드에서 전송하고 제한 시간까지만 기다림 (넘기면 IOException)
+     */
+    private void send(Subscriber subscriber, StreamMessage message) throws IOException {
+        SseEmitter.SseEventBuilder event = message == StreamMessage.HEARTBEAT
+                ? SseEmitter.event().comment("keep-alive")
+                : SseEmitter.event().name(message.name()).data(message.data());
+
+        Future<?> write = writer.submit(() -> {
+            subscriber.emitter.send(event);
+            return null;
+        });
+        try {
+            write.get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            write.cancel(true);
+            throw new IOException("SSE send timed out after " + sendTimeoutMillis + "ms (매장 ID: "
+                    + subscriber.storeId + ")");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof IllegalStateException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("SSE send interrupted", e);
+        }
+    }
+
+    /**
+     * 예약 변경 이벤트의 SSE 이벤트 이름 결정
+     */
+    private String eventName(ReservationChangedEvent event) {
+        if (event.isCreated()) {
+            return "created";
+        }
+        return switch (event.getStatus()) {
+            case PENDING -> "pending";
+            case CONFIRMED -> "confirmed";
+            case CANCELLED -> "cancelled";
+            case REJECTED -> "rejected";
+            case EXPIRED -> "expired";
+        };
+    }
+
+    /**
+     * 구독자 (SSE 연결 + 전송 대기 큐)
+     */
+    private static class Subscriber {
+        private final Long storeId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamMessage> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean resyncRequired = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        // 아직 전송하지 않은 snapshot (전송 스레드만 비움)
+        private volatile StreamMessage snapshot;
+
+        // snapshot 준비 여부 (준비 전 변경은 큐에만 쌓고 전송하지 않음)
+        private volatile boolean ready;
+
+        Subscriber(Long storeId, SseEmitter emitter) {
+            this.storeId = storeId;
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * 전송할 SSE 메시지
+     *
+     * @param name 이벤트 이름
+     * @param data 이벤트 데이터
+     */
+    private record StreamMessage(String name, Object data) {
+        static final StreamMessage HEARTBEAT = new StreamMessage("heartbeat", null);
+        static final StreamMessage RESYNC = new StreamMessage("resync", "resync");
+    }
+}
@@ -0,0 +1,59 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.EXPIRED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.PENDING;
+
+/**
+ * PendingReservationExpiryJob
+ * 승인되지 않은 채 예약 시간이 지난 예약을 만료 처리하는 작업
+ * - 1분마다 실행되며, 만료된 예약마다 변경 이벤트를 발행하여 점주 스트림에 전달
+ */
+@Component
+@RequiredArgsConstructor
+public class PendingReservationExpiryJob {
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 예약 변경 이벤트 발행기
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    /**
+     * 대기 중인 예약 만료 처리
+     * - 한 번에 최대 500건씩 처리하고 남은 예약은 다음 실행에서 처리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    @Transactional
+    public void expirePendingReservations() {
+        List<Reservation> reservations =
+                reservationRepository.findTop500ByStatusAndReservedAtBeforeOrderByReservedAtAsc(
+                        PENDING, LocalDateTime.now());
+        if (reservations.isEmpty()) {
+            return;
+        }
+
+        for (Reservation reservation : reservations) {
+            reservation.setStatus(EXPIRED);
+            eventPublisher.publishEvent(
+                    ReservationChangedEvent.statusChanged(reservation, PENDING));
+        }
+
+        loggingUtil.logSuccess("EXPIRE PENDING RESERVATIONS", "만료된 예약 개수: " + reservations.size());
+    }
+}
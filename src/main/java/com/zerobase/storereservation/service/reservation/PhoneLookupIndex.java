@@ -0,0 +1,233 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PhoneLookupIndex
+ * 매장별 당일 예약을 연락처로 찾기 위한 인메모리 해시 인덱스
+ * - 연락처는 숫자만 남겨 정규화하고, 전체 번호와 끝 4자리 두 가지 키로 보관
+ * - 매장별로 처음 조회할 때 당일 예약을 적재하고, 이후에는 예약 변경 이벤트로 갱신
+ * - 자정이 지나면 전날 인덱스를 버리고 다시 적재
+ */
+@Component
+@RequiredArgsConstructor
+public class PhoneLookupIndex {
+
+    // 끝자리 조회에 사용하는 자릿수
+    public static final int SUFFIX_DIGITS = 4;
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 당일 ~ 향후 7일 예약을 보관하는 인메모리 저장소
+    private final ReservationHotWindow reservationHotWindow;
+
+    // 매장 ID -> 당일 연락처 인덱스
+    private final Map<Long, StorePhones> stores = new ConcurrentHashMap<>();
+
+    // 인덱스 기준 날짜
+    private volatile LocalDate day = LocalDate.now();
+
+    /**
+     * 당일 예약을 연락처로 조회
+     * - 4자리이면 끝 4자리로, 그보다 길면 전체 번호로 조회
+     *
+     * @param storeId 매장 ID
+     * @param digits  숫자만 남긴 연락처 또는 끝 4자리
+     * @return 일치하는 당일 예약 (예약 시간 순)
+     */
+    public List<ReservationDto.Response> find(Long storeId, String digits) {
+        rollIfNewDay();
+        return stores.computeIfAbsent(storeId, this::load).find(digits);
+    }
+
+    /**
+     * 예약 변경 이벤트 반영
+     * - 이미 적재된 매장의 당일 예약만 갱신
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @Order(5)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        StorePhones phones = stores.get(event.getStoreId());
+        if (phones == null) {
+            return;
+        }
+        if (event.getReservedAt() != null && event.getReservedAt().toLocalDate().equals(day)) {
+            phones.put(event.toResponse());
+        } else {
+            // 예약 시간이 당일에서 벗어난 경우
+            phones.remove(event.getReservationId());
+        }
+    }
+
+    /**
+     * 매일 자정에 전날 인덱스 제거
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rollIfNewDay() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(day)) {
+            day = today;
+            stores.clear();
+        }
+    }
+
+    /**
+     * 연락처를 숫자만 남겨 정규화
+     *
+     * @param phoneNumber 연락처 (예: 010-1234-5678)
+     * @return 숫자만 남긴 연락처 (null 이면 빈 문자열)
+     */
+    public static String normalize(String phoneNumber) {
+        if (phoneNumber == null) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(phoneNumber.length());
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char c = phoneNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    /**
+     * 숫자만 남긴 연락처 앞부분으로 저장 형식별 앞부분 목록 생성
+     * - 연락처는 '-' 없이 또는 3-(3|4)-4 형식으로 저장되므로 세 가지 형식을 모두 반환
+     *
+     * @param digits 숫자만 남긴 연락처 앞부분 (예: 0101234)
+     * @return 저장 형식별 앞부분 (예: 0101234, 010-123-4, 010-1234)
+     */
+    public static Set<String> prefixFormats(String digits) {
+        Set<String> formats = new LinkedHashSet<>();
+        formats.add(digits);
+        if (digits.length() > 3) {
+            for (int middle = 3; middle <= 4; middle++) {
+                int end = Math.min(digits.length(), 3 + middle);
+                String format = digits.substring(0, 3) + "-" + digits.substring(3, end);
+                if (digits.length() > end) {
+                    format += "-" + digits.substring(end);
+                }
+                formats.add(format);
+            }
+        }
+        return formats;
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 매장의 당일 예약으로 인덱스 생성
+     * - 인메모리 윈도우가 당일을 보관하고 있으면 DB 조회 없이 생성
+     */
+    private StorePhones load(Long storeId) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = start.plusDays(1).minusNanos(1);
+
+        StorePhones phones = new StorePhones();
+        if (reservationHotWindow.covers(start, end)) {
+            reservationHotWindow.find(storeId, start, end).forEach(phones::put);
+        } else {
+            for (Reservation reservation :
+                    reservationRepository.findByStoreIdAndReservedAtBetween(storeId, start, end)) {
+                phones.put(ReservationDto.Response.builder()
+                        .id(reservation.getId())
+                        .storeId(reservation.getStore().getId())
+                        .userId(reservation.getUser().getId())
+                        .phoneNumber(reservation.getPhoneNumber())
+                        .reservedAt(reservation.getReservedAt())
+                        .status(reservation.getStatus())
+                        .tableId(reservation.getTable() != null ? reservation.getTable().getId() : null)
+                        .build());
+            }
+        }
+        return phones;
+    }
+
+    /**
+     * StorePhones
+     * 매장 하나의 당일 연락처 인덱스 (동기화는 인스턴스 단위로 처리)
+     */
+    static final class StorePhones {
+
+        // 예약 ID -> 예약
+        private final Map<Long, ReservationDto.Response> byId = new HashMap<>();
+
+        // 정규화된 전체 번호 -> 예약 ID
+        private final Map<String, Set<Long>> byNumber = new HashMap<>();
+
+        // 끝 4자리 -> 예약 ID
+        private final Map<String, Set<Long>> bySuffix = new HashMap<>();
+
+        synchronized List<ReservationDto.Response> find(String digits) {
+            Map<String, Set<Long>> index = digits.length() == SUFFIX_DIGITS ? bySuffix : byNumber;
+            Set<Long> ids = index.getOrDefault(digits, Set.of());
+            List<ReservationDto.Response> result = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                result.add(byId.get(id));
+            }
+            result.sort(Comparator.comparing(ReservationDto.Response::getReservedAt)
+                    .thenComparing(ReservationDto.Response::getId));
+            return result;
+        }
+
+        synchronized void put(ReservationDto.Response response) {
+            remove(response.getId());
+            byId.put(response.getId(), response);
+            String digits = normalize(response.getPhoneNumber());
+            if (digits.isEmpty()) {
+                return;
+            }
+            byNumber.computeIfAbsent(digits, key -> new LinkedHashSet<>()).add(response.getId());
+            if (digits.length() >= SUFFIX_DIGITS) {
+                bySuffix.computeIfAbsent(suffix(digits), key -> new LinkedHashSet<>())
+                        .add(response.getId());
+            }
+        }
+
+        synchronized void remove(Long reservationId) {
+            ReservationDto.Response previous = byId.remove(reservationId);
+            if (previous == null) {
+                return;
+            }
+            String digits = normalize(previous.getPhoneNumber());
+            unlink(byNumber, digits, reservationId);
+            if (digits.length() >= SUFFIX_DIGITS) {
+                unlink(bySuffix, suffix(digits), reservationId);
+            }
+        }
+
+        private static String suffix(String digits) {
+            return digits.substring(digits.length() - SUFFIX_DIGITS);
+        }
+
+        private static void unlink(Map<String, Set<Long>> index, String key, Long reservationId) {
+            Set<Long> ids = index.get(key);
+            if (ids != null && ids.remove(reservationId) && ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.ReservationArchive;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import com.zerobase.storereservation.repository.ReservationArchiveRepository;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.repository.ReservationSearchRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.EXPIRED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.REJECTED;
+
+/**
+ * ReservationArchiver
+ * 지난 예약을 아카이브 테이블로 옮기고, 조회 범위가 아카이브에 닿는지 판단하는 컴포넌트
+ * - 취소/거절/만료된 예약은 예약일이 지나면, 나머지 예약은 보관 기간(reservation.archive.retention-days)이 지나면 이동
+ * - 매일 새벽 청크 단위(500건)로 복사 후 삭제하며, 청크마다 트랜잭션을 나누어 잠금 시간을 짧게 유지
+ * - 당일 이후 예약은 옮기지 않으므로 인메모리 인덱스와 당일 조회는 아카이브를 볼 필요가 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationArchiver {
+
+    // 한 트랜잭션에서 옮기는 예약 수
+    static final int CHUNK_SIZE = 500;
+
+    // 한 번 실행에서 처리하는 최대 청크 수 (남은 예약은 다음 실행에서 처리)
+    static final int MAX_CHUNKS_PER_RUN = 200;
+
+    // 아카이브 기준 시간을 다시 읽는 주기 (다른 인스턴스의 아카이브 반영)
+    static final Duration WATERMARK_TTL = Duration.ofMinutes(5);
+
+    // 예약일이 지나면 바로 옮기는 종료 상태
+    static final List<ReservationStatus> CLOSED_STATUSES = List.of(CANCELLED, REJECTED, EXPIRED);
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 아카이브 예약 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationArchiveRepository reservationArchiveRepository;
+
+    // 청크마다 트랜잭션을 나누기 위해 사용
+    private final TransactionTemplate transactionTemplate;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    // 종료 상태가 아닌 예약의 보관 기간 (일)
+    @Value("${reservation.archive.retention-days:90}")
+    private int retentionDays;
+
+    // 아카이브된 예약 중 가장 늦은 예약 시간 (아카이브가 비어 있으면 null)
+    private volatile LocalDateTime watermark;
+
+    // 기준 시간을 마지막으로 읽은 시간
+    private volatile LocalDateTime watermarkCheckedAt;
+
+    /**
+     * 매일 새벽 3시 30분에 아카이브 대상 예약 이동
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void archive() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        LocalDateTime pastBefore = today.minusDays(retentionDays);
+
+        int moved = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            Integer count = transactionTemplate.execute(status -> archiveChunk(today, pastBefore));
+            if (count == null || count == 0) {
+                break;
+            }
+            moved += count;
+            if (count < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        if (moved > 0) {
+            loggingUtil.logSuccess("ARCHIVE RESERVATIONS", "아카이브된 예약 개수: " + moved);
+        }
+    }
+
+    /**
+     * 조회 범위가 아카이브에 닿는지 확인
+     *
+     * @param from 조회 시작 시간
+     * @return 아카이브에 from 이후 예약이 있을 수 있으면 true
+     */
+    public boolean reaches(LocalDateTime from) {
+        LocalDateTime until = watermark();
+        return until != null && !from.isAfter(until);
+    }
+
+    /**
+     * 특정 매장의 지정된 시간 범위 내 아카이브 예약 조회
+     * - 범위가 아카이브에 닿지 않으면 DB 조회 없이 빈 리스트 반환
+     *
+     * @param storeId   매장 ID
+     * @param startDate 검색 시작 시간
+     * @param endDate   검색 종료 시간
+     * @return 아카이브 예약 리스트
+     */
+    public List<ReservationDto.Response> findByStore(
+            Long storeId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (!reaches(startDate)) {
+            return List.of();
+        }
+        return reservationArchiveRepository.findByStoreIdAndReservedAtBetween(storeId, startDate, endDate)
+                .stream()
+                .map(ReservationArchiver::toResponse)
+                .toList();
+    }
+
+    /**
+     * 조건에 맞는 아카이브 예약 검색 (예약 시간, 예약 ID 오름차순)
+     * - 범위가 아카이브에 닿지 않으면 DB 조회 없이 빈 리스트 반환
+     *
+     * @param condition 검색 조건
+     * @return 검색 결과
+     */
+    public List<ReservationSearchRepository.SearchRow> search(ReservationSearchRepository.Condition condition) {
+        if (!reaches(condition.from())) {
+            return List.of();
+        }
+        return reservationArchiveRepository.searchArchive(condition);
+    }
+
+    /**
+     * 특정 사용자의 아카이브 예약 조회 (예약 시간 내림차순)
+     *
+     * @param userId 사용자 ID
+     * @return 아카이브 예약 리스트
+     */
+    public List<ReservationDto.Response> findByUser(Long userId) {
+        if (watermark() == null) {
+            return List.of();
+        }
+        return reservationArchiveRepository.findByUserIdOrderByReservedAtDesc(userId).stream()
+                .map(ReservationArchiver::toResponse)
+                .toList();
+    }
+
+    /**
+     * 특정 사용자의 지난 아카이브 예약을 키셋 방식으로 조회
+     *
+     * @param userId   사용자 ID
+     * @param cursorAt 커서 예약 시간
+     * @param cursorId 커서 예약 ID (미포함)
+     * @param limit    조회 개수
+     * @return 예약 요약 리스트 (예약 시간, 예약 ID 내림차순)
+     */
+    public List<ReservationRepository.ReservationSummary> findPastByUser(
+            Long userId, LocalDateTime cursorAt, Long cursorId, int limit) {
+        if (watermark() == null) {
+            return List.of();
+        }
+        return reservationArchiveRepository.findPastByUserId(
+                userId, cursorAt, cursorId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 특정 사용자와 매장의 아카이브 예약 여부 확인
+     *
+     * @param userId  사용자 ID
+     * @param storeId 매장 ID
+     * @param status  예약 상태
+     * @return 아카이브에 예약이 있으면 true
+     */
+    public boolean existsByUserIdAndStoreIdAndStatus(
+            Long userId, Long storeId, ReservationStatus status) {
+        return watermark() != null
+                && reservationArchiveRepository.existsByUserIdAndStoreIdAndStatus(userId, storeId, status);
+    }
+
+    /**
+     * 아카이브 엔티티를 Response DTO 로 변환
+     *
+     * @param archive 아카이브 엔티티
+     * @return 예약 응답 DTO
+     */
+    public static ReservationDto.Response toResponse(ReservationArchive archive) {
+        return ReservationDto.Response.builder()
+                .id(archive.getId())
+                .storeId(archive.getStoreId())
+                .userId(archive.getUserId())
+                .phoneNumber(archive.getPhoneNumber())
+                .reservedAt(archive.getReservedAt())
+                .status(archive.getStatus())
+                .tableId(archive.getTableId())
+                .build();
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 아카이브 대상 예약 한 청크를 복사한 뒤 삭제
+     *
+     * @return 옮긴 예약 수
+     */
+    private int archiveChunk(LocalDateTime closedBefore, LocalDateTime pastBefore) {
+        List<Reservation> reservations = reservationRepository.findArchivable(
+                CLOSED_STATUSES, closedBefore, pastBefore, PageRequest.of(0, CHUNK_SIZE));
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ReservationArchive> archives = reservations.stream()
+                .map(reservation -> ReservationArchive.from(reservation, now))
+                .toList();
+        reservationArchiveRepository.saveAll(archives);
+        reservationRepository.deleteAllByIdInBatch(
+                reservations.stream().map(Reservation::getId).toList());
+
+        archives.stream()
+                .map(ReservationArchive::getReservedAt)
+                .max(LocalDateTime::compareTo)
+                .ifPresent(this::advanceWatermark);
+        return reservations.size();
+    }
+
+    /**
+     * 아카이브 기준 시간 조회 (WATERMARK_TTL 마다 DB 에서 다시 읽음)
+     */
+    private LocalDateTime watermark() {
+        LocalDateTime checkedAt = watermarkCheckedAt;
+        LocalDateTime now = LocalDateTime.now();
+        if (checkedAt == null || checkedAt.plus(WATERMARK_TTL).isBefore(now)) {
+            Optional<LocalDateTime> max = reservationArchiveRepository.findMaxReservedAt();
+            max.ifPresent(this::advanceWatermark);
+            watermarkCheckedAt = now;
+        }
+        return watermark;
+    }
+
+    private synchronized void advanceWatermark(LocalDateTime reservedAt) {
+        if (watermark == null || reservedAt.isAfter(watermark)) {
+            watermark = reservedAt;
+        }
+    }
+}
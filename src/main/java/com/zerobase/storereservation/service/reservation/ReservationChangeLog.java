@@ -0,0 +1,185 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ReservationChangeLog
+ * 매장별 예약 변경 버전을 관리하는 인메모리 변경 로그
+ * - 예약이 변경될 때마다 매장 버전을 단조 증가시키고, 변경된 예약 ID 를 기록
+ * - 키오스크는 마지막으로 받은 버전 이후의 변경분만 조회하여 동기화
+ * - 매장당 최근 변경만 보관하며, 보관 범위를 벗어난 버전은 전체 재동기화가 필요
+ * - 버전은 날짜 단위로 유효하며, 날짜가 바뀌면 전날 발급된 버전은 모두 전체 재동기화 대상이 됨
+ */
+@Component
+public class ReservationChangeLog {
+
+    // 매장당 보관하는 최대 변경 건수
+    static final int MAX_CHANGES_PER_STORE = 1000;
+
+    // 프로세스 기동 또는 날짜 변경 시점 기반 시작 버전 (그 전에 발급된 버전은 재동기화 대상이 됨)
+    private volatile long baseVersion = System.currentTimeMillis() * 1000;
+
+    // 현재 버전이 유효한 날짜
+    private volatile LocalDate day = LocalDate.now();
+
+    // 매장 ID -> 매장별 변경 로그
+    private final Map<Long, StoreLog> logs = new ConcurrentHashMap<>();
+
+    /**
+     * 매장의 현재 버전 조회
+     *
+     * @param storeId 매장 ID
+     * @return 현재 버전
+     */
+    public long currentVersion(Long storeId) {
+        rolloverIfDayChanged();
+        StoreLog log = logs.get(storeId);
+        return log != null ? log.currentVersion() : baseVersion;
+    }
+
+    /**
+     * 지정된 버전 이후 변경된 예약 ID 조회
+     *
+     * @param storeId      매장 ID
+     * @param sinceVersion 클라이언트가 마지막으로 받은 버전
+     * @return 변경분, 보관 범위를 벗어났거나 알 수 없는 버전이면 empty (전체 재동기화 필요)
+     */
+    public Optional<Delta> changesSince(Long storeId, long sinceVersion) {
+        rolloverIfDayChanged();
+        StoreLog log = logs.get(storeId);
+        if (log == null) {
+            return sinceVersion == baseVersion
+                    ? Optional.of(new Delta(baseVersion, List.of()))
+                    : Optional.empty();
+        }
+        return log.changesSince(sinceVersion);
+    }
+
+    /**
+     * 예약 변경 이벤트를 받아 매장 버전 증가
+     * - 인메모리 예약 윈도우가 먼저 갱신된 뒤 버전이 증가하도록 순서를 지정
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        rolloverIfDayChanged();
+        logs.computeIfAbsent(event.getStoreId(), id -> new StoreLog(baseVersion))
+                .record(event.getReservationId());
+    }
+
+    /**
+     * 날짜 변경 처리
+     * - 시작 버전을 지금까지 발급한 모든 버전보다 크게 올리고 매장별 변경 로그를 비움
+     * - 전날 버전을 가진 키오스크는 보관 범위를 벗어나므로 당일 전체 목록을 다시 받음
+     *
+     * @param today 새 날짜
+     */
+    synchronized void rollover(LocalDate today) {
+        if (!today.isAfter(day)) {
+            return;
+        }
+        long next = System.currentTimeMillis() * 1000;
+        for (StoreLog log : logs.values()) {
+            next = Math.max(next, log.currentVersion() + 1);
+        }
+        baseVersion = next;
+        for (StoreLog log : logs.values()) {
+            log.reset(next);
+        }
+        day = today;
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 마지막 확인 이후 날짜가 바뀌었으면 버전 초기화 (자정 이후 첫 호출에서 처리)
+     */
+    private void rolloverIfDayChanged() {
+        LocalDate today = LocalDate.now();
+        if (today.isAfter(day)) {
+            rollover(today);
+        }
+    }
+
+    /**
+     * Delta
+     * 특정 버전 이후의 변경분
+     *
+     * @param version        변경분을 계산한 시점의 매장 버전
+     * @param reservationIds 변경된 예약 ID 목록
+     */
+    public record Delta(long version, List<Long> reservationIds) {
+    }
+
+    /**
+     * StoreLog
+     * 매장 하나의 변경 로그 (동기화는 인스턴스 단위로 처리)
+     */
+    private static class StoreLog {
+
+        // 현재 버전
+        private long version;
+
+        // 이 버전 이하의 변경은 추적하지 않음
+        private long floor;
+
+        // 버전 -> 예약 ID (버전 순 정렬)
+        private final TreeMap<Long, Long> changes = new TreeMap<>();
+
+        // 예약 ID -> 마지막 변경 버전 (같은 예약의 중복 기록 제거용)
+        private final Map<Long, Long> versionById = new HashMap<>();
+
+        StoreLog(long baseVersion) {
+            this.version = baseVersion;
+            this.floor = baseVersion;
+        }
+
+        synchronized long currentVersion() {
+            return version;
+        }
+
+        synchronized void record(Long reservationId) {
+            version++;
+            Long previousVersion = versionById.put(reservationId, version);
+            if (previousVersion != null) {
+                changes.remove(previousVersion);
+            }
+            changes.put(version, reservationId);
+
+            while (changes.size() > MAX_CHANGES_PER_STORE) {
+                Map.Entry<Long, Long> oldest = changes.pollFirstEntry();
+                versionById.remove(oldest.getValue());
+                floor = oldest.getKey();
+            }
+        }
+
+        synchronized void reset(long baseVersion) {
+            version = baseVersion;
+            floor = baseVersion;
+            changes.clear();
+            versionById.clear();
+        }
+
+        synchronized Optional<Delta> changesSince(long sinceVersion) {
+            if (sinceVersion < floor || sinceVersion > version) {
+                return Optional.empty();
+            }
+            return Optional.of(new Delta(
+                    version, new ArrayList<>(changes.tailMap(sinceVersion, false).values())));
+        }
+    }
+}
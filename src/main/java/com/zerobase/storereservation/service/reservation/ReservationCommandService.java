@@ -0,0 +1,112 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.zerobase.storereservation.exception.ErrorCode.INVALID_COMMAND_ID;
+import static com.zerobase.storereservation.exception.ErrorCode.INVALID_PARTY_SIZE;
+import static com.zerobase.storereservation.exception.ErrorCode.INVALID_RESERVATION_TIME;
+import static com.zerobase.storereservation.exception.ErrorCode.PHONE_NUMBER_REQUIRED;
+
+/**
+ * ReservationCommandService
+ * 예약 생성 요청을 받아 DB 에 저장하거나, DB 장애 시 로컬 저널에 접수하는 서비스
+ * - 저널을 사용하지 않으면 예약 서비스를 그대로 호출
+ * - 저널을 사용하면 요청 식별자를 채운 뒤 예약 서비스를 호출하고, DB 연결 장애로 실패하면
+ *   DB 없이 확인 가능한 항목만 검증하여 저널에 기록하고 임시 접수 ID 를 반환
+ * - 저널에 접수된 요청은 ReservationJournalReplayer 가 DB 가 복구되면 같은 요청 식별자로 다시 생성
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationCommandService {
+
+    // 요청 식별자 최대 길이 (Reservation.commandId 컬럼 길이)
+    static final int MAX_COMMAND_ID_LENGTH = 64;
+
+    // 고객 예약 관련 비즈니스 로직을 처리하는 서비스
+    private final CustomerReservationService customerReservationService;
+
+    // DB 장애 시 예약 생성 요청을 보관하는 저널
+    private final ReservationJournal reservationJournal;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    /**
+     * 예약 생성
+     *
+     * @param request 예약 생성 요청 DTO
+     * @return 생성된 예약 정보 (저널에 접수된 경우 provisionalId 만 있는 임시 응답)
+     */
+    public ReservationDto.Response createReservation(ReservationDto.CreateRequest request) {
+        if (!reservationJournal.isEnabled()) {
+            return createOnce(request);
+        }
+
+        if (request.getCommandId() == null) {
+            request.setCommandId(UUID.randomUUID().toString());
+        }
+        try {
+            return createOnce(request);
+        } catch (CannotCreateTransactionException | DataAccessResourceFailureException
+                 | TransientDataAccessException e) {
+            if (request.getUserId() == null || request.getStoreId() == null
+                    || request.getReservedAt() == null) {
+                throw e;
+            }
+            loggingUtil.logError("CREATE RESERVATION",
+                    "DB 장애로 저널에 접수: " + request.getCommandId() + " (" + e.getMessage() + ")");
+            validateWithoutDatabase(request);
+            return reservationJournal.append(request);
+        }
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 예약 생성
+     * - 같은 요청 식별자의 요청이 동시에 들어와 유니크 제약에 걸리면 먼저 생성된 예약을 반환
+     *   (트랜잭션이 롤백된 뒤 새로 조회해야 하므로 예약 서비스 밖에서 처리)
+     */
+    private ReservationDto.Response createOnce(ReservationDto.CreateRequest request) {
+        try {
+            return customerReservationService.createReservation(request);
+        } catch (DataIntegrityViolationException e) {
+            if (request.getCommandId() == null) {
+                throw e;
+            }
+            return customerReservationService.findByCommand(request).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * DB 없이 확인 가능한 항목 검증
+     * - 재처리 시 DB 제약 조건(연락처 필수, 요청 식별자 길이)에 걸릴 요청은 저널에 기록하지 않음
+     * - 사용자, 매장, 겹치는 예약, 테이블은 재처리 시 검증
+     */
+    private void validateWithoutDatabase(ReservationDto.CreateRequest request) {
+        if (request.getPhoneNumber() == null || request.getPhoneNumber().isBlank()) {
+            throw new CustomException(PHONE_NUMBER_REQUIRED);
+        }
+        if (request.getCommandId().length() > MAX_COMMAND_ID_LENGTH) {
+            throw new CustomException(INVALID_COMMAND_ID);
+        }
+        if (request.getReservedAt().isBefore(LocalDateTime.now())) {
+            throw new CustomException(INVALID_RESERVATION_TIME);
+        }
+        if ((request.getPartySize() != null && request.getPartySize() < 1)
+                || (request.getDurationMinutes() != null && request.getDurationMinutes() < 1)) {
+            throw new CustomException(INVALID_PARTY_SIZE);
+        }
+    }
+}
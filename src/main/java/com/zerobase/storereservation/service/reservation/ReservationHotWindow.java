@@ -0,0 +1,275 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * ReservationHotWindow
+ * 당일부터 향후 7일까지의 예약을 메모리에 유지하는 write-through 저장소
+ * - 매장별로 예약 시간 기준 정렬된 NavigableMap 을 유지
+ * - 예약 변경 이벤트를 받아 즉시 반영하고, 매일 자정 윈도우를 하루씩 이동
+ * - 윈도우가 적재되기 전이나 범위를 벗어난 조회는 covers() 가 false 를 반환하므로 DB 로 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationHotWindow {
+
+    // 윈도우에 포함되는 일 수 (당일 + 향후 7일)
+    static final int WINDOW_DAYS = 8;
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    // 매장 ID -> (예약 시간, 예약 ID) 순으로 정렬된 예약 맵
+    private final Map<Long, ConcurrentSkipListMap<SlotKey, ReservationDto.Response>> byStore =
+            new ConcurrentHashMap<>();
+
+    // 예약 ID -> 정렬 키 (예약 시간 변경 시 이전 키 제거용)
+    private final Map<Long, SlotKey> keyById = new ConcurrentHashMap<>();
+
+    // 윈도우 시작 시간 (포함, 적재 전에는 null)
+    private volatile LocalDateTime windowStart;
+
+    // 윈도우 종료 시간 (미포함)
+    private volatile LocalDateTime windowEnd;
+
+    /**
+     * 애플리케이션 기동 완료 시 윈도우 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDate today = LocalDate.now();
+        loggingUtil.logRequest("LOAD HOT WINDOW", today);
+
+        windowStart = null;
+        windowEnd = null;
+        int loaded = loadRange(today.atStartOfDay(), today.plusDays(WINDOW_DAYS).atStartOfDay());
+
+        windowStart = today.atStartOfDay();
+        windowEnd = today.plusDays(WINDOW_DAYS).atStartOfDay();
+
+        loggingUtil.logSuccess("LOAD HOT WINDOW", "적재된 예약 개수: " + loaded);
+    }
+
+    /**
+     * 매일 자정에 윈도우를 하루씩 이동
+     * - 지난 날짜의 예약을 제거하고 새로 포함된 날짜의 예약을 적재
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void roll() {
+        if (windowStart == null) {
+            load();
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDateTime newStart = today.atStartOfDay();
+        LocalDateTime newEnd = today.plusDays(WINDOW_DAYS).atStartOfDay();
+        loggingUtil.logRequest("ROLL HOT WINDOW", newStart, newEnd);
+
+        // 윈도우를 먼저 축소한 뒤 지난 예약 제거
+        windowStart = newStart;
+        byStore.values().forEach(reservations -> {
+            NavigableMap<SlotKey, ReservationDto.Response> expired =
+                    reservations.headMap(new SlotKey(newStart, Long.MIN_VALUE), false);
+            expired.keySet().forEach(key -> keyById.remove(key.id()));
+            expired.clear();
+        });
+
+        // 새로 포함된 날짜를 적재한 뒤 윈도우 확장
+        int loaded = loadRange(windowEnd, newEnd);
+        windowEnd = newEnd;
+
+        loggingUtil.logSuccess("ROLL HOT WINDOW", "새로 적재된 예약 개수: " + loaded);
+    }
+
+    /**
+     * 조회 범위가 윈도우에 포함되는지 확인
+     *
+     * @param from 조회 시작 시간 (포함)
+     * @param to   조회 종료 시간 (포함)
+     * @return 메모리에서 응답 가능하면 true
+     */
+    public boolean covers(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = windowStart;
+        LocalDateTime end = windowEnd;
+        return start != null && end != null
+                && !from.isBefore(start) && to.isBefore(end);
+    }
+
+    /**
+     * 특정 매장의 시간 범위 내 예약 조회
+     * - covers() 로 범위를 확인한 뒤 호출
+     *
+     * @param storeId 매장 ID
+     * @param from    조회 시작 시간 (포함)
+     * @param to      조회 종료 시간 (포함)
+     * @return 예약 시간 순으로 정렬된 예약 목록
+     */
+    public List<ReservationDto.Response> find(Long storeId, LocalDateTime from, LocalDateTime to) {
+        ConcurrentSkipListMap<SlotKey, ReservationDto.Response> reservations = byStore.get(storeId);
+        if (reservations == null) {
+            return List.of();
+        }
+        return new ArrayList<>(reservations.subMap(
+                new SlotKey(from, Long.MIN_VALUE), true,
+                new SlotKey(to, Long.MAX_VALUE), true
+        ).values());
+    }
+
+    /**
+     * 예약 ID로 윈도우 내 예약 조회
+     *
+     * @param storeId       매장 ID
+     * @param reservationId 예약 ID
+     * @return 윈도우에 있는 예약 (없으면 empty)
+     */
+    public Optional<ReservationDto.Response> findById(Long storeId, Long reservationId) {
+        SlotKey key = keyById.get(reservationId);
+        ConcurrentSkipListMap<SlotKey, ReservationDto.Response> reservations = byStore.get(storeId);
+        if (key == null || reservations == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(reservations.get(key));
+    }
+
+    /**
+     * 예약 변경 이벤트 반영 (write-through)
+     * - 트랜잭션이 커밋된 뒤에만 반영하여 롤백된 변경이 남지 않도록 함
+     * - 변경 버전보다 먼저 반영되어야 하므로 가장 앞 순서로 실행
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        SlotKey previousKey = keyById.remove(event.getReservationId());
+        if (previousKey != null) {
+            byStore.computeIfPresent(event.getStoreId(), (storeId, reservations) -> {
+                reservations.remove(previousKey);
+                return reservations;
+            });
+        }
+
+        if (isInWindow(event.getReservedAt())) {
+            put(event.toResponse());
+        }
+    }
+
+    /**
+     * 삭제된 매장의 예약 제거
+     *
+     * @param storeId 매장 ID
+     */
+    public void removeStore(Long storeId) {
+        ConcurrentSkipListMap<SlotKey, ReservationDto.Response> reservations = byStore.remove(storeId);
+        if (reservations != null) {
+            reservations.keySet().forEach(key -> keyById.remove(key.id(), key));
+        }
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 지정된 범위의 예약을 DB 에서 읽어 윈도우에 적재
+     * - 적재 중 이벤트로 반영된 최신 상태를 덮어쓰지 않도록 putIfAbsent 사용
+     *
+     * @param from 적재 시작 시간 (포함)
+     * @param to   적재 종료 시간 (미포함)
+     * @return 적재된 예약 개수
+     */
+    private int loadRange(LocalDateTime from, LocalDateTime to) {
+        List<Reservation> reservations =
+                reservationRepository.findByReservedAtBetween(from, to.minusNanos(1));
+
+        int loaded = 0;
+        for (Reservation reservation : reservations) {
+            SlotKey key = new SlotKey(reservation.getReservedAt(), reservation.getId());
+            if (keyById.putIfAbsent(reservation.getId(), key) == null) {
+                storeMap(reservation.getStore().getId()).put(key, convertToResponse(reservation));
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 예약 응답 DTO 를 윈도우에 저장
+     *
+     * @param response 예약 응답 DTO
+     */
+    private void put(ReservationDto.Response response) {
+        SlotKey key = new SlotKey(response.getReservedAt(), response.getId());
+        keyById.put(response.getId(), key);
+        storeMap(response.getStoreId()).put(key, response);
+    }
+
+    /**
+     * 매장별 정렬 맵 조회 (없으면 생성)
+     */
+    private ConcurrentSkipListMap<SlotKey, ReservationDto.Response> storeMap(Long storeId) {
+        return byStore.computeIfAbsent(storeId, id -> new ConcurrentSkipListMap<>());
+    }
+
+    /**
+     * 예약 시간이 현재 윈도우 범위에 속하는지 확인
+     * - 적재 전에도 이벤트를 반영할 수 있도록 당일 기준 범위를 사용
+     */
+    private boolean isInWindow(LocalDateTime reservedAt) {
+        LocalDateTime start = windowStart != null
+                ? windowStart : LocalDate.now().atStartOfDay();
+        LocalDateTime end = windowEnd != null
+                ? windowEnd : start.plusDays(WINDOW_DAYS);
+        return !reservedAt.isBefore(start) && reservedAt.isBefore(end);
+    }
+
+    /**
+     * 예약 엔티티를 Response DTO 로 변환
+     */
+    private ReservationDto.Response convertToResponse(Reservation reservation) {
+        return ReservationDto.Response.builder()
+                .id(reservation.getId())
+                .storeId(reservation.getStore().getId())
+                .userId(reservation.getUser().getId())
+                .phoneNumber(reservation.getPhoneNumber())
+                .reservedAt(reservation.getReservedAt())
+                .status(reservation.getStatus())
+                .tableId(reservation.getTable() != null ? reservation.getTable().getId() : null)
+                .build();
+    }
+
+    /**
+     * 매장 내 정렬 키 (예약 시간, 예약 ID)
+     * - 같은 시간에 여러 예약이 있어도 구분되도록 예약 ID 를 보조 키로 사용
+     */
+    record SlotKey(LocalDateTime reservedAt, Long id) implements Comparable<SlotKey> {
+        @Override
+        public int compareTo(SlotKey other) {
+            int compared = reservedAt.compareTo(other.reservedAt);
+            return compared != 0 ? compared : Long.compare(id, other.id);
+        }
+    }
+}
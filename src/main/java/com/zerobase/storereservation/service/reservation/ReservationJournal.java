@@ -0,0 +1,288 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.exception.CustomException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.PENDING;
+import static com.zerobase.storereservation.exception.ErrorCode.RESERVATION_UNAVAILABLE;
+
+/**
+ * ReservationJournal
+ * DB 장애 중 접수한 예약 생성 요청을 로컬 파일에 보관하는 추가 전용 저널
+ * - reservation.journal.enabled 가 true 일 때만 파일을 열며, 기본값은 사용 안 함
+ * - 파일은 고정 크기로 메모리 매핑하고, 레코드는 [길이][CRC32][요청] 형식으로 이어서 기록
+ * - 기록 후 fsync 가 끝나야 응답하며, 동시에 기록한 요청은 한 번의 fsync 로 함께 반영 (그룹 커밋)
+ * - 재시작 시 CRC 가 맞는 레코드까지만 유효한 것으로 보고 이어서 기록 (기록 중 종료된 마지막 레코드는 무시)
+ */
+@Component
+public class ReservationJournal {
+
+    // 레코드 헤더 크기 (길이 4바이트 + CRC32 4바이트)
+    static final int HEADER_BYTES = 8;
+
+    // 저널 사용 여부
+    private final boolean enabled;
+
+    // 저널 파일 경로
+    private final Path path;
+
+    // 저널 파일 크기 (바이트)
+    private final int capacity;
+
+    // fsync 를 한 번에 하나만 수행하기 위한 잠금
+    private final Object syncLock = new Object();
+
+    private FileChannel channel;
+
+    private MappedByteBuffer buffer;
+
+    // 다음 레코드를 기록할 위치
+    private int writePosition;
+
+    // fsync 가 끝난 위치
+    private volatile int durablePosition;
+
+    public ReservationJournal(
+            @Value("${reservation.journal.enabled:false}") boolean enabled,
+            @Value("${reservation.journal.path:./data/reservation.journal}") String path,
+            @Value("${reservation.journal.capacity-mb:64}") int capacityMb) {
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.capacity = capacityMb * 1024 * 1024;
+    }
+
+    /**
+     * 저널 파일을 열고 유효한 레코드의 끝을 찾음
+     */
+    @PostConstruct
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("예약 저널을 열 수 없습니다: " + path, e);
+        }
+        synchronized (this) {
+            writePosition = scanEnd();
+            durablePosition = writePosition;
+        }
+    }
+
+    /**
+     * 저널 파일 닫기
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        if (channel != null) {
+            synchronized (syncLock) {
+                buffer.force();
+            }
+            channel.close();
+        }
+    }
+
+    /**
+     * 저널 사용 여부
+     *
+     * @return 사용하면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 예약 생성 요청을 기록하고 fsync 후 임시 응답 반환
+     *
+     * @param request 요청 식별자가 채워진 예약 생성 요청
+     * @return 임시 접수 응답 (id 없이 provisionalId 와 PENDING 상태)
+     * @throws CustomException 저널이 가득 찬 경우
+     */
+    public ReservationDto.Response append(ReservationDto.CreateRequest request) {
+        byte[] payload = encode(request);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        int end;
+        synchronized (this) {
+            if (buffer == null || writePosition + HEADER_BYTES + payload.length > capacity) {
+                throw new CustomException(RESERVATION_UNAVAILABLE);
+            }
+            buffer.put(writePosition + HEADER_BYTES, payload);
+            buffer.putInt(writePosition + 4, (int) crc.getValue());
+            // 길이를 마지막에 기록하여 중간에 종료되면 빈 레코드로 보이도록 함
+            buffer.putInt(writePosition, payload.length);
+            writePosition += HEADER_BYTES + payload.length;
+            end = writePosition;
+        }
+        sync(end);
+
+        return ReservationDto.Response.builder()
+                .provisionalId(request.getCommandId())
+                .storeId(request.getStoreId())
+                .userId(request.getUserId())
+                .phoneNumber(request.getPhoneNumber())
+                .reservedAt(request.getReservedAt())
+                .status(PENDING)
+                .build();
+    }
+
+    /**
+     * 지정된 위치부터 기록된 레코드 조회
+     *
+     * @param from 조회 시작 위치
+     * @return 레코드 리스트 (기록 순)
+     */
+    public synchronized List<Entry> readFrom(int from) {
+        List<Entry> entries = new ArrayList<>();
+        int position = from;
+        while (position < writePosition) {
+            int length = buffer.getInt(position);
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_BYTES, payload);
+            position += HEADER_BYTES + length;
+            entries.add(new Entry(decode(payload), position));
+        }
+        return entries;
+    }
+
+    /**
+     * 모든 레코드를 처리했으면 저널을 비움
+     * - 처리하는 동안 새 레코드가 기록되었으면 비우지 않음
+     *
+     * @param processedEnd 처리를 마친 위치
+     * @return 비웠으면 true
+     */
+    public boolean clearIfProcessed(int processedEnd) {
+        synchronized (syncLock) {
+            synchronized (this) {
+                if (writePosition == 0 || writePosition != processedEnd) {
+                    return false;
+                }
+                for (int i = 0; i < writePosition; i++) {
+                    buffer.put(i, (byte) 0);
+                }
+                buffer.force(0, writePosition);
+                writePosition = 0;
+                durablePosition = 0;
+                return true;
+            }
+        }
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * end 위치까지 디스크에 반영
+     * - 앞선 fsync 가 이미 end 를 포함했으면 바로 반환하므로, 동시에 기록한 요청은 한 번의 fsync 를 공유
+     */
+    private void sync(int end) {
+        synchronized (syncLock) {
+            if (durablePosition >= end) {
+                return;
+            }
+            int from = durablePosition;
+            int target;
+            synchronized (this) {
+                target = writePosition;
+            }
+            buffer.force(from, target - from);
+            durablePosition = target;
+        }
+    }
+
+    /**
+     * CRC 가 맞는 마지막 레코드의 끝 위치 탐색
+     */
+    private int scanEnd() {
+        int position = 0;
+        CRC32 crc = new CRC32();
+        while (position + HEADER_BYTES <= capacity) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_BYTES + length > capacity) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_BYTES, payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private static byte[] encode(ReservationDto.CreateRequest request) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(request.getCommandId());
+            out.writeLong(request.getUserId());
+            out.writeLong(request.getStoreId());
+            out.writeUTF(request.getPhoneNumber() != null ? request.getPhoneNumber() : "");
+            out.writeUTF(request.getReservedAt().toString());
+            out.writeInt(request.getPartySize() != null ? request.getPartySize() : -1);
+            out.writeInt(request.getDurationMinutes() != null ? request.getDurationMinutes() : -1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static ReservationDto.CreateRequest decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            ReservationDto.CreateRequest request = new ReservationDto.CreateRequest();
+            request.setCommandId(in.readUTF());
+            request.setUserId(in.readLong());
+            request.setStoreId(in.readLong());
+            String phoneNumber = in.readUTF();
+            request.setPhoneNumber(phoneNumber.isEmpty() ? null : phoneNumber);
+            request.setReservedAt(LocalDateTime.parse(in.readUTF()));
+            int partySize = in.readInt();
+            request.setPartySize(partySize >= 0 ? partySize : null);
+            int durationMinutes = in.readInt();
+            request.setDurationMinutes(durationMinutes >= 0 ? durationMinutes : null);
+            return request;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Entry
+     * 저널에 기록된 예약 생성 요청
+     *
+     * @param request 예약 생성 요청
+     * @param end     레코드 끝 위치 (다음 조회 시작 위치)
+     */
+    public record Entry(ReservationDto.CreateRequest request, int end) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.JournalRejection;
+import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.exception.ErrorCode;
+import com.zerobase.storereservation.repository.JournalRejectionRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ReservationJournalReplayer
+ * 저널에 접수된 예약 생성 요청을 DB 에 반영하는 작업
+ * - 1초마다 처리하지 않은 레코드를 기록 순으로 예약 서비스에 전달
+ * - 요청 식별자로 중복을 막으므로 재시작 후 처음부터 다시 처리해도 예약이 두 번 생성되지 않음
+ * - DB 가 아직 복구되지 않았으면(저널에 접수할 때와 같은 연결 장애) 다음 주기에 이어서 처리
+ * - 그 외 실패(지난 시간, 겹치는 예약, 제약 조건 위반 등)는 다시 실행해도 같으므로 건너뛰어 뒤 레코드를 막지 않음
+ * - 거절된 요청은 고객이 임시 접수 ID 로 조회할 수 있도록 거절 사유를 DB 에 기록 (기록하지 못하면 다음 주기에 다시 처리)
+ * - 모든 레코드를 처리하면 저널을 비움
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationJournalReplayer {
+
+    // DB 장애 시 예약 생성 요청을 보관하는 저널
+    private final ReservationJournal reservationJournal;
+
+    // 고객 예약 관련 비즈니스 로직을 처리하는 서비스
+    private final CustomerReservationService customerReservationService;
+
+    // 재처리에서 거절된 요청 데이터 베이스 작업을 처리하는 Repository
+    private final JournalRejectionRepository journalRejectionRepository;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    // 다음에 처리할 저널 위치
+    private int cursor;
+
+    /**
+     * 저널에 남은 요청 처리
+     */
+    @Scheduled(fixedDelay = 1_000)
+    public synchronized void replay() {
+        if (!reservationJournal.isEnabled()) {
+            return;
+        }
+        List<ReservationJournal.Entry> entries = reservationJournal.readFrom(cursor);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        int replayed = 0;
+        for (ReservationJournal.Entry entry : entries) {
+            String commandId = entry.request().getCommandId();
+            ErrorCode rejection = null;
+            try {
+                customerReservationService.createReservation(entry.request());
+                replayed++;
+            } catch (CustomException e) {
+                rejection = e.getErrorCode();
+                loggingUtil.logError("REPLAY RESERVATION",
+                        "재처리 거절: " + commandId + " (" + e.getErrorCode().getCode() + ")");
+            } catch (CannotCreateTransactionException | DataAccessResourceFailureException
+                     | TransientDataAccessException e) {
+                // DB 가 아직 복구되지 않은 경우 다음 주기에 이 레코드부터 다시 처리
+                loggingUtil.logError("REPLAY RESERVATION", "재처리 보류: " + commandId + " (" + e.getMessage() + ")");
+                break;
+            } catch (RuntimeException e) {
+                rejection = ErrorCode.REPLAY_FAILED;
+                loggingUtil.logError("REPLAY RESERVATION", "재처리 실패: " + commandId + " (" + e.getMessage() + ")");
+            }
+            if (rejection != null && !recordRejection(entry.request(), rejection)) {
+                break;
+            }
+            cursor = entry.end();
+        }
+
+        if (reservationJournal.clearIfProcessed(cursor)) {
+            cursor = 0;
+        }
+        if (replayed > 0) {
+            loggingUtil.logSuccess("REPLAY RESERVATION", "재처리된 예약 개수: " + replayed);
+        }
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 거절된 요청과 사유 기록
+     *
+     * @return 기록했거나 다시 시도해도 기록할 수 없으면 true, DB 장애로 다음 주기에 다시 처리해야 하면 false
+     */
+    private boolean recordRejection(ReservationDto.CreateRequest request, ErrorCode errorCode) {
+        try {
+            journalRejectionRepository.save(JournalRejection.builder()
+                    .commandId(request.getCommandId())
+                    .userId(request.getUserId())
+                    .storeId(request.getStoreId())
+                    .reservedAt(request.getReservedAt())
+                    .phoneNumber(request.getPhoneNumber())
+                    .errorCode(errorCode)
+                    .rejectedAt(LocalDateTime.now())
+                    .build());
+            return true;
+        } catch (CannotCreateTransactionException | DataAccessResourceFailureException
+                 | TransientDataAccessException e) {
+            loggingUtil.logError("REPLAY RESERVATION",
+                    "거절 기록 보류: " + request.getCommandId() + " (" + e.getMessage() + ")");
+            return false;
+        } catch (RuntimeException e) {
+            loggingUtil.logError("REPLAY RESERVATION",
+                    "거절 기록 실패: " + request.getCommandId() + " (" + e.getMessage() + ")");
+            return true;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.ReservationRollup;
+import com.zerobase.storereservation.repository.ReservationArchiveRepository;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.repository.ReservationRollupRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * ReservationRollupBackfill
+ * 예약 테이블과 아카이브 테이블 전체를 읽어 집계 테이블을 다시 만드는 작업
+ * - 집계 테이블이 비어 있으면 기동 시 실행 (집계 도입 전 이력 반영)하고, 매주 한 번 다시 실행하여 어긋난 집계를 바로잡음
+ * - 예약은 스트림으로 한 건씩 읽어 집계 키별 합계만 메모리에 유지
+ * - 스냅샷 조회, 기존 집계 삭제, 새 집계 저장을 REPEATABLE READ 한 트랜잭션으로 처리
+ *   (조회 중에 빈 집계가 보이지 않고, 백필 중 변경된 예약의 스냅샷 상태를 같은 스냅샷에서 다시 조회할 수 있음)
+ * - 백필 중 커밋된 변경은 ReservationRollupWriter 가 예약별 마지막 상태로 보정하므로 중복 집계되지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationRollupBackfill {
+
+    // 백필 중 변경된 예약을 한 번에 조회하는 개수
+    private static final int LOOKUP_CHUNK_SIZE = 1_000;
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 아카이브 예약 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationArchiveRepository reservationArchiveRepository;
+
+    // 집계 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRollupRepository reservationRollupRepository;
+
+    // 백필 중 증감 반영을 멈추기 위해 사용
+    private final ReservationRollupWriter reservationRollupWriter;
+
+    // 스트림 조회와 집계 교체를 트랜잭션 안에서 수행하기 위해 사용
+    private final TransactionTemplate transactionTemplate;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    /**
+     * 애플리케이션 기동 완료 시 집계 테이블이 비어 있으면 백필
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (reservationRollupRepository.count() == 0) {
+            backfill();
+        }
+    }
+
+    /**
+     * 매주 월요일 새벽 5시에 집계 테이블을 다시 만들어 어긋난 집계 보정
+     */
+    @Scheduled(cron = "0 0 5 * * MON")
+    public void reconcile() {
+        backfill();
+    }
+
+    /**
+     * 집계 테이블 전체 재생성
+     *
+     * @return 생성된 집계 행 수
+     */
+    public int backfill() {
+        loggingUtil.logRequest("BACKFILL ROLLUPS");
+
+        TransactionTemplate snapshotTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        reservationRollupWriter.pause();
+        try {
+            Integer created = snapshotTransaction.execute(status -> {
+                Map<ReservationRollupWriter.Key, ReservationRollupWriter.Delta> totals = new HashMap<>();
+                try (Stream<ReservationRepository.RollupSource> reservations =
+                             reservationRepository.streamRollupSource()) {
+                    reservations.forEach(source -> accumulate(totals, source));
+                }
+                try (Stream<ReservationRepository.RollupSource> archived =
+                             reservationArchiveRepository.streamRollupSource()) {
+                    archived.forEach(source -> accumulate(totals, source));
+                }
+
+                List<ReservationRollup> rollups = totals.entrySet().stream()
+                        .map(entry -> ReservationRollup.builder()
+                                .storeId(entry.getKey().storeId())
+                                .day(entry.getKey().day())
+                                .hour(entry.getKey().hour())
+                                .status(entry.getKey().status())
+                                .reservationCount(entry.getValue().count())
+                                .arrivedCount(entry.getValue().arrived())
+                                .build())
+                        .toList();
+                reservationRollupRepository.deleteAllInBatch();
+                reservationRollupRepository.saveAll(rollups);
+
+                // 커밋 전에 재개해야 스냅샷 이후 변경이 빠짐없이 보정됨 (반영은 이 트랜잭션의 행 잠금이 풀린 뒤 진행)
+                reservationRollupWriter.resume(this::findSnapshotStates);
+                return rollups.size();
+            });
+
+            loggingUtil.logSuccess("BACKFILL ROLLUPS", "생성된 집계 행 수: " + created);
+            return created != null ? created : 0;
+        } catch (RuntimeException e) {
+            reservationRollupWriter.abort();
+            loggingUtil.logError("BACKFILL ROLLUPS", e.getMessage());
+            throw e;
+        }
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 백필 스냅샷이 본 예약 상태 조회 (스냅샷과 같은 트랜잭션 안에서 호출)
+     */
+    private Map<Long, ReservationRollupWriter.State> findSnapshotStates(Set<Long> reservationIds) {
+        Map<Long, ReservationRollupWriter.State> states = new HashMap<>();
+        List<Long> ids = new ArrayList<>(reservationIds);
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size()));
+            for (ReservationRepository.RollupState source : reservationRepository.findRollupStatesByIdIn(chunk)) {
+                if (source.getStoreId() != null && source.getReservedAt() != null && source.getStatus() != null) {
+                    states.put(source.getId(), new ReservationRollupWriter.State(source.getStoreId(),
+                            source.getReservedAt(), source.getStatus(), source.getArrivedAt() != null));
+                }
+            }
+        }
+        return states;
+    }
+
+    private void accumulate(Map<ReservationRollupWriter.Key, ReservationRollupWriter.Delta> totals,
+                            ReservationRepository.RollupSource source) {
+        if (source.getStoreId() == null || source.getReservedAt() == null || source.getStatus() == null) {
+            return;
+        }
+        totals.merge(ReservationRollupWriter.Key.of(source.getStoreId(), source.getReservedAt(), source.getStatus()),
+                new ReservationRollupWriter.Delta(1, source.getArrivedAt() != null ? 1 : 0),
+                ReservationRollupWriter.Delta::plus);
+    }
+}
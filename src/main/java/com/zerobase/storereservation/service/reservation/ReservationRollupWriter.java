@@ -0,0 +1,281 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.ReservationRollup;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationRollupRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * ReservationRollupWriter
+ * 예약 상태 변경을 매장 x 날짜 x 시간대 x 상태별 집계에 반영하는 컴포넌트
+ * - 커밋된 예약 변경 이벤트마다 새 상태에 +1, 이전 상태에 -1 을 메모리에 모아 둠 (도착 수도 상태를 따라 이동)
+ * - 5초마다 모인 증감을 하나의 트랜잭션으로 집계 테이블에 더하고, 실패하면 다음 주기에 다시 시도
+ * - 백필 중에는 반영을 멈추고 변경된 예약별 마지막 상태를 기록
+ *   (이벤트가 백필 스냅샷보다 먼저 커밋되었는지 알 수 없으므로, 백필이 끝나면 스냅샷이 본 상태를 빼고 마지막 상태를 더함)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationRollupWriter {
+
+    // 집계 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRollupRepository reservationRollupRepository;
+
+    // 모인 증감을 하나의 트랜잭션으로 반영하기 위해 사용
+    private final TransactionTemplate transactionTemplate;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    // 집계 키 -> 반영 대기 중인 증감
+    private final Map<Key, Delta> pending = new ConcurrentHashMap<>();
+
+    // 백필 중이면 true (반영하지 않고 증감만 모음)
+    private volatile boolean paused;
+
+    // 백필 중 변경된 예약 ID -> 마지막 상태 (this 로 동기화)
+    private final Map<Long, State> touched = new HashMap<>();
+
+    /**
+     * 예약 변경 이벤트 반영
+     * - 생성은 새 상태에 +1, 상태 변경은 이전 상태 -1 과 새 상태 +1 (도착한 예약이면 도착 수도 함께 이동)
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @Order(7)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.getStoreId() == null || event.getReservedAt() == null) {
+            return;
+        }
+        if (!event.isCreated()
+                && (event.getPreviousStatus() == null || event.getPreviousStatus() == event.getStatus())) {
+            return;
+        }
+        State state = new State(event.getStoreId(), event.getReservedAt(), event.getStatus(), event.isArrived());
+        long arrived = event.isArrived() ? 1 : 0;
+        collect(event.getReservationId(), state, () -> {
+            if (!event.isCreated()) {
+                add(Key.of(event.getStoreId(), event.getReservedAt(), event.getPreviousStatus()),
+                        new Delta(-1, -arrived));
+            }
+            add(state.key(), new Delta(1, arrived));
+        });
+    }
+
+    /**
+     * 도착 반영 (도착 시간이 처음 저장된 예약만 호출)
+     *
+     * @param reservationId 예약 ID
+     * @param storeId       매장 ID
+     * @param reservedAt    예약 시간
+     * @param status        예약 상태
+     */
+    public void recordArrival(Long reservationId, Long storeId, LocalDateTime reservedAt, ReservationStatus status) {
+        if (storeId == null || reservedAt == null || status == null) {
+            return;
+        }
+        State state = new State(storeId, reservedAt, status, true);
+        collect(reservationId, state, () -> add(state.key(), new Delta(0, 1)));
+    }
+
+    /**
+     * 반영 대기 중인 집계 키 수
+     *
+     * @return 집계 키 수
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 모인 증감을 집계 테이블에 반영
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public synchronized void flush() {
+        if (paused || pending.isEmpty()) {
+            return;
+        }
+
+        Map<Key, Delta> batch = drain();
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::apply));
+        } catch (RuntimeException e) {
+            batch.forEach(this::add);
+            loggingUtil.logError("FLUSH ROLLUPS", "집계 반영 실패, 다음 주기에 재시도: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 남은 증감 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 백필 시작 (진행 중인 반영이 끝날 때까지 대기)
+     * - 이후 변경된 예약은 마지막 상태를 기록 (증감도 계속 모아 두었다가 백필이 실패하면 그대로 반영)
+     */
+    synchronized void pause() {
+        paused = true;
+        touched.clear();
+    }
+
+    /**
+     * 백필 완료 (백필 트랜잭션 안에서 호출, 다음 주기부터 다시 반영)
+     * - 모인 증감은 스냅샷과 겹칠 수 있으므로 버리고, 백필 중 변경된 예약마다
+     *   스냅샷이 본 상태를 빼고 마지막 상태를 더함 (스냅샷에 없던 예약은 더하기만 함)
+     *
+     * @param snapshot 예약 ID 목록 -> 백필 스냅샷이 본 예약 상태 (스냅샷과 같은 트랜잭션에서 조회)
+     */
+    synchronized void resume(Function<Set<Long>, Map<Long, State>> snapshot) {
+        pending.clear();
+        Map<Long, State> seen = touched.isEmpty() ? Map.of() : snapshot.apply(touched.keySet());
+        touched.forEach((reservationId, state) -> {
+            State before = seen.get(reservationId);
+            if (before != null) {
+                add(before.key(), new Delta(-1, before.arrived() ? -1 : 0));
+            }
+            add(state.key(), new Delta(1, state.arrived() ? 1 : 0));
+        });
+        touched.clear();
+        paused = false;
+    }
+
+    /**
+     * 백필 실패 (집계 테이블이 그대로이므로 모아 둔 증감을 다음 주기부터 반영)
+     */
+    synchronized void abort() {
+        touched.clear();
+        paused = false;
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 증감을 모음 (백필 중이면 예약의 마지막 상태도 기록, 도착은 한 번 기록되면 유지)
+     * - 백필 중에는 기록과 증감을 resume() 과 같은 잠금 안에서 처리하여 둘 중 하나만 반영되는 경우가 없게 함
+     */
+    private void collect(Long reservationId, State state, Runnable deltas) {
+        if (paused) {
+            synchronized (this) {
+                if (paused) {
+                    if (reservationId != null) {
+                        touched.merge(reservationId, state, (previous, latest) ->
+                                previous.arrived() && !latest.arrived()
+                                        ? new State(latest.storeId(), latest.reservedAt(), latest.status(), true)
+                                        : latest);
+                    }
+                    deltas.run();
+                    return;
+                }
+            }
+        }
+        deltas.run();
+    }
+
+    private void add(Key key, Delta delta) {
+        pending.merge(key, delta, Delta::plus);
+    }
+
+    /**
+     * 반영 대기 중인 증감을 모두 꺼냄
+     */
+    private Map<Key, Delta> drain() {
+        Map<Key, Delta> batch = new HashMap<>();
+        for (Key key : new ArrayList<>(pending.keySet())) {
+            Delta delta = pending.remove(key);
+            if (delta != null && !delta.isZero()) {
+                batch.put(key, delta);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * 집계 행에 증감을 더함 (행이 없으면 생성)
+     */
+    private void apply(Key key, Delta delta) {
+        ReservationRollup rollup = reservationRollupRepository
+                .findForUpdate(key.storeId(), key.day(), key.hour(), key.status())
+                .orElseGet(() -> ReservationRollup.builder()
+                        .storeId(key.storeId())
+                        .day(key.day())
+                        .hour(key.hour())
+                        .status(key.status())
+                        .build());
+        rollup.setReservationCount(rollup.getReservationCount() + delta.count());
+        rollup.setArrivedCount(rollup.getArrivedCount() + delta.arrived());
+        if (rollup.getId() == null) {
+            reservationRollupRepository.save(rollup);
+        }
+    }
+
+    /**
+     * Key
+     * 집계 키
+     *
+     * @param storeId 매장 ID
+     * @param day     예약 날짜
+     * @param hour    예약 시간대
+     * @param status  예약 상태
+     */
+    record Key(Long storeId, LocalDate day, int hour, ReservationStatus status) {
+
+        static Key of(Long storeId, LocalDateTime reservedAt, ReservationStatus status) {
+            return new Key(storeId, reservedAt.toLocalDate(), reservedAt.getHour(), status);
+        }
+    }
+
+    /**
+     * State
+     * 집계에 반영되는 예약 하나의 상태
+     *
+     * @param storeId    매장 ID
+     * @param reservedAt 예약 시간
+     * @param status     예약 상태
+     * @param arrived    도착 기록 여부
+     */
+    record State(Long storeId, LocalDateTime reservedAt, ReservationStatus status, boolean arrived) {
+
+        Key key() {
+            return Key.of(storeId, reservedAt, status);
+        }
+    }
+
+    /**
+     * Delta
+     * 집계 증감
+     *
+     * @param count   예약 수 증감
+     * @param arrived 도착 수 증감
+     */
+    record Delta(long count, long arrived) {
+
+        Delta plus(Delta other) {
+            return new Delta(count + other.count, arrived + other.arrived);
+        }
+
+        boolean isZero() {
+            return count == 0 && arrived == 0;
+        }
+    }
+}
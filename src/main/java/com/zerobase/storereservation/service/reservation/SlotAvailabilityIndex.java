@@ -0,0 +1,719 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.zerobase.storereservation.entity.Reservation.DEFAULT_DURATION_MINUTES;
+import static com.zerobase.storereservation.exception.ErrorCode.STORE_NOT_FOUND;
+
+/**
+ * SlotAvailabilityIndex
+ * 매장별, 날짜별 예약 가능 시간을 비트셋으로 유지하는 인메모리 인덱스
+ * - 하루를 매장의 예약 시간 단위(슬롯)로 나누고, 수용 단위마다 슬롯당 1비트(long[] 워드)를 사용
+ * - 모든 수용 단위의 비트가 채워진 슬롯만 예약 불가이므로 워드 단위 AND 연산으로 빈 슬롯을 계산
+ * - 예약은 예약 시간부터 이용 종료 시간 전까지 걸치는 모든 슬롯을 차지
+ * - 날짜별 비트셋은 처음 조회할 때 DB 에서 적재하고, 이후에는 예약 변경 이벤트로 갱신
+ *   (적재는 잠금 밖에서 하고, 적재 중에 들어온 이벤트는 모아 두었다가 적재가 끝나면 반영)
+ * - 조회는 오늘부터 BOOKING_HORIZON_DAYS 일까지만 받고, 비트셋은 최근에 사용한 MAX_DAYS 개까지만 보관
+ * - 테이블이 없는 매장의 예약 생성은 tryHold() 로 걸치는 슬롯을 한꺼번에 선점하여 수용 단위를 넘지 않게 함
+ * - 테이블이 있는 매장은 예약 생성과 같은 기준이 되도록 슬롯마다 TableAllocator 로 배정 가능 여부를 확인
+ *   (비트셋은 영업 시간과 슬롯 단위를 계산하는 데만 사용)
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotAvailabilityIndex {
+
+    // 매장 수용 단위 기본값
+    static final int DEFAULT_CAPACITY = 1;
+
+    // 예약 시간 단위 기본값 (분)
+    static final int DEFAULT_SLOT_MINUTES = 30;
+
+    // 영업 시작 시간 기본값
+    static final LocalTime DEFAULT_OPEN_TIME = LocalTime.of(10, 0);
+
+    // 영업 종료 시간 기본값
+    static final LocalTime DEFAULT_CLOSE_TIME = LocalTime.of(22, 0);
+
+    // 예약 가능 시간을 조회할 수 있는 기간 (오늘부터, 일)
+    public static final int BOOKING_HORIZON_DAYS = 60;
+
+    // 보관하는 최대 비트셋 수 (넘으면 가장 오래 사용하지 않은 비트셋부터 제거)
+    static final int MAX_DAYS = 20_000;
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 매장 관련 데이터 베이스 작업을 처리하는 Repository
+    private final StoreRepository storeRepository;
+
+    // 테이블 배정기 (테이블이 있는 매장의 예약 가능 여부 확인)
+    private final TableAllocator tableAllocator;
+
+    // (매장 ID, 날짜) -> 날짜별 비트셋 (접근 순서, days 로 동기화)
+    // - 선점 중인 비트셋은 제거하지 않음 (제거하면 저장 전인 예약의 선점이 사라짐)
+    private final Map<DayKey, DayBitmap> days = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<DayKey, DayBitmap> eldest) {
+            return size() > MAX_DAYS && !eldest.getValue().hasHolds();
+        }
+    };
+
+    // 적재 중인 날짜 -> 적재 중에 들어온 예약 변경 이벤트 (days 로 동기화)
+    private final Map<DayKey, List<ReservationChangedEvent>> loading = new HashMap<>();
+
+    /**
+     * 기간 내 예약 가능한 시간 조회
+     *
+     * @param storeId   매장 ID
+     * @param from      조회 시작 날짜 (포함)
+     * @param to        조회 종료 날짜 (포함)
+     * @param notBefore 이 시간 이전의 슬롯은 제외
+     * @return 예약 가능한 시간 목록 (시간 순)
+     */
+    public List<LocalDateTime> findFreeSlots(
+            Long storeId, LocalDate from, LocalDate to, LocalDateTime notBefore) {
+        List<LocalDateTime> freeSlots = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            DayBitmap bitmap = day(storeId, date);
+            long[] free = freeWords(storeId, bitmap, bitmap.firstSlotAtOrAfter(notBefore));
+            for (int word = 0; word < free.length; word++) {
+                long bits = free[word];
+                while (bits != 0) {
+                    int slot = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    freeSlots.add(bitmap.slotStart(slot));
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return freeSlots;
+    }
+
+    /**
+     * 가장 빠른 예약 가능 시간 조회
+     * - 첫 빈 슬롯을 찾으면 이후 날짜는 적재하지 않음
+     *
+     * @param storeId   매장 ID
+     * @param notBefore 검색 시작 시간
+     * @param until     검색 종료 날짜 (포함)
+     * @return 가장 빠른 예약 가능 시간 (없으면 empty)
+     */
+    public Optional<LocalDateTime> findNextFreeSlot(
+            Long storeId, LocalDateTime notBefore, LocalDate until) {
+        for (LocalDate date = notBefore.toLocalDate(); !date.isAfter(until); date = date.plusDays(1)) {
+            DayBitmap bitmap = day(storeId, date);
+            long[] free = freeWords(storeId, bitmap, bitmap.firstSlotAtOrAfter(notBefore));
+            for (int word = 0; word < free.length; word++) {
+                if (free[word] != 0) {
+                    int slot = word * Long.SIZE + Long.numberOfTrailingZeros(free[word]);
+                    return Optional.of(bitmap.slotStart(slot));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 예약 가능 시간을 조회할 수 있는 날짜인지 확인
+     *
+     * @param date 날짜
+     * @return 오늘부터 BOOKING_HORIZON_DAYS 일 이내이면 true
+     */
+    public static boolean withinHorizon(LocalDate date) {
+        LocalDate today = LocalDate.now();
+        return !date.isBefore(today) && !date.isAfter(today.plusDays(BOOKING_HORIZON_DAYS));
+    }
+
+    /**
+     * 특정 시간에 예약 가능한지 확인
+     *
+     * @param storeId 매장 ID
+     * @param at      예약 희망 시간
+     * @return 해당 슬롯에 빈 수용 단위가 있으면 true (테이블이 있는 매장은 기본 이용 시간 동안 빈 테이블이 있으면 true)
+     */
+    public boolean isFree(Long storeId, LocalDateTime at) {
+        DayBitmap bitmap = day(storeId, at.toLocalDate());
+        if (tableAllocator.hasTables(storeId)) {
+            return bitmap.slotOf(at) >= 0
+                    && tableAllocator.isAvailable(storeId, at, at.plusMinutes(DEFAULT_DURATION_MINUTES), 1);
+        }
+        return bitmap.isFree(at);
+    }
+
+    /**
+     * 이용 시간 동안 예약을 받을 수 있는지 확인 (예약 생성과 같은 기준)
+     * - 테이블이 있는 매장은 인원과 이용 시간에 맞는 빈 테이블이 있는지 TableAllocator 로 확인
+     * - 테이블이 없는 매장은 걸치는 모든 슬롯에 빈 수용 단위가 있는지 확인 (수용 단위는 인원과 무관하게 예약 1건)
+     *
+     * @param storeId   매장 ID
+     * @param start     이용 시작 시간
+     * @param end       이용 종료 시간 (미포함)
+     * @param partySize 예약 인원
+     * @return 예약을 받을 수 있으면 true
+     */
+    public boolean isAvailable(Long storeId, LocalDateTime start, LocalDateTime end, int partySize) {
+        if (tableAllocator.hasTables(storeId)) {
+            return tableAllocator.isAvailable(storeId, start, end, partySize);
+        }
+        return day(storeId, start.toLocalDate()).canHold(start, end);
+    }
+
+    /**
+     * 이용 시간 동안 걸치는 모든 슬롯에 빈 수용 단위가 있으면 한꺼번에 선점
+     * - 예약 저장에 성공하면 assign(), 실패하면 release() 를 호출해야 함
+     *
+     * @param storeId 매장 ID
+     * @param start   이용 시작 시간
+     * @param end     이용 종료 시간 (미포함)
+     * @return 선점한 슬롯 (영업 시간 밖이거나 빈 수용 단위가 없는 슬롯이 있으면 empty)
+     */
+    public Optional<Hold> tryHold(Long storeId, LocalDateTime start, LocalDateTime end) {
+        DayKey key = new DayKey(storeId, start.toLocalDate());
+        Hold hold = new Hold(key, start, end);
+        return day(storeId, key.date()).tryHold(hold) ? Optional.of(hold) : Optional.empty();
+    }
+
+    /**
+     * 선점한 슬롯을 저장된 예약과 연결
+     *
+     * @param hold          선점한 슬롯
+     * @param reservationId 예약 ID
+     */
+    public void assign(Hold hold, Long reservationId) {
+        DayBitmap bitmap = cached(hold.key);
+        if (bitmap != null) {
+            bitmap.assign(hold, reservationId);
+        }
+    }
+
+    /**
+     * 선점한 슬롯 해제 (예약 저장 실패 시)
+     *
+     * @param hold 선점한 슬롯
+     */
+    public void release(Hold hold) {
+        DayBitmap bitmap = cached(hold.key);
+        if (bitmap != null) {
+            bitmap.releaseHold(hold);
+        }
+    }
+
+    /**
+     * 기간 내 날짜별 비트셋을 미리 적재 (이미 적재된 날짜는 건너뜀)
+     *
+     * @param storeId 매장 ID
+     * @param from    시작 날짜 (포함)
+     * @param to      종료 날짜 (포함)
+     */
+    public void preload(Long storeId, LocalDate from, LocalDate to) {
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            day(storeId, date);
+        }
+    }
+
+    /**
+     * 매장의 예약 시간 단위 조회
+     *
+     * @param storeId 매장 ID
+     * @param date    날짜
+     * @return 예약 시간 단위 (분)
+     */
+    public int slotMinutes(Long storeId, LocalDate date) {
+        return day(storeId, date).slotMinutes;
+    }
+
+    /**
+     * 예약 변경 이벤트 반영
+     * - 이미 적재된 날짜만 갱신하며, 적재되지 않은 날짜는 처음 조회할 때 DB 에서 읽음
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @Order(2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        DayKey key = new DayKey(event.getStoreId(), event.getReservedAt().toLocalDate());
+        DayBitmap bitmap;
+        synchronized (days) {
+            bitmap = days.get(key);
+            List<ReservationChangedEvent> buffered = loading.get(key);
+            if (bitmap == null && buffered != null) {
+                buffered.add(event);
+                return;
+            }
+        }
+        if (bitmap != null) {
+            apply(bitmap, event);
+        }
+    }
+
+    /**
+     * 매장의 비트셋 제거 (영업 시간, 수용 단위 등 매장 설정이 바뀐 경우)
+     *
+     * @param storeId 매장 ID
+     */
+    public void invalidateStore(Long storeId) {
+        synchronized (days) {
+            days.keySet().removeIf(key -> key.storeId().equals(storeId));
+        }
+    }
+
+    /**
+     * 매일 자정에 지난 날짜의 비트셋 제거
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        synchronized (days) {
+            days.keySet().removeIf(key -> key.date().isBefore(today));
+        }
+    }
+
+    /**
+     * 보관 중인 비트셋 수
+     *
+     * @return 비트셋 수
+     */
+    int cachedDays() {
+        synchronized (days) {
+            return days.size();
+        }
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 빈 슬롯 비트 계산 (startSlot 이전 슬롯은 제외)
+     * - 테이블이 있는 매장은 슬롯마다 기본 이용 시간 동안 배정 가능한 테이블이 있는지 TableAllocator 로 확인
+     */
+    private long[] freeWords(Long storeId, DayBitmap bitmap, int startSlot) {
+        if (!tableAllocator.hasTables(storeId)) {
+            return bitmap.freeWords(startSlot);
+        }
+        long[] free = new long[(bitmap.slotCount + Long.SIZE - 1) / Long.SIZE];
+        for (int slot = startSlot; slot < bitmap.slotCount; slot++) {
+            LocalDateTime start = bitmap.slotStart(slot);
+            if (tableAllocator.isAvailable(storeId, start, start.plusMinutes(DEFAULT_DURATION_MINUTES), 1)) {
+                free[slot / Long.SIZE] |= 1L << (slot % Long.SIZE);
+            }
+        }
+        return free;
+    }
+
+    /**
+     * 날짜별 비트셋 조회 (없으면 DB 에서 적재)
+     * - DB 조회는 잠금 밖에서 하고, 그동안 들어온 이벤트는 적재가 끝난 뒤 반영
+     *   (이벤트는 예약 ID 기준으로 반영하므로 적재 결과에 이미 포함된 예약이 다시 반영되어도 같음)
+     * - 같은 날짜를 동시에 적재하면 먼저 끝난 결과를 사용
+     */
+    private DayBitmap day(Long storeId, LocalDate date) {
+        DayKey key = new DayKey(storeId, date);
+        synchronized (days) {
+            DayBitmap cached = days.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            loading.computeIfAbsent(key, k -> new ArrayList<>());
+        }
+
+        DayBitmap loaded;
+        try {
+            loaded = loadDay(key);
+        } catch (RuntimeException e) {
+            synchronized (days) {
+                loading.remove(key);
+            }
+            throw e;
+        }
+
+        List<ReservationChangedEvent> buffered;
+        synchronized (days) {
+            DayBitmap cached = days.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            buffered = loading.remove(key);
+            if (buffered != null) {
+                buffered.forEach(event -> apply(loaded, event));
+            }
+            days.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 보관 중인 비트셋 조회 (적재하지 않음)
+     */
+    private DayBitmap cached(DayKey key) {
+        synchronized (days) {
+            return days.get(key);
+        }
+    }
+
+    /**
+     * 예약 변경 이벤트를 비트셋에 반영
+     */
+    private void apply(DayBitmap bitmap, ReservationChangedEvent event) {
+        if (event.getStatus().isActive()) {
+            bitmap.occupy(event.getReservationId(), event.getReservedAt(), event.getEndAt());
+        } else {
+            bitmap.release(event.getReservationId());
+        }
+    }
+
+    /**
+     * 매장 설정과 해당 날짜의 예약으로 비트셋 생성
+     * - 이벤트와 적재가 겹쳐도 같은 예약이 두 번 반영되지 않도록 예약 ID 기준으로 기록
+     */
+    private DayBitmap loadDay(DayKey key) {
+        Store store = storeRepository.findById(key.storeId())
+                .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
+        DayBitmap bitmap = new DayBitmap(store, key.date());
+
+        List<Reservation> reservations = reservationRepository.findByStoreIdAndReservedAtBetween(
+                key.storeId(), bitmap.openAt, bitmap.closeAt.minusNanos(1));
+        for (Reservation reservation : reservations) {
+            if (reservation.getStatus().isActive()) {
+                bitmap.occupy(reservation.getId(), reservation.getReservedAt(), reservation.calculateEndAt());
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * 비트셋 키 (매장 ID, 날짜)
+     */
+    record DayKey(Long storeId, LocalDate date) {
+    }
+
+    /**
+     * Hold
+     * 예약 저장 전에 선점한 슬롯 구간
+     */
+    public static final class Hold {
+        private final DayKey key;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        Hold(DayKey key, LocalDateTime start, LocalDateTime end) {
+            this.key = key;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * DayBitmap
+     * 매장 하루의 슬롯 비트셋 (동기화는 인스턴스 단위로 처리)
+     */
+    static final class DayBitmap {
+
+        // 영업 시작 시각
+        private final LocalDateTime openAt;
+
+        // 영업 종료 시각 (미포함)
+        private final LocalDateTime closeAt;
+
+        // 예약 시간 단위 (분)
+        private final int slotMinutes;
+
+        // 하루 슬롯 수
+        private final int slotCount;
+
+        // 수용 단위별 슬롯 비트 (1 이면 예약됨)
+        private final long[][] units;
+
+        // 예약 ID -> 차지한 슬롯별 (수용 단위, 슬롯), 수용 단위를 넘긴 슬롯은 단위 -1
+        private final Map<Long, List<int[]>> placements = new HashMap<>();
+
+        // 아직 예약과 연결되지 않은 선점 -> 차지한 슬롯별 (수용 단위, 슬롯)
+        private final Map<Hold, List<int[]>> holds = new HashMap<>();
+
+        DayBitmap(Store store, LocalDate date) {
+            int capacity = store.getCapacity() != null && store.getCapacity() > 0
+                    ? store.getCapacity() : DEFAULT_CAPACITY;
+            this.slotMinutes = store.getSlotMinutes() != null && store.getSlotMinutes() > 0
+                    ? store.getSlotMinutes() : DEFAULT_SLOT_MINUTES;
+            LocalTime open = store.getOpenTime() != null ? store.getOpenTime() : DEFAULT_OPEN_TIME;
+            LocalTime close = store.getCloseTime() != null ? store.getCloseTime() : DEFAULT_CLOSE_TIME;
+
+            this.openAt = date.atTime(open);
+            // 종료 시간이 시작 시간보다 빠르면 자정까지 영업하는 것으로 처리
+            this.closeAt = close.isAfter(open) ? date.atTime(close) : date.plusDays(1).atStartOfDay();
+            this.slotCount = (int) (Duration.between(openAt, closeAt).toMinutes() / slotMinutes);
+            this.units = new long[capacity][(slotCount + Long.SIZE - 1) / Long.SIZE];
+        }
+
+        /**
+         * 예약 시간부터 이용 종료 시간 전까지 걸치는 슬롯마다 비어 있는 수용 단위를 차지
+         * - 슬롯마다 수용 단위를 따로 고르며, 빈 단위가 없는 슬롯은 단위 -1 로 기록
+         */
+        synchronized void occupy(Long reservationId, LocalDateTime reservedAt, LocalDateTime endAt) {
+            if (placements.containsKey(reservationId)) {
+                return;
+            }
+            // 커밋 이벤트가 assign() 보다 먼저 오면 같은 구간의 선점을 넘겨받아 두 번 차지하지 않음
+            for (Map.Entry<Hold, List<int[]>> held : holds.entrySet()) {
+                Hold hold = held.getKey();
+                if (hold.start.equals(reservedAt) && hold.end.equals(endAt)) {
+                    placements.put(reservationId, held.getValue());
+                    holds.remove(hold);
+                    return;
+                }
+            }
+            int first = firstSlotOf(reservedAt);
+            int end = endSlotOf(endAt != null ? endAt : reservedAt.plusMinutes(slotMinutes));
+            if (first >= end) {
+                return;
+            }
+            List<int[]> occupied = new ArrayList<>(end - first);
+            for (int slot = first; slot < end; slot++) {
+                occupied.add(new int[]{occupyUnit(slot), slot});
+            }
+            placements.put(reservationId, occupied);
+        }
+
+        /**
+         * 시작 시간이 영업 시간 안이고 걸치는 모든 슬롯에 빈 수용 단위가 있는지 확인
+         */
+        synchronized boolean canHold(LocalDateTime start, LocalDateTime endAt) {
+            if (slotOf(start) < 0) {
+                return false;
+            }
+            int first = firstSlotOf(start);
+            int end = Math.max(first + 1, endSlotOf(endAt));
+            for (int slot = first; slot < end; slot++) {
+                if (!hasFreeUnit(slot)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        synchronized boolean hasHolds() {
+            return !holds.isEmpty();
+        }
+
+        /**
+         * 걸치는 모든 슬롯에 빈 수용 단위가 있을 때만 슬롯마다 수용 단위를 차지
+         *
+         * @return 선점했으면 true
+         */
+        synchronized boolean tryHold(Hold hold) {
+            if (!canHold(hold.start, hold.end)) {
+                return false;
+            }
+            int first = firstSlotOf(hold.start);
+            int end = Math.max(first + 1, endSlotOf(hold.end));
+            List<int[]> occupied = new ArrayList<>(end - first);
+            for (int slot = first; slot < end; slot++) {
+                occupied.add(new int[]{occupyUnit(slot), slot});
+            }
+            holds.put(hold, occupied);
+            return true;
+        }
+
+        /**
+         * 선점을 예약과 연결 (이벤트로 이미 반영된 예약이면 선점한 단위를 반환)
+         */
+        synchronized void assign(Hold hold, Long reservationId) {
+            List<int[]> occupied = holds.remove(hold);
+            if (occupied == null) {
+                return;
+            }
+            if (placements.containsKey(reservationId)) {
+                releaseAll(occupied);
+            } else {
+                placements.put(reservationId, occupied);
+            }
+        }
+
+        /**
+         * 선점한 수용 단위 반환
+         */
+        synchronized void releaseHold(Hold hold) {
+            List<int[]> occupied = holds.remove(hold);
+            if (occupied != null) {
+                releaseAll(occupied);
+            }
+        }
+
+        /**
+         * 예약이 차지한 수용 단위를 슬롯마다 반환
+         * - 같은 슬롯에 수용 단위를 넘겨 기록된 예약이 있으면 반환된 단위를 넘겨받음
+         */
+        synchronized void release(Long reservationId) {
+            List<int[]> occupied = placements.remove(reservationId);
+            if (occupied != null) {
+                releaseAll(occupied);
+            }
+        }
+
+        /**
+         * 예약 시간이 속한 슬롯에 빈 수용 단위가 있는지 확인
+         */
+        synchronized boolean isFree(LocalDateTime at) {
+            int slot = slotOf(at);
+            if (slot < 0) {
+                return false;
+            }
+            return hasFreeUnit(slot);
+        }
+
+        /**
+         * 빈 슬롯 비트 계산 (startSlot 이전 슬롯은 제외)
+         * - 모든 수용 단위가 예약된 슬롯만 0 이 되도록 워드 단위로 AND 후 반전
+         */
+        synchronized long[] freeWords(int startSlot) {
+            long[] free = new long[units.length == 0 ? 0 : units[0].length];
+            for (int word = 0; word < free.length; word++) {
+                long occupied = -1L;
+                for (long[] unit : units) {
+                    occupied &= unit[word];
+                }
+                free[word] = ~occupied & validMask(word, startSlot);
+            }
+            return free;
+        }
+
+        /**
+         * 지정된 시간 이후 첫 슬롯 번호
+         */
+        int firstSlotAtOrAfter(LocalDateTime time) {
+            if (!time.isAfter(openAt)) {
+                return 0;
+            }
+            long minutes = Duration.between(openAt, time).toMinutes();
+            int slot = (int) Math.min(slotCount, (minutes + slotMinutes - 1) / slotMinutes);
+            return slotStart(slot).isBefore(time) ? Math.min(slotCount, slot + 1) : slot;
+        }
+
+        /**
+         * 슬롯 시작 시각
+         */
+        LocalDateTime slotStart(int slot) {
+            return openAt.plusMinutes((long) slot * slotMinutes);
+        }
+
+        /**
+         * 슬롯에 비어 있는 수용 단위가 있는지 확인
+         */
+        private boolean hasFreeUnit(int slot) {
+            long bit = 1L << (slot % Long.SIZE);
+            for (long[] unit : units) {
+                if ((unit[slot / Long.SIZE] & bit) == 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 차지한 슬롯별 수용 단위를 모두 반환 (넘겨 기록된 슬롯은 건너뜀)
+         */
+        private void releaseAll(List<int[]> occupied) {
+            for (int[] placement : occupied) {
+                if (placement[0] >= 0) {
+                    releaseUnit(placement[0], placement[1]);
+                }
+            }
+        }
+
+        /**
+         * 슬롯에서 비어 있는 수용 단위 하나를 차지
+         *
+         * @return 차지한 수용 단위 (모두 찼으면 -1)
+         */
+        private int occupyUnit(int slot) {
+            int word = slot / Long.SIZE;
+            long bit = 1L << (slot % Long.SIZE);
+            for (int unit = 0; unit < units.length; unit++) {
+                if ((units[unit][word] & bit) == 0) {
+                    units[unit][word] |= bit;
+                    return unit;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 슬롯의 수용 단위 반환 (같은 슬롯에서 단위를 기다리는 예약이 있으면 넘겨줌)
+         */
+        private void releaseUnit(int unit, int slot) {
+            for (List<int[]> occupied : placements.values()) {
+                for (int[] waiting : occupied) {
+                    if (waiting[0] < 0 && waiting[1] == slot) {
+                        waiting[0] = unit;
+                        return;
+                    }
+                }
+            }
+            units[unit][slot / Long.SIZE] &= ~(1L << (slot % Long.SIZE));
+        }
+
+        /**
+         * 예약 시작 시간이 걸치는 첫 슬롯 번호 (영업 시작 전이면 0)
+         */
+        private int firstSlotOf(LocalDateTime reservedAt) {
+            if (!reservedAt.isAfter(openAt)) {
+                return 0;
+            }
+            return (int) Math.min(slotCount, Duration.between(openAt, reservedAt).toMinutes() / slotMinutes);
+        }
+
+        /**
+         * 이용 종료 시간 직전까지 걸치는 마지막 슬롯 다음 번호 (영업 종료 후이면 slotCount)
+         */
+        private int endSlotOf(LocalDateTime endAt) {
+            if (!endAt.isAfter(openAt)) {
+                return 0;
+            }
+            long minutes = Duration.between(openAt, endAt).toMinutes();
+            return (int) Math.min(slotCount, (minutes + slotMinutes - 1) / slotMinutes);
+        }
+
+        /**
+         * 예약 시간이 속한 슬롯 번호 (영업 시간 밖이면 -1)
+         */
+        private int slotOf(LocalDateTime reservedAt) {
+            if (reservedAt.isBefore(openAt) || !reservedAt.isBefore(closeAt)) {
+                return -1;
+            }
+            int slot = (int) (Duration.between(openAt, reservedAt).toMinutes() / slotMinutes);
+            return slot < slotCount ? slot : -1;
+        }
+
+        /**
+         * 워드에서 유효한 슬롯 (startSlot 이상, slotCount 미만) 비트 마스크
+         */
+        private long validMask(int word, int startSlot) {
+            int low = Math.max(0, startSlot - word * Long.SIZE);
+            int high = Math.min(Long.SIZE, slotCount - word * Long.SIZE);
+            if (low >= high) {
+                return 0L;
+            }
+            long upper = high == Long.SIZE ? -1L : (1L << high) - 1;
+            long lower = (1L << low) - 1;
+            return upper & ~lower;
+        }
+    }
+}
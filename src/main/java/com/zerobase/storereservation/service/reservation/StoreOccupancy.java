@@ -0,0 +1,374 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StoreOccupancy
+ * 매장별 현재 착석 인원과 향후 1시간 도착 예정 인원을 카운터로 유지하는 컴포넌트
+ * - 착석 인원은 LongAdder 하나, 도착 예정 인원은 분 단위 LongAdder 버킷으로 관리하여 조회 시 범위 스캔이 없음
+ * - 체크인 시 도착 예정에서 착석으로 옮기고, 취소/거절/만료 시 도착 예정에서 빼며, 이용 시간이 끝나면 착석에서 뺌
+ * - 매장별로 처음 조회할 때 당일 예약을 적재하며, 날짜가 바뀌면 다시 적재
+ * - IDLE_EVICT_MINUTES 동안 조회되지 않은 매장과 삭제된 매장은 카운터를 버림 (다시 조회하면 적재)
+ * - 적재된 매장의 카운터만 store.occupancy.seated, store.occupancy.expected 다중 게이지로 노출
+ *   (게이지는 메모리의 카운터만 읽으며 DB 를 조회하지 않고, 버린 매장의 행은 함께 제거)
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreOccupancy {
+
+    // 자정 전에 입장하여 아직 이용 중인 예약을 포함하기 위해 전날부터 적재하는 시간
+    static final long LOOKBEHIND_HOURS = 12;
+
+    // 도착 예정 인원을 계산하는 기간 (분)
+    static final long EXPECTED_WINDOW_MINUTES = 60;
+
+    // 조회가 없으면 카운터를 버리는 시간 (분)
+    static final long IDLE_EVICT_MINUTES = 60;
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 매장별 게이지를 등록하는 레지스트리
+    private final MeterRegistry meterRegistry;
+
+    // 매장 ID -> 매장 카운터
+    private final Map<Long, StoreCounters> stores = new ConcurrentHashMap<>();
+
+    // 적재된 매장별 착석 인원, 도착 예정 인원 게이지 (처음 적재할 때 등록)
+    private MultiGauge seatedGauge;
+    private MultiGauge expectedGauge;
+
+    /**
+     * 현재 착석 인원 조회
+     *
+     * @param storeId 매장 ID
+     * @return 체크인 후 이용 시간이 끝나지 않은 인원
+     */
+    public long seated(Long storeId) {
+        return counters(storeId).seated.sum();
+    }
+
+    /**
+     * 향후 1시간 도착 예정 인원 조회
+     *
+     * @param storeId 매장 ID
+     * @return 지금부터 1시간 안에 시작하는 예약 중 아직 체크인하지 않은 인원
+     */
+    public long expectedNextHour(Long storeId) {
+        return counters(storeId).expectedFrom(LocalDateTime.now());
+    }
+
+    /**
+     * 체크인 반영 (도착 예정에서 착석으로 이동)
+     * - 이미 적재된 매장만 갱신하며, 적재 전이면 적재 시 DB 의 도착 시간으로 반영됨
+     *
+     * @param storeId       매장 ID
+     * @param reservationId 예약 ID
+     */
+    public void onArrival(Long storeId, Long reservationId) {
+        StoreCounters counters = stores.get(storeId);
+        if (counters != null) {
+            counters.arrive(reservationId);
+        }
+    }
+
+    /**
+     * 예약 변경 이벤트 반영
+     * - 새로 생기거나 승인된 예약은 도착 예정에 더하고, 취소/거절/만료된 예약은 뺌
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @Order(6)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        StoreCounters counters = stores.get(event.getStoreId());
+        if (counters == null || event.getReservedAt() == null) {
+            return;
+        }
+        if (event.getStatus().isActive()) {
+            if (!counters.covers(event.getReservedAt())) {
+                // 적재 범위 밖의 예약은 해당 날짜에 다시 적재할 때 반영
+                return;
+            }
+            counters.track(event.getReservationId(), event.getReservedAt(), event.getEndAt(),
+                    partySizeOf(event), false);
+        } else {
+            counters.untrack(event.getReservationId());
+        }
+    }
+
+    /**
+     * 매장 카운터와 게이지 제거 (매장 삭제 시 호출)
+     *
+     * @param storeId 매장 ID
+     */
+    public void evict(Long storeId) {
+        if (stores.remove(storeId) != null) {
+            publishGauges();
+        }
+    }
+
+    /**
+     * 30초마다 이용 시간이 끝난 착석 인원과 지난 도착 예정 버킷 제거
+     * - 오래 조회되지 않은 매장의 카운터와 게이지도 제거
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void decay() {
+        decay(LocalDateTime.now());
+    }
+
+    void decay(LocalDateTime now) {
+        LocalDateTime idleBefore = now.minusMinutes(IDLE_EVICT_MINUTES);
+        if (stores.values().removeIf(counters -> counters.lastAccessedAt.isBefore(idleBefore))) {
+            publishGauges();
+        }
+        stores.values().forEach(counters -> counters.decay(now));
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 매장 카운터 조회 (없거나 날짜가 바뀌었으면 DB 에서 적재)
+     * - 새로 적재한 매장은 게이지에 추가
+     */
+    private StoreCounters counters(Long storeId) {
+        StoreCounters counters = stores.get(storeId);
+        boolean created = false;
+        if (counters == null) {
+            StoreCounters fresh = new StoreCounters();
+            counters = stores.putIfAbsent(storeId, fresh);
+            if (counters == null) {
+                counters = fresh;
+                created = true;
+            }
+        }
+        counters.lastAccessedAt = LocalDateTime.now();
+        LocalDate today = LocalDate.now();
+        if (!today.equals(counters.loadedDay)) {
+            counters.reload(today, reservationRepository.findByStoreIdAndReservedAtBetween(storeId,
+                    today.atStartOfDay().minusHours(LOOKBEHIND_HOURS),
+                    today.atStartOfDay().plusDays(1).plusMinutes(EXPECTED_WINDOW_MINUTES)));
+        }
+        if (created) {
+            publishGauges();
+        }
+        return counters;
+    }
+
+    /**
+     * 적재된 매장으로 게이지 행을 다시 등록 (빠진 매장의 행은 제거)
+     * - 게이지 값은 메모리의 카운터만 읽음
+     */
+    private synchronized void publishGauges() {
+        if (seatedGauge == null) {
+            seatedGauge = MultiGauge.builder("store.occupancy.seated")
+                    .description("체크인 후 이용 중인 인원")
+                    .register(meterRegistry);
+            expectedGauge = MultiGauge.builder("store.occupancy.expected")
+                    .description("향후 1시간 도착 예정 인원")
+                    .register(meterRegistry);
+        }
+        List<MultiGauge.Row<?>> seatedRows = new ArrayList<>(stores.size());
+        List<MultiGauge.Row<?>> expectedRows = new ArrayList<>(stores.size());
+        stores.forEach((storeId, counters) -> {
+            Tags tags = Tags.of("storeId", String.valueOf(storeId));
+            seatedRows.add(MultiGauge.Row.of(tags, counters, c -> c.seated.sum()));
+            expectedRows.add(MultiGauge.Row.of(tags, counters, c -> c.expectedFrom(LocalDateTime.now())));
+        });
+        seatedGauge.register(seatedRows, true);
+        expectedGauge.register(expectedRows, true);
+    }
+
+    /**
+     * 예약 인원 (인원을 입력하지 않은 예약은 1명)
+     */
+    private int partySizeOf(ReservationChangedEvent event) {
+        return event.getPartySize() != null ? event.getPartySize() : 1;
+    }
+
+    /**
+     * StoreCounters
+     * 매장 하나의 카운터
+     * - 조회는 LongAdder 합계만 읽으므로 잠금이 없고, 예약 상태 변경만 인스턴스 단위로 동기화
+     */
+    static final class StoreCounters {
+
+        // 현재 착석 인원
+        private final LongAdder seated = new LongAdder();
+
+        // 예약 시작 시간 (분 단위) -> 도착 예정 인원
+        private final ConcurrentSkipListMap<LocalDateTime, LongAdder> expected =
+                new ConcurrentSkipListMap<>();
+
+        // 예약 ID -> 추적 중인 예약
+        private final Map<Long, Tracked> tracked = new HashMap<>();
+
+        // 착석한 예약 (종료 시간 순)
+        private final PriorityQueue<Tracked> seatedByEnd =
+                new PriorityQueue<>(Comparator.comparing(Tracked::endAt));
+
+        // 적재한 날짜
+        private volatile LocalDate loadedDay;
+
+        // 마지막 조회 시간
+        private volatile LocalDateTime lastAccessedAt = LocalDateTime.now();
+
+        synchronized void reload(LocalDate day, Iterable<Reservation> reservations) {
+            if (day.equals(loadedDay)) {
+                return;
+            }
+            seated.reset();
+            expected.clear();
+            tracked.clear();
+            seatedByEnd.clear();
+            LocalDateTime now = LocalDateTime.now();
+            for (Reservation reservation : reservations) {
+                if (reservation.getStatus() == null || !reservation.getStatus().isActive()) {
+                    continue;
+                }
+                LocalDateTime endAt = reservation.calculateEndAt();
+                if (reservation.getArrivedAt() != null && !endAt.isAfter(now)) {
+                    continue;
+                }
+                track(reservation.getId(), reservation.getReservedAt(), endAt,
+                        reservation.getPartySize() != null ? reservation.getPartySize() : 1,
+                        reservation.getArrivedAt() != null);
+            }
+            loadedDay = day;
+        }
+
+        synchronized void track(Long reservationId, LocalDateTime startAt, LocalDateTime endAt,
+                                int partySize, boolean arrived) {
+            Tracked previous = tracked.get(reservationId);
+            if (previous != null) {
+                // 승인 등 같은 예약의 상태 변경은 인원을 다시 더하지 않음
+                return;
+            }
+            Tracked entry = new Tracked(reservationId, startAt.truncatedTo(ChronoUnit.MINUTES),
+                    endAt, partySize);
+            tracked.put(reservationId, entry);
+            if (arrived) {
+                entry.arrived = true;
+                seated.add(partySize);
+                seatedByEnd.add(entry);
+            } else {
+                expected.computeIfAbsent(entry.bucket(), key -> new LongAdder()).add(partySize);
+            }
+        }
+
+        synchronized void arrive(Long reservationId) {
+            Tracked entry = tracked.get(reservationId);
+            if (entry != null && !entry.arrived) {
+                entry.arrived = true;
+                subtractExpected(entry);
+                seated.add(entry.partySize());
+                seatedByEnd.add(entry);
+            }
+        }
+
+        synchronized void untrack(Long reservationId) {
+            Tracked entry = tracked.remove(reservationId);
+            if (entry == null) {
+                return;
+            }
+            if (entry.arrived) {
+                seated.add(-entry.partySize());
+                seatedByEnd.remove(entry);
+            } else {
+                subtractExpected(entry);
+            }
+        }
+
+        synchronized void decay(LocalDateTime now) {
+            while (!seatedByEnd.isEmpty() && !seatedByEnd.peek().endAt().isAfter(now)) {
+                Tracked entry = seatedByEnd.poll();
+                tracked.remove(entry.reservationId());
+                seated.add(-entry.partySize());
+            }
+            // 시작 시간이 지나도록 체크인하지 않은 예약은 더 이상 도착 예정이 아님
+            LocalDateTime minute = now.truncatedTo(ChronoUnit.MINUTES);
+            tracked.values().removeIf(entry -> !entry.arrived && entry.bucket().isBefore(minute));
+            expected.headMap(minute).clear();
+        }
+
+        long expectedFrom(LocalDateTime now) {
+            LocalDateTime minute = now.truncatedTo(ChronoUnit.MINUTES);
+            long sum = 0;
+            for (LongAdder bucket : expected
+                    .subMap(minute, true, minute.plusMinutes(EXPECTED_WINDOW_MINUTES), false).values()) {
+                sum += bucket.sum();
+            }
+            return sum;
+        }
+
+        boolean covers(LocalDateTime startAt) {
+            LocalDate day = loadedDay;
+            return day != null && startAt.isBefore(
+                    day.atStartOfDay().plusDays(1).plusMinutes(EXPECTED_WINDOW_MINUTES));
+        }
+
+        private void subtractExpected(Tracked entry) {
+            LongAdder bucket = expected.get(entry.bucket());
+            if (bucket != null) {
+                bucket.add(-entry.partySize());
+            }
+        }
+    }
+
+    /**
+     * 추적 중인 예약
+     */
+    private static final class Tracked {
+        private final Long reservationId;
+        private final LocalDateTime bucket;
+        private final LocalDateTime endAt;
+        private final int partySize;
+        private boolean arrived;
+
+        Tracked(Long reservationId, LocalDateTime bucket, LocalDateTime endAt, int partySize) {
+            this.reservationId = reservationId;
+            this.bucket = bucket;
+            this.endAt = endAt;
+            this.partySize = partySize;
+        }
+
+        Long reservationId() {
+            return reservationId;
+        }
+
+        LocalDateTime bucket() {
+            return bucket;
+        }
+
+        LocalDateTime endAt() {
+            return endAt;
+        }
+
+        int partySize() {
+            return partySize;
+        }
+    }
+}
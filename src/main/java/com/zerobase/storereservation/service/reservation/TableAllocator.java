@@ -0,0 +1,311 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.DiningTable;
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.DiningTableRepository;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.PENDING;
+
+/**
+ * TableAllocator
+ * 매장 테이블별 예약 구간을 메모리에 유지하고 예약에 테이블을 배정하는 컴포넌트
+ * - 테이블마다 시작 시간 기준으로 정렬된 겹치지 않는 구간 맵(TreeMap)을 유지
+ * - 겹침 여부는 시작 시간 직전/직후 구간 두 개만 확인하므로 O(log n)
+ * - 수용 인원이 작은 테이블부터 확인하여 인원을 수용할 수 있는 가장 작은 빈 테이블을 배정
+ */
+@Component
+@RequiredArgsConstructor
+public class TableAllocator {
+
+    // 매장 테이블 관련 데이터 베이스 작업을 처리하는 Repository
+    private final DiningTableRepository diningTableRepository;
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 매장 ID -> 매장 테이블 구간
+    private final Map<Long, StoreTables> stores = new ConcurrentHashMap<>();
+
+    /**
+     * 매장에 등록된 테이블이 있는지 확인
+     *
+     * @param storeId 매장 ID
+     * @return 테이블이 있으면 true (없으면 테이블 배정 없이 예약)
+     */
+    public boolean hasTables(Long storeId) {
+        return storeTables(storeId).hasTables();
+    }
+
+    /**
+     * 구간에 비어 있는 테이블 중 인원을 수용할 수 있는 가장 작은 테이블을 선점
+     * - 예약 저장에 성공하면 assign(), 실패하면 release() 를 호출해야 함
+     *
+     * @param storeId   매장 ID
+     * @param start     이용 시작 시간
+     * @param end       이용 종료 시간 (미포함)
+     * @param partySize 예약 인원
+     * @return 선점한 테이블 ID (빈 테이블이 없으면 empty)
+     */
+    public Optional<Long> allocate(Long storeId, LocalDateTime start, LocalDateTime end, int partySize) {
+        return storeTables(storeId).allocate(start, end, partySize);
+    }
+
+    /**
+     * 구간에 인원을 수용할 수 있는 빈 테이블이 있는지 확인 (선점하지 않음)
+     *
+     * @param storeId   매장 ID
+     * @param start     이용 시작 시간
+     * @param end       이용 종료 시간 (미포함)
+     * @param partySize 예약 인원
+     * @return 배정 가능한 테이블이 있으면 true
+     */
+    public boolean isAvailable(Long storeId, LocalDateTime start, LocalDateTime end, int partySize) {
+        return storeTables(storeId).isAvailable(start, end, partySize);
+    }
+
+    /**
+     * 선점한 구간을 저장된 예약과 연결
+     *
+     * @param storeId       매장 ID
+     * @param tableId       테이블 ID
+     * @param start         이용 시작 시간
+     * @param reservationId 예약 ID
+     */
+    public void assign(Long storeId, Long tableId, LocalDateTime start, Long reservationId) {
+        storeTables(storeId).assign(tableId, start, reservationId);
+    }
+
+    /**
+     * 선점한 구간 해제 (예약 저장 실패 시)
+     *
+     * @param storeId 매장 ID
+     * @param tableId 테이블 ID
+     * @param start   이용 시작 시간
+     */
+    public void release(Long storeId, Long tableId, LocalDateTime start) {
+        storeTables(storeId).releaseHold(tableId, start);
+    }
+
+    /**
+     * 예약 변경 이벤트 반영
+     * - 다른 경로로 생성된 예약의 구간을 추가하고, 취소/거절/만료된 예약의 구간을 해제
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @Order(3)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        StoreTables tables = stores.get(event.getStoreId());
+        if (tables == null || event.getTableId() == null) {
+            return;
+        }
+        if (event.getStatus().isActive()) {
+            tables.book(event.getTableId(), event.getReservedAt(), event.getEndAt(), event.getReservationId());
+        } else {
+            tables.cancel(event.getReservationId());
+        }
+    }
+
+    /**
+     * 매장 테이블 구간 제거 (테이블이 추가, 삭제된 경우 다음 조회 시 다시 적재)
+     *
+     * @param storeId 매장 ID
+     */
+    public void invalidateStore(Long storeId) {
+        stores.remove(storeId);
+    }
+
+    /**
+     * 매일 새벽 이미 끝난 구간 제거
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void evictFinished() {
+        LocalDateTime now = LocalDateTime.now();
+        stores.values().forEach(tables -> tables.evictEndedBefore(now));
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 매장 테이블 구간 조회 (없으면 DB 에서 적재)
+     */
+    private StoreTables storeTables(Long storeId) {
+        return stores.computeIfAbsent(storeId, this::load);
+    }
+
+    /**
+     * 매장 테이블과 오늘 이후 테이블이 배정된 예약으로 구간 생성
+     */
+    private StoreTables load(Long storeId) {
+        StoreTables tables = new StoreTables(diningTableRepository.findByStoreId(storeId));
+        List<Reservation> bookings = reservationRepository.findTableBookings(
+                storeId, List.of(PENDING, CONFIRMED), LocalDate.now().atStartOfDay());
+        for (Reservation reservation : bookings) {
+            tables.book(reservation.getTable().getId(), reservation.getReservedAt(),
+                    reservation.calculateEndAt(), reservation.getId());
+        }
+        return tables;
+    }
+
+    /**
+     * StoreTables
+     * 매장 하나의 테이블 구간 (동기화는 인스턴스 단위로 처리)
+     */
+    static final class StoreTables {
+
+        // 수용 인원 오름차순, 테이블 ID 오름차순으로 정렬된 테이블 목록
+        private final List<TableSchedule> bySeats = new ArrayList<>();
+
+        // 테이블 ID -> 테이블 구간
+        private final Map<Long, TableSchedule> byId = new HashMap<>();
+
+        // 예약 ID -> 예약 구간
+        private final Map<Long, Booking> byReservation = new HashMap<>();
+
+        StoreTables(List<DiningTable> tables) {
+            for (DiningTable table : tables) {
+                TableSchedule schedule = new TableSchedule(table.getId(), table.getSeats());
+                bySeats.add(schedule);
+                byId.put(table.getId(), schedule);
+            }
+            bySeats.sort(Comparator.comparingInt(TableSchedule::seats)
+                    .thenComparing(TableSchedule::tableId));
+        }
+
+        synchronized boolean hasTables() {
+            return !bySeats.isEmpty();
+        }
+
+        synchronized Optional<Long> allocate(LocalDateTime start, LocalDateTime end, int partySize) {
+            for (TableSchedule table : bySeats) {
+                if (table.seats() >= partySize && table.isFree(start, end)) {
+                    table.bookings().put(start, new Booking(table.tableId(), start, end));
+                    return Optional.of(table.tableId());
+                }
+            }
+            return Optional.empty();
+        }
+
+        synchronized boolean isAvailable(LocalDateTime start, LocalDateTime end, int partySize) {
+            for (TableSchedule table : bySeats) {
+                if (table.seats() >= partySize && table.isFree(start, end)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized void assign(Long tableId, LocalDateTime start, Long reservationId) {
+            TableSchedule table = byId.get(tableId);
+            Booking booking = table != null ? table.bookings().get(start) : null;
+            if (booking != null && (booking.reservationId == null || booking.reservationId.equals(reservationId))) {
+                booking.reservationId = reservationId;
+                byReservation.put(reservationId, booking);
+            }
+        }
+
+        synchronized void releaseHold(Long tableId, LocalDateTime start) {
+            TableSchedule table = byId.get(tableId);
+            if (table != null) {
+                table.bookings().computeIfPresent(start,
+                        (key, booking) -> booking.reservationId == null ? null : booking);
+            }
+        }
+
+        synchronized void book(Long tableId, LocalDateTime start, LocalDateTime end, Long reservationId) {
+            if (byReservation.containsKey(reservationId)) {
+                return;
+            }
+            TableSchedule table = byId.get(tableId);
+            if (table == null) {
+                return;
+            }
+            Booking held = table.bookings().get(start);
+            if (held != null && held.reservationId == null) {
+                assign(tableId, start, reservationId);
+            } else if (table.isFree(start, end)) {
+                Booking booking = new Booking(tableId, start, end);
+                booking.reservationId = reservationId;
+                table.bookings().put(start, booking);
+                byReservation.put(reservationId, booking);
+            }
+        }
+
+        synchronized void cancel(Long reservationId) {
+            Booking booking = byReservation.remove(reservationId);
+            if (booking != null) {
+                byId.get(booking.tableId).bookings().remove(booking.start);
+            }
+        }
+
+        synchronized void evictEndedBefore(LocalDateTime time) {
+            for (TableSchedule table : bySeats) {
+                table.bookings().values().removeIf(booking -> {
+                    boolean ended = !booking.end.isAfter(time);
+                    if (ended && booking.reservationId != null) {
+                        byReservation.remove(booking.reservationId);
+                    }
+                    return ended;
+                });
+            }
+        }
+    }
+
+    /**
+     * 테이블 하나의 예약 구간 (시작 시간 -> 구간)
+     */
+    record TableSchedule(Long tableId, int seats, TreeMap<LocalDateTime, Booking> bookings) {
+
+        TableSchedule(Long tableId, int seats) {
+            this(tableId, seats, new TreeMap<>());
+        }
+
+        /**
+         * [start, end) 구간이 기존 구간과 겹치지 않는지 확인
+         * - 구간끼리 겹치지 않으므로 start 이하에서 시작하는 마지막 구간과 start 이후 첫 구간만 확인
+         */
+        boolean isFree(LocalDateTime start, LocalDateTime end) {
+            Map.Entry<LocalDateTime, Booking> before = bookings.floorEntry(start);
+            if (before != null && before.getValue().end.isAfter(start)) {
+                return false;
+            }
+            Map.Entry<LocalDateTime, Booking> after = bookings.higherEntry(start);
+            return after == null || !after.getKey().isBefore(end);
+        }
+    }
+
+    /**
+     * 예약 구간 (선점 단계에서는 예약 ID 가 null)
+     */
+    static final class Booking {
+        private final Long tableId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private Long reservationId;
+
+        Booking(Long tableId, LocalDateTime start, LocalDateTime end) {
+            this.tableId = tableId;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
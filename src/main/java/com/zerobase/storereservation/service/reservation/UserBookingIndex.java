@@ -0,0 +1,337 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static com.zerobase.storereservation.entity.Reservation.DEFAULT_DURATION_MINUTES;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.PENDING;
+
+/**
+ * UserBookingIndex
+ * 사용자별 다가오는 예약 구간을 메모리에 유지하여 중복 예약을 막는 컴포넌트
+ * - 처음 조회하는 사용자만 DB 에서 오늘 이후 예약을 적재하고, 이후에는 예약 변경 이벤트로 갱신
+ * - 구간을 시작 시간 기준으로 정렬해 두고, 가장 긴 구간 길이만큼 앞선 시점부터 종료 시간 전까지만 확인
+ * - 허용하는 겹침 개수는 reservation.max-overlapping 설정으로 조정 (기본값 0: 겹치는 예약 불가)
+ * - 사용자는 최대 MAX_USERS 명까지 보관하며, 넘으면 가장 오래 사용하지 않은 사용자부터 O(1) 로 제거
+ *   (저장 전인 선점이 남은 사용자는 제거하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserBookingIndex {
+
+    // 최대 사용자 수
+    static final int MAX_USERS = 100_000;
+
+    // 마지막 사용 이후 사용자 구간을 보관하는 시간
+    static final Duration IDLE_TTL = Duration.ofMinutes(30);
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 보관하는 최대 사용자 수
+    private int maxUsers = MAX_USERS;
+
+    // 사용자 ID -> 사용자 예약 구간 (접근 순서, users 로 동기화)
+    private final Map<Long, UserBookings> users = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserBookings> eldest) {
+            return size() > maxUsers && !eldest.getValue().hasPendingHolds();
+        }
+    };
+
+    // 새 예약과 겹쳐도 되는 기존 예약 수
+    @Value("${reservation.max-overlapping:0}")
+    private int maxOverlapping;
+
+    /**
+     * 겹치는 예약 수가 허용 범위 이내이면 구간을 선점
+     * - 예약 저장에 성공하면 assign(), 실패하면 release() 를 호출해야 함
+     *
+     * @param userId 사용자 ID
+     * @param start  이용 시작 시간
+     * @param end    이용 종료 시간 (미포함)
+     * @return 선점한 구간 (허용 범위를 넘으면 empty)
+     */
+    public Optional<Hold> tryHold(Long userId, LocalDateTime start, LocalDateTime end) {
+        return userBookings(userId).tryHold(start, end, maxOverlapping);
+    }
+
+    /**
+     * 선점한 구간을 저장된 예약과 연결
+     *
+     * @param hold          선점한 구간
+     * @param reservationId 예약 ID
+     */
+    public void assign(Hold hold, Long reservationId) {
+        UserBookings bookings = cached(hold.userId);
+        if (bookings != null) {
+            bookings.assign(hold, reservationId);
+        }
+    }
+
+    /**
+     * 선점한 구간 해제 (예약 저장 실패 시)
+     *
+     * @param hold 선점한 구간
+     */
+    public void release(Hold hold) {
+        UserBookings bookings = cached(hold.userId);
+        if (bookings != null) {
+            bookings.remove(hold);
+        }
+    }
+
+    /**
+     * 예약 변경 이벤트 반영
+     * - 다른 경로로 생성된 예약의 구간을 추가하고, 취소/거절/만료된 예약의 구간을 해제
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @Order(4)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        UserBookings bookings = cached(event.getUserId());
+        if (bookings == null || event.getReservedAt() == null) {
+            return;
+        }
+        if (event.getStatus().isActive()) {
+            bookings.book(event.getReservationId(), event.getReservedAt(), event.getEndAt());
+        } else {
+            bookings.cancel(event.getReservationId());
+        }
+    }
+
+    /**
+     * 10분마다 끝난 구간과 오래 사용하지 않은 사용자 제거
+     */
+    @Scheduled(fixedDelay = 600_000)
+    public void evictIdle() {
+        LocalDateTime now = LocalDateTime.now();
+        long idleBefore = System.nanoTime() - IDLE_TTL.toNanos();
+        synchronized (users) {
+            users.values().removeIf(bookings -> bookings.evict(now, idleBefore));
+        }
+    }
+
+    /**
+     * 보관 중인 사용자 수
+     *
+     * @return 사용자 수
+     */
+    int cachedUsers() {
+        synchronized (users) {
+            return users.size();
+        }
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 사용자 예약 구간 조회 (없으면 DB 에서 적재)
+     * - DB 조회는 잠금 밖에서 하고, 동시에 적재하면 먼저 끝난 결과를 사용
+     * - 최대 사용자 수를 넘으면 가장 오래 사용하지 않은 사용자가 제거됨
+     */
+    private UserBookings userBookings(Long userId) {
+        UserBookings bookings = cached(userId);
+        if (bookings == null) {
+            UserBookings loaded = load(userId);
+            synchronized (users) {
+                bookings = users.putIfAbsent(userId, loaded);
+            }
+            if (bookings == null) {
+                bookings = loaded;
+            }
+        }
+        bookings.touch();
+        return bookings;
+    }
+
+    /**
+     * 보관 중인 사용자 예약 구간 조회 (적재하지 않음)
+     */
+    private UserBookings cached(Long userId) {
+        synchronized (users) {
+            return users.get(userId);
+        }
+    }
+
+    /**
+     * 사용자의 오늘 이후 대기, 승인 예약으로 구간 생성
+     */
+    private UserBookings load(Long userId) {
+        UserBookings bookings = new UserBookings(userId);
+        List<ReservationRepository.BookingInterval> rows = reservationRepository.findUserBookings(
+                userId, List.of(PENDING, CONFIRMED), LocalDate.now().atStartOfDay());
+        for (ReservationRepository.BookingInterval row : rows) {
+            int minutes = row.getDurationMinutes() != null
+                    ? row.getDurationMinutes() : DEFAULT_DURATION_MINUTES;
+            bookings.book(row.getId(), row.getReservedAt(), row.getReservedAt().plusMinutes(minutes));
+        }
+        return bookings;
+    }
+
+    /**
+     * UserBookings
+     * 사용자 한 명의 예약 구간 (동기화는 인스턴스 단위로 처리)
+     */
+    static final class UserBookings {
+
+        private final Long userId;
+
+        // 시작 시간 -> 해당 시간에 시작하는 구간 목록 (겹침을 허용하면 여러 개)
+        private final TreeMap<LocalDateTime, List<Hold>> byStart = new TreeMap<>();
+
+        // 예약 ID -> 예약 구간
+        private final Map<Long, Hold> byReservation = new HashMap<>();
+
+        // 가장 긴 구간 길이 (이만큼 앞선 구간까지만 겹칠 수 있음)
+        private Duration longest = Duration.ZERO;
+
+        // 마지막 사용 시각 (nanoTime)
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        // 아직 예약과 연결되지 않은 선점 수
+        private int pendingHolds;
+
+        UserBookings(Long userId) {
+            this.userId = userId;
+        }
+
+        void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+
+        synchronized Optional<Hold> tryHold(LocalDateTime start, LocalDateTime end, int maxOverlapping) {
+            if (countOverlapping(start, end) > maxOverlapping) {
+                return Optional.empty();
+            }
+            Hold hold = new Hold(userId, start, end);
+            add(hold);
+            pendingHolds++;
+            return Optional.of(hold);
+        }
+
+        synchronized boolean hasPendingHolds() {
+            return pendingHolds > 0;
+        }
+
+        synchronized void assign(Hold hold, Long reservationId) {
+            if (byReservation.containsKey(reservationId)) {
+                // 이벤트가 먼저 반영된 경우 선점 구간은 중복이므로 제거
+                remove(hold);
+                return;
+            }
+            hold.reservationId = reservationId;
+            pendingHolds--;
+            byReservation.put(reservationId, hold);
+        }
+
+        synchronized void book(Long reservationId, LocalDateTime start, LocalDateTime end) {
+            if (byReservation.containsKey(reservationId)) {
+                return;
+            }
+            Hold hold = new Hold(userId, start, end);
+            hold.reservationId = reservationId;
+            add(hold);
+            byReservation.put(reservationId, hold);
+        }
+
+        synchronized void cancel(Long reservationId) {
+            Hold hold = byReservation.remove(reservationId);
+            if (hold != null) {
+                remove(hold);
+            }
+        }
+
+        synchronized void remove(Hold hold) {
+            List<Hold> holds = byStart.get(hold.start);
+            if (holds != null && holds.remove(hold)) {
+                if (hold.reservationId == null) {
+                    pendingHolds--;
+                }
+                if (holds.isEmpty()) {
+                    byStart.remove(hold.start);
+                }
+            }
+        }
+
+        /**
+         * 끝난 구간 제거
+         *
+         * @return 사용하지 않은 지 오래되어 사용자 전체를 제거해도 되면 true
+         */
+        synchronized boolean evict(LocalDateTime now, long idleBeforeNanos) {
+            byStart.values().removeIf(holds -> {
+                holds.removeIf(hold -> {
+                    boolean ended = !hold.end.isAfter(now);
+                    if (ended && hold.reservationId != null) {
+                        byReservation.remove(hold.reservationId);
+                    } else if (ended) {
+                        pendingHolds--;
+                    }
+                    return ended;
+                });
+                return holds.isEmpty();
+            });
+            return lastAccessNanos - idleBeforeNanos < 0;
+        }
+
+        /**
+         * [start, end) 구간과 겹치는 구간 수
+         */
+        private int countOverlapping(LocalDateTime start, LocalDateTime end) {
+            int count = 0;
+            for (List<Hold> holds : byStart.subMap(start.minus(longest), true, end, false).values()) {
+                for (Hold hold : holds) {
+                    if (hold.end.isAfter(start)) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        private void add(Hold hold) {
+            byStart.computeIfAbsent(hold.start, key -> new ArrayList<>(1)).add(hold);
+            Duration length = Duration.between(hold.start, hold.end);
+            if (length.compareTo(longest) > 0) {
+                longest = length;
+            }
+        }
+    }
+
+    /**
+     * Hold
+     * 사용자 예약 구간 (선점 단계에서는 예약 ID 가 null)
+     */
+    public static final class Hold {
+        private final Long userId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private Long reservationId;
+
+        Hold(Long userId, LocalDateTime start, LocalDateTime end) {
+            this.userId = userId;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.WaitlistEntry;
+import com.zerobase.storereservation.repository.WaitlistEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.zerobase.storereservation.entity.constants.WaitlistStatus.WAITING;
+
+/**
+ * WaitlistQueue
+ * 매장, 예약 시간별 대기열을 우선순위 큐로 유지하는 인메모리 저장소
+ * - 우선순위가 높은 대기자부터, 같으면 먼저 등록한 대기자부터 꺼냄 (FIFO)
+ * - 대기열은 처음 사용할 때 DB 에서 대기 중인 항목을 적재하며, DB 가 원본이므로 언제든 다시 적재할 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitlistQueue {
+
+    // 대기 순서 (우선순위 내림차순, 등록 시간 오름차순, ID 오름차순)
+    static final Comparator<Waiter> ORDER = Comparator.comparingInt(Waiter::priority).reversed()
+            .thenComparing(Waiter::joinedAt)
+            .thenComparing(Waiter::entryId);
+
+    // 예약 대기 관련 데이터 베이스 작업을 처리하는 Repository
+    private final WaitlistEntryRepository waitlistEntryRepository;
+
+    // (매장 ID, 예약 시간) -> 대기열
+    private final Map<SlotKey, SlotQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * 대기자 추가
+     * - 대기열이 아직 적재되지 않았으면 적재 시 DB 에서 함께 읽히므로 중복 추가하지 않음
+     *
+     * @param entry 저장된 대기 항목
+     */
+    public void add(WaitlistEntry entry) {
+        queue(entry.getStore().getId(), entry.getSlotAt()).add(Waiter.of(entry));
+    }
+
+    /**
+     * 대기자 제거
+     *
+     * @param storeId 매장 ID
+     * @param slotAt  예약 시간
+     * @param entryId 대기 ID
+     * @return 대기열에 있어서 제거했으면 true
+     */
+    public boolean remove(Long storeId, LocalDateTime slotAt, Long entryId) {
+        return queue(storeId, slotAt).remove(entryId);
+    }
+
+    /**
+     * 대기 순서대로 정렬된 대기자 목록
+     *
+     * @param storeId 매장 ID
+     * @param slotAt  예약 시간
+     * @return 대기자 목록 (먼저 꺼낼 대기자부터)
+     */
+    public List<Waiter> ordered(Long storeId, LocalDateTime slotAt) {
+        return queue(storeId, slotAt).ordered();
+    }
+
+    /**
+     * 대기 순번 조회
+     *
+     * @param storeId 매장 ID
+     * @param slotAt  예약 시간
+     * @param entryId 대기 ID
+     * @return 1부터 시작하는 순번 (대기열에 없으면 null)
+     */
+    public Integer position(Long storeId, LocalDateTime slotAt, Long entryId) {
+        List<Waiter> waiters = ordered(storeId, slotAt);
+        for (int i = 0; i < waiters.size(); i++) {
+            if (waiters.get(i).entryId().equals(entryId)) {
+                return i + 1;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 대기열 제거 (트랜잭션이 롤백되어 메모리와 DB 가 달라진 경우 다음 사용 시 다시 적재)
+     *
+     * @param storeId 매장 ID
+     * @param slotAt  예약 시간
+     */
+    public void invalidate(Long storeId, LocalDateTime slotAt) {
+        queues.remove(new SlotKey(storeId, slotAt));
+    }
+
+    /**
+     * 10분마다 이미 지난 예약 시간의 대기열 제거
+     */
+    @Scheduled(fixedDelay = 600_000)
+    public void evictPastSlots() {
+        LocalDateTime now = LocalDateTime.now();
+        queues.keySet().removeIf(key -> key.slotAt().isBefore(now));
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 대기열 조회 (없으면 DB 에서 적재)
+     */
+    private SlotQueue queue(Long storeId, LocalDateTime slotAt) {
+        return queues.computeIfAbsent(new SlotKey(storeId, slotAt), this::load);
+    }
+
+    /**
+     * 대기 중인 항목으로 대기열 생성
+     */
+    private SlotQueue load(SlotKey key) {
+        SlotQueue queue = new SlotQueue();
+        waitlistEntryRepository.findByStoreIdAndSlotAtAndStatus(key.storeId(), key.slotAt(), WAITING)
+                .forEach(entry -> queue.add(Waiter.of(entry)));
+        return queue;
+    }
+
+    /**
+     * SlotQueue
+     * 매장, 예약 시간 하나의 대기열 (동기화는 인스턴스 단위로 처리)
+     */
+    static final class SlotQueue {
+
+        private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(ORDER);
+
+        synchronized void add(Waiter waiter) {
+            if (waiters.stream().noneMatch(w -> w.entryId().equals(waiter.entryId()))) {
+                waiters.add(waiter);
+            }
+        }
+
+        synchronized boolean remove(Long entryId) {
+            return waiters.removeIf(w -> w.entryId().equals(entryId));
+        }
+
+        synchronized List<Waiter> ordered() {
+            List<Waiter> result = new ArrayList<>(waiters);
+            result.sort(ORDER);
+            return result;
+        }
+    }
+
+    /**
+     * Waiter
+     * 대기열의 대기자
+     *
+     * @param entryId         대기 ID
+     * @param userId          대기자 ID
+     * @param priority        우선순위
+     * @param joinedAt        대기 등록 시간
+     * @param partySize       예약 인원
+     * @param durationMinutes 이용 시간 (분)
+     */
+    public record Waiter(Long entryId, Long userId, int priority, LocalDateTime joinedAt,
+                         int partySize, int durationMinutes) {
+
+        static Waiter of(WaitlistEntry entry) {
+            return new Waiter(entry.getId(), entry.getUser().getId(), entry.getPriority(),
+                    entry.getCreatedAt(), entry.getPartySize(), entry.getDurationMinutes());
+        }
+    }
+
+    /**
+     * 대기열 키
+     */
+    private record SlotKey(Long storeId, LocalDateTime slotAt) {
+    }
+}
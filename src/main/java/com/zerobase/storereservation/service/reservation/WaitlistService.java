@@ -0,0 +1,298 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.dto.WaitlistDto;
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.entity.WaitlistEntry;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.repository.StoreRepository;
+import com.zerobase.storereservation.repository.UserRepository;
+import com.zerobase.storereservation.repository.WaitlistEntryRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static com.zerobase.storereservation.entity.constants.WaitlistStatus.CANCELLED;
+import static com.zerobase.storereservation.entity.constants.WaitlistStatus.PROMOTED;
+import static com.zerobase.storereservation.entity.constants.WaitlistStatus.WAITING;
+import static com.zerobase.storereservation.exception.ErrorCode.*;
+
+/**
+ * WaitlistService
+ * - 예약이 가득 찬 시간대의 대기 등록, 취소와 빈 자리 발생 시 대기자 자동 전환을 처리하는 서비스
+ * - 해당 매장에서 승인된 예약 이력이 있는 단골 고객은 우선순위를 높여 먼저 전환
+ */
+@Service
+@RequiredArgsConstructor
+public class WaitlistService {
+
+    // 단골 고객 우선순위
+    static final int LOYALTY_PRIORITY = 1;
+
+    // 예약 대기 관련 데이터 베이스 작업을 처리하는 Repository
+    private final WaitlistEntryRepository waitlistEntryRepository;
+
+    // 예약 관련 데이터 베이스 작업을 처리하는 Repository
+    private final ReservationRepository reservationRepository;
+
+    // 매장 관련 데이터 베이스 작업을 처리하는 Repository
+    private final StoreRepository storeRepository;
+
+    // 사용자 관련 데이터 베이스 작업을 처리하는 Repository
+    private final UserRepository userRepository;
+
+    // 매장, 예약 시간별 대기열
+    private final WaitlistQueue waitlistQueue;
+
+    // 매장 예약 가능 시간 인덱스
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+
+    // 사용자 예약 구간 인덱스
+    private final UserBookingIndex userBookingIndex;
+
+    // 지난 예약 아카이브 (확정 예약 이력 확인)
+    private final ReservationArchiver reservationArchiver;
+
+    // 예약 변경 이벤트 발행기
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    /**
+     * 예약 대기 등록
+     * - 예약 가능한 시간이면 대기 대신 바로 예약하도록 안내
+     *
+     * @param request 예약 생성 요청 DTO (희망 예약 시간과 인원)
+     * @return 등록된 대기 정보 (대기 순번 포함)
+     */
+    @Transactional
+    public WaitlistDto.Response joinWaitlist(ReservationDto.CreateRequest request) {
+        loggingUtil.logRequest("JOIN WAITLIST", request);
+
+        User user = userRepository.findById(request.getUserId())
+                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        Store store = storeRepository.findById(request.getStoreId())
+                .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
+
+        LocalDateTime slotAt = request.getReservedAt();
+        if (slotAt == null || !slotAt.isAfter(LocalDateTime.now())) {
+            throw new CustomException(INVALID_RESERVATION_TIME);
+        }
+        int partySize = request.getPartySize() != null ? request.getPartySize() : 1;
+        int durationMinutes = request.getDurationMinutes() != null
+                ? request.getDurationMinutes() : Reservation.DEFAULT_DURATION_MINUTES;
+        if (partySize < 1 || durationMinutes < 1) {
+            throw new CustomException(INVALID_PARTY_SIZE);
+        }
+
+        // 예약 생성과 같은 기준으로 인원과 이용 시간 전체에 대해 만석 여부를 판단
+        boolean available = slotAvailabilityIndex.isAvailable(
+                store.getId(), slotAt, slotAt.plusMinutes(durationMinutes), partySize);
+        if (available) {
+            throw new CustomException(WAITLIST_NOT_REQUIRED);
+        }
+        if (waitlistEntryRepository.existsByUserIdAndStoreIdAndSlotAtAndStatus(
+                user.getId(), store.getId(), slotAt, WAITING)) {
+            throw new CustomException(ALREADY_WAITLISTED);
+        }
+
+        boolean loyal = reservationRepository.existsByUserIdAndStoreIdAndStatus(
+                user.getId(), store.getId(), CONFIRMED)
+                || reservationArchiver.existsByUserIdAndStoreIdAndStatus(
+                user.getId(), store.getId(), CONFIRMED);
+
+        WaitlistEntry entry = waitlistEntryRepository.save(WaitlistEntry.builder()
+                .store(store)
+                .user(user)
+                .phoneNumber(request.getPhoneNumber())
+                .slotAt(slotAt)
+                .partySize(partySize)
+                .durationMinutes(durationMinutes)
+                .priority(loyal ? LOYALTY_PRIORITY : 0)
+                .status(WAITING)
+                .createdAt(LocalDateTime.now())
+                .build());
+        waitlistQueue.add(entry);
+        invalidateOnRollback(store.getId(), slotAt);
+
+        WaitlistDto.Response response = convertToResponse(entry);
+        loggingUtil.logSuccess("JOIN WAITLIST", response);
+        return response;
+    }
+
+    /**
+     * 예약 대기 취소
+     *
+     * @param entryId 대기 ID
+     * @param userId  사용자 ID
+     * @return 취소된 대기 정보
+     */
+    @Transactional
+    public WaitlistDto.Response cancelWaitlist(Long entryId, Long userId) {
+        loggingUtil.logRequest("CANCEL WAITLIST", entryId, userId);
+
+        WaitlistEntry entry = waitlistEntryRepository.findById(entryId)
+                .orElseThrow(() -> new CustomException(WAITLIST_NOT_FOUND));
+        if (!entry.getUser().getId().equals(userId)) {
+            throw new CustomException(UNAUTHORIZED_ACTION);
+        }
+        if (entry.getStatus() != WAITING) {
+            throw new CustomException(INVALID_WAITLIST_STATUS);
+        }
+
+        entry.setStatus(CANCELLED);
+        waitlistQueue.remove(entry.getStore().getId(), entry.getSlotAt(), entry.getId());
+        invalidateOnRollback(entry.getStore().getId(), entry.getSlotAt());
+
+        WaitlistDto.Response response = convertToResponse(entry);
+        loggingUtil.logSuccess("CANCEL WAITLIST", response);
+        return response;
+    }
+
+    /**
+     * 예약 대기 조회
+     *
+     * @param entryId 대기 ID
+     * @return 대기 정보 (대기 순번 포함)
+     */
+    public WaitlistDto.Response getWaitlist(Long entryId) {
+        loggingUtil.logRequest("GET WAITLIST", entryId);
+
+        WaitlistEntry entry = waitlistEntryRepository.findById(entryId)
+                .orElseThrow(() -> new CustomException(WAITLIST_NOT_FOUND));
+
+        WaitlistDto.Response response = convertToResponse(entry);
+        loggingUtil.logSuccess("GET WAITLIST", response);
+        return response;
+    }
+
+    /**
+     * 취소, 거절로 자리가 빈 예약 시간의 다음 대기자를 예약으로 전환
+     * - 예약을 취소, 거절하는 트랜잭션 안에서 호출하여 같은 상태 전환으로 처리
+     * - 빈 자리의 테이블 수용 인원과 이용 시간에 맞지 않거나, 같은 시간대에 다른 예약이 있는 대기자는 건너뜀
+     *
+     * @param freed 취소, 거절된 예약
+     * @return 전환된 예약 (전환할 대기자가 없으면 empty)
+     */
+    public Optional<Reservation> promoteNext(Reservation freed) {
+        Long storeId = freed.getStore().getId();
+        LocalDateTime slotAt = freed.getReservedAt();
+        if (slotAt == null || !slotAt.isAfter(LocalDateTime.now())) {
+            return Optional.empty();
+        }
+
+        int freedMinutes = freed.getDurationMinutes() != null
+                ? freed.getDurationMinutes() : Reservation.DEFAULT_DURATION_MINUTES;
+        Integer freedSeats = freed.getTable() != null ? freed.getTable().getSeats() : null;
+
+        for (WaitlistQueue.Waiter waiter : waitlistQueue.ordered(storeId, slotAt)) {
+            if (waiter.durationMinutes() > freedMinutes
+                    || (freedSeats != null && waiter.partySize() > freedSeats)) {
+                continue;
+            }
+            Optional<UserBookingIndex.Hold> hold = userBookingIndex.tryHold(
+                    waiter.userId(), slotAt, slotAt.plusMinutes(waiter.durationMinutes()));
+            if (hold.isEmpty()) {
+                continue;
+            }
+            if (!waitlistQueue.remove(storeId, slotAt, waiter.entryId())) {
+                // 다른 요청이 먼저 전환한 대기자
+                userBookingIndex.release(hold.get());
+                continue;
+            }
+            Reservation promoted = promote(waiter, freed, hold.get());
+            loggingUtil.logSuccess("PROMOTE WAITLIST",
+                    "대기 ID: " + waiter.entryId() + ", 예약 ID: " + promoted.getId());
+            return Optional.of(promoted);
+        }
+        return Optional.empty();
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 대기자를 빈 자리의 예약으로 전환하고 생성 이벤트 발행
+     */
+    private Reservation promote(WaitlistQueue.Waiter waiter, Reservation freed, UserBookingIndex.Hold hold) {
+        WaitlistEntry entry = waitlistEntryRepository.findById(waiter.entryId())
+                .orElseThrow(() -> new CustomException(WAITLIST_NOT_FOUND));
+
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .user(entry.getUser())
+                .store(freed.getStore())
+                .phoneNumber(entry.getPhoneNumber())
+                .reservedAt(entry.getSlotAt())
+                .partySize(entry.getPartySize())
+                .durationMinutes(entry.getDurationMinutes())
+                .table(freed.getTable())
+                .status(CONFIRMED)
+                .build());
+
+        entry.setStatus(PROMOTED);
+        entry.setReservationId(reservation.getId());
+        userBookingIndex.assign(hold, reservation.getId());
+        registerRollback(() -> {
+            userBookingIndex.release(hold);
+            waitlistQueue.invalidate(freed.getStore().getId(), entry.getSlotAt());
+        });
+        eventPublisher.publishEvent(ReservationChangedEvent.created(reservation));
+        return reservation;
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 대기열을 버리고 다음 사용 시 DB 에서 다시 적재
+     */
+    private void invalidateOnRollback(Long storeId, LocalDateTime slotAt) {
+        registerRollback(() -> waitlistQueue.invalidate(storeId, slotAt));
+    }
+
+    /**
+     * 트랜잭션 롤백 시 실행할 작업 등록 (트랜잭션 밖에서는 무시)
+     */
+    private void registerRollback(Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * 대기 항목을 Response DTO 로 변환 (대기 중이면 현재 순번 포함)
+     */
+    private WaitlistDto.Response convertToResponse(WaitlistEntry entry) {
+        Integer position = entry.getStatus() == WAITING
+                ? waitlistQueue.position(entry.getStore().getId(), entry.getSlotAt(), entry.getId())
+                : null;
+        return WaitlistDto.Response.builder()
+                .id(entry.getId())
+                .storeId(entry.getStore().getId())
+                .userId(entry.getUser().getId())
+                .slotAt(entry.getSlotAt())
+                .partySize(entry.getPartySize())
+                .priority(entry.getPriority())
+                .status(entry.getStatus())
+                .position(position)
+                .reservationId(entry.getReservationId())
+                .build();
+    }
+}
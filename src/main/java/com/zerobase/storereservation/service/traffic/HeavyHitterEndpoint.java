@@ -0,0 +1,36 @@
+package com.zerobase.storereservation.service.traffic;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HeavyHitterEndpoint
+ * 요청이 몰리는 매장과 사용자를 보여주는 actuator 엔드포인트
+ * - 사용자 ID 가 담기므로 웹(/actuator)에는 노출하지 않고 JMX(org.springframework.boot:type=Endpoint,name=Heavyhitters)로만 제공
+ */
+@Component
+@Endpoint(id = "heavyhitters")
+@RequiredArgsConstructor
+public class HeavyHitterEndpoint {
+
+    // 매장, 사용자별 요청 빈도 추적기
+    private final TrafficTracker trafficTracker;
+
+    /**
+     * 요청이 많은 매장과 사용자 조회
+     *
+     * @return stores, users 별 추정치 내림차순 목록
+     */
+    @ReadOperation
+    public Map<String, List<HeavyHitterSketch.Entry>> heavyHitters() {
+        return Map.of(
+                "stores", trafficTracker.hotStores(),
+                "users", trafficTracker.hotUsers()
+        );
+    }
+}
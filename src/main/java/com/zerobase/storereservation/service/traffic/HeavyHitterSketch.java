@@ -0,0 +1,176 @@
+package com.zerobase.storereservation.service.traffic;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HeavyHitterSketch
+ * 요청이 많은 키를 고정된 메모리로 찾아내는 count-min sketch + 상위 K 개 목록
+ * - 키마다 depth 개의 해시 칸을 1 씩 올리고, 그 중 가장 작은 값을 빈도 추정치로 사용 (실제보다 작게 추정하지 않음)
+ * - 이미 상위 목록에 있는 키는 잠금 없이 추정치만 갱신 (요청이 몰리는 키가 대부분 이 경로를 탐)
+ * - 목록 밖의 키는 추정치가 상위 목록 진입 기준보다 클 때만 목록에 넣고, 목록이 가득 차면 가장 작은 키를 뺌
+ *   (진입 기준은 목록 구성이 바뀔 때와 감쇠할 때만 다시 계산하므로 실제 최솟값보다 작을 수 있지만, 목록에 넣을 때 다시 비교함)
+ * - 키 종류가 아무리 많아도 메모리는 depth x width 칸과 상위 K 개로 고정
+ * - decay() 마다 모든 값을 절반으로 줄여 최근 요청에 가중치를 둠
+ */
+public class HeavyHitterSketch {
+
+    // 행별 해시 시드
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L,
+            0xD6E8FEB86659FD93L, 0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L
+    };
+
+    // 해시 행 수
+    private final int depth;
+
+    // 행별 칸 수 (2의 거듭제곱)
+    private final int width;
+
+    // 상위 목록 크기
+    private final int capacity;
+
+    // depth x width 카운터
+    private final AtomicLongArray counters;
+
+    // 키 -> 추정치 (상위 목록, 키 추가/제거는 이 객체로 동기화)
+    private final Map<Long, Long> top = new ConcurrentHashMap<>();
+
+    // 상위 목록에 들어가기 위한 최소 추정치 (목록이 가득 차지 않았으면 0)
+    private volatile long admission;
+
+    public HeavyHitterSketch(int depth, int width, int capacity) {
+        if (depth < 1 || depth > SEEDS.length || Integer.bitCount(width) != 1 || capacity < 1) {
+            throw new IllegalArgumentException("depth 는 1 ~ " + SEEDS.length
+                    + ", width 는 2의 거듭제곱, capacity 는 1 이상이어야 합니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.capacity = capacity;
+        this.counters = new AtomicLongArray(depth * width);
+    }
+
+    /**
+     * 키의 요청 1건 기록
+     *
+     * @param key 키
+     * @return 기록 후 빈도 추정치
+     */
+    public long add(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(key, row)));
+        }
+        // 상위 목록에 있는 키는 잠금 없이 추정치만 갱신
+        long current = estimate;
+        if (top.computeIfPresent(key, (k, previous) -> Math.max(previous, current)) != null) {
+            return estimate;
+        }
+        if (estimate > admission) {
+            offer(key, estimate);
+        }
+        return estimate;
+    }
+
+    /**
+     * 키의 빈도 추정치 조회
+     *
+     * @param key 키
+     * @return 빈도 추정치
+     */
+    public long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(key, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 상위 목록 조회
+     *
+     * @return 추정치 내림차순 목록
+     */
+    public synchronized List<Entry> top() {
+        List<Entry> entries = new ArrayList<>(top.size());
+        top.forEach((key, estimate) -> entries.add(new Entry(key, estimate)));
+        entries.sort(Comparator.comparingLong(Entry::estimate).reversed().thenComparingLong(Entry::key));
+        return entries;
+    }
+
+    /**
+     * 모든 카운터와 상위 목록의 추정치를 절반으로 줄임 (0 이 된 키는 목록에서 제거)
+     */
+    public synchronized void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, value -> value >> 1);
+        }
+        top.replaceAll((key, estimate) -> estimate >> 1);
+        top.values().removeIf(estimate -> estimate == 0);
+        updateAdmission();
+    }
+
+    // ==== Private Helper Methods ====
+
+    /**
+     * 상위 목록에 키 추가 (목록 구성이 바뀔 때만 진입 기준을 다시 계산)
+     */
+    private synchronized void offer(long key, long estimate) {
+        if (top.putIfAbsent(key, estimate) != null) {
+            // 다른 스레드가 먼저 추가한 경우
+            top.computeIfPresent(key, (k, previous) -> Math.max(previous, estimate));
+            return;
+        }
+        if (top.size() > capacity) {
+            Long smallest = null;
+            long smallestEstimate = Long.MAX_VALUE;
+            for (Map.Entry<Long, Long> entry : top.entrySet()) {
+                if (entry.getValue() < smallestEstimate) {
+                    smallest = entry.getKey();
+                    smallestEstimate = entry.getValue();
+                }
+            }
+            top.remove(smallest);
+        }
+        updateAdmission();
+    }
+
+    private void updateAdmission() {
+        if (top.size() < capacity) {
+            admission = 0;
+            return;
+        }
+        long min = Long.MAX_VALUE;
+        for (long estimate : top.values()) {
+            min = Math.min(min, estimate);
+        }
+        admission = min;
+    }
+
+    /**
+     * 행별 해시 칸 번호 (murmur3 fmix64)
+     */
+    private int index(long key, int row) {
+        long h = key ^ SEEDS[row];
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return row * width + (int) (h & (width - 1));
+    }
+
+    /**
+     * Entry
+     * 상위 목록 항목
+     *
+     * @param key      키
+     * @param estimate 빈도 추정치
+     */
+    public record Entry(long key, long estimate) {
+    }
+}
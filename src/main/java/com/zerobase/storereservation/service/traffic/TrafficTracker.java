@@ -0,0 +1,109 @@
+package com.zerobase.storereservation.service.traffic;
+
+import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.service.StoreOwnershipCache;
+import com.zerobase.storereservation.service.reservation.SlotAvailabilityIndex;
+import com.zerobase.storereservation.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * TrafficTracker
+ * 요청이 몰리는 매장과 사용자를 추적하는 컴포넌트
+ * - 매장 ID, 사용자 ID 별로 HeavyHitterSketch 를 하나씩 두고 컨트롤러 요청마다 기록
+ * - 1분마다 추정치를 절반으로 줄이므로 추정치는 대략 최근 1분 요청 수의 2배
+ * - 추정치가 HOT_STORE_THRESHOLD 이상인 매장은 만료 전에 소유권 캐시를 갱신하고 향후 예약 가능 시간을 미리 적재
+ */
+@Component
+@RequiredArgsConstructor
+public class TrafficTracker {
+
+    // 해시 행 수
+    static final int DEPTH = 4;
+
+    // 행별 칸 수 (매장, 사용자 각각 4 x 4096 x 8바이트 = 128KB)
+    static final int WIDTH = 4096;
+
+    // 추적하는 상위 키 수
+    static final int TOP_K = 20;
+
+    // 읽기 캐시에 미리 올리는 매장의 최소 추정치 (초당 약 1건)
+    static final long HOT_STORE_THRESHOLD = 120;
+
+    // 예약 가능 시간을 미리 적재하는 기간 (일)
+    static final int PRELOAD_DAYS = 7;
+
+    // 매장 소유권 캐시
+    private final StoreOwnershipCache storeOwnershipCache;
+
+    // 매장 예약 가능 시간 인덱스
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+
+    // 로깅을 위한 유틸 클래스
+    private final LoggingUtil loggingUtil;
+
+    // 매장 ID 별 요청 빈도
+    private final HeavyHitterSketch stores = new HeavyHitterSketch(DEPTH, WIDTH, TOP_K);
+
+    // 사용자 ID 별 요청 빈도
+    private final HeavyHitterSketch users = new HeavyHitterSketch(DEPTH, WIDTH, TOP_K);
+
+    /**
+     * 요청 기록
+     *
+     * @param storeId 요청 대상 매장 ID (없으면 null)
+     * @param userId  요청한 사용자 ID (인증 전이면 null)
+     */
+    public void record(Long storeId, Long userId) {
+        if (storeId != null) {
+            stores.add(storeId);
+        }
+        if (userId != null) {
+            users.add(userId);
+        }
+    }
+
+    /**
+     * 요청이 많은 매장 목록
+     *
+     * @return 추정치 내림차순 매장 목록
+     */
+    public List<HeavyHitterSketch.Entry> hotStores() {
+        return stores.top();
+    }
+
+    /**
+     * 요청이 많은 사용자 목록
+     *
+     * @return 추정치 내림차순 사용자 목록
+     */
+    public List<HeavyHitterSketch.Entry> hotUsers() {
+        return users.top();
+    }
+
+    /**
+     * 1분마다 요청이 몰리는 매장을 읽기 캐시에 올린 뒤 추정치를 절반으로 줄임
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void promoteAndDecay() {
+        LocalDate today = LocalDate.now();
+        for (HeavyHitterSketch.Entry entry : stores.top()) {
+            if (entry.estimate() < HOT_STORE_THRESHOLD) {
+                break;
+            }
+            try {
+                storeOwnershipCache.refreshAhead(entry.key());
+                slotAvailabilityIndex.preload(entry.key(), today, today.plusDays(PRELOAD_DAYS - 1));
+            } catch (CustomException e) {
+                // 없는 매장 ID 로 몰린 요청은 캐시에 올리지 않음
+                loggingUtil.logError("PROMOTE HOT STORE", "매장 ID " + entry.key() + ": " + e.getMessage());
+            }
+        }
+        stores.decay();
+        users.decay();
+    }
+}
@@ -4,8 +4,15 @@ import com.zerobase.storereservation.dto.ReservationDto;
 import com.zerobase.storereservation.entity.Reservation;
 import com.zerobase.storereservation.entity.Store;
 import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
 import com.zerobase.storereservation.exception.CustomException;
 import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.service.reservation.ArrivalBatchWriter;
+import com.zerobase.storereservation.service.reservation.CheckInTokenSigner;
+import com.zerobase.storereservation.service.reservation.PhoneLookupIndex;
+import com.zerobase.storereservation.service.reservation.ReservationChangeLog;
+import com.zerobase.storereservation.service.reservation.ReservationArchiver;
+import com.zerobase.storereservation.service.reservation.ReservationHotWindow;
 import com.zerobase.storereservation.util.LoggingUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,10 +21,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,6 +43,24 @@ class KioskServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private ReservationHotWindow reservationHotWindow;
+
+    @Mock
+    private ReservationChangeLog reservationChangeLog;
+
+    @Mock
+    private PhoneLookupIndex phoneLookupIndex;
+
+    @Mock
+    private CheckInTokenSigner checkInTokenSigner;
+
+    @Mock
+    private ArrivalBatchWriter arrivalBatchWriter;
+
+    @Mock
+    private ReservationArchiver reservationArchiver;
+
     @Mock
     private LoggingUtil loggingUtil;
 
@@ -93,6 +122,161 @@ class KioskServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("특정 매장의 당일 예약 목록 조회 성공 - 인메모리 윈도우")
+    void getTodayReservationsFromHotWindow() {
+        // given
+        ReservationDto.Response response = ReservationDto.Response.builder()
+                .id(1L)
+                .storeId(mockStore.getId())
+                .userId(mockUser.getId())
+                .reservedAt(LocalDateTime.now().withHour(12).withMinute(0))
+                .build();
+
+        when(reservationHotWindow.covers(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+        when(reservationHotWindow.find(
+                eq(mockStore.getId()),
+                any(LocalDateTime.class),
+                any(LocalDateTime.class)
+        )).thenReturn(List.of(response));
+
+        // when
+        List<ReservationDto.Response> responses = kioskService.getTodayReservations(mockStore.getId());
+
+        // then
+        assertEquals(1, responses.size());
+        assertEquals(1L, responses.get(0).getId());
+        verify(reservationRepository, never()).findByStoreIdAndReservedAtBetween(
+                any(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("여러 매장의 당일 예약 목록 일괄 조회 성공 - 한 번의 쿼리")
+    void getTodayReservationsByStoresSuccess() {
+        // given
+        Store otherStore = Store.builder().id(2L).build();
+        Reservation reservation1 = Reservation.builder()
+                .id(1L)
+                .store(mockStore)
+                .user(mockUser)
+                .reservedAt(LocalDateTime.now().withHour(12).withMinute(0))
+                .build();
+        Reservation reservation2 = Reservation.builder()
+                .id(2L)
+                .store(mockStore)
+                .user(mockUser)
+                .reservedAt(LocalDateTime.now().withHour(14).withMinute(0))
+                .build();
+
+        when(reservationRepository.findByStoreIdInAndReservedAtBetween(
+                any(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(reservation1, reservation2));
+
+        // when
+        Map<Long, List<ReservationDto.Response>> result = kioskService.getTodayReservationsByStores(
+                List.of(otherStore.getId(), mockStore.getId(), mockStore.getId()));
+
+        // then
+        assertEquals(List.of(2L, 1L), List.copyOf(result.keySet()));
+        assertTrue(result.get(otherStore.getId()).isEmpty());
+        assertEquals(2, result.get(mockStore.getId()).size());
+        verify(reservationRepository, times(1)).findByStoreIdInAndReservedAtBetween(
+                eq(Set.of(1L, 2L)), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(reservationRepository, never()).findByStoreIdAndReservedAtBetween(
+                any(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("여러 매장의 당일 예약 목록 일괄 조회 성공 - 인메모리 윈도우")
+    void getTodayReservationsByStoresFromHotWindow() {
+        // given
+        ReservationDto.Response response = ReservationDto.Response.builder()
+                .id(1L)
+                .storeId(mockStore.getId())
+                .userId(mockUser.getId())
+                .reservedAt(LocalDateTime.now().withHour(12).withMinute(0))
+                .build();
+
+        when(reservationHotWindow.covers(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+        when(reservationHotWindow.find(
+                eq(mockStore.getId()), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(response));
+        when(reservationHotWindow.find(
+                eq(2L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        // when
+        Map<Long, List<ReservationDto.Response>> result =
+                kioskService.getTodayReservationsByStores(List.of(mockStore.getId(), 2L));
+
+        // then
+        assertEquals(1, result.get(mockStore.getId()).size());
+        assertTrue(result.get(2L).isEmpty());
+        verify(reservationRepository, never()).findByStoreIdInAndReservedAtBetween(
+                any(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("여러 매장의 당일 예약 목록 일괄 조회 실패 - 매장 수 초과")
+    void getTodayReservationsByStoresFailTooMany() {
+        // given
+        List<Long> storeIds = LongStream.rangeClosed(1, KioskService.MAX_BATCH_STORES + 1)
+                .boxed()
+                .toList();
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> kioskService.getTodayReservationsByStores(storeIds));
+        assertEquals("INVALID_STORE_IDS", exception.getErrorCode().name());
+    }
+
+    @Test
+    @DisplayName("당일 예약 증분 동기화 - 변경 없음")
+    void syncTodayReservationsNoChange() {
+        // given
+        long version = 100L;
+        when(reservationChangeLog.changesSince(mockStore.getId(), version))
+                .thenReturn(Optional.of(new ReservationChangeLog.Delta(version, List.of())));
+        when(reservationHotWindow.covers(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+
+        // when
+        ReservationDto.SyncResponse response =
+                kioskService.syncTodayReservations(mockStore.getId(), version);
+
+        // then
+        assertFalse(response.isChanged());
+        assertFalse(response.isFullResync());
+        assertEquals(version, response.getVersion());
+        assertTrue(response.getReservations().isEmpty());
+        verify(reservationRepository, never()).findByStoreIdAndReservedAtBetween(
+                any(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("당일 예약 증분 동기화 - 알 수 없는 버전은 전체 재동기화")
+    void syncTodayReservationsFullResync() {
+        // given
+        when(reservationChangeLog.changesSince(mockStore.getId(), 1L)).thenReturn(Optional.empty());
+        when(reservationChangeLog.currentVersion(mockStore.getId())).thenReturn(200L);
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(
+                eq(mockStore.getId()),
+                any(LocalDateTime.class),
+                any(LocalDateTime.class)
+        )).thenReturn(List.of());
+
+        // when
+        ReservationDto.SyncResponse response =
+                kioskService.syncTodayReservations(mockStore.getId(), 1L);
+
+        // then
+        assertTrue(response.isChanged());
+        assertTrue(response.isFullResync());
+        assertEquals(200L, response.getVersion());
+    }
+
     @Test
     @DisplayName("도착 확인 성공")
     void checkArrivalSuccess() {
@@ -136,6 +320,144 @@ class KioskServiceTest {
         verify(reservationRepository, times(1)).findById(invalidReservationId);
     }
 
+    @Test
+    @DisplayName("연락처로 당일 예약 조회 - 인덱스에서 조회")
+    void findReservationsByPhoneToday() {
+        // given
+        ReservationDto.Response indexed = ReservationDto.Response.builder()
+                .id(1L)
+                .storeId(mockStore.getId())
+                .phoneNumber("010-1234-5678")
+                .build();
+        when(phoneLookupIndex.find(mockStore.getId(), "5678")).thenReturn(List.of(indexed));
+
+        // when
+        List<ReservationDto.Response> result =
+                kioskService.findReservationsByPhone(mockStore.getId(), "5678", null);
+
+        // then
+        assertEquals(List.of(indexed), result);
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    @DisplayName("연락처로 다른 날짜 예약 조회 - 여러 저장 형식으로 DB 조회")
+    void findReservationsByPhoneOtherDay() {
+        // given
+        Reservation reservation = Reservation.builder()
+                .id(1L)
+                .store(mockStore)
+                .user(mockUser)
+                .phoneNumber("010-1234-5678")
+                .reservedAt(LocalDateTime.now().plusDays(1))
+                .build();
+        when(reservationRepository.findByStoreIdAndPhoneNumbers(
+                eq(mockStore.getId()),
+                eq(Set.of("01012345678", "010-1234-5678")),
+                any(), any()
+        )).thenReturn(List.of(reservation));
+
+        // when
+        List<ReservationDto.Response> result = kioskService.findReservationsByPhone(
+                mockStore.getId(), "01012345678", LocalDate.now().plusDays(1));
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals("010-1234-5678", result.get(0).getPhoneNumber());
+        verifyNoInteractions(phoneLookupIndex);
+    }
+
+    @Test
+    @DisplayName("연락처로 아카이브된 날짜 예약 조회 - 아카이브 예약을 합쳐 예약 시간 순으로 반환")
+    void findReservationsByPhoneArchivedDay() {
+        // given
+        LocalDate day = LocalDate.now().minusDays(120);
+        Reservation hot = Reservation.builder()
+                .id(3L)
+                .store(mockStore)
+                .user(mockUser)
+                .phoneNumber("010-9999-5678")
+                .reservedAt(day.atTime(19, 0))
+                .build();
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(eq(mockStore.getId()), any(), any()))
+                .thenReturn(List.of(hot));
+        when(reservationArchiver.findByStore(eq(mockStore.getId()), any(), any())).thenReturn(List.of(
+                archived(1L, "01012345678", day.atTime(12, 0)),
+                archived(2L, "010-1111-2222", day.atTime(13, 0))));
+
+        // when
+        List<ReservationDto.Response> result =
+                kioskService.findReservationsByPhone(mockStore.getId(), "5678", day);
+
+        // then
+        assertEquals(List.of(1L, 3L), result.stream().map(ReservationDto.Response::getId).toList());
+        verifyNoInteractions(phoneLookupIndex);
+    }
+
+    @Test
+    @DisplayName("연락처로 예약 조회 실패 - 4자리 미만")
+    void findReservationsByPhoneFailTooShort() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> kioskService.findReservationsByPhone(mockStore.getId(), "56-7", null));
+        assertEquals("INVALID_PHONE_NUMBER", exception.getErrorCode().name());
+    }
+
+    @Test
+    @DisplayName("체크인 토큰으로 도착 확인 성공 - 윈도우에 있는 예약은 DB 조회 없이 도착 기록")
+    void checkInSuccess() {
+        // given
+        LocalDateTime reservedAt = LocalDateTime.now().withHour(12).withMinute(0);
+        LocalDateTime arrivalTime = reservedAt.minusMinutes(5);
+        when(checkInTokenSigner.verify("token")).thenReturn(Optional.of(
+                new CheckInTokenSigner.CheckIn(1L, mockStore.getId(), reservedAt)));
+        when(reservationHotWindow.findById(mockStore.getId(), 1L)).thenReturn(Optional.of(
+                ReservationDto.Response.builder().id(1L).status(ReservationStatus.CONFIRMED).build()));
+
+        // when
+        ReservationDto.CheckArrivalResponse response =
+                kioskService.checkIn("token", mockStore.getId(), arrivalTime);
+
+        // then
+        assertTrue(response.isArrived());
+        verify(arrivalBatchWriter).record(mockStore.getId(), 1L, arrivalTime);
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    @DisplayName("체크인 토큰으로 도착 확인 실패 - 윈도우에 없으면 DB 의 예약 상태로 판단 (취소된 예약)")
+    void checkInFailCancelledOutsideWindow() {
+        // given
+        LocalDateTime reservedAt = LocalDateTime.now().withHour(12).withMinute(0);
+        Reservation cancelled = Reservation.builder()
+                .id(1L).store(mockStore).reservedAt(reservedAt).status(ReservationStatus.CANCELLED).build();
+        when(checkInTokenSigner.verify("token")).thenReturn(Optional.of(
+                new CheckInTokenSigner.CheckIn(1L, mockStore.getId(), reservedAt)));
+        when(reservationHotWindow.findById(mockStore.getId(), 1L)).thenReturn(Optional.empty());
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(cancelled));
+
+        // when
+        ReservationDto.CheckArrivalResponse response =
+                kioskService.checkIn("token", mockStore.getId(), reservedAt.minusMinutes(5));
+
+        // then
+        assertFalse(response.isArrived());
+        verifyNoInteractions(arrivalBatchWriter);
+    }
+
+    @Test
+    @DisplayName("체크인 토큰으로 도착 확인 실패 - 다른 매장의 토큰")
+    void checkInFailOtherStore() {
+        // given
+        when(checkInTokenSigner.verify("token")).thenReturn(Optional.of(
+                new CheckInTokenSigner.CheckIn(1L, 2L, LocalDateTime.now())));
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> kioskService.checkIn("token", mockStore.getId(), LocalDateTime.now()));
+        assertEquals("INVALID_CHECK_IN_TOKEN", exception.getErrorCode().name());
+        verifyNoInteractions(arrivalBatchWriter);
+    }
+
     @Test
     @DisplayName("도착 확인 실패 - 도착 시간이 유효하지 않음")
     void checkArrivalFailInvalidTime() {
@@ -159,4 +481,14 @@ class KioskServiceTest {
         assertFalse(response.isArrived());
         verify(reservationRepository, times(1)).findById(reservationId);
     }
+
+    private ReservationDto.Response archived(Long id, String phoneNumber, LocalDateTime reservedAt) {
+        return ReservationDto.Response.builder()
+                .id(id)
+                .storeId(mockStore.getId())
+                .userId(mockUser.getId())
+                .phoneNumber(phoneNumber)
+                .reservedAt(reservedAt)
+                .build();
+    }
 }
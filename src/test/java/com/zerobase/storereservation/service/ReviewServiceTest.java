@@ -10,7 +10,9 @@ import com.zerobase.storereservation.repository.ReservationRepository;
 import com.zerobase.storereservation.repository.ReviewRepository;
 import com.zerobase.storereservation.repository.StoreRepository;
 import com.zerobase.storereservation.repository.UserRepository;
+import com.zerobase.storereservation.service.reservation.ReservationArchiver;
 import com.zerobase.storereservation.util.LoggingUtil;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -44,6 +46,9 @@ class ReviewServiceTest {
     @Mock
     private StoreService storeService;
 
+    @Mock
+    private ReservationArchiver reservationArchiver;
+
     @Mock
     private LoggingUtil loggingUtil;
 
@@ -126,6 +131,24 @@ class ReviewServiceTest {
         verify(reviewRepository, times(1)).deleteById(1L);
     }
 
+    @Test
+    @DisplayName("리뷰 삭제 실패 - 삭제 요청된 매장의 리뷰")
+    void deleteReviewFailStoreDeleted() {
+        // given
+        Store store = mock(Store.class);
+        when(store.getOwner()).thenThrow(new EntityNotFoundException("deleted store"));
+        Review review = Review.builder()
+                .id(1L).store(store).user(User.builder().id(1L).build()).build();
+
+        when(reviewRepository.findById(1L)).thenReturn(Optional.of(review));
+
+        // when & then
+        CustomException e = assertThrows(CustomException.class,
+                () -> reviewService.deleteReview(1L, 1L));
+        assertEquals(ErrorCode.STORE_NOT_FOUND, e.getErrorCode());
+        verify(reviewRepository, never()).deleteById(any());
+    }
+
     @Test
     @DisplayName("리뷰 수정 성공 - 유효한 데이터로 수정")
     void updateReviewSuccess() {
@@ -0,0 +1,188 @@
+package com.zerobase.storereservation.service;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.DiningTableRepository;
+import com.zerobase.storereservation.repository.ReservationArchiveRepository;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.repository.ReservationRollupRepository;
+import com.zerobase.storereservation.repository.ReviewRepository;
+import com.zerobase.storereservation.repository.StoreRepository;
+import com.zerobase.storereservation.repository.WaitlistEntryRepository;
+import com.zerobase.storereservation.service.reservation.ReservationHotWindow;
+import com.zerobase.storereservation.service.reservation.StoreOccupancy;
+import com.zerobase.storereservation.service.reservation.TableAllocator;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class StoreDeletionJobTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final Long OWNER_ID = 10L;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationArchiveRepository reservationArchiveRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Mock
+    private DiningTableRepository diningTableRepository;
+
+    @Mock
+    private ReservationRollupRepository reservationRollupRepository;
+
+    @Mock
+    private TableAllocator tableAllocator;
+
+    @Mock
+    private ReservationHotWindow reservationHotWindow;
+
+    @Mock
+    private StoreOccupancy storeOccupancy;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    private StoreDeletionJob job;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        job = new StoreDeletionJob(storeRepository, reservationRepository, reservationArchiveRepository,
+                reviewRepository, waitlistEntryRepository, diningTableRepository, reservationRollupRepository,
+                tableAllocator, reservationHotWindow, storeOccupancy, transactionTemplate, eventPublisher, loggingUtil);
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+    }
+
+    @Test
+    @DisplayName("다가오는 예약은 취소 후 삭제하고, 지난 예약은 아카이브한 뒤 연관 데이터와 매장 행을 삭제")
+    void runCascadesToCompletion() {
+        // given
+        Reservation upcoming = reservation(100L, ReservationStatus.CONFIRMED);
+        when(reservationRepository.findCancellableByStoreId(eq(STORE_ID), anyList(), any(), any()))
+                .thenReturn(List.of(upcoming), List.of());
+        when(reservationRepository.findIdsByStoreIdFrom(eq(STORE_ID), any(), any()))
+                .thenReturn(List.of(100L), List.of());
+        when(reservationRepository.findIdsByStoreIdBefore(eq(STORE_ID), any(), any()))
+                .thenReturn(List.of(1L, 2L), List.of());
+        when(reviewRepository.findIdsByStoreId(eq(STORE_ID), any()))
+                .thenReturn(List.of(5L), List.of());
+        when(storeRepository.purgeDeleted(STORE_ID)).thenReturn(1, 0);
+        job.requested(STORE_ID, OWNER_ID);
+
+        // when
+        job.run();
+
+        // then
+        StoreDeletionJob.Progress progress = job.progress(STORE_ID).orElseThrow();
+        assertEquals(StoreDeletionJob.Phase.COMPLETED, progress.phase());
+        assertNotNull(progress.completedAt());
+        assertEquals(Map.of(
+                StoreDeletionJob.Phase.CANCEL_RESERVATIONS, 1L,
+                StoreDeletionJob.Phase.PURGE_RESERVATIONS, 1L,
+                StoreDeletionJob.Phase.ARCHIVE_RESERVATIONS, 2L,
+                StoreDeletionJob.Phase.PURGE_REVIEWS, 1L,
+                StoreDeletionJob.Phase.PURGE_STORE, 1L), progress.processed());
+
+        verify(reservationRepository).updateStatusByIds(List.of(100L), ReservationStatus.CANCELLED);
+        ArgumentCaptor<ReservationChangedEvent> event = ArgumentCaptor.forClass(ReservationChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(ReservationStatus.CONFIRMED, event.getValue().getPreviousStatus());
+        assertEquals(ReservationStatus.CANCELLED, event.getValue().getStatus());
+
+        verify(reservationRepository).deleteAllByIdInBatch(List.of(100L));
+        verify(reservationArchiveRepository).archiveReservations(List.of(1L, 2L));
+        verify(reservationRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(reviewRepository).deleteAllByIdInBatch(List.of(5L));
+        verify(waitlistEntryRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(tableAllocator).invalidateStore(STORE_ID);
+        verify(reservationHotWindow).removeStore(STORE_ID);
+        verify(storeOccupancy).evict(STORE_ID);
+    }
+
+    @Test
+    @DisplayName("청크 처리에 실패하면 처음 단계부터 다시 진행")
+    void restartOnFailure() {
+        // given
+        when(reservationRepository.findIdsByStoreIdBefore(eq(STORE_ID), any(), any()))
+                .thenReturn(List.of(1L));
+        doThrow(new IllegalStateException("FK 위반"))
+                .when(reservationArchiveRepository).archiveReservations(anyList());
+        job.requested(STORE_ID, OWNER_ID);
+
+        // when
+        job.run();
+
+        // then
+        StoreDeletionJob.Progress progress = job.progress(STORE_ID).orElseThrow();
+        assertEquals(StoreDeletionJob.Phase.PENDING, progress.phase());
+        verify(loggingUtil).logError(eq("DELETE STORE"), anyString());
+        verify(storeRepository, never()).purgeDeleted(any());
+    }
+
+    @Test
+    @DisplayName("기동 시 삭제 요청된 매장을 다시 등록")
+    void resumeRegistersDeletedStores() {
+        // given
+        StoreRepository.DeletedStore deleted = mock(StoreRepository.DeletedStore.class);
+        when(deleted.getStoreId()).thenReturn(STORE_ID);
+        when(deleted.getOwnerId()).thenReturn(OWNER_ID);
+        when(storeRepository.findDeleted()).thenReturn(List.of(deleted));
+
+        // when
+        job.resume();
+
+        // then
+        StoreDeletionJob.Progress progress = job.progress(STORE_ID).orElseThrow();
+        assertEquals(OWNER_ID, progress.ownerId());
+        assertEquals(StoreDeletionJob.Phase.PENDING, progress.phase());
+    }
+
+    private Reservation reservation(Long id, ReservationStatus status) {
+        return Reservation.builder()
+                .id(id)
+                .store(Store.builder().id(STORE_ID).build())
+                .user(User.builder().id(20L).build())
+                .reservedAt(LocalDateTime.now().plusDays(1))
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.zerobase.storereservation.service;
+
+import com.zerobase.storereservation.repository.StoreRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StoreGeoIndexTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    private StoreGeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        geoIndex = new StoreGeoIndex(storeRepository, loggingUtil);
+
+        // 서울 시청 기준으로 멀어지는 순서: 1 -> 2 -> 3 -> 4
+        geoIndex.put(3L, 37.5665, 127.0280);   // 약 4.4km
+        geoIndex.put(1L, 37.5667, 126.9782);   // 약 0.02km
+        geoIndex.put(4L, 37.4979, 127.0276);   // 약 8.8km
+        geoIndex.put(2L, 37.5700, 126.9900);   // 약 1.1km
+    }
+
+    @Test
+    @DisplayName("가까운 순서로 조건을 만족하는 매장만 limit 개 조회")
+    void findNearestInDistanceOrder() {
+        // when
+        List<StoreGeoIndex.Nearby> nearby =
+                geoIndex.findNearest(37.5665, 126.9780, 20, 2, storeId -> storeId != 2L);
+
+        // then
+        assertEquals(List.of(1L, 3L), nearby.stream().map(StoreGeoIndex.Nearby::storeId).toList());
+        assertTrue(nearby.get(0).distanceKm() < nearby.get(1).distanceKm());
+    }
+
+    @Test
+    @DisplayName("limit 개를 찾으면 더 먼 매장은 검사하지 않음")
+    void stopAfterLimit() {
+        // given
+        List<Long> visited = new ArrayList<>();
+
+        // when
+        geoIndex.findNearest(37.5665, 126.9780, 20, 1, storeId -> visited.add(storeId));
+
+        // then
+        assertEquals(List.of(1L), visited);
+    }
+
+    @Test
+    @DisplayName("반경 밖의 매장과 삭제된 매장은 제외")
+    void excludeOutOfRadiusAndRemoved() {
+        // given
+        geoIndex.remove(1L);
+
+        // when
+        List<StoreGeoIndex.Nearby> nearby =
+                geoIndex.findNearest(37.5665, 126.9780, 5, 10, storeId -> true);
+
+        // then
+        assertEquals(List.of(2L, 3L), nearby.stream().map(StoreGeoIndex.Nearby::storeId).toList());
+    }
+}
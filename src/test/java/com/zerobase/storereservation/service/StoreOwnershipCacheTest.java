@@ -0,0 +1,90 @@
+package com.zerobase.storereservation.service;
+
+import com.zerobase.storereservation.entity.constants.Role;
+import com.zerobase.storereservation.repository.StoreRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StoreOwnershipCacheTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    private StoreOwnershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cache = new StoreOwnershipCache(storeRepository, loggingUtil);
+    }
+
+    @Test
+    @DisplayName("기동 시 적재한 소유권은 DB 조회 없이 확인")
+    void loadAndGetWithoutDatabase() {
+        // given
+        StoreRepository.StoreOwnership row = ownershipRow(1L, 10L, Role.PARTNER);
+        when(storeRepository.findAllOwnerships()).thenReturn(List.of(row));
+        cache.load();
+
+        // when
+        Optional<StoreOwnershipCache.Ownership> ownership = cache.get(1L);
+
+        // then
+        assertTrue(ownership.isPresent());
+        assertTrue(ownership.get().isOwnedBy(10L));
+        assertFalse(ownership.get().isOwnedBy(11L));
+        verify(storeRepository, never()).findOwnershipById(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 매장은 DB 에서 한 번만 읽어 캐시")
+    void loadMissFromDatabaseOnce() {
+        // given
+        StoreRepository.StoreOwnership row = ownershipRow(2L, 20L, Role.PARTNER);
+        when(storeRepository.findOwnershipById(2L)).thenReturn(Optional.of(row));
+
+        // when
+        cache.get(2L);
+        Optional<StoreOwnershipCache.Ownership> ownership = cache.get(2L);
+
+        // then
+        assertTrue(ownership.isPresent());
+        assertEquals(20L, ownership.get().ownerId());
+        verify(storeRepository, times(1)).findOwnershipById(2L);
+    }
+
+    @Test
+    @DisplayName("삭제된 매장은 캐시에서 제거되고 조회되지 않음")
+    void evictDeletedStore() {
+        // given
+        cache.put(3L, 30L, Role.PARTNER);
+        when(storeRepository.findOwnershipById(3L)).thenReturn(Optional.empty());
+
+        // when
+        cache.evict(3L);
+
+        // then
+        assertTrue(cache.get(3L).isEmpty());
+    }
+
+    private StoreRepository.StoreOwnership ownershipRow(Long storeId, Long ownerId, Role role) {
+        StoreRepository.StoreOwnership row = mock(StoreRepository.StoreOwnership.class);
+        when(row.getStoreId()).thenReturn(storeId);
+        when(row.getOwnerId()).thenReturn(ownerId);
+        when(row.getOwnerRole()).thenReturn(role);
+        return row;
+    }
+}
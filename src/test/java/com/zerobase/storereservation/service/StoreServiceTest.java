@@ -9,6 +9,10 @@ import com.zerobase.storereservation.exception.ErrorCode;
 import com.zerobase.storereservation.repository.StoreRepository;
 import com.zerobase.storereservation.repository.UserRepository;
 import com.zerobase.storereservation.security.UserDetailsImpl;
+import com.zerobase.storereservation.service.reservation.ReservationHotWindow;
+import com.zerobase.storereservation.service.reservation.SlotAvailabilityIndex;
+import com.zerobase.storereservation.service.reservation.StoreOccupancy;
+import com.zerobase.storereservation.service.reservation.TableAllocator;
 import com.zerobase.storereservation.util.LoggingUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +25,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +45,30 @@ class StoreServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private StoreOwnershipCache storeOwnershipCache;
+
+    @Mock
+    private SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @Mock
+    private StoreGeoIndex storeGeoIndex;
+
+    @Mock
+    private StoreTrending storeTrending;
+
+    @Mock
+    private StoreDeletionJob storeDeletionJob;
+
+    @Mock
+    private StoreOccupancy storeOccupancy;
+
+    @Mock
+    private TableAllocator tableAllocator;
+
+    @Mock
+    private ReservationHotWindow reservationHotWindow;
+
     @Mock
     private LoggingUtil loggingUtil;
 
@@ -67,6 +96,7 @@ class StoreServiceTest {
         assertEquals("Test Store", response.getName());
         verify(userRepository, times(1)).findById(1L);
         verify(storeRepository, times(1)).save(any(Store.class));
+        verify(storeOwnershipCache, times(1)).put(mockStore.getId(), mockUser.getId(), mockUser.getRole());
     }
 
     @Test
@@ -125,6 +155,7 @@ class StoreServiceTest {
         Store mockStore = createMockStore(User.builder().id(1L).build());
 
         mockSecurityContext(mockStore.getOwner());
+        mockOwnership(storeId, mockStore.getOwner());
 
         when(storeRepository.findById(storeId)).thenReturn(Optional.of(mockStore));
         when(storeRepository.save(any(Store.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -146,13 +177,13 @@ class StoreServiceTest {
         Store mockStore = createMockStore(User.builder().id(1L).build());
 
         mockSecurityContext(User.builder().id(2L).build());
-
-        when(storeRepository.findById(storeId)).thenReturn(Optional.of(mockStore));
+        mockOwnership(storeId, mockStore.getOwner());
 
         // when & then
         CustomException exception = assertThrows(CustomException.class,
                 () -> storeService.updateStore(storeId, request));
         assertEquals(ErrorCode.UNAUTHORIZED_ACTION, exception.getErrorCode());
+        verify(storeRepository, never()).findById(any());
     }
 
     @Test
@@ -163,13 +194,22 @@ class StoreServiceTest {
         Store mockStore = createMockStore(User.builder().id(1L).build());
 
         mockSecurityContext(mockStore.getOwner());
+        mockOwnership(storeId, mockStore.getOwner());
         when(storeRepository.findById(storeId)).thenReturn(Optional.of(mockStore));
+        when(storeDeletionJob.requested(storeId, 1L))
+                .thenReturn(new StoreDeletionJob.Progress(storeId, 1L, LocalDateTime.now()));
 
         // when
-        storeService.deleteStore(storeId);
+        StoreDto.DeletionResponse response = storeService.deleteStore(storeId);
 
         // then
         verify(storeRepository, times(1)).delete(mockStore);
+        verify(storeDeletionJob, times(1)).requested(storeId, 1L);
+        verify(storeOwnershipCache, times(1)).evict(storeId);
+        verify(storeOccupancy, times(1)).evict(storeId);
+        verify(tableAllocator, times(1)).invalidateStore(storeId);
+        verify(reservationHotWindow, times(1)).removeStore(storeId);
+        assertEquals(StoreDeletionJob.Phase.PENDING.name(), response.getPhase());
     }
 
     @Test
@@ -180,7 +220,7 @@ class StoreServiceTest {
         Store mockStore = createMockStore(User.builder().id(1L).build());
 
         mockSecurityContext(User.builder().id(2L).build());
-        when(storeRepository.findById(storeId)).thenReturn(Optional.of(mockStore));
+        mockOwnership(storeId, mockStore.getOwner());
 
         // when & then
         CustomException exception = assertThrows(CustomException.class,
@@ -213,6 +253,11 @@ class StoreServiceTest {
                 .build();
     }
 
+    private void mockOwnership(Long storeId, User owner) {
+        when(storeOwnershipCache.get(storeId)).thenReturn(Optional.of(
+                new StoreOwnershipCache.Ownership(owner.getId(), Role.PARTNER, System.nanoTime())));
+    }
+
     private void mockSecurityContext(User mockUser) {
         UserDetailsImpl userDetails = new UserDetailsImpl(mockUser);
         Authentication mockAuth = mock(Authentication.class);
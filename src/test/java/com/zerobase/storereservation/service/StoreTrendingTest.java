@@ -0,0 +1,112 @@
+package com.zerobase.storereservation.service;
+
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StoreTrendingTest {
+
+    private static final long NOW = Duration.ofDays(20_000).toMillis();
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    private StoreTrending storeTrending;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        storeTrending = new StoreTrending(storeRepository);
+        when(storeRepository.findAllById(anyList())).thenReturn(List.of(
+                Store.builder().id(1L).name("A").build(),
+                Store.builder().id(2L).name("B").build()));
+    }
+
+    @Test
+    @DisplayName("구간별로 예약 생성 수가 많은 매장 순으로 정렬")
+    void rankByWindow() {
+        // given
+        // 매장 1 은 3시간 전에 5건, 매장 2 는 최근 10분 동안 3건
+        for (int i = 0; i < 5; i++) {
+            storeTrending.record(1L, NOW - Duration.ofHours(3).toMillis());
+        }
+        for (int i = 0; i < 3; i++) {
+            storeTrending.record(2L, NOW - Duration.ofMinutes(10).toMillis());
+        }
+
+        // when
+        storeTrending.refresh(NOW);
+
+        // then
+        List<StoreTrending.Entry> hour = storeTrending.top(StoreTrending.Window.HOUR, 10);
+        assertEquals(1, hour.size());
+        assertEquals(2L, hour.get(0).storeId());
+        assertEquals("B", hour.get(0).name());
+        assertEquals(3, hour.get(0).reservations());
+
+        List<StoreTrending.Entry> day = storeTrending.top(StoreTrending.Window.DAY, 10);
+        assertEquals(List.of(1L, 2L), day.stream().map(StoreTrending.Entry::storeId).toList());
+        assertEquals(5, day.get(0).reservations());
+    }
+
+    @Test
+    @DisplayName("구간이 지난 칸은 합계에서 빠지고, 하루 동안 예약이 없는 매장은 제거")
+    void slidingWindowExpires() {
+        // given
+        storeTrending.record(1L, NOW);
+        storeTrending.refresh(NOW);
+        assertEquals(1, storeTrending.top(StoreTrending.Window.HOUR, 10).size());
+
+        // when
+        storeTrending.refresh(NOW + Duration.ofMinutes(61).toMillis());
+
+        // then
+        assertTrue(storeTrending.top(StoreTrending.Window.HOUR, 10).isEmpty());
+        assertEquals(1, storeTrending.top(StoreTrending.Window.DAY, 10).size());
+
+        storeTrending.refresh(NOW + Duration.ofHours(25).toMillis());
+        assertTrue(storeTrending.top(StoreTrending.Window.DAY, 10).isEmpty());
+
+        // 제거된 매장은 다음 예약부터 새로 집계
+        storeTrending.record(1L, NOW + Duration.ofHours(25).toMillis());
+        storeTrending.refresh(NOW + Duration.ofHours(25).toMillis());
+        assertEquals(1, storeTrending.top(StoreTrending.Window.DAY, 10).get(0).reservations());
+    }
+
+    @Test
+    @DisplayName("상위 TOP_K 개만 유지하고 매장 이름은 처음 순위에 들 때만 조회")
+    void keepsTopK() {
+        // given
+        for (long storeId = 1; storeId <= StoreTrending.TOP_K + 10; storeId++) {
+            for (int i = 0; i < storeId; i++) {
+                storeTrending.record(storeId, NOW);
+            }
+        }
+
+        // when
+        storeTrending.refresh(NOW);
+        storeTrending.refresh(NOW);
+
+        // then
+        List<StoreTrending.Entry> top = storeTrending.top(StoreTrending.Window.HOUR, 100);
+        assertEquals(StoreTrending.TOP_K, top.size());
+        assertEquals(StoreTrending.TOP_K + 10, top.get(0).storeId());
+        assertEquals(11L, top.get(top.size() - 1).storeId());
+        assertEquals(3, storeTrending.top(StoreTrending.Window.HOUR, 3).size());
+        // 두 번째 계산에서는 이름을 받지 못한 매장만 다시 조회
+        verify(storeRepository, times(2)).findAllById(anyList());
+    }
+}
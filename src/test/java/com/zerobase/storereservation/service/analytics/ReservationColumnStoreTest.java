@@ -0,0 +1,186 @@
+package com.zerobase.storereservation.service.analytics;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationArchiveRepository;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.zerobase.storereservation.service.analytics.ReservationColumnStore.Dimension.HOUR;
+import static com.zerobase.storereservation.service.analytics.ReservationColumnStore.Dimension.STATUS;
+import static com.zerobase.storereservation.service.analytics.ReservationColumnStore.Dimension.STORE;
+import static com.zerobase.storereservation.service.analytics.ReservationColumnStore.Dimension.WEEKDAY;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReservationColumnStoreTest {
+
+    // 2024-12-02 는 월요일
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 12, 2, 0, 0);
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationArchiveRepository reservationArchiveRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    private ReservationColumnStore columnStore;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        columnStore = new ReservationColumnStore(
+                reservationRepository, reservationArchiveRepository, transactionTemplate, loggingUtil);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("매장과 상태로 거르고 시간대, 상태별로 집계")
+    void aggregateByHourAndStatus() {
+        // given
+        columnStore.onReservationChanged(created(1L, 1L, MONDAY.withHour(12), ReservationStatus.CONFIRMED, 2));
+        columnStore.onReservationChanged(created(2L, 1L, MONDAY.withHour(12), ReservationStatus.CONFIRMED, 4));
+        columnStore.onReservationChanged(created(3L, 1L, MONDAY.withHour(18), ReservationStatus.CANCELLED, 3));
+        columnStore.onReservationChanged(created(4L, 2L, MONDAY.withHour(12), ReservationStatus.CONFIRMED, 5));
+        columnStore.onReservationChanged(created(5L, 1L, MONDAY.plusDays(7), ReservationStatus.CONFIRMED, 1));
+
+        // when
+        List<ReservationColumnStore.Row> rows = columnStore.aggregate(new ReservationColumnStore.Query(
+                Set.of(1L), MONDAY, MONDAY.plusDays(1),
+                Set.of(), List.of(HOUR, STATUS)));
+
+        // then
+        assertEquals(2, rows.size());
+        assertEquals(List.of("12", "CONFIRMED"), rows.get(0).keys());
+        assertEquals(2, rows.get(0).reservations());
+        assertEquals(6, rows.get(0).guests());
+        assertEquals(List.of("18", "CANCELLED"), rows.get(1).keys());
+        assertEquals(1, rows.get(1).reservations());
+    }
+
+    @Test
+    @DisplayName("상태 변경 이벤트는 행을 추가하지 않고 상태만 갱신")
+    void statusChangeUpdatesRow() {
+        // given
+        Reservation reservation = reservation(1L, 1L, MONDAY.withHour(9), ReservationStatus.PENDING, 2);
+        columnStore.onReservationChanged(ReservationChangedEvent.created(reservation));
+        reservation.setStatus(ReservationStatus.REJECTED);
+        columnStore.onReservationChanged(ReservationChangedEvent.statusChanged(reservation, ReservationStatus.PENDING));
+
+        // when
+        List<ReservationColumnStore.Row> rows = columnStore.aggregate(new ReservationColumnStore.Query(
+                Set.of(1L), MONDAY, MONDAY.plusDays(1),
+                Set.of(ReservationStatus.REJECTED), List.of()));
+
+        // then
+        assertEquals(1, columnStore.size());
+        assertEquals(1, rows.size());
+        assertEquals(List.of(), rows.get(0).keys());
+        assertEquals(1, rows.get(0).reservations());
+    }
+
+    @Test
+    @DisplayName("기동 시 적재는 이벤트로 먼저 반영된 예약을 덮어쓰지 않음")
+    void loadSkipsKnownReservations() {
+        // given
+        columnStore.onReservationChanged(created(1L, 1L, MONDAY.withHour(9), ReservationStatus.CONFIRMED, 2));
+        when(reservationRepository.streamColumnSource()).thenReturn(Stream.of(
+                source(1L, 1L, MONDAY.withHour(9), ReservationStatus.PENDING),
+                source(2L, 1L, MONDAY.withHour(10), ReservationStatus.CONFIRMED)));
+        when(reservationArchiveRepository.streamColumnSource()).thenReturn(Stream.of(
+                source(3L, 1L, MONDAY.minusDays(30), ReservationStatus.CONFIRMED)));
+
+        // when
+        columnStore.load();
+
+        // then
+        assertEquals(3, columnStore.size());
+        List<ReservationColumnStore.Row> rows = columnStore.aggregate(new ReservationColumnStore.Query(
+                Set.of(1L), MONDAY.minusDays(60), MONDAY.plusDays(1),
+                Set.of(ReservationStatus.CONFIRMED), List.of()));
+        assertEquals(3, rows.get(0).reservations());
+    }
+
+    @Test
+    @DisplayName("병렬 스캔 결과는 요일, 매장별 단순 합계와 같음")
+    void parallelScanMatchesSequentialCount() {
+        // given
+        int count = ReservationColumnStore.LEAF_ROWS * 4 + 123;
+        for (int i = 0; i < count; i++) {
+            columnStore.onReservationChanged(created((long) i + 1, (long) (i % 3) + 1,
+                    MONDAY.plusHours(i % (24 * 14)), ReservationStatus.CONFIRMED, 1));
+        }
+
+        // when
+        List<ReservationColumnStore.Row> rows = columnStore.aggregate(new ReservationColumnStore.Query(
+                Set.of(1L, 2L), MONDAY, MONDAY.plusDays(14),
+                Set.of(), List.of(WEEKDAY, STORE)));
+
+        // then
+        long expected = 0;
+        for (int i = 0; i < count; i++) {
+            if (i % 3 != 2) {
+                expected++;
+            }
+        }
+        assertEquals(expected, rows.stream().mapToLong(ReservationColumnStore.Row::reservations).sum());
+        assertEquals(14, rows.size());
+        assertEquals("MONDAY", rows.get(0).keys().get(0));
+        assertEquals(count, columnStore.size());
+    }
+
+    private ReservationChangedEvent created(Long id, Long storeId, LocalDateTime reservedAt,
+                                            ReservationStatus status, int partySize) {
+        return ReservationChangedEvent.created(reservation(id, storeId, reservedAt, status, partySize));
+    }
+
+    private Reservation reservation(Long id, Long storeId, LocalDateTime reservedAt,
+                                    ReservationStatus status, int partySize) {
+        return Reservation.builder()
+                .id(id)
+                .store(Store.builder().id(storeId).build())
+                .user(User.builder().id(100L).build())
+                .reservedAt(reservedAt)
+                .status(status)
+                .partySize(partySize)
+                .build();
+    }
+
+    private ReservationRepository.ColumnSource source(Long id, Long storeId, LocalDateTime reservedAt,
+                                                      ReservationStatus status) {
+        ReservationRepository.ColumnSource source = mock(ReservationRepository.ColumnSource.class);
+        when(source.getId()).thenReturn(id);
+        when(source.getStoreId()).thenReturn(storeId);
+        when(source.getReservedAt()).thenReturn(reservedAt);
+        when(source.getStatus()).thenReturn(status);
+        return source;
+    }
+}
@@ -0,0 +1,198 @@
+package com.zerobase.storereservation.service.export;
+
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import com.zerobase.storereservation.entity.constants.Role;
+import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.exception.ErrorCode;
+import com.zerobase.storereservation.repository.ReservationArchiveRepository;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.repository.ReviewRepository;
+import com.zerobase.storereservation.security.UserDetailsImpl;
+import com.zerobase.storereservation.service.StoreOwnershipCache;
+import com.zerobase.storereservation.service.reservation.ReservationArchiver;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OwnerExportServiceTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2024, 12, 1);
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationArchiveRepository reservationArchiveRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReservationArchiver reservationArchiver;
+
+    @Mock
+    private StoreOwnershipCache storeOwnershipCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    @InjectMocks
+    private OwnerExportService exportService;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        owner = User.builder().id(1L).username("storeOwner").role(Role.PARTNER).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserDetailsImpl(owner), null));
+        when(storeOwnershipCache.get(STORE_ID)).thenReturn(Optional.of(
+                new StoreOwnershipCache.Ownership(owner.getId(), owner.getRole(), System.nanoTime())));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("예약 내보내기 - 아카이브 예약을 먼저 CSV 로 기록")
+    void exportReservationsCsvIncludesArchive() throws Exception {
+        // given
+        LocalDateTime start = DAY.atStartOfDay();
+        LocalDateTime end = DAY.plusDays(1).atStartOfDay();
+        when(reservationArchiver.reaches(start)).thenReturn(true);
+        when(reservationArchiveRepository.streamForExport(STORE_ID, start, end))
+                .thenReturn(Stream.of(reservation(1L, start.plusHours(10), null)));
+        when(reservationRepository.streamForExport(STORE_ID, start, end))
+                .thenReturn(Stream.of(reservation(2L, start.plusHours(12), 3L)));
+
+        // when
+        String body = write(exportService.exportReservations(
+                STORE_ID, DAY, DAY, OwnerExportService.Format.CSV));
+
+        // then
+        assertEquals("id,userId,phoneNumber,reservedAt,status,partySize,tableId,arrivedAt\r\n"
+                + "1,2,010-1234-5678,2024-12-01T10:00,CONFIRMED,4,,\r\n"
+                + "2,2,010-1234-5678,2024-12-01T12:00,CONFIRMED,4,3,\r\n", body);
+    }
+
+    @Test
+    @DisplayName("리뷰 내보내기 - NDJSON 한 줄에 리뷰 하나")
+    void exportReviewsNdjson() throws Exception {
+        // given
+        LocalDateTime start = DAY.atStartOfDay();
+        ReviewRepository.ExportRow review = mock(ReviewRepository.ExportRow.class);
+        when(review.getId()).thenReturn(7L);
+        when(review.getUserId()).thenReturn(2L);
+        when(review.getRating()).thenReturn(5);
+        when(review.getContent()).thenReturn("맛있어요, \"또\" 올게요");
+        when(review.getCreatedAt()).thenReturn(start.plusHours(20));
+        when(reviewRepository.streamForExport(STORE_ID, start, DAY.plusDays(1).atStartOfDay()))
+                .thenReturn(Stream.of(review));
+
+        // when
+        String body = write(exportService.exportReviews(
+                STORE_ID, DAY, DAY, OwnerExportService.Format.NDJSON));
+
+        // then
+        assertEquals("{\"id\":7,\"userId\":2,\"rating\":5,\"content\":\"맛있어요, \\\"또\\\" 올게요\","
+                + "\"createdAt\":\"2024-12-01T20:00\"}\n", body);
+    }
+
+    @Test
+    @DisplayName("리뷰 내보내기 - CSV 수식 시작 문자로 시작하는 값은 ' 를 붙여 기록")
+    void exportReviewsCsvNeutralizesFormulas() throws Exception {
+        // given
+        LocalDateTime start = DAY.atStartOfDay();
+        ReviewRepository.ExportRow formula = mock(ReviewRepository.ExportRow.class);
+        when(formula.getId()).thenReturn(7L);
+        when(formula.getUserId()).thenReturn(2L);
+        when(formula.getRating()).thenReturn(1);
+        when(formula.getContent()).thenReturn("=HYPERLINK(\"http://evil\",\"x\")");
+        when(formula.getCreatedAt()).thenReturn(start.plusHours(20));
+        ReviewRepository.ExportRow dash = mock(ReviewRepository.ExportRow.class);
+        when(dash.getId()).thenReturn(8L);
+        when(dash.getUserId()).thenReturn(3L);
+        when(dash.getRating()).thenReturn(4);
+        when(dash.getContent()).thenReturn("-맛있어요");
+        when(dash.getCreatedAt()).thenReturn(start.plusHours(21));
+        when(reviewRepository.streamForExport(STORE_ID, start, DAY.plusDays(1).atStartOfDay()))
+                .thenReturn(Stream.of(formula, dash));
+
+        // when
+        String body = write(exportService.exportReviews(
+                STORE_ID, DAY, DAY, OwnerExportService.Format.CSV));
+
+        // then
+        assertEquals("id,userId,rating,content,createdAt\r\n"
+                + "7,2,1,\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\",2024-12-01T20:00\r\n"
+                + "8,3,4,'-맛있어요,2024-12-01T21:00\r\n", body);
+    }
+
+    @Test
+    @DisplayName("예약 내보내기 - 실패 (기간 초과 시 조회 전에 거절)")
+    void exportReservationsFailInvalidRange() {
+        // when & then
+        CustomException e = assertThrows(CustomException.class,
+                () -> exportService.exportReservations(
+                        STORE_ID, DAY, DAY.plusDays(400), OwnerExportService.Format.CSV)
+        );
+        assertEquals(ErrorCode.INVALID_EXPORT_RANGE, e.getErrorCode());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    private String write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private ReservationRepository.ExportRow reservation(Long id, LocalDateTime reservedAt, Long tableId) {
+        ReservationRepository.ExportRow row = mock(ReservationRepository.ExportRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getUserId()).thenReturn(2L);
+        when(row.getPhoneNumber()).thenReturn("010-1234-5678");
+        when(row.getReservedAt()).thenReturn(reservedAt);
+        when(row.getStatus()).thenReturn(ReservationStatus.CONFIRMED);
+        when(row.getPartySize()).thenReturn(4);
+        when(row.getTableId()).thenReturn(tableId);
+        return row;
+    }
+}
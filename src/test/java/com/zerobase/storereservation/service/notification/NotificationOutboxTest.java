@@ -0,0 +1,97 @@
+package com.zerobase.storereservation.service.notification;
+
+import com.zerobase.storereservation.entity.OutboxMessage;
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.entity.constants.OutboxStatus;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.OutboxMessageRepository;
+import com.zerobase.storereservation.service.StoreOwnershipCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.zerobase.storereservation.entity.constants.NotificationRecipient.CUSTOMER;
+import static com.zerobase.storereservation.entity.constants.NotificationRecipient.OWNER;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.PENDING;
+import static com.zerobase.storereservation.entity.constants.Role.PARTNER;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationOutboxTest {
+
+    @InjectMocks
+    private NotificationOutbox notificationOutbox;
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Mock
+    private StoreOwnershipCache storeOwnershipCache;
+
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        reservation = Reservation.builder()
+                .id(1L)
+                .store(Store.builder().id(2L).build())
+                .user(User.builder().id(3L).build())
+                .phoneNumber("010-1234-5678")
+                .reservedAt(LocalDateTime.now().plusDays(1))
+                .status(PENDING)
+                .build();
+    }
+
+    @Test
+    @DisplayName("새 예약은 점주에게 보낼 메시지로 기록")
+    void createdNotifiesOwner() {
+        // given
+        when(storeOwnershipCache.get(2L))
+                .thenReturn(Optional.of(new StoreOwnershipCache.Ownership(10L, PARTNER, 0L)));
+
+        // when
+        notificationOutbox.onReservationChanged(ReservationChangedEvent.created(reservation));
+
+        // then
+        OutboxMessage message = captureSaved();
+        assertEquals(OWNER, message.getRecipient());
+        assertEquals(10L, message.getRecipientId());
+        assertEquals(OutboxStatus.PENDING, message.getStatus());
+        assertNull(message.getPreviousStatus());
+    }
+
+    @Test
+    @DisplayName("예약 승인은 고객에게 보낼 메시지로 기록")
+    void confirmedNotifiesCustomer() {
+        // given
+        reservation.setStatus(CONFIRMED);
+
+        // when
+        notificationOutbox.onReservationChanged(ReservationChangedEvent.statusChanged(reservation, PENDING));
+
+        // then
+        OutboxMessage message = captureSaved();
+        assertEquals(CUSTOMER, message.getRecipient());
+        assertEquals(3L, message.getRecipientId());
+        assertEquals("010-1234-5678", message.getPhoneNumber());
+        assertEquals(CONFIRMED, message.getReservationStatus());
+    }
+
+    private OutboxMessage captureSaved() {
+        ArgumentCaptor<OutboxMessage> captor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outboxMessageRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
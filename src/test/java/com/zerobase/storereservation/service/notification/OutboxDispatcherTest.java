@@ -0,0 +1,171 @@
+package com.zerobase.storereservation.service.notification;
+
+import com.zerobase.storereservation.entity.OutboxMessage;
+import com.zerobase.storereservation.entity.constants.OutboxStatus;
+import com.zerobase.storereservation.repository.OutboxMessageRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    // 발송한 메시지를 기록하고, 지정한 예약의 메시지는 실패시키는 테스트용 발송기
+    private final List<Long> sent = new ArrayList<>();
+    private final List<Long> failing = new ArrayList<>();
+
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        NotificationSender stubSender = message -> {
+            if (failing.contains(message.getReservationId())) {
+                throw new IllegalStateException("발송 실패");
+            }
+            sent.add(message.getReservationId());
+        };
+        dispatcher = new OutboxDispatcher(outboxMessageRepository, stubSender, transactionTemplate, loggingUtil);
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("발송에 성공한 메시지는 완료, 실패한 메시지는 재시도 간격을 두고 대기")
+    void dispatchMarksSentAndBacksOff() {
+        // given
+        OutboxMessage ok = message(1L, 100L, 0);
+        OutboxMessage broken = message(2L, 200L, 2);
+        failing.add(200L);
+        when(outboxMessageRepository.findDueForUpdate(eq(OutboxStatus.PENDING), any(), any()))
+                .thenReturn(List.of(ok, broken));
+        when(outboxMessageRepository.findAllById(any())).thenReturn(List.of(ok, broken));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertEquals(List.of(100L), sent);
+        assertEquals(OutboxStatus.SENT, ok.getStatus());
+        assertEquals(1, ok.getAttempts());
+        assertNotNull(ok.getSentAt());
+
+        assertEquals(OutboxStatus.PENDING, broken.getStatus());
+        assertEquals(3, broken.getAttempts());
+        assertEquals("발송 실패", broken.getLastError());
+        assertFalse(broken.getNextAttemptAt().isBefore(before.plus(Duration.ofSeconds(20))));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 발송 포기")
+    void dispatchGivesUpAfterMaxAttempts() {
+        // given
+        OutboxMessage broken = message(1L, 100L, OutboxDispatcher.MAX_ATTEMPTS - 1);
+        failing.add(100L);
+        when(outboxMessageRepository.findDueForUpdate(eq(OutboxStatus.PENDING), any(), any()))
+                .thenReturn(List.of(broken));
+        when(outboxMessageRepository.findAllById(any())).thenReturn(List.of(broken));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertEquals(OutboxStatus.FAILED, broken.getStatus());
+        assertEquals(OutboxDispatcher.MAX_ATTEMPTS, broken.getAttempts());
+    }
+
+    @Test
+    @DisplayName("발송할 메시지가 없으면 결과 저장 생략")
+    void dispatchNothingDue() {
+        // given
+        when(outboxMessageRepository.findDueForUpdate(eq(OutboxStatus.PENDING), any(), any()))
+                .thenReturn(List.of());
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(outboxMessageRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 두 배씩 늘어나고 최대 간격을 넘지 않음")
+    void backoffDoublesUpToMax() {
+        assertEquals(Duration.ofSeconds(5), OutboxDispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(20), OutboxDispatcher.backoff(3));
+        assertEquals(OutboxDispatcher.MAX_BACKOFF, OutboxDispatcher.backoff(30));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 발송 완료, 발송 포기 메시지를 청크 단위로 삭제")
+    void purgeDeletesExpiredMessagesInChunks() {
+        // given
+        ReflectionTestUtils.setField(dispatcher, "sentRetentionDays", 7);
+        ReflectionTestUtils.setField(dispatcher, "failedRetentionDays", 30);
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        List<Long> fullChunk = LongStream.rangeClosed(1, OutboxDispatcher.PURGE_CHUNK_SIZE).boxed().toList();
+        when(outboxMessageRepository.findIdsCreatedBefore(eq(OutboxStatus.SENT), eq(today.minusDays(7)), any()))
+                .thenReturn(fullChunk, List.of(1_001L));
+        when(outboxMessageRepository.findIdsCreatedBefore(eq(OutboxStatus.FAILED), eq(today.minusDays(30)), any()))
+                .thenReturn(List.of(2_001L));
+
+        // when
+        dispatcher.purge();
+
+        // then
+        verify(outboxMessageRepository).deleteAllByIdInBatch(fullChunk);
+        verify(outboxMessageRepository).deleteAllByIdInBatch(List.of(1_001L));
+        verify(outboxMessageRepository).deleteAllByIdInBatch(List.of(2_001L));
+        verify(outboxMessageRepository, times(2))
+                .findIdsCreatedBefore(eq(OutboxStatus.SENT), any(), any());
+        verify(loggingUtil).logSuccess(eq("PURGE NOTIFICATIONS"), any());
+    }
+
+    private OutboxMessage message(Long id, Long reservationId, int attempts) {
+        return OutboxMessage.builder()
+                .id(id)
+                .reservationId(reservationId)
+                .storeId(1L)
+                .status(OutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArrivalBatchWriterTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private StoreOccupancy storeOccupancy;
+
+    @Mock
+    private ReservationRollupWriter reservationRollupWriter;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    private ArrivalBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        writer = new ArrivalBatchWriter(reservationRepository, transactionTemplate, storeOccupancy,
+                reservationRollupWriter, loggingUtil);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("같은 예약의 도착은 가장 이른 시간으로 합쳐 한 번에 저장")
+    void coalesceAndFlush() {
+        // given
+        LocalDateTime first = LocalDateTime.now().minusMinutes(5);
+        Reservation reservation = Reservation.builder().id(1L).build();
+        Reservation alreadyArrived = Reservation.builder().id(2L).arrivedAt(first.minusHours(1)).build();
+        when(reservationRepository.findAllById(Set.of(1L, 2L)))
+                .thenReturn(List.of(reservation, alreadyArrived));
+
+        writer.record(1L, 1L, first.plusMinutes(1));
+        writer.record(1L, 1L, first);
+        writer.record(1L, 2L, first);
+        assertEquals(2, writer.pendingCount());
+
+        // when
+        writer.flush();
+
+        // then
+        assertEquals(first, reservation.getArrivedAt());
+        assertEquals(first.minusHours(1), alreadyArrived.getArrivedAt());
+        assertEquals(0, writer.pendingCount());
+        verify(reservationRepository, times(1)).findAllById(any());
+        verify(storeOccupancy, times(2)).onArrival(1L, 1L);
+        verify(reservationRollupWriter, times(1)).recordArrival(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 다음 주기에 다시 시도")
+    void requeueOnFailure() {
+        // given
+        doThrow(new IllegalStateException("db down"))
+                .when(transactionTemplate).executeWithoutResult(any());
+        writer.record(1L, 1L, LocalDateTime.now());
+
+        // when
+        writer.flush();
+
+        // then
+        assertEquals(1, writer.pendingCount());
+        verify(reservationRollupWriter, never()).recordArrival(any(), any(), any(), any());
+    }
+}
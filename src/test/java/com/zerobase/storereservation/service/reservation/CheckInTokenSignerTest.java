@@ -0,0 +1,46 @@
+package com.zerobase.storereservation.service.reservation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckInTokenSignerTest {
+
+    private final CheckInTokenSigner signer = new CheckInTokenSigner("test-secret");
+
+    @Test
+    @DisplayName("발급한 토큰은 검증되어 예약 정보가 그대로 복원됨")
+    void issueAndVerify() {
+        // given
+        LocalDateTime reservedAt = LocalDateTime.of(2030, 1, 1, 19, 0);
+
+        // when
+        String token = signer.issue(1L, 2L, reservedAt);
+
+        // then
+        CheckInTokenSigner.CheckIn checkIn = signer.verify(token).orElseThrow();
+        assertEquals(1L, checkIn.reservationId());
+        assertEquals(2L, checkIn.storeId());
+        assertEquals(reservedAt, checkIn.reservedAt());
+    }
+
+    @Test
+    @DisplayName("변조되었거나 다른 키로 서명된 토큰은 거부")
+    void rejectTamperedToken() {
+        // given
+        String token = signer.issue(1L, 2L, LocalDateTime.of(2030, 1, 1, 19, 0));
+        String forged = new CheckInTokenSigner("test-secret")
+                .issue(9L, 2L, LocalDateTime.of(2030, 1, 1, 19, 0));
+        String signature = token.substring(token.indexOf('.'));
+        String otherPayload = forged.substring(0, forged.indexOf('.'));
+
+        // when & then
+        assertTrue(signer.verify(otherPayload + signature).isEmpty());
+        assertTrue(new CheckInTokenSigner("other-secret").verify(token).isEmpty());
+        assertTrue(signer.verify("not-a-token").isEmpty());
+        assertTrue(signer.verify(null).isEmpty());
+    }
+}
@@ -1,30 +1,55 @@
 package com.zerobase.storereservation.service.reservation;
 
 import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.JournalRejection;
 import com.zerobase.storereservation.entity.Reservation;
 import com.zerobase.storereservation.entity.Store;
 import com.zerobase.storereservation.entity.User;
 import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.repository.DiningTableRepository;
+import com.zerobase.storereservation.repository.JournalRejectionRepository;
 import com.zerobase.storereservation.repository.ReservationRepository;
 import com.zerobase.storereservation.repository.StoreRepository;
 import com.zerobase.storereservation.repository.UserRepository;
+import com.zerobase.storereservation.security.UserDetailsImpl;
 import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
 import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.PENDING;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.REJECTED;
+import static com.zerobase.storereservation.exception.ErrorCode.COMMAND_ID_CONFLICT;
+import static com.zerobase.storereservation.exception.ErrorCode.INVALID_AVAILABILITY_RANGE;
+import static com.zerobase.storereservation.exception.ErrorCode.INVALID_RESERVATION_SCOPE;
+import static com.zerobase.storereservation.exception.ErrorCode.NO_SLOT_AVAILABLE;
+import static com.zerobase.storereservation.exception.ErrorCode.NO_TABLE_AVAILABLE;
+import static com.zerobase.storereservation.exception.ErrorCode.OVERLAPPING_RESERVATION;
+import static com.zerobase.storereservation.exception.ErrorCode.REPLAY_FAILED;
+import static com.zerobase.storereservation.exception.ErrorCode.UNAUTHORIZED_ACTION;
 import static com.zerobase.storereservation.exception.ErrorCode.USER_NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CustomerReservationServiceTest {
@@ -38,6 +63,36 @@ class CustomerReservationServiceTest {
     @Mock
     private StoreRepository storeRepository;
 
+    @Mock
+    private DiningTableRepository diningTableRepository;
+
+    @Mock
+    private TableAllocator tableAllocator;
+
+    @Mock
+    private UserBookingIndex userBookingIndex;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private CheckInTokenSigner checkInTokenSigner;
+
+    @Mock
+    private ArrivalBatchWriter arrivalBatchWriter;
+
+    @Mock
+    private SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReservationArchiver reservationArchiver;
+
+    @Mock
+    private JournalRejectionRepository journalRejectionRepository;
+
     @Mock
     private LoggingUtil loggingUtil;
 
@@ -47,11 +102,21 @@ class CustomerReservationServiceTest {
     private User user;
     private Store store;
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         user = User.builder().id(1L).username("testUser").build();
         store = Store.builder().id(1L).name("testStore").build();
+        when(userBookingIndex.tryHold(any(), any(), any())).thenReturn(Optional.of(
+                new UserBookingIndex.Hold(user.getId(), LocalDateTime.now(), LocalDateTime.now())));
+        when(slotAvailabilityIndex.tryHold(any(), any(), any())).thenReturn(Optional.of(
+                new SlotAvailabilityIndex.Hold(new SlotAvailabilityIndex.DayKey(store.getId(), LocalDate.now()),
+                        LocalDateTime.now(), LocalDateTime.now())));
     }
 
     @Test
@@ -89,6 +154,105 @@ class CustomerReservationServiceTest {
         assertEquals(savedReservation.getPhoneNumber(), result.getPhoneNumber());
     }
 
+    @Test
+    @DisplayName("예약 생성 - 실패 (빈 테이블 없음)")
+    void createReservationFailNoTableAvailable() {
+        // given
+        ReservationDto.CreateRequest request = new ReservationDto.CreateRequest();
+        request.setUserId(user.getId());
+        request.setStoreId(store.getId());
+        request.setPhoneNumber("010-1234-5678");
+        request.setReservedAt(LocalDateTime.now().plusHours(1));
+        request.setPartySize(6);
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(storeRepository.findById(store.getId())).thenReturn(Optional.of(store));
+        when(tableAllocator.hasTables(store.getId())).thenReturn(true);
+        when(tableAllocator.allocate(any(), any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .thenReturn(Optional.empty());
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.createReservation(request));
+        assertEquals(NO_TABLE_AVAILABLE, exception.getErrorCode());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("예약 생성 - 실패 (테이블이 없는 매장의 슬롯 수용 단위 초과)")
+    void createReservationFailNoSlotAvailable() {
+        // given
+        ReservationDto.CreateRequest request = new ReservationDto.CreateRequest();
+        request.setUserId(user.getId());
+        request.setStoreId(store.getId());
+        request.setPhoneNumber("010-1234-5678");
+        request.setReservedAt(LocalDateTime.now().plusHours(1));
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(storeRepository.findById(store.getId())).thenReturn(Optional.of(store));
+        when(slotAvailabilityIndex.tryHold(any(), any(), any())).thenReturn(Optional.empty());
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.createReservation(request));
+        assertEquals(NO_SLOT_AVAILABLE, exception.getErrorCode());
+        verify(userBookingIndex).release(any());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("예약 생성 - 실패 (같은 시간대 예약 존재)")
+    void createReservationFailOverlapping() {
+        // given
+        ReservationDto.CreateRequest request = new ReservationDto.CreateRequest();
+        request.setUserId(user.getId());
+        request.setStoreId(store.getId());
+        request.setPhoneNumber("010-1234-5678");
+        request.setReservedAt(LocalDateTime.now().plusHours(1));
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(storeRepository.findById(store.getId())).thenReturn(Optional.of(store));
+        when(userBookingIndex.tryHold(any(), any(), any())).thenReturn(Optional.empty());
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.createReservation(request));
+        assertEquals(OVERLAPPING_RESERVATION, exception.getErrorCode());
+        verify(tableAllocator, never()).allocate(any(), any(), any(), anyInt());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("예약 생성 - 실패 (다른 사용자의 요청 식별자 재사용)")
+    void createReservationFailCommandIdOfOtherUser() {
+        // given
+        LocalDateTime reservedAt = LocalDateTime.now().plusHours(1);
+        Reservation existing = Reservation.builder()
+                .id(1L)
+                .user(User.builder().id(99L).build())
+                .store(store)
+                .phoneNumber("010-9999-9999")
+                .reservedAt(reservedAt)
+                .status(CONFIRMED)
+                .commandId("cmd-1")
+                .build();
+        ReservationDto.CreateRequest request = new ReservationDto.CreateRequest();
+        request.setUserId(user.getId());
+        request.setStoreId(store.getId());
+        request.setPhoneNumber("010-1234-5678");
+        request.setReservedAt(reservedAt);
+        request.setCommandId("cmd-1");
+
+        when(reservationRepository.findByCommandId("cmd-1")).thenReturn(Optional.of(existing));
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.createReservation(request));
+        assertEquals(COMMAND_ID_CONFLICT, exception.getErrorCode());
+        verify(checkInTokenSigner, never()).issue(any(), any(), any());
+        verify(reservationRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("예약 생성 - 실패 (사용자 없음)")
     void createReservationFailUserNotFound() {
@@ -117,8 +281,12 @@ class CustomerReservationServiceTest {
                 .reservedAt(LocalDateTime.now())
                 .build();
 
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserDetailsImpl(user), null));
         when(reservationRepository.findById(reservation.getId()))
                 .thenReturn(Optional.of(reservation));
+        when(checkInTokenSigner.issue(reservation.getId(), store.getId(), reservation.getReservedAt()))
+                .thenReturn("token");
 
         // when
         ReservationDto.Response result = reservationService.getReservation(reservation.getId());
@@ -128,6 +296,103 @@ class CustomerReservationServiceTest {
         assertEquals(reservation.getId(), result.getId());
         assertEquals(reservation.getUser().getId(), result.getUserId());
         assertEquals(reservation.getStore().getId(), result.getStoreId());
+        assertEquals("token", result.getCheckInToken());
+    }
+
+    @Test
+    @DisplayName("임시 접수 예약 조회 - 재처리에서 거절된 요청은 거절 사유와 함께 반환")
+    void getByProvisionalIdRejected() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserDetailsImpl(user), null));
+        when(journalRejectionRepository.findById("cmd-1")).thenReturn(Optional.of(JournalRejection.builder()
+                .commandId("cmd-1")
+                .userId(user.getId())
+                .storeId(store.getId())
+                .reservedAt(LocalDateTime.now().plusDays(1))
+                .errorCode(OVERLAPPING_RESERVATION)
+                .rejectedAt(LocalDateTime.now())
+                .build()));
+
+        // when
+        ReservationDto.Response result = reservationService.getByProvisionalId("cmd-1");
+
+        // then
+        assertNull(result.getId());
+        assertEquals("cmd-1", result.getProvisionalId());
+        assertEquals(REJECTED, result.getStatus());
+        assertEquals(OVERLAPPING_RESERVATION.getCode(), result.getRejectionCode());
+    }
+
+    @Test
+    @DisplayName("임시 접수 예약 조회 - 다른 사용자의 거절 기록은 조회 불가")
+    void getByProvisionalIdFailOtherUser() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserDetailsImpl(user), null));
+        when(journalRejectionRepository.findById("cmd-1")).thenReturn(Optional.of(JournalRejection.builder()
+                .commandId("cmd-1")
+                .userId(99L)
+                .errorCode(REPLAY_FAILED)
+                .build()));
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.getByProvisionalId("cmd-1"));
+        assertEquals(UNAUTHORIZED_ACTION, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("임시 접수 예약 조회 - 아직 재처리되지 않은 요청은 대기 상태로 반환")
+    void getByProvisionalIdPending() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserDetailsImpl(user), null));
+        when(reservationRepository.findByCommandId("cmd-1")).thenReturn(Optional.empty());
+        when(journalRejectionRepository.findById("cmd-1")).thenReturn(Optional.empty());
+
+        // when
+        ReservationDto.Response result = reservationService.getByProvisionalId("cmd-1");
+
+        // then
+        assertEquals("cmd-1", result.getProvisionalId());
+        assertEquals(PENDING, result.getStatus());
+    }
+
+    @Test
+    @DisplayName("예약 가능 시간 조회 - 실패 (예약 가능 기간 이후)")
+    void getAvailabilityFailBeyondHorizon() {
+        // given
+        LocalDate from = LocalDate.now().plusDays(SlotAvailabilityIndex.BOOKING_HORIZON_DAYS);
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.getAvailability(store.getId(), from, from.plusDays(1)));
+        assertEquals(INVALID_AVAILABILITY_RANGE, exception.getErrorCode());
+        verify(slotAvailabilityIndex, never()).findFreeSlots(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("예약 조회 - 실패 (다른 사용자의 예약)")
+    void getReservationFailOtherUser() {
+        // given
+        Reservation reservation = Reservation.builder()
+                .id(1L)
+                .user(User.builder().id(99L).build())
+                .store(store)
+                .reservedAt(LocalDateTime.now())
+                .build();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserDetailsImpl(user), null));
+        when(reservationRepository.findById(reservation.getId()))
+                .thenReturn(Optional.of(reservation));
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.getReservation(reservation.getId()));
+        assertEquals(UNAUTHORIZED_ACTION, exception.getErrorCode());
+        verify(checkInTokenSigner, never()).issue(any(), any(), any());
     }
 
     @Test
@@ -151,6 +416,7 @@ class CustomerReservationServiceTest {
         assertNotNull(result);
         assertEquals(reservation.getId(), result.getId());
         assertEquals(CANCELLED, result.getStatus());
+        verify(waitlistService).promoteNext(reservation);
     }
 
     @Test
@@ -175,6 +441,7 @@ class CustomerReservationServiceTest {
         // then
         assertNotNull(result);
         assertTrue(result.isArrived());
+        verify(arrivalBatchWriter).record(eq(store.getId()), eq(reservation.getId()), any(LocalDateTime.class));
     }
 
     @Test
@@ -209,4 +476,46 @@ class CustomerReservationServiceTest {
         assertEquals(reservation1.getId(), result.get(0).getId());
         assertEquals(reservation2.getId(), result.get(1).getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("지난 예약 페이지 조회 - 다음 페이지 커서 반환")
+    void getPastReservationsPage() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        ReservationRepository.ReservationSummary first = summary(3L, now.minusDays(1));
+        ReservationRepository.ReservationSummary second = summary(2L, now.minusDays(2));
+        ReservationRepository.ReservationSummary third = summary(1L, now.minusDays(3));
+        when(reservationRepository.findPastByUserId(
+                eq(user.getId()), any(LocalDateTime.class), eq(0L), any(Pageable.class)
+        )).thenReturn(List.of(first, second, third));
+
+        // when
+        ReservationDto.KeysetPage<ReservationDto.Response> page =
+                reservationService.getCustomerReservations(user.getId(), "past", null, null, 2);
+
+        // then
+        assertEquals(2, page.getItems().size());
+        assertEquals(3L, page.getItems().get(0).getId());
+        assertTrue(page.isHasNext());
+        assertEquals(2L, page.getNextCursorId());
+        assertEquals(second.getReservedAt(), page.getNextCursorAt());
+    }
+
+    @Test
+    @DisplayName("예약 페이지 조회 - 실패 (잘못된 조회 범위)")
+    void getReservationsPageInvalidScope() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.getCustomerReservations(user.getId(), "all", null, null, null));
+        assertEquals(INVALID_RESERVATION_SCOPE, exception.getErrorCode());
+    }
+
+    private ReservationRepository.ReservationSummary summary(Long id, LocalDateTime reservedAt) {
+        ReservationRepository.ReservationSummary summary = mock(ReservationRepository.ReservationSummary.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getStoreId()).thenReturn(store.getId());
+        when(summary.getUserId()).thenReturn(user.getId());
+        when(summary.getReservedAt()).thenReturn(reservedAt);
+        when(summary.getStatus()).thenReturn(CONFIRMED);
+        return summary;
+    }
+}
@@ -1,7 +1,9 @@
 package com.zerobase.storereservation.service.reservation;
 
 import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.DiningTable;
 import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.ReservationRollup;
 import com.zerobase.storereservation.entity.Store;
 import com.zerobase.storereservation.entity.User;
 import com.zerobase.storereservation.entity.constants.ReservationStatus;
@@ -9,22 +11,38 @@ import com.zerobase.storereservation.entity.constants.Role;
 import com.zerobase.storereservation.exception.CustomException;
 import com.zerobase.storereservation.exception.ErrorCode;
 import com.zerobase.storereservation.repository.ReservationRepository;
-import com.zerobase.storereservation.repository.StoreRepository;
-import com.zerobase.storereservation.repository.UserRepository;
+import com.zerobase.storereservation.repository.ReservationRollupRepository;
+import com.zerobase.storereservation.repository.ReservationSearchRepository;
+import com.zerobase.storereservation.security.UserDetailsImpl;
+import com.zerobase.storereservation.service.StoreOwnershipCache;
+import com.zerobase.storereservation.service.analytics.ReservationColumnStore;
 import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static com.zerobase.storereservation.exception.ErrorCode.UNAUTHORIZED_ACTION;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class OwnerReservationServiceTest {
@@ -33,10 +51,31 @@ class OwnerReservationServiceTest {
     private ReservationRepository reservationRepository;
 
     @Mock
-    private StoreRepository storeRepository;
+    private ReservationRollupRepository reservationRollupRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private ReservationColumnStore reservationColumnStore;
+
+    @Mock
+    private StoreOwnershipCache storeOwnershipCache;
+
+    @Mock
+    private ReservationHotWindow reservationHotWindow;
+
+    @Mock
+    private PendingReservationBroadcaster pendingReservationBroadcaster;
+
+    @Mock
+    private StoreOccupancy storeOccupancy;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReservationArchiver reservationArchiver;
 
     @Mock
     private LoggingUtil loggingUtil;
@@ -64,6 +103,11 @@ class OwnerReservationServiceTest {
                 .build();
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     @DisplayName("점주 예약 정보 조회 - 성공")
     void getReservationsByStoreSuccess() {
@@ -73,7 +117,9 @@ class OwnerReservationServiceTest {
                 .id(1L)
                 .store(store)
                 .user(User.builder().id(2L).username("customer1").build())
+                .phoneNumber("010-1234-5678")
                 .reservedAt(LocalDateTime.of(2024, 12, 1, 12, 0))
+                .table(DiningTable.builder().id(7L).store(store).seats(4).build())
                 .build();
         Reservation reservation2 = Reservation.builder()
                 .id(2L)
@@ -82,8 +128,7 @@ class OwnerReservationServiceTest {
                 .reservedAt(LocalDateTime.of(2024, 12, 1, 14, 0))
                 .build();
 
-        when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
-        when(storeRepository.findById(store.getId())).thenReturn(Optional.of(store));
+        when(storeOwnershipCache.get(store.getId())).thenReturn(Optional.of(ownership(owner)));
         when(reservationRepository.findByStoreIdAndReservedAtBetween(
                 store.getId(),
                 date.withHour(0).withMinute(0),
@@ -99,6 +144,10 @@ class OwnerReservationServiceTest {
         assertEquals(2, reservations.size());
         assertEquals(1L, reservations.get(0).getId());
         assertEquals(2L, reservations.get(1).getId());
+        // DB 에서 조회해도 당일 윈도우 응답과 같은 필드를 채움
+        assertEquals("010-1234-5678", reservations.get(0).getPhoneNumber());
+        assertEquals(7L, reservations.get(0).getTableId());
+        assertNull(reservations.get(1).getTableId());
     }
 
     @Test
@@ -106,7 +155,7 @@ class OwnerReservationServiceTest {
     void getReservationsByStoreFailUnauthorizedAction() {
         // given
         owner.setRole(Role.CUSTOMER);
-        when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
+        when(storeOwnershipCache.get(store.getId())).thenReturn(Optional.of(ownership(owner)));
 
         // when & then
         CustomException e = assertThrows(CustomException.class,
@@ -120,8 +169,7 @@ class OwnerReservationServiceTest {
     @DisplayName("점주 예약 정보 조회 - 실패 (매장 없음)")
     void getReservationsByStoreFailStoreNotFound() {
         // given
-        when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
-        when(storeRepository.findById(store.getId())).thenReturn(Optional.empty());
+        when(storeOwnershipCache.get(store.getId())).thenReturn(Optional.empty());
 
         // when & then
         CustomException e = assertThrows(CustomException.class,
@@ -143,8 +191,8 @@ class OwnerReservationServiceTest {
                 .owner(User.builder().id(2L).build())
                 .build();
 
-        when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
-        when(storeRepository.findById(otherStore.getId())).thenReturn(Optional.of(otherStore));
+        when(storeOwnershipCache.get(otherStore.getId()))
+                .thenReturn(Optional.of(ownership(otherStore.getOwner())));
 
         // when & then
         CustomException e = assertThrows(CustomException.class,
@@ -200,4 +248,190 @@ class OwnerReservationServiceTest {
         // then
         assertEquals(ReservationStatus.REJECTED, result.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("점주 통합 예약함 조회 - 다음 페이지 커서 반환")
+    void getOwnerInboxReturnsNextCursor() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserDetailsImpl(owner), null));
+
+        Store otherStore = Store.builder().id(2L).name("Other Branch").owner(owner).build();
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        Reservation first = Reservation.builder()
+                .id(1L).store(store).user(User.builder().id(2L).build())
+                .reservedAt(base).status(ReservationStatus.PENDING).build();
+        Reservation second = Reservation.builder()
+                .id(2L).store(otherStore).user(User.builder().id(3L).build())
+                .reservedAt(base.plusHours(1)).status(ReservationStatus.CONFIRMED).build();
+        Reservation third = Reservation.builder()
+                .id(3L).store(store).user(User.builder().id(4L).build())
+                .reservedAt(base.plusHours(2)).status(ReservationStatus.PENDING).build();
+
+        when(reservationRepository.findOwnerInbox(
+                eq(owner.getId()), anyCollection(), any(LocalDateTime.class), eq(0L), any(Pageable.class)
+        )).thenReturn(List.of(first, second, third));
+
+        // when
+        ReservationDto.KeysetPage<ReservationDto.InboxItem> page =
+                ownerReservationService.getOwnerInbox(null, null, 2);
+
+        // then
+        assertEquals(2, page.getItems().size());
+        assertEquals("Other Branch", page.getItems().get(1).getStoreName());
+        assertTrue(page.isHasNext());
+        assertEquals(second.getReservedAt(), page.getNextCursorAt());
+        assertEquals(2L, page.getNextCursorId());
+    }
+
+    @Test
+    @DisplayName("점주 통합 예약함 조회 - 당일 이전 커서는 당일 0시부터 조회 (아카이브 제외)")
+    void getOwnerInboxClampsPastCursor() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserDetailsImpl(owner), null));
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        when(reservationRepository.findOwnerInbox(
+                eq(owner.getId()), anyCollection(), eq(startOfToday), eq(0L), any(Pageable.class)
+        )).thenReturn(List.of());
+
+        // when
+        ReservationDto.KeysetPage<ReservationDto.InboxItem> page =
+                ownerReservationService.getOwnerInbox(startOfToday.minusDays(200), 5L, 20);
+
+        // then
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.isHasNext());
+        verify(reservationRepository).findOwnerInbox(
+                eq(owner.getId()), anyCollection(), eq(startOfToday), eq(0L), any(Pageable.class));
+        verifyNoInteractions(reservationArchiver);
+    }
+
+    @Test
+    @DisplayName("점주 예약 통계 조회 - 집계로 취소율, 노쇼율 계산")
+    void getAnalyticsFromRollups() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserDetailsImpl(owner), null));
+        LocalDate day = LocalDate.of(2024, 12, 1);
+        when(storeOwnershipCache.get(store.getId())).thenReturn(Optional.of(ownership(owner)));
+        when(reservationRollupRepository.findByStoreIdAndDayBetween(store.getId(), day, day.plusDays(1)))
+                .thenReturn(List.of(
+                        rollup(day, 12, ReservationStatus.CONFIRMED, 4, 3),
+                        rollup(day, 12, ReservationStatus.CANCELLED, 1, 0),
+                        rollup(day.plusDays(1), 18, ReservationStatus.REJECTED, 2, 0),
+                        rollup(day.plusDays(1), 18, ReservationStatus.CONFIRMED, 3, 3)
+                ));
+
+        // when
+        ReservationDto.AnalyticsResponse response =
+                ownerReservationService.getAnalytics(store.getId(), day, day.plusDays(1));
+
+        // then
+        assertEquals(10, response.getTotal());
+        assertEquals(0.1, response.getCancelRate(), 1e-9);
+        assertEquals(0.2, response.getRejectRate(), 1e-9);
+        assertEquals(1, response.getNoShows());
+        assertEquals(1.0 / 7, response.getNoShowRate(), 1e-9);
+        assertEquals(2, response.getByDay().size());
+        assertEquals(5, response.getByDay().get(0).getTotal());
+        assertEquals(1, response.getByDay().get(0).getNoShows());
+        assertEquals(24, response.getByHour().size());
+        assertEquals(5, response.getByHour().get(12).getTotal());
+        assertEquals(5, response.getByHour().get(18).getTotal());
+    }
+
+    @Test
+    @DisplayName("점주 예약 통계 조회 - 실패 (조회 기간 초과)")
+    void getAnalyticsFailInvalidRange() {
+        // when & then
+        CustomException e = assertThrows(CustomException.class,
+                () -> ownerReservationService.getAnalytics(
+                        store.getId(), LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1))
+        );
+        assertEquals(ErrorCode.INVALID_ANALYTICS_RANGE, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("점주 예약 검색 - 아카이브 결과와 병합 후 다음 페이지 커서 반환")
+    void searchReservationsMergesArchive() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserDetailsImpl(owner), null));
+        when(storeOwnershipCache.get(store.getId())).thenReturn(Optional.of(ownership(owner)));
+        LocalDateTime base = LocalDateTime.of(2024, 12, 1, 12, 0);
+        when(reservationRepository.search(any(ReservationSearchRepository.Condition.class)))
+                .thenReturn(List.of(row(3L, base.plusHours(1)), row(5L, base.plusHours(3))));
+        when(reservationArchiver.search(any(ReservationSearchRepository.Condition.class)))
+                .thenReturn(List.of(row(1L, base), row(3L, base.plusHours(1)), row(4L, base.plusHours(2))));
+
+        // when
+        ReservationDto.KeysetPage<ReservationDto.Response> page = ownerReservationService.searchReservations(
+                store.getId(), base.toLocalDate(), base.toLocalDate(),
+                List.of(ReservationStatus.CONFIRMED), "010-12", null, null, 3);
+
+        // then
+        assertEquals(List.of(1L, 3L, 4L), page.getItems().stream().map(ReservationDto.Response::getId).toList());
+        assertTrue(page.isHasNext());
+        assertEquals(base.plusHours(2), page.getNextCursorAt());
+        assertEquals(4L, page.getNextCursorId());
+    }
+
+    @Test
+    @DisplayName("점주 예약 검색 - 연락처 앞부분은 '-' 유무와 관계없이 두 저장 형식 모두 검색")
+    void searchReservationsMatchesBothPhoneFormats() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserDetailsImpl(owner), null));
+        when(storeOwnershipCache.get(store.getId())).thenReturn(Optional.of(ownership(owner)));
+        when(reservationRepository.search(any(ReservationSearchRepository.Condition.class))).thenReturn(List.of());
+        when(reservationArchiver.search(any(ReservationSearchRepository.Condition.class))).thenReturn(List.of());
+        LocalDate day = LocalDate.of(2024, 12, 1);
+
+        // when
+        ownerReservationService.searchReservations(store.getId(), day, day, null, "0101234", null, null, null);
+        ownerReservationService.searchReservations(store.getId(), day, day, null, "010-1234", null, null, null);
+
+        // then
+        ArgumentCaptor<ReservationSearchRepository.Condition> condition =
+                ArgumentCaptor.forClass(ReservationSearchRepository.Condition.class);
+        verify(reservationRepository, times(2)).search(condition.capture());
+        for (ReservationSearchRepository.Condition captured : condition.getAllValues()) {
+            assertTrue(captured.phonePrefixes().containsAll(List.of("0101234", "010-1234", "010-123-4")));
+        }
+    }
+
+    @Test
+    @DisplayName("점주 예약 검색 - 실패 (연락처 형식 오류)")
+    void searchReservationsFailInvalidPhonePrefix() {
+        // when & then
+        LocalDate day = LocalDate.of(2024, 12, 1);
+        CustomException e = assertThrows(CustomException.class,
+                () -> ownerReservationService.searchReservations(
+                        store.getId(), day, day, null, "010%", null, null, null)
+        );
+        assertEquals(ErrorCode.INVALID_SEARCH_CONDITION, e.getErrorCode());
+    }
+
+    private ReservationSearchRepository.SearchRow row(Long id, LocalDateTime reservedAt) {
+        return new ReservationSearchRepository.SearchRow(
+                id, store.getId(), 2L, "010-1234-5678", reservedAt, ReservationStatus.CONFIRMED, null);
+    }
+
+    private ReservationRollup rollup(LocalDate day, int hour, ReservationStatus status,
+                                     long count, long arrived) {
+        return ReservationRollup.builder()
+                .storeId(store.getId())
+                .day(day)
+                .hour(hour)
+                .status(status)
+                .reservationCount(count)
+                .arrivedCount(arrived)
+                .build();
+    }
+
+    private StoreOwnershipCache.Ownership ownership(User storeOwner) {
+        return new StoreOwnershipCache.Ownership(
+                storeOwner.getId(), storeOwner.getRole(), System.nanoTime());
+    }
+}
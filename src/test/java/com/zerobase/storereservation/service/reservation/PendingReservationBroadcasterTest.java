@@ -0,0 +1,212 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.PENDING;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PendingReservationBroadcasterTest {
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    private PendingReservationBroadcaster broadcaster;
+
+    // 막힌 전송을 테스트 종료 시 풀어 주기 위한 래치
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        broadcaster = new PendingReservationBroadcaster(loggingUtil);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("예약 변경은 해당 매장 구독자 모두에게만 전달")
+    void fanOutToStoreSubscribers() {
+        // given
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        RecordingEmitter otherStore = new RecordingEmitter();
+        broadcaster.subscribe(1L, List::of, first);
+        broadcaster.subscribe(1L, List::of, second);
+        broadcaster.subscribe(2L, List::of, otherStore);
+        await(() -> otherStore.names().contains("snapshot"));
+
+        // when
+        broadcaster.onReservationChanged(created(1L));
+
+        // then
+        await(() -> first.names().contains("created") && second.names().contains("created"));
+        assertEquals(List.of("snapshot", "created"), first.names());
+        assertEquals(List.of("snapshot", "created"), second.names());
+        assertEquals(List.of("snapshot"), otherStore.names());
+    }
+
+    @Test
+    @DisplayName("큐가 넘치면 쌓인 이벤트를 버리고 resync 이벤트 전송")
+    void resyncOnQueueOverflow() {
+        // given
+        CountDownLatch snapshotSent = new CountDownLatch(1);
+        RecordingEmitter emitter = new RecordingEmitter() {
+            @Override
+            void beforeSend() throws InterruptedException {
+                if (snapshotSent.getCount() > 0) {
+                    snapshotSent.countDown();
+                    release.await();
+                }
+            }
+        };
+        broadcaster.subscribe(1L, List::of, emitter);
+
+        // when
+        for (int i = 0; i < PendingReservationBroadcaster.QUEUE_CAPACITY + 10; i++) {
+            broadcaster.onReservationChanged(created(1L));
+        }
+        release.countDown();
+
+        // then
+        await(() -> emitter.names().size() > 2);
+        List<String> names = emitter.names();
+        assertEquals("snapshot", names.get(0));
+        assertEquals("resync", names.get(1));
+        assertTrue(names.size() - 2 < PendingReservationBroadcaster.QUEUE_CAPACITY);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 연결은 구독 해제되고 빈 매장 목록도 제거")
+    void removeDeadEmitter() {
+        // given
+        RecordingEmitter dead = new RecordingEmitter() {
+            @Override
+            void beforeSend() throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // when
+        broadcaster.subscribe(1L, List::of, dead);
+
+        // then
+        await(() -> broadcaster.subscriberCount(1L) == 0);
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(broadcaster, "subscribers")).isEmpty());
+        assertDoesNotThrow(() -> broadcaster.onReservationChanged(created(1L)));
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 전송을 끝내지 못한 연결은 종료되고 다른 매장 전송을 막지 않음")
+    void evictStalledEmitters() {
+        // given
+        ReflectionTestUtils.setField(broadcaster, "sendTimeoutMillis", 100L);
+        for (int i = 0; i < 8; i++) {
+            broadcaster.subscribe(1L, List::of, new RecordingEmitter() {
+                @Override
+                void beforeSend() throws InterruptedException {
+                    release.await();
+                }
+            });
+        }
+
+        // when
+        RecordingEmitter healthy = new RecordingEmitter();
+        broadcaster.subscribe(2L, List::of, healthy);
+
+        // then
+        await(() -> healthy.names().contains("snapshot"));
+        await(() -> broadcaster.subscriberCount(1L) == 0);
+        assertEquals(1, broadcaster.subscriberCount(2L));
+    }
+
+    // ==== Private Helper Methods ====
+
+    private ReservationChangedEvent created(Long storeId) {
+        Reservation reservation = Reservation.builder()
+                .id(100L)
+                .user(User.builder().id(1L).build())
+                .store(Store.builder().id(storeId).build())
+                .reservedAt(LocalDate.now().plusDays(1).atTime(19, 0))
+                .status(PENDING)
+                .build();
+        return ReservationChangedEvent.created(reservation);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "조건을 제한 시간 안에 만족하지 못함");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+
+    /**
+     * 전송된 SSE 이벤트 이름을 기록하는 연결
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> names = new ArrayList<>();
+
+        void beforeSend() throws Exception {
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                beforeSend();
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+            String name = null;
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof String text && text.startsWith("event:")) {
+                    name = text.substring("event:".length(), text.indexOf('\n'));
+                }
+            }
+            if (name != null) {
+                synchronized (names) {
+                    names.add(name);
+                }
+            }
+        }
+
+        List<String> names() {
+            synchronized (names) {
+                return new ArrayList<>(names);
+            }
+        }
+    }
+}
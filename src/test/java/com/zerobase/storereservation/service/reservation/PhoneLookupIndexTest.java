@@ -0,0 +1,111 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PhoneLookupIndexTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationHotWindow reservationHotWindow;
+
+    private PhoneLookupIndex index;
+
+    private Store store;
+    private User user;
+    private LocalDateTime noon;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        index = new PhoneLookupIndex(reservationRepository, reservationHotWindow);
+        store = Store.builder().id(1L).build();
+        user = User.builder().id(1L).build();
+        noon = LocalDate.now().atTime(12, 0);
+    }
+
+    @Test
+    @DisplayName("전체 번호와 끝 4자리로 당일 예약 조회 (형식 무관)")
+    void findByNumberAndSuffix() {
+        // given
+        when(reservationHotWindow.covers(any(), any())).thenReturn(false);
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(eq(store.getId()), any(), any()))
+                .thenReturn(List.of(
+                        reservation(1L, "010-1234-5678", noon.plusHours(1)),
+                        reservation(2L, "01099995678", noon),
+                        reservation(3L, "010-1111-2222", noon)));
+
+        // when & then
+        assertEquals(List.of(1L), ids(index.find(store.getId(), "01012345678")));
+        assertEquals(List.of(2L, 1L), ids(index.find(store.getId(), "5678")));
+        assertTrue(index.find(store.getId(), "0000").isEmpty());
+        verify(reservationRepository, times(1))
+                .findByStoreIdAndReservedAtBetween(eq(store.getId()), any(), any());
+    }
+
+    @Test
+    @DisplayName("예약 변경 이벤트로 인덱스 갱신")
+    void updatedByEvents() {
+        // given
+        when(reservationHotWindow.covers(any(), any())).thenReturn(true);
+        when(reservationHotWindow.find(eq(store.getId()), any(), any())).thenReturn(List.of());
+        assertTrue(index.find(store.getId(), "5678").isEmpty());
+
+        Reservation created = reservation(1L, "010-1234-5678", noon);
+
+        // when
+        index.onReservationChanged(ReservationChangedEvent.created(created));
+
+        // then
+        List<ReservationDto.Response> found = index.find(store.getId(), "5678");
+        assertEquals(List.of(1L), ids(found));
+        assertEquals(CONFIRMED, found.get(0).getStatus());
+
+        created.setStatus(CANCELLED);
+        index.onReservationChanged(ReservationChangedEvent.statusChanged(created, CONFIRMED));
+        assertEquals(CANCELLED, index.find(store.getId(), "01012345678").get(0).getStatus());
+
+        created.setReservedAt(noon.plusDays(1));
+        index.onReservationChanged(ReservationChangedEvent.statusChanged(created, CANCELLED));
+        assertTrue(index.find(store.getId(), "5678").isEmpty());
+    }
+
+    private Reservation reservation(Long id, String phoneNumber, LocalDateTime reservedAt) {
+        return Reservation.builder()
+                .id(id)
+                .store(store)
+                .user(user)
+                .phoneNumber(phoneNumber)
+                .reservedAt(reservedAt)
+                .status(CONFIRMED)
+                .build();
+    }
+
+    private List<Long> ids(List<ReservationDto.Response> responses) {
+        return responses.stream().map(ReservationDto.Response::getId).toList();
+    }
+}
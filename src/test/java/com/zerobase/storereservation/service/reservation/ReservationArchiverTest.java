@@ -0,0 +1,146 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.ReservationArchive;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import com.zerobase.storereservation.repository.ReservationArchiveRepository;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReservationArchiverTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationArchiveRepository reservationArchiveRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    private ReservationArchiver archiver;
+
+    private Store store;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        archiver = new ReservationArchiver(
+                reservationRepository, reservationArchiveRepository, transactionTemplate, loggingUtil);
+        ReflectionTestUtils.setField(archiver, "retentionDays", 90);
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        store = Store.builder().id(1L).build();
+        user = User.builder().id(2L).build();
+    }
+
+    @Test
+    @DisplayName("아카이브 대상 예약을 복사한 뒤 삭제하고 아카이브 기준 시간을 갱신")
+    void archiveMovesChunk() {
+        // given
+        LocalDateTime yesterday = LocalDate.now().minusDays(1).atTime(12, 0);
+        LocalDateTime old = LocalDate.now().minusDays(120).atTime(18, 0);
+        Reservation cancelled = reservation(1L, yesterday, CANCELLED);
+        Reservation confirmed = reservation(2L, old, CONFIRMED);
+        when(reservationArchiveRepository.findMaxReservedAt()).thenReturn(Optional.empty());
+        when(reservationRepository.findArchivable(eq(ReservationArchiver.CLOSED_STATUSES),
+                eq(LocalDate.now().atStartOfDay()), eq(LocalDate.now().minusDays(90).atStartOfDay()), any()))
+                .thenReturn(List.of(cancelled, confirmed));
+        assertFalse(archiver.reaches(old));
+
+        // when
+        archiver.archive();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ReservationArchive>> saved = ArgumentCaptor.forClass(List.class);
+        verify(reservationArchiveRepository).saveAll(saved.capture());
+        assertEquals(List.of(1L, 2L), saved.getValue().stream().map(ReservationArchive::getId).toList());
+        assertEquals(CANCELLED, saved.getValue().get(0).getStatus());
+        assertEquals(1L, saved.getValue().get(0).getStoreId());
+        assertTrue(saved.getValue().get(0).isNew());
+        verify(reservationRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+
+        // 청크가 가득 차지 않았으므로 한 번만 실행
+        verify(transactionTemplate, times(1)).execute(any());
+        assertTrue(archiver.reaches(yesterday));
+        assertFalse(archiver.reaches(yesterday.plusMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("조회 범위가 아카이브에 닿지 않으면 아카이브를 조회하지 않음")
+    void findByStoreSkipsWhenNotReached() {
+        // given
+        LocalDateTime watermark = LocalDate.now().minusDays(1).atTime(12, 0);
+        when(reservationArchiveRepository.findMaxReservedAt()).thenReturn(Optional.of(watermark));
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+
+        // when
+        archiver.findByStore(store.getId(), today, today.plusDays(1));
+        archiver.findByStore(store.getId(), watermark.toLocalDate().atStartOfDay(), today);
+
+        // then
+        verify(reservationArchiveRepository, times(1))
+                .findByStoreIdAndReservedAtBetween(anyLong(), any(), any());
+        verify(reservationArchiveRepository, times(1)).findMaxReservedAt();
+    }
+
+    @Test
+    @DisplayName("아카이브가 비어 있으면 사용자 아카이브를 조회하지 않음")
+    void existsSkipsWhenArchiveEmpty() {
+        // given
+        when(reservationArchiveRepository.findMaxReservedAt()).thenReturn(Optional.empty());
+
+        // when
+        boolean exists = archiver.existsByUserIdAndStoreIdAndStatus(user.getId(), store.getId(), CONFIRMED);
+
+        // then
+        assertFalse(exists);
+        verify(reservationArchiveRepository, never())
+                .existsByUserIdAndStoreIdAndStatus(any(), any(), any());
+    }
+
+    private Reservation reservation(Long id, LocalDateTime reservedAt,
+                                    ReservationStatus status) {
+        return Reservation.builder()
+                .id(id)
+                .store(store)
+                .user(user)
+                .phoneNumber("010-1234-5678")
+                .reservedAt(reservedAt)
+                .status(status)
+                .build();
+    }
+}
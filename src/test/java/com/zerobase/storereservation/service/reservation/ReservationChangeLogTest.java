@@ -0,0 +1,107 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationChangeLogTest {
+
+    private ReservationChangeLog changeLog;
+    private Store store;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        changeLog = new ReservationChangeLog();
+        store = Store.builder().id(1L).name("Test Store").build();
+        user = User.builder().id(1L).username("Test User").build();
+    }
+
+    @Test
+    @DisplayName("변경마다 매장 버전이 단조 증가")
+    void versionIncreasesMonotonically() {
+        long initial = changeLog.currentVersion(store.getId());
+
+        changeLog.onReservationChanged(createdEvent(1L));
+        long first = changeLog.currentVersion(store.getId());
+        changeLog.onReservationChanged(createdEvent(2L));
+        long second = changeLog.currentVersion(store.getId());
+
+        assertTrue(first > initial);
+        assertTrue(second > first);
+    }
+
+    @Test
+    @DisplayName("지정된 버전 이후 변경된 예약만 반환")
+    void changesSinceReturnsOnlyNewerChanges() {
+        changeLog.onReservationChanged(createdEvent(1L));
+        long version = changeLog.currentVersion(store.getId());
+        changeLog.onReservationChanged(createdEvent(2L));
+        changeLog.onReservationChanged(createdEvent(2L));
+
+        Optional<ReservationChangeLog.Delta> delta = changeLog.changesSince(store.getId(), version);
+
+        assertTrue(delta.isPresent());
+        assertEquals(List.of(2L), delta.get().reservationIds());
+        assertEquals(changeLog.currentVersion(store.getId()), delta.get().version());
+    }
+
+    @Test
+    @DisplayName("보관 범위를 벗어난 버전은 전체 재동기화 필요")
+    void unknownVersionRequiresResync() {
+        long initial = changeLog.currentVersion(store.getId());
+        for (long id = 1; id <= ReservationChangeLog.MAX_CHANGES_PER_STORE + 1; id++) {
+            changeLog.onReservationChanged(createdEvent(id));
+        }
+
+        assertTrue(changeLog.changesSince(store.getId(), initial).isEmpty());
+        assertTrue(changeLog.changesSince(store.getId(), 1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 전날 발급된 버전은 전체 재동기화 필요")
+    void dayRolloverRequiresResync() {
+        Long otherStoreId = 2L;
+        long untouched = changeLog.currentVersion(otherStoreId);
+        changeLog.onReservationChanged(createdEvent(1L));
+        long yesterday = changeLog.currentVersion(store.getId());
+
+        changeLog.rollover(LocalDate.now().plusDays(1));
+
+        // 변경이 있던 매장과 없던 매장 모두 전날 버전으로는 증분 동기화 불가
+        assertTrue(changeLog.changesSince(store.getId(), yesterday).isEmpty());
+        assertTrue(changeLog.changesSince(otherStoreId, untouched).isEmpty());
+
+        // 재동기화 후 받은 새 버전부터는 다시 증분 동기화
+        long today = changeLog.currentVersion(store.getId());
+        assertTrue(today > yesterday);
+        changeLog.onReservationChanged(createdEvent(2L));
+        Optional<ReservationChangeLog.Delta> delta = changeLog.changesSince(store.getId(), today);
+        assertTrue(delta.isPresent());
+        assertEquals(List.of(2L), delta.get().reservationIds());
+        assertEquals(Optional.of(new ReservationChangeLog.Delta(changeLog.currentVersion(otherStoreId), List.of())),
+                changeLog.changesSince(otherStoreId, changeLog.currentVersion(otherStoreId)));
+    }
+
+    private ReservationChangedEvent createdEvent(Long reservationId) {
+        return ReservationChangedEvent.created(Reservation.builder()
+                .id(reservationId)
+                .store(store)
+                .user(user)
+                .reservedAt(LocalDateTime.now().plusHours(1))
+                .status(CONFIRMED)
+                .build());
+    }
+}
@@ -0,0 +1,138 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReservationCommandServiceTest {
+
+    @InjectMocks
+    private ReservationCommandService reservationCommandService;
+
+    @Mock
+    private CustomerReservationService customerReservationService;
+
+    @Mock
+    private ReservationJournal reservationJournal;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("DB 연결 장애 시 요청 식별자를 채워 저널에 접수")
+    void journalOnDatabaseFailure() {
+        // given
+        ReservationDto.CreateRequest request = ReservationJournalTest.request(
+                null, LocalDateTime.now().plusDays(1), 2);
+        ReservationDto.Response provisional = ReservationDto.Response.builder().provisionalId("p").build();
+        when(reservationJournal.isEnabled()).thenReturn(true);
+        when(customerReservationService.createReservation(request))
+                .thenThrow(new CannotCreateTransactionException("connection refused"));
+        when(reservationJournal.append(request)).thenReturn(provisional);
+
+        // when
+        ReservationDto.Response response = reservationCommandService.createReservation(request);
+
+        // then
+        assertSame(provisional, response);
+        assertNotNull(request.getCommandId());
+        verify(reservationJournal).append(request);
+    }
+
+    @Test
+    @DisplayName("DB 장애 중에도 지난 시간 예약은 저널에 접수하지 않음")
+    void rejectPastTimeWithoutDatabase() {
+        // given
+        ReservationDto.CreateRequest request = ReservationJournalTest.request(
+                "cmd-1", LocalDateTime.now().minusHours(1), 2);
+        when(reservationJournal.isEnabled()).thenReturn(true);
+        when(customerReservationService.createReservation(request))
+                .thenThrow(new CannotCreateTransactionException("connection refused"));
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationCommandService.createReservation(request));
+        assertEquals("INVALID_RESERVATION_TIME", exception.getErrorCode().name());
+        verify(reservationJournal, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("DB 장애 중에도 연락처가 없거나 요청 식별자가 너무 긴 요청은 저널에 접수하지 않음")
+    void rejectConstraintViolationsWithoutDatabase() {
+        // given
+        ReservationDto.CreateRequest noPhone = ReservationJournalTest.request(
+                "cmd-1", LocalDateTime.now().plusDays(1), 2);
+        noPhone.setPhoneNumber(" ");
+        ReservationDto.CreateRequest longCommandId = ReservationJournalTest.request(
+                "c".repeat(ReservationCommandService.MAX_COMMAND_ID_LENGTH + 1), LocalDateTime.now().plusDays(1), 2);
+        when(reservationJournal.isEnabled()).thenReturn(true);
+        when(customerReservationService.createReservation(any()))
+                .thenThrow(new CannotCreateTransactionException("connection refused"));
+
+        // when & then
+        CustomException phoneException = assertThrows(CustomException.class,
+                () -> reservationCommandService.createReservation(noPhone));
+        assertEquals("PHONE_NUMBER_REQUIRED", phoneException.getErrorCode().name());
+        CustomException commandIdException = assertThrows(CustomException.class,
+                () -> reservationCommandService.createReservation(longCommandId));
+        assertEquals("INVALID_COMMAND_ID", commandIdException.getErrorCode().name());
+        verify(reservationJournal, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("같은 요청 식별자로 동시에 생성되어 유니크 제약에 걸리면 먼저 생성된 예약 반환")
+    void returnExistingOnDuplicateCommandId() {
+        // given
+        ReservationDto.CreateRequest request = ReservationJournalTest.request(
+                "cmd-1", LocalDateTime.now().plusDays(1), 2);
+        ReservationDto.Response created = ReservationDto.Response.builder().id(1L).build();
+        when(reservationJournal.isEnabled()).thenReturn(false);
+        when(customerReservationService.createReservation(request))
+                .thenThrow(new DataIntegrityViolationException("uk_reservation_command_id"));
+        when(customerReservationService.findByCommand(request)).thenReturn(Optional.of(created));
+
+        // when
+        ReservationDto.Response response = reservationCommandService.createReservation(request);
+
+        // then
+        assertSame(created, response);
+    }
+
+    @Test
+    @DisplayName("저널을 사용하지 않으면 예약 서비스 결과를 그대로 반환")
+    void passThroughWhenDisabled() {
+        // given
+        ReservationDto.CreateRequest request = ReservationJournalTest.request(
+                null, LocalDateTime.now().plusDays(1), 2);
+        ReservationDto.Response created = ReservationDto.Response.builder().id(1L).build();
+        when(reservationJournal.isEnabled()).thenReturn(false);
+        when(customerReservationService.createReservation(request)).thenReturn(created);
+
+        // when
+        ReservationDto.Response response = reservationCommandService.createReservation(request);
+
+        // then
+        assertSame(created, response);
+        assertNull(request.getCommandId());
+    }
+}
@@ -0,0 +1,134 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class ReservationHotWindowTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    private ReservationHotWindow hotWindow;
+
+    private Store store;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        hotWindow = new ReservationHotWindow(reservationRepository, loggingUtil);
+
+        store = Store.builder().id(1L).name("Test Store").build();
+        user = User.builder().id(1L).username("Test User").build();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 윈도우 범위를 보장하지 않음")
+    void notCoveredBeforeLoad() {
+        LocalDateTime now = LocalDateTime.now();
+        assertFalse(hotWindow.covers(now, now.plusHours(1)));
+    }
+
+    @Test
+    @DisplayName("기동 시 적재한 예약을 예약 시간 순으로 조회")
+    void loadAndFindSorted() {
+        // given
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        Reservation late = createReservation(2L, today.plusHours(18));
+        Reservation early = createReservation(1L, today.plusHours(12));
+        when(reservationRepository.findByReservedAtBetween(
+                any(LocalDateTime.class), any(LocalDateTime.class)
+        )).thenReturn(List.of(late, early));
+
+        // when
+        hotWindow.load();
+        List<ReservationDto.Response> responses =
+                hotWindow.find(store.getId(), today, today.plusHours(23));
+
+        // then
+        assertTrue(hotWindow.covers(today, today.plusHours(23)));
+        assertFalse(hotWindow.covers(today.minusDays(1), today));
+        assertFalse(hotWindow.covers(today, today.plusDays(ReservationHotWindow.WINDOW_DAYS)));
+        assertEquals(2, responses.size());
+        assertEquals(1L, responses.get(0).getId());
+        assertEquals(2L, responses.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("예약 변경 이벤트가 윈도우에 즉시 반영됨")
+    void applyChangeEvents() {
+        // given
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        when(reservationRepository.findByReservedAtBetween(
+                any(LocalDateTime.class), any(LocalDateTime.class)
+        )).thenReturn(List.of());
+        hotWindow.load();
+
+        Reservation reservation = createReservation(1L, today.plusDays(2).plusHours(12));
+
+        // when
+        hotWindow.onReservationChanged(ReservationChangedEvent.created(reservation));
+        reservation.setStatus(CANCELLED);
+        hotWindow.onReservationChanged(
+                ReservationChangedEvent.statusChanged(reservation, CONFIRMED));
+
+        // then
+        List<ReservationDto.Response> responses =
+                hotWindow.find(store.getId(), today, today.plusDays(3));
+        assertEquals(1, responses.size());
+        assertEquals(CANCELLED, responses.get(0).getStatus());
+    }
+
+    @Test
+    @DisplayName("삭제된 매장의 예약은 윈도우에서 제거")
+    void removeDeletedStore() {
+        // given
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        Reservation reservation = createReservation(1L, today.plusHours(12));
+        when(reservationRepository.findByReservedAtBetween(
+                any(LocalDateTime.class), any(LocalDateTime.class)
+        )).thenReturn(List.of(reservation));
+        hotWindow.load();
+
+        // when
+        hotWindow.removeStore(store.getId());
+
+        // then
+        assertTrue(hotWindow.find(store.getId(), today, today.plusHours(23)).isEmpty());
+        assertTrue(hotWindow.findById(store.getId(), 1L).isEmpty());
+    }
+
+    private Reservation createReservation(Long id, LocalDateTime reservedAt) {
+        return Reservation.builder()
+                .id(id)
+                .store(store)
+                .user(user)
+                .phoneNumber("010-1234-5678")
+                .reservedAt(reservedAt)
+                .status(CONFIRMED)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.zerobase.storereservation.service.reservation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 저널 기록과 JDBC 직접 INSERT 처리량 비교
+ * - 실행: RESERVATION_BENCHMARK=true ./gradlew test --tests '*ReservationJournalBenchmarkTest'
+ * - JDBC 는 파일 모드 H2 에 건별 자동 커밋으로 기록하므로 MySQL 수치와는 다르며, 상대 비교용
+ */
+@EnabledIfEnvironmentVariable(named = "RESERVATION_BENCHMARK", matches = "true")
+class ReservationJournalBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationJournalBenchmarkTest.class);
+
+    private static final int THREADS = 16;
+    private static final int PER_THREAD = 2_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("저널 기록과 JDBC INSERT 처리량 비교")
+    void compareThroughput() throws Exception {
+        ReservationJournal journal =
+                new ReservationJournal(true, dir.resolve("bench.journal").toString(), 64);
+        journal.open();
+        LocalDateTime reservedAt = LocalDateTime.now().plusDays(1);
+        double journalOps = run(thread -> {
+            for (int i = 0; i < PER_THREAD; i++) {
+                journal.append(ReservationJournalTest.request(thread + "-" + i, reservedAt, 2));
+            }
+        });
+        assertEquals(THREADS * PER_THREAD, journal.readFrom(0).size());
+        journal.close();
+
+        String url = "jdbc:h2:file:" + dir.resolve("bench-db").toAbsolutePath();
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table reservation (id bigint auto_increment primary key, " +
+                    "command_id varchar(64) unique, user_id bigint, store_id bigint, " +
+                    "phone_number varchar(255), reserved_at timestamp, party_size int)");
+        }
+        double jdbcOps = run(thread -> {
+            try (Connection connection = DriverManager.getConnection(url);
+                 PreparedStatement insert = connection.prepareStatement(
+                         "insert into reservation (command_id, user_id, store_id, phone_number, " +
+                                 "reserved_at, party_size) values (?, ?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < PER_THREAD; i++) {
+                    insert.setString(1, thread + "-" + i);
+                    insert.setLong(2, 1L);
+                    insert.setLong(3, 2L);
+                    insert.setString(4, "010-1234-5678");
+                    insert.setTimestamp(5, Timestamp.valueOf(reservedAt));
+                    insert.setInt(6, 2);
+                    insert.executeUpdate();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement();
+             ResultSet count = statement.executeQuery("select count(*) from reservation")) {
+            assertTrue(count.next());
+            assertEquals(THREADS * PER_THREAD, count.getInt(1));
+        }
+
+        assertTrue(journalOps > 0 && jdbcOps > 0);
+        log.info("journal: {} ops/s, jdbc(h2 file): {} ops/s", Math.round(journalOps), Math.round(jdbcOps));
+    }
+
+    private double run(Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    worker.run(thread);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return THREADS * PER_THREAD / ((System.nanoTime() - start) / 1e9);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private interface Worker {
+        void run(int thread) throws IOException;
+    }
+}
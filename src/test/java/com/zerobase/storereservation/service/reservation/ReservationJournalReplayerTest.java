@@ -0,0 +1,134 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.JournalRejection;
+import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.repository.JournalRejectionRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.zerobase.storereservation.exception.ErrorCode.INVALID_RESERVATION_TIME;
+import static com.zerobase.storereservation.exception.ErrorCode.REPLAY_FAILED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class ReservationJournalReplayerTest {
+
+    @InjectMocks
+    private ReservationJournalReplayer replayer;
+
+    @Mock
+    private ReservationJournal reservationJournal;
+
+    @Mock
+    private CustomerReservationService customerReservationService;
+
+    @Mock
+    private JournalRejectionRepository journalRejectionRepository;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    private ReservationDto.CreateRequest first;
+    private ReservationDto.CreateRequest second;
+    private ReservationDto.CreateRequest third;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        LocalDateTime reservedAt = LocalDateTime.now().plusDays(1);
+        first = ReservationJournalTest.request("cmd-1", reservedAt, 2);
+        second = ReservationJournalTest.request("cmd-2", reservedAt, 2);
+        third = ReservationJournalTest.request("cmd-3", reservedAt, 2);
+        when(reservationJournal.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("거절된 요청은 건너뛰고, DB 장애가 계속되면 해당 요청부터 다음 주기에 다시 처리")
+    void skipRejectedAndStopOnDatabaseFailure() {
+        // given
+        when(reservationJournal.readFrom(0)).thenReturn(List.of(
+                new ReservationJournal.Entry(first, 10),
+                new ReservationJournal.Entry(second, 20),
+                new ReservationJournal.Entry(third, 30)));
+        when(reservationJournal.readFrom(20)).thenReturn(List.of(new ReservationJournal.Entry(third, 30)));
+        when(customerReservationService.createReservation(second))
+                .thenThrow(new CustomException(INVALID_RESERVATION_TIME));
+        when(customerReservationService.createReservation(third))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(ReservationDto.Response.builder().id(3L).build());
+        when(reservationJournal.clearIfProcessed(30)).thenReturn(true);
+
+        // when
+        replayer.replay();
+        replayer.replay();
+
+        // then
+        verify(reservationJournal).clearIfProcessed(20);
+        verify(reservationJournal).readFrom(20);
+        verify(customerReservationService, times(2)).createReservation(third);
+        verify(reservationJournal).clearIfProcessed(30);
+
+        ArgumentCaptor<JournalRejection> rejection = ArgumentCaptor.forClass(JournalRejection.class);
+        verify(journalRejectionRepository).save(rejection.capture());
+        assertEquals("cmd-2", rejection.getValue().getCommandId());
+        assertEquals(INVALID_RESERVATION_TIME, rejection.getValue().getErrorCode());
+    }
+
+    @Test
+    @DisplayName("연결 장애가 아닌 실패(제약 조건 위반 등)는 건너뛰고 뒤 레코드를 계속 처리")
+    void skipNonConnectionFailure() {
+        // given
+        when(reservationJournal.readFrom(0)).thenReturn(List.of(
+                new ReservationJournal.Entry(first, 10),
+                new ReservationJournal.Entry(second, 20)));
+        when(customerReservationService.createReservation(first))
+                .thenThrow(new DataIntegrityViolationException("phone_number cannot be null"));
+        when(customerReservationService.createReservation(second))
+                .thenReturn(ReservationDto.Response.builder().id(2L).build());
+        when(reservationJournal.clearIfProcessed(20)).thenReturn(true);
+
+        // when
+        replayer.replay();
+
+        // then
+        verify(customerReservationService).createReservation(second);
+        verify(reservationJournal).clearIfProcessed(20);
+        verify(loggingUtil).logSuccess(eq("REPLAY RESERVATION"), any());
+
+        ArgumentCaptor<JournalRejection> rejection = ArgumentCaptor.forClass(JournalRejection.class);
+        verify(journalRejectionRepository).save(rejection.capture());
+        assertEquals(REPLAY_FAILED, rejection.getValue().getErrorCode());
+    }
+
+    @Test
+    @DisplayName("거절 기록 중 DB 장애가 나면 해당 요청부터 다음 주기에 다시 처리")
+    void retryWhenRejectionCannotBeRecorded() {
+        // given
+        when(reservationJournal.readFrom(0)).thenReturn(List.of(
+                new ReservationJournal.Entry(first, 10),
+                new ReservationJournal.Entry(second, 20)));
+        when(customerReservationService.createReservation(first))
+                .thenThrow(new CustomException(INVALID_RESERVATION_TIME));
+        when(journalRejectionRepository.save(any()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        // when
+        replayer.replay();
+
+        // then
+        verify(customerReservationService, never()).createReservation(second);
+        verify(reservationJournal).clearIfProcessed(0);
+    }
+}
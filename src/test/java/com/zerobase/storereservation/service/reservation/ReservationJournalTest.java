@@ -0,0 +1,117 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private ReservationJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        journal = newJournal();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("기록한 요청을 순서대로 읽고 임시 접수 응답을 반환")
+    void appendAndRead() {
+        // given
+        LocalDateTime reservedAt = LocalDateTime.now().plusDays(1).withNano(0);
+
+        // when
+        ReservationDto.Response response = journal.append(request("cmd-1", reservedAt, 2));
+        journal.append(request("cmd-2", reservedAt.plusHours(1), null));
+        List<ReservationJournal.Entry> entries = journal.readFrom(0);
+
+        // then
+        assertNull(response.getId());
+        assertEquals("cmd-1", response.getProvisionalId());
+        assertEquals(ReservationStatus.PENDING, response.getStatus());
+        assertEquals(2, entries.size());
+        assertEquals("cmd-1", entries.get(0).request().getCommandId());
+        assertEquals(reservedAt, entries.get(0).request().getReservedAt());
+        assertEquals(2, entries.get(0).request().getPartySize());
+        assertNull(entries.get(1).request().getPartySize());
+        assertEquals(1, journal.readFrom(entries.get(0).end()).size());
+    }
+
+    @Test
+    @DisplayName("다시 열면 CRC 가 맞는 레코드까지만 복구하고 이어서 기록")
+    void reopenIgnoresTornRecord() throws IOException {
+        // given
+        LocalDateTime reservedAt = LocalDateTime.now().plusDays(1).withNano(0);
+        journal.append(request("cmd-1", reservedAt, 2));
+        int end = journal.readFrom(0).get(0).end();
+        journal.close();
+
+        // 기록 도중 종료된 레코드 (길이만 기록되고 CRC 가 맞지 않음)
+        try (RandomAccessFile file = new RandomAccessFile(dir.resolve("reservation.journal").toFile(), "rw")) {
+            file.seek(end);
+            file.writeInt(16);
+            file.writeInt(12345);
+        }
+
+        // when
+        journal = newJournal();
+        journal.append(request("cmd-2", reservedAt, 3));
+
+        // then
+        List<ReservationJournal.Entry> entries = journal.readFrom(0);
+        assertEquals(List.of("cmd-1", "cmd-2"),
+                entries.stream().map(entry -> entry.request().getCommandId()).toList());
+    }
+
+    @Test
+    @DisplayName("모든 레코드를 처리했을 때만 저널을 비움")
+    void clearIfProcessed() {
+        // given
+        LocalDateTime reservedAt = LocalDateTime.now().plusDays(1).withNano(0);
+        journal.append(request("cmd-1", reservedAt, 2));
+        int firstEnd = journal.readFrom(0).get(0).end();
+        journal.append(request("cmd-2", reservedAt, 2));
+
+        // when & then
+        assertFalse(journal.clearIfProcessed(firstEnd));
+        assertTrue(journal.clearIfProcessed(journal.readFrom(firstEnd).get(0).end()));
+        assertTrue(journal.readFrom(0).isEmpty());
+    }
+
+    private ReservationJournal newJournal() {
+        ReservationJournal created =
+                new ReservationJournal(true, dir.resolve("reservation.journal").toString(), 1);
+        created.open();
+        return created;
+    }
+
+    static ReservationDto.CreateRequest request(String commandId, LocalDateTime reservedAt, Integer partySize) {
+        ReservationDto.CreateRequest request = new ReservationDto.CreateRequest();
+        request.setCommandId(commandId);
+        request.setUserId(1L);
+        request.setStoreId(2L);
+        request.setPhoneNumber("010-1234-5678");
+        request.setReservedAt(reservedAt);
+        request.setPartySize(partySize);
+        return request;
+    }
+}
@@ -0,0 +1,204 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.ReservationRollup;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.entity.constants.ReservationStatus;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationRollupRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReservationRollupWriterTest {
+
+    private static final LocalDateTime RESERVED_AT = LocalDateTime.of(2024, 12, 1, 18, 30);
+
+    @Mock
+    private ReservationRollupRepository reservationRollupRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    private ReservationRollupWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        writer = new ReservationRollupWriter(reservationRollupRepository, transactionTemplate, loggingUtil);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(reservationRollupRepository.findForUpdate(anyLong(), any(), anyInt(), any()))
+                .thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("생성 후 승인은 대기 -1, 확정 +1 로 합쳐 반영")
+    void createdThenConfirmed() {
+        // given
+        ReservationRollup confirmed = ReservationRollup.builder()
+                .id(10L).storeId(1L).day(LocalDate.of(2024, 12, 1)).hour(18)
+                .status(ReservationStatus.CONFIRMED).reservationCount(2).build();
+        when(reservationRollupRepository.findForUpdate(1L, LocalDate.of(2024, 12, 1), 18,
+                ReservationStatus.CONFIRMED)).thenReturn(Optional.of(confirmed));
+
+        Reservation reservation = reservation(ReservationStatus.PENDING);
+        writer.onReservationChanged(ReservationChangedEvent.created(reservation));
+        reservation.setStatus(ReservationStatus.CONFIRMED);
+        writer.onReservationChanged(ReservationChangedEvent.statusChanged(reservation, ReservationStatus.PENDING));
+
+        // when
+        writer.flush();
+
+        // then
+        assertEquals(3, confirmed.getReservationCount());
+        assertEquals(0, writer.pendingCount());
+        // 대기 상태는 +1 -1 로 상쇄되어 반영하지 않음
+        verify(reservationRollupRepository, never()).findForUpdate(1L, LocalDate.of(2024, 12, 1), 18,
+                ReservationStatus.PENDING);
+        verify(reservationRollupRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("집계 행이 없으면 새로 생성하고 도착 수도 함께 반영")
+    void createRowWithArrival() {
+        // given
+        writer.onReservationChanged(ReservationChangedEvent.created(reservation(ReservationStatus.CONFIRMED)));
+        writer.recordArrival(1L, 1L, RESERVED_AT, ReservationStatus.CONFIRMED);
+
+        // when
+        writer.flush();
+
+        // then
+        ArgumentCaptor<ReservationRollup> captor = ArgumentCaptor.forClass(ReservationRollup.class);
+        verify(reservationRollupRepository, times(1)).save(captor.capture());
+        assertEquals(1, captor.getValue().getReservationCount());
+        assertEquals(1, captor.getValue().getArrivedCount());
+        assertEquals(18, captor.getValue().getHour());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 다음 주기에 다시 시도하고, 백필 중에는 반영하지 않음")
+    void requeueAndPause() {
+        // given
+        doThrow(new IllegalStateException("db down"))
+                .when(transactionTemplate).executeWithoutResult(any());
+        writer.onReservationChanged(ReservationChangedEvent.created(reservation(ReservationStatus.PENDING)));
+
+        // when
+        writer.flush();
+
+        // then
+        assertEquals(1, writer.pendingCount());
+
+        // 백필 중에는 반영하지 않고, 백필이 실패하면 모아 둔 증감을 이어서 반영
+        writer.pause();
+        writer.onReservationChanged(ReservationChangedEvent.created(reservation(ReservationStatus.PENDING)));
+        writer.flush();
+        assertEquals(1, writer.pendingCount());
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+
+        writer.abort();
+        writer.flush();
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("도착한 예약의 상태가 바뀌면 도착 수도 새 상태로 이동")
+    void moveArrivalWithStatus() {
+        // given
+        Reservation reservation = reservation(ReservationStatus.CONFIRMED);
+        reservation.setArrivedAt(RESERVED_AT);
+        reservation.setStatus(ReservationStatus.CANCELLED);
+        writer.onReservationChanged(ReservationChangedEvent.statusChanged(reservation, ReservationStatus.CONFIRMED));
+
+        // when
+        writer.flush();
+
+        // then
+        ArgumentCaptor<ReservationRollup> captor = ArgumentCaptor.forClass(ReservationRollup.class);
+        verify(reservationRollupRepository, times(2)).save(captor.capture());
+        for (ReservationRollup rollup : captor.getAllValues()) {
+            long expected = rollup.getStatus() == ReservationStatus.CANCELLED ? 1 : -1;
+            assertEquals(expected, rollup.getReservationCount());
+            assertEquals(expected, rollup.getArrivedCount());
+        }
+    }
+
+    @Test
+    @DisplayName("백필 중 변경된 예약은 스냅샷이 본 상태를 빼고 마지막 상태를 더해 중복 집계하지 않음")
+    void reconcileChangesDuringBackfill() {
+        // given
+        writer.pause();
+        // 스냅샷 이전에 커밋되어 스냅샷에 이미 확정으로 집계된 예약
+        Reservation seen = reservation(ReservationStatus.CONFIRMED);
+        writer.onReservationChanged(ReservationChangedEvent.statusChanged(seen, ReservationStatus.PENDING));
+        // 스냅샷 이후에 생성된 예약
+        Reservation unseen = reservation(ReservationStatus.PENDING);
+        unseen.setId(2L);
+        writer.onReservationChanged(ReservationChangedEvent.created(unseen));
+        writer.recordArrival(1L, 1L, RESERVED_AT, ReservationStatus.CONFIRMED);
+
+        // when
+        writer.resume(ids -> {
+            assertEquals(Set.of(1L, 2L), ids);
+            return Map.of(1L, new ReservationRollupWriter.State(1L, RESERVED_AT, ReservationStatus.CONFIRMED, false));
+        });
+        writer.flush();
+
+        // then
+        ArgumentCaptor<ReservationRollup> captor = ArgumentCaptor.forClass(ReservationRollup.class);
+        verify(reservationRollupRepository, times(2)).save(captor.capture());
+        for (ReservationRollup rollup : captor.getAllValues()) {
+            if (rollup.getStatus() == ReservationStatus.CONFIRMED) {
+                // 확정 예약은 그대로 1건이고 도착만 더해짐
+                assertEquals(0, rollup.getReservationCount());
+                assertEquals(1, rollup.getArrivedCount());
+            } else {
+                assertEquals(ReservationStatus.PENDING, rollup.getStatus());
+                assertEquals(1, rollup.getReservationCount());
+                assertEquals(0, rollup.getArrivedCount());
+            }
+        }
+    }
+
+    private Reservation reservation(ReservationStatus status) {
+        return Reservation.builder()
+                .id(1L)
+                .store(Store.builder().id(1L).build())
+                .user(User.builder().id(2L).build())
+                .reservedAt(RESERVED_AT)
+                .status(status)
+                .build();
+    }
+}
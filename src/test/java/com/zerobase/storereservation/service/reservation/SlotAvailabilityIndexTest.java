@@ -0,0 +1,298 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class SlotAvailabilityIndexTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private TableAllocator tableAllocator;
+
+    private SlotAvailabilityIndex index;
+
+    private Store store;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        index = new SlotAvailabilityIndex(reservationRepository, storeRepository, tableAllocator);
+
+        // 10:00 ~ 12:00, 30분 단위, 2팀 수용 -> 하루 4개 슬롯
+        store = Store.builder()
+                .id(1L)
+                .name("Test Store")
+                .capacity(2)
+                .slotMinutes(30)
+                .openTime(LocalTime.of(10, 0))
+                .closeTime(LocalTime.of(12, 0))
+                .build();
+        date = LocalDate.now().plusDays(1);
+        when(storeRepository.findById(store.getId())).thenReturn(Optional.of(store));
+    }
+
+    @Test
+    @DisplayName("수용 단위가 모두 찬 슬롯만 예약 불가")
+    void fullSlotIsNotFree() {
+        // given
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(
+                eq(store.getId()), any(LocalDateTime.class), any(LocalDateTime.class)
+        )).thenReturn(List.of(
+                createReservation(1L, date.atTime(10, 0)),
+                createReservation(2L, date.atTime(10, 0)),
+                createReservation(3L, date.atTime(10, 30))
+        ));
+
+        // when
+        List<LocalDateTime> freeSlots =
+                index.findFreeSlots(store.getId(), date, date, date.atStartOfDay());
+
+        // then
+        assertEquals(List.of(date.atTime(10, 30), date.atTime(11, 0), date.atTime(11, 30)), freeSlots);
+        assertEquals(Optional.of(date.atTime(10, 30)),
+                index.findNextFreeSlot(store.getId(), date.atStartOfDay(), date));
+    }
+
+    @Test
+    @DisplayName("예약 취소 이벤트로 슬롯이 다시 비워짐")
+    void cancelReleasesSlot() {
+        // given
+        Reservation first = createReservation(1L, date.atTime(10, 0));
+        Reservation second = createReservation(2L, date.atTime(10, 0));
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(
+                eq(store.getId()), any(LocalDateTime.class), any(LocalDateTime.class)
+        )).thenReturn(List.of(first, second));
+        assertEquals(Optional.of(date.atTime(10, 30)),
+                index.findNextFreeSlot(store.getId(), date.atStartOfDay(), date));
+
+        // when
+        second.setStatus(CANCELLED);
+        index.onReservationChanged(ReservationChangedEvent.statusChanged(second, CONFIRMED));
+
+        // then
+        assertEquals(Optional.of(date.atTime(10, 0)),
+                index.findNextFreeSlot(store.getId(), date.atStartOfDay(), date));
+    }
+
+    @Test
+    @DisplayName("기준 시간 이전 슬롯은 제외")
+    void skipSlotsBeforeNotBefore() {
+        // given
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(
+                eq(store.getId()), any(LocalDateTime.class), any(LocalDateTime.class)
+        )).thenReturn(List.of());
+
+        // when
+        List<LocalDateTime> freeSlots =
+                index.findFreeSlots(store.getId(), date, date, date.atTime(10, 45));
+
+        // then
+        assertEquals(List.of(date.atTime(11, 0), date.atTime(11, 30)), freeSlots);
+    }
+
+    @Test
+    @DisplayName("이용 시간이 슬롯보다 긴 예약은 걸치는 모든 슬롯을 차지하고, 취소하면 모두 반환")
+    void longReservationOccupiesEverySlot() {
+        // given
+        // 10:00 부터 60분 예약 2건 -> 10:00, 10:30 슬롯이 모두 참
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(
+                eq(store.getId()), any(LocalDateTime.class), any(LocalDateTime.class)
+        )).thenReturn(List.of(
+                createReservation(1L, date.atTime(10, 0), 60),
+                createReservation(2L, date.atTime(10, 0), 60)
+        ));
+        assertEquals(List.of(date.atTime(11, 0), date.atTime(11, 30)),
+                index.findFreeSlots(store.getId(), date, date, date.atStartOfDay()));
+
+        // when
+        // 11:00 부터 90분 예약은 영업 종료까지의 11:00, 11:30 슬롯을 차지
+        Reservation late = createReservation(3L, date.atTime(11, 0), 90);
+        index.onReservationChanged(ReservationChangedEvent.created(late));
+        Reservation lateToo = createReservation(4L, date.atTime(11, 0), 90);
+        index.onReservationChanged(ReservationChangedEvent.created(lateToo));
+
+        // then
+        assertTrue(index.findNextFreeSlot(store.getId(), date.atStartOfDay(), date).isEmpty());
+        assertFalse(index.isFree(store.getId(), date.atTime(11, 30)));
+
+        // when
+        lateToo.setStatus(CANCELLED);
+        index.onReservationChanged(ReservationChangedEvent.statusChanged(lateToo, CONFIRMED));
+
+        // then
+        assertEquals(List.of(date.atTime(11, 0), date.atTime(11, 30)),
+                index.findFreeSlots(store.getId(), date, date, date.atStartOfDay()));
+    }
+
+    @Test
+    @DisplayName("선점은 걸치는 모든 슬롯에 빈 수용 단위가 있을 때만 성공하고, 커밋 이벤트와 겹쳐도 한 번만 차지")
+    void holdOccupiesEverySlotOnce() {
+        // given
+        // 10:30 예약 1건 -> 10:30 슬롯에 한 단위만 남음
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(
+                eq(store.getId()), any(LocalDateTime.class), any(LocalDateTime.class)
+        )).thenReturn(List.of(createReservation(1L, date.atTime(10, 30))));
+
+        // when
+        Optional<SlotAvailabilityIndex.Hold> hold =
+                index.tryHold(store.getId(), date.atTime(10, 0), date.atTime(11, 0));
+
+        // then
+        assertTrue(hold.isPresent());
+        assertTrue(index.tryHold(store.getId(), date.atTime(10, 0), date.atTime(11, 0)).isEmpty());
+        assertTrue(index.tryHold(store.getId(), date.atTime(9, 0), date.atTime(9, 30)).isEmpty());
+        assertEquals(List.of(date.atTime(10, 0), date.atTime(11, 0), date.atTime(11, 30)),
+                index.findFreeSlots(store.getId(), date, date, date.atStartOfDay()));
+
+        // when
+        // 커밋 이벤트가 먼저 반영된 뒤 선점을 연결
+        index.onReservationChanged(ReservationChangedEvent.created(createReservation(2L, date.atTime(10, 0), 60)));
+        index.assign(hold.get(), 2L);
+
+        // then
+        assertEquals(List.of(date.atTime(10, 0), date.atTime(11, 0), date.atTime(11, 30)),
+                index.findFreeSlots(store.getId(), date, date, date.atStartOfDay()));
+    }
+
+    @Test
+    @DisplayName("선점 해제 시 차지한 수용 단위를 모두 반환")
+    void releaseHoldFreesSlots() {
+        // given
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(
+                eq(store.getId()), any(LocalDateTime.class), any(LocalDateTime.class)
+        )).thenReturn(List.of(createReservation(1L, date.atTime(10, 0), 60)));
+        SlotAvailabilityIndex.Hold hold =
+                index.tryHold(store.getId(), date.atTime(10, 0), date.atTime(11, 0)).orElseThrow();
+        assertEquals(Optional.of(date.atTime(11, 0)),
+                index.findNextFreeSlot(store.getId(), date.atStartOfDay(), date));
+
+        // when
+        index.release(hold);
+
+        // then
+        assertEquals(Optional.of(date.atTime(10, 0)),
+                index.findNextFreeSlot(store.getId(), date.atStartOfDay(), date));
+    }
+
+    @Test
+    @DisplayName("테이블이 있는 매장은 매장 수용 단위 대신 테이블 배정 가능 여부로 빈 슬롯 계산")
+    void tableStoreUsesTableAllocator() {
+        // given
+        // 수용 단위(2)를 넘는 예약이 있어도 테이블이 비어 있으면 예약 가능
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(
+                eq(store.getId()), any(LocalDateTime.class), any(LocalDateTime.class)
+        )).thenReturn(List.of(
+                createReservation(1L, date.atTime(11, 0)),
+                createReservation(2L, date.atTime(11, 0)),
+                createReservation(3L, date.atTime(11, 0))
+        ));
+        when(tableAllocator.hasTables(store.getId())).thenReturn(true);
+        when(tableAllocator.isAvailable(eq(store.getId()), any(), any(), eq(1))).thenReturn(true);
+        when(tableAllocator.isAvailable(store.getId(), date.atTime(10, 0), date.atTime(11, 0), 1))
+                .thenReturn(false);
+
+        // when
+        List<LocalDateTime> freeSlots =
+                index.findFreeSlots(store.getId(), date, date, date.atStartOfDay());
+
+        // then
+        assertEquals(List.of(date.atTime(10, 30), date.atTime(11, 0), date.atTime(11, 30)), freeSlots);
+        assertTrue(index.isFree(store.getId(), date.atTime(11, 0)));
+        assertFalse(index.isFree(store.getId(), date.atTime(10, 0)));
+        assertFalse(index.isFree(store.getId(), date.atTime(12, 0)));
+    }
+
+    @Test
+    @DisplayName("적재 중에 들어온 예약 변경은 적재가 끝난 뒤 반영")
+    void applyEventsArrivingDuringLoad() {
+        // given
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(
+                eq(store.getId()), any(LocalDateTime.class), any(LocalDateTime.class)
+        )).thenAnswer(invocation -> {
+            // DB 조회 이후에 커밋된 예약
+            index.onReservationChanged(ReservationChangedEvent.created(createReservation(1L, date.atTime(10, 0))));
+            index.onReservationChanged(ReservationChangedEvent.created(createReservation(2L, date.atTime(10, 0))));
+            return List.of();
+        });
+
+        // when
+        List<LocalDateTime> freeSlots =
+                index.findFreeSlots(store.getId(), date, date, date.atStartOfDay());
+
+        // then
+        assertEquals(List.of(date.atTime(10, 30), date.atTime(11, 0), date.atTime(11, 30)), freeSlots);
+        assertEquals(1, index.cachedDays());
+    }
+
+    @Test
+    @DisplayName("이용 시간 전체의 슬롯에 빈 수용 단위가 있어야 예약 가능")
+    void availableOnlyWhenEverySlotIsFree() {
+        // given
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(
+                eq(store.getId()), any(LocalDateTime.class), any(LocalDateTime.class)
+        )).thenReturn(List.of(
+                createReservation(1L, date.atTime(11, 0)),
+                createReservation(2L, date.atTime(11, 0))
+        ));
+
+        // when & then
+        assertTrue(index.isFree(store.getId(), date.atTime(10, 0)));
+        assertTrue(index.isAvailable(store.getId(), date.atTime(10, 0), date.atTime(11, 0), 4));
+        assertFalse(index.isAvailable(store.getId(), date.atTime(10, 0), date.atTime(11, 30), 4));
+    }
+
+    @Test
+    @DisplayName("예약 가능 기간은 오늘부터 BOOKING_HORIZON_DAYS 일까지")
+    void bookingHorizon() {
+        LocalDate today = LocalDate.now();
+        assertTrue(SlotAvailabilityIndex.withinHorizon(today));
+        assertTrue(SlotAvailabilityIndex.withinHorizon(today.plusDays(SlotAvailabilityIndex.BOOKING_HORIZON_DAYS)));
+        assertFalse(SlotAvailabilityIndex.withinHorizon(today.plusDays(SlotAvailabilityIndex.BOOKING_HORIZON_DAYS + 1)));
+        assertFalse(SlotAvailabilityIndex.withinHorizon(today.minusDays(1)));
+    }
+
+    private Reservation createReservation(Long id, LocalDateTime reservedAt) {
+        // 기본 예약은 한 슬롯(30분)만 차지
+        return createReservation(id, reservedAt, 30);
+    }
+
+    private Reservation createReservation(Long id, LocalDateTime reservedAt, int durationMinutes) {
+        return Reservation.builder()
+                .id(id)
+                .store(store)
+                .user(User.builder().id(1L).build())
+                .phoneNumber("010-1234-5678")
+                .reservedAt(reservedAt)
+                .durationMinutes(durationMinutes)
+                .status(CONFIRMED)
+                .build();
+    }
+}
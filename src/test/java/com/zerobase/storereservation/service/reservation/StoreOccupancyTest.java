@@ -0,0 +1,144 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StoreOccupancyTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StoreOccupancy occupancy;
+
+    private Store store;
+    private User user;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        occupancy = new StoreOccupancy(reservationRepository, meterRegistry);
+        store = Store.builder().id(1L).build();
+        user = User.builder().id(1L).build();
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    @Test
+    @DisplayName("적재한 예약으로 착석, 도착 예정 인원을 계산하고 체크인, 취소로 갱신")
+    void countersFollowArrivalsAndCancellations() {
+        // given
+        Reservation seated = reservation(1L, now.minusMinutes(30), 2);
+        seated.setArrivedAt(now.minusMinutes(35));
+        Reservation upcoming = reservation(2L, now.plusMinutes(30), 3);
+        Reservation later = reservation(3L, now.plusHours(2), 4);
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(eq(store.getId()), any(), any()))
+                .thenReturn(List.of(seated, upcoming, later));
+
+        // when & then
+        assertEquals(2, occupancy.seated(store.getId()));
+        assertEquals(3, occupancy.expectedNextHour(store.getId()));
+
+        occupancy.onArrival(store.getId(), upcoming.getId());
+        assertEquals(5, occupancy.seated(store.getId()));
+        assertEquals(0, occupancy.expectedNextHour(store.getId()));
+
+        seated.setStatus(CANCELLED);
+        occupancy.onReservationChanged(ReservationChangedEvent.statusChanged(seated, CONFIRMED));
+        assertEquals(3, occupancy.seated(store.getId()));
+
+        Reservation created = reservation(4L, now.plusMinutes(10), 2);
+        occupancy.onReservationChanged(ReservationChangedEvent.created(created));
+        assertEquals(2, occupancy.expectedNextHour(store.getId()));
+
+        assertEquals(3.0, meterRegistry.get("store.occupancy.seated")
+                .tag("storeId", "1").gauge().value());
+        verify(reservationRepository, times(1))
+                .findByStoreIdAndReservedAtBetween(eq(store.getId()), any(), any());
+    }
+
+    @Test
+    @DisplayName("이용 시간이 끝나면 착석 인원에서 제외")
+    void decayFinishedReservations() {
+        // given
+        Reservation seated = reservation(1L, now.minusMinutes(30), 2);
+        seated.setArrivedAt(now.minusMinutes(35));
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(eq(store.getId()), any(), any()))
+                .thenReturn(List.of(seated));
+        assertEquals(2, occupancy.seated(store.getId()));
+
+        // when
+        occupancy.decay(now.plusMinutes(20));
+        long beforeEnd = occupancy.seated(store.getId());
+        occupancy.decay(now.plusMinutes(30));
+
+        // then
+        assertEquals(2, beforeEnd);
+        assertEquals(0, occupancy.seated(store.getId()));
+    }
+
+    @Test
+    @DisplayName("게이지는 적재된 매장만 DB 조회 없이 노출하고, 삭제되거나 오래 조회되지 않은 매장은 제거")
+    void gaugesFollowLoadedStores() {
+        // given
+        Reservation upcoming = reservation(1L, now.plusMinutes(30), 3);
+        when(reservationRepository.findByStoreIdAndReservedAtBetween(any(), any(), any()))
+                .thenReturn(List.of(upcoming), List.of());
+        occupancy.expectedNextHour(store.getId());
+        occupancy.seated(2L);
+
+        // when
+        double expected = meterRegistry.get("store.occupancy.expected").tag("storeId", "1").gauge().value();
+
+        // then
+        assertEquals(3.0, expected);
+        assertEquals(2, meterRegistry.find("store.occupancy.seated").gauges().size());
+        verify(reservationRepository, times(2)).findByStoreIdAndReservedAtBetween(any(), any(), any());
+
+        // 삭제된 매장은 즉시 제거
+        occupancy.evict(2L);
+        assertNull(meterRegistry.find("store.occupancy.seated").tag("storeId", "2").gauge());
+        assertNotNull(meterRegistry.find("store.occupancy.seated").tag("storeId", "1").gauge());
+
+        // 오래 조회되지 않은 매장도 제거
+        occupancy.decay(LocalDateTime.now().plusMinutes(StoreOccupancy.IDLE_EVICT_MINUTES + 1));
+        assertTrue(meterRegistry.find("store.occupancy.seated").gauges().isEmpty());
+        assertTrue(meterRegistry.find("store.occupancy.expected").gauges().isEmpty());
+    }
+
+    private Reservation reservation(Long id, LocalDateTime reservedAt, int partySize) {
+        return Reservation.builder()
+                .id(id)
+                .store(store)
+                .user(user)
+                .reservedAt(reservedAt)
+                .partySize(partySize)
+                .durationMinutes(60)
+                .status(CONFIRMED)
+                .build();
+    }
+}
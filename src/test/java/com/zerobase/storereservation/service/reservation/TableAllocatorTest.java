@@ -0,0 +1,126 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.DiningTable;
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.DiningTableRepository;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class TableAllocatorTest {
+
+    @Mock
+    private DiningTableRepository diningTableRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private TableAllocator allocator;
+
+    private Store store;
+    private DiningTable twoSeats;
+    private DiningTable fourSeats;
+    private LocalDateTime evening;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        allocator = new TableAllocator(diningTableRepository, reservationRepository);
+
+        store = Store.builder().id(1L).name("Test Store").build();
+        twoSeats = DiningTable.builder().id(10L).store(store).name("A1").seats(2).build();
+        fourSeats = DiningTable.builder().id(20L).store(store).name("B1").seats(4).build();
+        evening = LocalDate.now().plusDays(1).atTime(19, 0);
+
+        when(diningTableRepository.findByStoreId(store.getId()))
+                .thenReturn(List.of(fourSeats, twoSeats));
+        when(reservationRepository.findTableBookings(
+                eq(store.getId()), anyCollection(), any(LocalDateTime.class)
+        )).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("인원을 수용할 수 있는 가장 작은 테이블을 배정")
+    void allocateBestFit() {
+        assertEquals(Optional.of(10L),
+                allocator.allocate(store.getId(), evening, evening.plusHours(1), 2));
+        assertEquals(Optional.of(20L),
+                allocator.allocate(store.getId(), evening, evening.plusHours(1), 3));
+    }
+
+    @Test
+    @DisplayName("겹치는 구간이 있으면 다음 테이블을 배정하고, 끝난 직후 구간은 허용")
+    void allocateAroundOverlaps() {
+        // given
+        allocator.allocate(store.getId(), evening, evening.plusHours(1), 2);
+
+        // when & then
+        assertEquals(Optional.of(20L),
+                allocator.allocate(store.getId(), evening.plusMinutes(30), evening.plusMinutes(90), 2));
+        assertEquals(Optional.of(10L),
+                allocator.allocate(store.getId(), evening.plusHours(1), evening.plusHours(2), 2));
+        assertEquals(Optional.empty(),
+                allocator.allocate(store.getId(), evening.minusMinutes(30), evening.plusMinutes(45), 2));
+    }
+
+    @Test
+    @DisplayName("빈 테이블 확인은 구간을 선점하지 않음")
+    void isAvailableDoesNotHold() {
+        // given
+        allocator.allocate(store.getId(), evening, evening.plusHours(1), 2);
+
+        // when & then
+        assertTrue(allocator.isAvailable(store.getId(), evening, evening.plusHours(1), 4));
+        assertTrue(allocator.isAvailable(store.getId(), evening, evening.plusHours(1), 4));
+        assertFalse(allocator.isAvailable(store.getId(), evening, evening.plusHours(1), 5));
+        assertEquals(Optional.of(20L),
+                allocator.allocate(store.getId(), evening, evening.plusHours(1), 2));
+        assertFalse(allocator.isAvailable(store.getId(), evening.plusMinutes(30), evening.plusHours(2), 1));
+    }
+
+    @Test
+    @DisplayName("예약 취소 이벤트로 테이블 구간이 해제됨")
+    void cancelReleasesTable() {
+        // given
+        Long tableId = allocator.allocate(store.getId(), evening, evening.plusHours(1), 4).orElseThrow();
+        allocator.assign(store.getId(), tableId, evening, 100L);
+        assertEquals(Optional.empty(),
+                allocator.allocate(store.getId(), evening, evening.plusHours(1), 3));
+
+        Reservation reservation = Reservation.builder()
+                .id(100L)
+                .store(store)
+                .user(User.builder().id(1L).build())
+                .reservedAt(evening)
+                .durationMinutes(60)
+                .table(fourSeats)
+                .status(CANCELLED)
+                .build();
+
+        // when
+        allocator.onReservationChanged(ReservationChangedEvent.statusChanged(reservation, CONFIRMED));
+
+        // then
+        assertEquals(Optional.of(20L),
+                allocator.allocate(store.getId(), evening, evening.plusHours(1), 3));
+    }
+}
@@ -0,0 +1,136 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserBookingIndexTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private UserBookingIndex index;
+
+    private final Long userId = 1L;
+    private LocalDateTime evening;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        index = new UserBookingIndex(reservationRepository);
+        evening = LocalDate.now().plusDays(1).atTime(19, 0);
+
+        when(reservationRepository.findUserBookings(
+                eq(userId), anyCollection(), any(LocalDateTime.class)
+        )).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("기본 설정에서는 겹치는 예약을 거절하고 이어지는 예약은 허용")
+    void rejectOverlapByDefault() {
+        // given
+        assertTrue(index.tryHold(userId, evening, evening.plusHours(1)).isPresent());
+
+        // when & then
+        assertTrue(index.tryHold(userId, evening.plusMinutes(30), evening.plusMinutes(90)).isEmpty());
+        assertTrue(index.tryHold(userId, evening.minusMinutes(30), evening.plusMinutes(1)).isEmpty());
+        assertTrue(index.tryHold(userId, evening.plusHours(1), evening.plusHours(2)).isPresent());
+        assertTrue(index.tryHold(userId, evening.minusHours(1), evening).isPresent());
+    }
+
+    @Test
+    @DisplayName("허용 겹침 수만큼 겹치는 예약을 허용")
+    void allowConfiguredOverlaps() {
+        // given
+        ReflectionTestUtils.setField(index, "maxOverlapping", 1);
+        assertTrue(index.tryHold(userId, evening.minusHours(2), evening.plusHours(1)).isPresent());
+
+        // when & then
+        assertTrue(index.tryHold(userId, evening, evening.plusHours(1)).isPresent());
+        assertTrue(index.tryHold(userId, evening.plusMinutes(30), evening.plusMinutes(90)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("DB 에서 한 번만 적재하고, 취소 이벤트와 선점 해제로 구간이 비워짐")
+    void loadOnceAndRelease() {
+        // given
+        ReservationRepository.BookingInterval row = mock(ReservationRepository.BookingInterval.class);
+        when(row.getId()).thenReturn(100L);
+        when(row.getReservedAt()).thenReturn(evening);
+        when(row.getDurationMinutes()).thenReturn(null);
+        when(reservationRepository.findUserBookings(
+                eq(userId), anyCollection(), any(LocalDateTime.class)
+        )).thenReturn(List.of(row));
+
+        // when & then
+        assertTrue(index.tryHold(userId, evening.plusMinutes(59), evening.plusHours(2)).isEmpty());
+
+        Reservation cancelled = Reservation.builder()
+                .id(100L)
+                .user(User.builder().id(userId).build())
+                .store(Store.builder().id(1L).build())
+                .reservedAt(evening)
+                .status(CANCELLED)
+                .build();
+        index.onReservationChanged(ReservationChangedEvent.statusChanged(cancelled, CONFIRMED));
+
+        UserBookingIndex.Hold hold =
+                index.tryHold(userId, evening, evening.plusHours(1)).orElseThrow();
+        assertTrue(index.tryHold(userId, evening, evening.plusHours(1)).isEmpty());
+        index.release(hold);
+        assertTrue(index.tryHold(userId, evening, evening.plusHours(1)).isPresent());
+
+        verify(reservationRepository, times(1))
+                .findUserBookings(eq(userId), anyCollection(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("최대 사용자 수를 넘으면 가장 오래 사용하지 않은 사용자부터 제거하고, 선점이 남은 사용자는 유지")
+    void evictLeastRecentlyUsedUsers() {
+        // given
+        ReflectionTestUtils.setField(index, "maxUsers", 2);
+        when(reservationRepository.findUserBookings(any(), anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        UserBookingIndex.Hold pending = index.tryHold(1L, evening, evening.plusHours(1)).orElseThrow();
+        index.release(index.tryHold(2L, evening, evening.plusHours(1)).orElseThrow());
+
+        // when
+        // 가장 오래된 1번은 선점이 남아 있어 유지
+        index.release(index.tryHold(3L, evening, evening.plusHours(1)).orElseThrow());
+        int afterThird = index.cachedUsers();
+        // 1번 선점 해제로 1번이 최근 사용이 되고, 가장 오래된 2번이 제거됨
+        index.release(pending);
+        index.release(index.tryHold(4L, evening, evening.plusHours(1)).orElseThrow());
+
+        // then
+        assertEquals(3, afterThird);
+        assertEquals(3, index.cachedUsers());
+        index.tryHold(2L, evening, evening.plusHours(1));
+        index.tryHold(1L, evening, evening.plusHours(1));
+        verify(reservationRepository, times(2)).findUserBookings(eq(2L), anyCollection(), any(LocalDateTime.class));
+        verify(reservationRepository, times(1)).findUserBookings(eq(1L), anyCollection(), any(LocalDateTime.class));
+    }
+}
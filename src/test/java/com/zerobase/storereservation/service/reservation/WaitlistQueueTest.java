@@ -0,0 +1,76 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.entity.WaitlistEntry;
+import com.zerobase.storereservation.repository.WaitlistEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.zerobase.storereservation.entity.constants.WaitlistStatus.WAITING;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class WaitlistQueueTest {
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    private WaitlistQueue waitlistQueue;
+
+    private Store store;
+    private LocalDateTime evening;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        waitlistQueue = new WaitlistQueue(waitlistEntryRepository);
+        store = Store.builder().id(1L).build();
+        evening = LocalDate.now().plusDays(1).atTime(19, 0);
+    }
+
+    @Test
+    @DisplayName("우선순위가 높은 대기자부터, 같으면 먼저 등록한 순서로 정렬")
+    void orderedByPriorityThenFifo() {
+        // given
+        LocalDateTime base = LocalDateTime.now();
+        when(waitlistEntryRepository.findByStoreIdAndSlotAtAndStatus(store.getId(), evening, WAITING))
+                .thenReturn(List.of(entry(1L, 0, base), entry(2L, 1, base.plusMinutes(5))));
+
+        // when
+        waitlistQueue.add(entry(3L, 0, base.minusMinutes(1)));
+        waitlistQueue.add(entry(1L, 0, base));
+
+        // then
+        List<Long> order = waitlistQueue.ordered(store.getId(), evening).stream()
+                .map(WaitlistQueue.Waiter::entryId)
+                .toList();
+        assertEquals(List.of(2L, 3L, 1L), order);
+        assertEquals(3, waitlistQueue.position(store.getId(), evening, 1L));
+
+        assertTrue(waitlistQueue.remove(store.getId(), evening, 2L));
+        assertFalse(waitlistQueue.remove(store.getId(), evening, 2L));
+        assertEquals(1, waitlistQueue.position(store.getId(), evening, 3L));
+    }
+
+    private WaitlistEntry entry(Long id, int priority, LocalDateTime createdAt) {
+        return WaitlistEntry.builder()
+                .id(id)
+                .store(store)
+                .user(User.builder().id(id).build())
+                .slotAt(evening)
+                .partySize(2)
+                .durationMinutes(60)
+                .priority(priority)
+                .status(WAITING)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,220 @@
+package com.zerobase.storereservation.service.reservation;
+
+import com.zerobase.storereservation.dto.ReservationDto;
+import com.zerobase.storereservation.dto.WaitlistDto;
+import com.zerobase.storereservation.entity.DiningTable;
+import com.zerobase.storereservation.entity.Reservation;
+import com.zerobase.storereservation.entity.Store;
+import com.zerobase.storereservation.entity.User;
+import com.zerobase.storereservation.entity.WaitlistEntry;
+import com.zerobase.storereservation.event.ReservationChangedEvent;
+import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.repository.ReservationRepository;
+import com.zerobase.storereservation.repository.StoreRepository;
+import com.zerobase.storereservation.repository.UserRepository;
+import com.zerobase.storereservation.repository.WaitlistEntryRepository;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CANCELLED;
+import static com.zerobase.storereservation.entity.constants.ReservationStatus.CONFIRMED;
+import static com.zerobase.storereservation.entity.constants.WaitlistStatus.PROMOTED;
+import static com.zerobase.storereservation.entity.constants.WaitlistStatus.WAITING;
+import static com.zerobase.storereservation.exception.ErrorCode.WAITLIST_NOT_REQUIRED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WaitlistServiceTest {
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WaitlistQueue waitlistQueue;
+
+    @Mock
+    private SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @Mock
+    private UserBookingIndex userBookingIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReservationArchiver reservationArchiver;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    @InjectMocks
+    private WaitlistService waitlistService;
+
+    private User user;
+    private Store store;
+    private LocalDateTime evening;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        user = User.builder().id(1L).username("testUser").build();
+        store = Store.builder().id(1L).name("testStore").build();
+        evening = LocalDate.now().plusDays(1).atTime(19, 0);
+    }
+
+    @Test
+    @DisplayName("대기 등록 - 성공 (단골 고객 우선순위)")
+    void joinWaitlistSuccess() {
+        // given
+        ReservationDto.CreateRequest request = new ReservationDto.CreateRequest();
+        request.setUserId(user.getId());
+        request.setStoreId(store.getId());
+        request.setPhoneNumber("010-1234-5678");
+        request.setReservedAt(evening);
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(storeRepository.findById(store.getId())).thenReturn(Optional.of(store));
+        when(slotAvailabilityIndex.isAvailable(store.getId(), evening,
+                evening.plusMinutes(Reservation.DEFAULT_DURATION_MINUTES), 1)).thenReturn(false);
+        when(reservationRepository.existsByUserIdAndStoreIdAndStatus(user.getId(), store.getId(), CONFIRMED))
+                .thenReturn(true);
+        when(waitlistEntryRepository.save(any())).thenAnswer(invocation -> {
+            WaitlistEntry entry = invocation.getArgument(0);
+            entry.setId(10L);
+            return entry;
+        });
+        when(waitlistQueue.position(store.getId(), evening, 10L)).thenReturn(1);
+
+        // when
+        WaitlistDto.Response response = waitlistService.joinWaitlist(request);
+
+        // then
+        assertEquals(10L, response.getId());
+        assertEquals(WaitlistService.LOYALTY_PRIORITY, response.getPriority());
+        assertEquals(WAITING, response.getStatus());
+        assertEquals(1, response.getPosition());
+        verify(waitlistQueue).add(any(WaitlistEntry.class));
+    }
+
+    @Test
+    @DisplayName("대기 등록 - 실패 (예약 가능한 시간)")
+    void joinWaitlistFailSlotFree() {
+        // given
+        ReservationDto.CreateRequest request = new ReservationDto.CreateRequest();
+        request.setUserId(user.getId());
+        request.setStoreId(store.getId());
+        request.setReservedAt(evening);
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(storeRepository.findById(store.getId())).thenReturn(Optional.of(store));
+        when(slotAvailabilityIndex.isAvailable(store.getId(), evening,
+                evening.plusMinutes(Reservation.DEFAULT_DURATION_MINUTES), 1)).thenReturn(true);
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> waitlistService.joinWaitlist(request));
+        assertEquals(WAITLIST_NOT_REQUIRED, exception.getErrorCode());
+        verify(waitlistEntryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("대기 등록 - 실패 (인원과 이용 시간 전체에 예약 가능한 자리가 있음)")
+    void joinWaitlistFailTableFree() {
+        // given
+        ReservationDto.CreateRequest request = new ReservationDto.CreateRequest();
+        request.setUserId(user.getId());
+        request.setStoreId(store.getId());
+        request.setReservedAt(evening);
+        request.setPartySize(4);
+        request.setDurationMinutes(90);
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(storeRepository.findById(store.getId())).thenReturn(Optional.of(store));
+        when(slotAvailabilityIndex.isAvailable(store.getId(), evening, evening.plusMinutes(90), 4)).thenReturn(true);
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> waitlistService.joinWaitlist(request));
+        assertEquals(WAITLIST_NOT_REQUIRED, exception.getErrorCode());
+        verify(waitlistEntryRepository, never()).save(any());
+        verify(slotAvailabilityIndex, never()).isFree(any(), any());
+    }
+
+    @Test
+    @DisplayName("대기자 전환 - 빈 테이블에 맞지 않는 대기자는 건너뛰고 다음 대기자를 전환")
+    void promoteNextSkipsWaitersThatDoNotFit() {
+        // given
+        DiningTable table = DiningTable.builder().id(5L).store(store).name("A1").seats(2).build();
+        Reservation freed = Reservation.builder()
+                .id(1L)
+                .user(User.builder().id(2L).build())
+                .store(store)
+                .reservedAt(evening)
+                .table(table)
+                .status(CANCELLED)
+                .build();
+
+        WaitlistQueue.Waiter large = new WaitlistQueue.Waiter(
+                20L, 3L, 1, evening.minusDays(1), 4, 60);
+        WaitlistQueue.Waiter small = new WaitlistQueue.Waiter(
+                21L, user.getId(), 0, evening.minusDays(1), 2, 60);
+        WaitlistEntry entry = WaitlistEntry.builder()
+                .id(21L)
+                .store(store)
+                .user(user)
+                .phoneNumber("010-1234-5678")
+                .slotAt(evening)
+                .partySize(2)
+                .durationMinutes(60)
+                .status(WAITING)
+                .build();
+        UserBookingIndex.Hold hold = new UserBookingIndex.Hold(user.getId(), evening, evening.plusHours(1));
+
+        when(waitlistQueue.ordered(store.getId(), evening)).thenReturn(List.of(large, small));
+        when(userBookingIndex.tryHold(eq(user.getId()), any(), any())).thenReturn(Optional.of(hold));
+        when(waitlistQueue.remove(store.getId(), evening, 21L)).thenReturn(true);
+        when(waitlistEntryRepository.findById(21L)).thenReturn(Optional.of(entry));
+        when(reservationRepository.save(any())).thenAnswer(invocation -> {
+            Reservation reservation = invocation.getArgument(0);
+            reservation.setId(100L);
+            return reservation;
+        });
+
+        // when
+        Optional<Reservation> promoted = waitlistService.promoteNext(freed);
+
+        // then
+        assertTrue(promoted.isPresent());
+        assertEquals(100L, promoted.get().getId());
+        assertEquals(table, promoted.get().getTable());
+        assertEquals(PROMOTED, entry.getStatus());
+        assertEquals(100L, entry.getReservationId());
+        verify(waitlistQueue, never()).remove(store.getId(), evening, 20L);
+        verify(userBookingIndex).assign(hold, 100L);
+        verify(eventPublisher).publishEvent(any(ReservationChangedEvent.class));
+    }
+}
@@ -0,0 +1,98 @@
+package com.zerobase.storereservation.service.traffic;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyHitterSketchTest {
+
+    @Test
+    @DisplayName("많은 키 사이에서 요청이 몰린 키를 상위 목록으로 찾음")
+    void findsHeavyHitters() {
+        // given
+        HeavyHitterSketch sketch = new HeavyHitterSketch(4, 1024, 5);
+        Random random = new Random(42);
+
+        // when
+        // 키 3개가 각각 2,000건, 나머지 100,000개 키가 1건씩 섞여서 들어옴
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add(1_000 + random.nextInt(100_000));
+            if (i % 50 == 0) {
+                sketch.add(1);
+                sketch.add(2);
+                sketch.add(3);
+            }
+        }
+
+        // then
+        List<HeavyHitterSketch.Entry> top = sketch.top();
+        assertEquals(5, top.size());
+        assertEquals(List.of(1L, 2L, 3L),
+                top.subList(0, 3).stream().map(HeavyHitterSketch.Entry::key).sorted().toList());
+        // count-min sketch 는 실제보다 작게 추정하지 않음
+        assertTrue(sketch.estimate(1) >= 2_000);
+    }
+
+    @Test
+    @DisplayName("감쇠하면 추정치가 절반이 되고 0 이 된 키는 상위 목록에서 빠짐")
+    void decayHalvesEstimates() {
+        // given
+        HeavyHitterSketch sketch = new HeavyHitterSketch(4, 256, 3);
+        for (int i = 0; i < 8; i++) {
+            sketch.add(7);
+        }
+        sketch.add(8);
+
+        // when
+        sketch.decay();
+
+        // then
+        assertEquals(4, sketch.estimate(7));
+        assertEquals(0, sketch.estimate(8));
+        assertEquals(List.of(new HeavyHitterSketch.Entry(7, 4)), sketch.top());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 상위 목록의 키를 동시에 기록해도 추정치가 빠지지 않음")
+    void concurrentAddsKeepTopEstimate() throws InterruptedException {
+        // given
+        HeavyHitterSketch sketch = new HeavyHitterSketch(4, 1024, 3);
+        sketch.add(1);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int seed = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 10_000; i++) {
+                    sketch.add(1);
+                    sketch.add(1_000 + random.nextInt(10_000));
+                }
+            });
+        }
+
+        // when
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        HeavyHitterSketch.Entry first = sketch.top().get(0);
+        assertEquals(1L, first.key());
+        assertEquals(sketch.estimate(1), first.estimate());
+        assertTrue(first.estimate() >= 40_001);
+    }
+
+    @Test
+    @DisplayName("잘못된 크기로는 생성할 수 없음")
+    void rejectsInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new HeavyHitterSketch(4, 1000, 5));
+        assertThrows(IllegalArgumentException.class, () -> new HeavyHitterSketch(0, 1024, 5));
+    }
+}
@@ -0,0 +1,83 @@
+package com.zerobase.storereservation.service.traffic;
+
+import com.zerobase.storereservation.exception.CustomException;
+import com.zerobase.storereservation.exception.ErrorCode;
+import com.zerobase.storereservation.service.StoreOwnershipCache;
+import com.zerobase.storereservation.service.reservation.SlotAvailabilityIndex;
+import com.zerobase.storereservation.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class TrafficTrackerTest {
+
+    @Mock
+    private StoreOwnershipCache storeOwnershipCache;
+
+    @Mock
+    private SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @Mock
+    private LoggingUtil loggingUtil;
+
+    @InjectMocks
+    private TrafficTracker trafficTracker;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("요청이 몰린 매장만 읽기 캐시에 올리고 추정치를 절반으로 줄임")
+    void promoteHotStores() {
+        // given
+        for (int i = 0; i < TrafficTracker.HOT_STORE_THRESHOLD; i++) {
+            trafficTracker.record(1L, 10L);
+        }
+        trafficTracker.record(2L, null);
+        LocalDate today = LocalDate.now();
+
+        // when
+        trafficTracker.promoteAndDecay();
+
+        // then
+        verify(storeOwnershipCache).refreshAhead(1L);
+        verify(slotAvailabilityIndex).preload(1L, today, today.plusDays(TrafficTracker.PRELOAD_DAYS - 1));
+        verify(storeOwnershipCache, never()).refreshAhead(2L);
+        assertEquals(TrafficTracker.HOT_STORE_THRESHOLD / 2, trafficTracker.hotStores().get(0).estimate());
+        assertEquals(10L, trafficTracker.hotUsers().get(0).key());
+    }
+
+    @Test
+    @DisplayName("없는 매장으로 몰린 요청은 건너뛰고 다음 매장을 계속 올림")
+    void skipMissingStore() {
+        // given
+        for (int i = 0; i < TrafficTracker.HOT_STORE_THRESHOLD + 1; i++) {
+            trafficTracker.record(99L, null);
+        }
+        for (int i = 0; i < TrafficTracker.HOT_STORE_THRESHOLD; i++) {
+            trafficTracker.record(1L, null);
+        }
+        doThrow(new CustomException(ErrorCode.STORE_NOT_FOUND))
+                .when(slotAvailabilityIndex).preload(eq(99L), any(), any());
+
+        // when
+        trafficTracker.promoteAndDecay();
+
+        // then
+        verify(slotAvailabilityIndex).preload(eq(1L), any(), any());
+    }
+}